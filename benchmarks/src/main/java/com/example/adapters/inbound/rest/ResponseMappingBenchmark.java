@@ -0,0 +1,67 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.CustomerResponse;
+import com.example.adapters.inbound.rest.dto.OrderResponse;
+import com.example.adapters.inbound.rest.dto.ProductResponse;
+import com.example.benchmarks.Fixtures;
+import com.example.domain.model.Customer;
+import com.example.domain.model.Order;
+import com.example.domain.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseMappingBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int basketSize;
+
+    private OrderController orderController;
+    private ProductController productController;
+    private CustomerController customerController;
+    private Order order;
+    private Product product;
+    private Customer customer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderController = new OrderController(null, null, null);
+        productController = new ProductController(null, null);
+        customerController = new CustomerController(null);
+        order = Fixtures.order(1L, basketSize, 20240314L);
+        product = Fixtures.product(1L);
+        customer = Fixtures.customer(1L);
+    }
+
+    @Benchmark
+    public OrderResponse orderToResponse() {
+        return orderController.toResponse(order);
+    }
+
+    @Benchmark
+    public ProductResponse productToResponse() {
+        return productController.toResponse(product);
+    }
+
+    @Benchmark
+    public CustomerResponse customerToResponse() {
+        return customerController.toResponse(customer);
+    }
+}
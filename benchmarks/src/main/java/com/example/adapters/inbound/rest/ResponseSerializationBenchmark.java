@@ -0,0 +1,135 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.OrderResponse;
+import com.example.adapters.inbound.rest.dto.ProductResponse;
+import com.example.adapters.inbound.rest.json.OrderItemResponseSerializer;
+import com.example.adapters.inbound.rest.json.OrderResponseSerializer;
+import com.example.adapters.inbound.rest.json.ProductResponseSerializer;
+import com.example.benchmarks.Fixtures;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseSerializationBenchmark {
+
+    private static final TypeReference<List<ProductResponse>> PRODUCT_LIST = new TypeReference<>() {
+    };
+    private static final TypeReference<List<OrderResponse>> ORDER_LIST = new TypeReference<>() {
+    };
+
+    @Param({"1", "10", "50", "200"})
+    private int basketSize;
+
+    private ObjectWriter customProduct;
+    private ObjectWriter customOrder;
+    private ObjectWriter customProducts;
+    private ObjectWriter customOrders;
+    private ObjectWriter defaultProduct;
+    private ObjectWriter defaultOrder;
+    private ObjectWriter defaultProducts;
+    private ObjectWriter defaultOrders;
+    private ProductResponse product;
+    private OrderResponse order;
+    private List<ProductResponse> products;
+    private List<OrderResponse> orders;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper custom = mapper().registerModule(new SimpleModule()
+                .addSerializer(new ProductResponseSerializer())
+                .addSerializer(new OrderResponseSerializer())
+                .addSerializer(new OrderItemResponseSerializer()));
+        ObjectMapper reflective = mapper();
+        customProduct = custom.writerFor(ProductResponse.class);
+        customOrder = custom.writerFor(OrderResponse.class);
+        customProducts = custom.writerFor(PRODUCT_LIST);
+        customOrders = custom.writerFor(ORDER_LIST);
+        defaultProduct = reflective.writerFor(ProductResponse.class);
+        defaultOrder = reflective.writerFor(OrderResponse.class);
+        defaultProducts = reflective.writerFor(PRODUCT_LIST);
+        defaultOrders = reflective.writerFor(ORDER_LIST);
+
+        OrderController orderController = new OrderController(null, null, null);
+        ProductController productController = new ProductController(null, null);
+        product = productController.toResponse(Fixtures.product(1L));
+        order = orderController.toResponse(Fixtures.order(1L, basketSize, 20240314L));
+        products = new ArrayList<>(basketSize);
+        orders = new ArrayList<>(basketSize);
+        for (int i = 1; i <= basketSize; i++) {
+            products.add(productController.toResponse(Fixtures.product(i)));
+            orders.add(orderController.toResponse(Fixtures.order(i, 5, i)));
+        }
+    }
+
+    @Benchmark
+    public byte[] productWithCustomSerializer() throws JsonProcessingException {
+        return customProduct.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] productWithDefaultMapper() throws JsonProcessingException {
+        return defaultProduct.writeValueAsBytes(product);
+    }
+
+    @Benchmark
+    public byte[] orderWithCustomSerializer() throws JsonProcessingException {
+        return customOrder.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] orderWithDefaultMapper() throws JsonProcessingException {
+        return defaultOrder.writeValueAsBytes(order);
+    }
+
+    @Benchmark
+    public byte[] productListWithCustomSerializer() throws JsonProcessingException {
+        return customProducts.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] productListWithDefaultMapper() throws JsonProcessingException {
+        return defaultProducts.writeValueAsBytes(products);
+    }
+
+    @Benchmark
+    public byte[] orderListWithCustomSerializer() throws JsonProcessingException {
+        return customOrders.writeValueAsBytes(orders);
+    }
+
+    @Benchmark
+    public byte[] orderListWithDefaultMapper() throws JsonProcessingException {
+        return defaultOrders.writeValueAsBytes(orders);
+    }
+
+    private static ObjectMapper mapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.adapters.outbound.export;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ColumnarScanBenchmark {
+
+    private static final String ORDERS_SQL =
+            "select id, customer_id, total_amount, status, created_at, updated_at from orders order by id";
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    @Param({"1000000"})
+    private int orders;
+
+    private Path directory;
+    private Path columnar;
+    private Path csv;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("columnar-scan");
+        columnar = directory.resolve("orders.smc");
+        csv = directory.resolve("orders.csv");
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:mem:columnarscan", "sa", "")) {
+            seed(connection);
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(ORDERS_SQL);
+                 ColumnarFileWriter writer = new ColumnarFileWriter(columnar, "orders",
+                         JdbcColumnarExportAdapter.ORDER_COLUMNS, 65_536, 6)) {
+                while (resultSet.next()) {
+                    writer.append(resultSet);
+                }
+            }
+            try (Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(ORDERS_SQL);
+                 BufferedWriter writer = Files.newBufferedWriter(csv)) {
+                writer.write("id,customer_id,total_amount,status,created_at,updated_at\n");
+                while (resultSet.next()) {
+                    writer.write(resultSet.getLong(1) + "," + resultSet.getLong(2) + ","
+                            + resultSet.getBigDecimal(3) + "," + resultSet.getString(4) + ","
+                            + resultSet.getObject(5, LocalDateTime.class) + ","
+                            + resultSet.getObject(6, LocalDateTime.class) + "\n");
+                }
+            }
+        }
+        System.out.printf("%n%d orders: columnar %d bytes, csv %d bytes%n", orders, Files.size(columnar),
+                Files.size(csv));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public long revenueFromColumnar() throws IOException {
+        AtomicLong cents = new AtomicLong();
+        try (ColumnarFileReader reader = ColumnarFileReader.open(columnar)) {
+            reader.scanLongs("total_amount", cents::addAndGet);
+        }
+        return cents.get();
+    }
+
+    @Benchmark
+    public long revenueFromCsv() throws IOException {
+        long cents = 0;
+        try (BufferedReader reader = Files.newBufferedReader(csv)) {
+            reader.readLine();
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                int start = line.indexOf(',', line.indexOf(',') + 1) + 1;
+                cents += new BigDecimal(line.substring(start, line.indexOf(',', start))).unscaledValue().longValue();
+            }
+        }
+        return cents;
+    }
+
+    private void seed(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table orders (id bigint primary key, customer_id bigint, " +
+                    "total_amount decimal(10, 2), status varchar(20), created_at timestamp, updated_at timestamp)");
+        }
+        SplittableRandom random = new SplittableRandom(20240314L);
+        LocalDateTime start = LocalDateTime.of(2024, 3, 14, 0, 0);
+        try (PreparedStatement insert = connection.prepareStatement("insert into orders values (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= orders; id++) {
+                LocalDateTime createdAt = start.plusNanos(id * 86_400_000_000L / orders * 1_000);
+                insert.setLong(1, id);
+                insert.setLong(2, 1 + random.nextInt(100_000));
+                insert.setBigDecimal(3, BigDecimal.valueOf(100 + random.nextInt(50_000), 2));
+                insert.setString(4, STATUSES[random.nextInt(STATUSES.length)]);
+                insert.setObject(5, createdAt);
+                insert.setObject(6, createdAt.plusMinutes(random.nextInt(60)));
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+    }
+}
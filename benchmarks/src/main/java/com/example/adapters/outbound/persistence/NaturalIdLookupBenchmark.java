@@ -0,0 +1,131 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.benchmarks.Fixtures;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.Product;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+public class NaturalIdLookupBenchmark {
+
+    @Param({"1000"})
+    private int catalogSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EntityManager entityManager;
+    private SpringDataProductRepository springDataProductRepository;
+    private SpringDataCustomerRepository springDataCustomerRepository;
+    private ProductRepositoryAdapter productMapper;
+    private CustomerRepositoryAdapter customerMapper;
+    private String[] skus;
+    private String[] emails;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:naturalidbenchmark;QUERY_CACHE_SIZE=64",
+                        "--supermarket.orders.expiry.enabled=false",
+                        "--supermarket.orders.archival.enabled=false",
+                        "--supermarket.analytics.customer-metrics.enabled=false",
+                        "--supermarket.inventory.enabled=false",
+                        "--logging.level.com.example=INFO");
+        ProductRepositoryPort productRepository = context.getBean(ProductRepositoryPort.class);
+        CustomerRepositoryPort customerRepository = context.getBean(CustomerRepositoryPort.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        entityManager = context.getBean(EntityManager.class);
+        springDataProductRepository = context.getBean(SpringDataProductRepository.class);
+        springDataCustomerRepository = context.getBean(SpringDataCustomerRepository.class);
+        productMapper = new ProductRepositoryAdapter(null, null, null);
+        customerMapper = new CustomerRepositoryAdapter(null, null);
+
+        skus = new String[catalogSize];
+        emails = new String[catalogSize];
+        for (int i = 0; i < catalogSize; i++) {
+            Product product = Fixtures.product(i + 1);
+            skus[i] = productRepository.save(new Product(null, product.getSku(), product.getName(),
+                    product.getDescription(), product.getPrice(), product.getStockQuantity())).getSku();
+            emails[i] = customerRepository.save(new Customer(null, "natural-id-" + i + "@example.com",
+                    "Natural", "Id", null, null)).getEmail();
+        }
+        for (int i = 0; i < catalogSize; i++) {
+            productBySimpleNaturalId();
+            customerBySimpleNaturalId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<Product> productBySimpleNaturalId() {
+        String sku = skus[nextIndex()];
+        return readOnly.execute(status -> entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(ProductEntity.class)
+                .loadOptional(sku)
+                .map(productMapper::toDomain));
+    }
+
+    @Benchmark
+    public Optional<Product> productByDerivedQuery() {
+        String sku = skus[nextIndex()];
+        return readOnly.execute(status -> springDataProductRepository.findBySku(sku).map(productMapper::toDomain));
+    }
+
+    @Benchmark
+    public Optional<Customer> customerBySimpleNaturalId() {
+        String email = emails[nextIndex()];
+        return readOnly.execute(status -> entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(CustomerEntity.class)
+                .loadOptional(email)
+                .map(customerMapper::toDomain));
+    }
+
+    @Benchmark
+    public Optional<Customer> customerByDerivedQuery() {
+        String email = emails[nextIndex()];
+        return readOnly.execute(status -> springDataCustomerRepository.findByEmail(email)
+                .map(customerMapper::toDomain));
+    }
+
+    private int nextIndex() {
+        int index = next;
+        next = index + 1 == catalogSize ? 0 : index + 1;
+        return index;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.benchmarks.Fixtures;
+import com.example.domain.model.Order;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderMappingBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int basketSize;
+
+    private OrderRepositoryAdapter adapter;
+    private Order order;
+    private OrderEntity entity;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        adapter = new OrderRepositoryAdapter(null, null);
+        order = Fixtures.order(1L, basketSize, 20240314L);
+        entity = adapter.toEntity(order);
+    }
+
+    @Benchmark
+    public OrderEntity toEntity() {
+        return adapter.toEntity(order);
+    }
+
+    @Benchmark
+    public Order toDomain() {
+        return adapter.toDomain(entity);
+    }
+}
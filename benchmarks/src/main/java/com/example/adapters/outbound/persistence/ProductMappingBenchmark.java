@@ -0,0 +1,63 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.benchmarks.Fixtures;
+import com.example.domain.model.Product;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProductMappingBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int basketSize;
+
+    private ProductRepositoryAdapter adapter;
+    private List<Product> products;
+    private List<ProductEntity> entities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        adapter = new ProductRepositoryAdapter(null, null, null);
+        products = new ArrayList<>(basketSize);
+        entities = new ArrayList<>(basketSize);
+        for (int i = 1; i <= basketSize; i++) {
+            Product product = Fixtures.product(i);
+            products.add(product);
+            entities.add(adapter.toEntity(product));
+        }
+    }
+
+    @Benchmark
+    public void toEntity(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(adapter.toEntity(product));
+        }
+    }
+
+    @Benchmark
+    public void toDomain(Blackhole blackhole) {
+        for (ProductEntity entity : entities) {
+            blackhole.consume(adapter.toDomain(entity));
+        }
+    }
+}
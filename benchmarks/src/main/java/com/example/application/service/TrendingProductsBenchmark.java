@@ -0,0 +1,63 @@
+package com.example.application.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TrendingProductsBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int skus;
+
+    private SlidingTopK topK;
+    private SplittableRandom random;
+    private long now;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        random = new SplittableRandom(20240314L);
+        now = 0;
+        topK = new SlidingTopK(Duration.ofHours(1), TrendingProductsService.BUCKETS,
+                TrendingProductsService.SKETCH_DEPTH, TrendingProductsService.SKETCH_WIDTH,
+                TrendingProductsService.CANDIDATES, now);
+        for (int sale = 0; sale < 100_000; sale++) {
+            topK.add(nextSku(), 1 + random.nextInt(3), now);
+        }
+    }
+
+    @Benchmark
+    public void recordLine() {
+        now += 10;
+        topK.add(nextSku(), 1 + random.nextInt(3), now);
+    }
+
+    @Benchmark
+    public List<?> readTop10() {
+        return topK.top(10, now);
+    }
+
+    private long nextSku() {
+        double skew = random.nextDouble();
+        return (long) (skus * skew * skew * skew);
+    }
+}
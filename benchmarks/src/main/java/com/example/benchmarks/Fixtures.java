@@ -0,0 +1,74 @@
+package com.example.benchmarks;
+
+import com.example.domain.model.Customer;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderItem;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public final class Fixtures {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 3, 14, 9, 26, 53, 589_793_000);
+
+    private Fixtures() {
+    }
+
+    public static List<OrderItem> orderItems(Long orderId, int basketSize, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<OrderItem> items = new ArrayList<>(basketSize);
+        for (int i = 0; i < basketSize; i++) {
+            long productId = 1 + random.nextInt(10_000);
+            items.add(new OrderItem(
+                    orderId == null ? null : orderId * 1_000 + i,
+                    orderId,
+                    productId,
+                    "Product " + productId,
+                    price(random),
+                    1 + random.nextInt(12)
+            ));
+        }
+        return items;
+    }
+
+    public static Order order(long orderId, int basketSize, long seed) {
+        Order order = new Order(orderId, 42L, OrderStatus.CONFIRMED, CREATED_AT, CREATED_AT.plusMinutes(5));
+        order.setItems(orderItems(orderId, basketSize, seed));
+        return order;
+    }
+
+    public static Product product(long productId) {
+        return new Product(
+                productId,
+                "SKU-" + productId,
+                "Product " + productId,
+                "Benchmark product number " + productId,
+                new BigDecimal("19.99"),
+                250,
+                CREATED_AT,
+                CREATED_AT.plusDays(1)
+        );
+    }
+
+    public static Customer customer(long customerId) {
+        return new Customer(
+                customerId,
+                "customer" + customerId + "@example.com",
+                "Ana",
+                "García",
+                "+34 600 000 000",
+                "Calle Mayor 1, Madrid",
+                CREATED_AT,
+                CREATED_AT.plusDays(1)
+        );
+    }
+
+    private static BigDecimal price(SplittableRandom random) {
+        return BigDecimal.valueOf(50 + random.nextInt(50_000), 2);
+    }
+}
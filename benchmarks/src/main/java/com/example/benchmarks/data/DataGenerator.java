@@ -0,0 +1,366 @@
+package com.example.benchmarks.data;
+
+import com.example.benchmarks.load.ZipfDistribution;
+import com.example.domain.model.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(DataGenerator.class);
+
+    static final int CHUNK_ROWS = 50_000;
+    static final int MAX_ITEMS_PER_ORDER = 8;
+
+    private static final double PRODUCT_POPULARITY_EXPONENT = 1.0;
+    private static final double CUSTOMER_ACTIVITY_EXPONENT = 0.6;
+    private static final long PRODUCTS_SALT = 0x50524F44L;
+    private static final long CUSTOMERS_SALT = 0x43555354L;
+    private static final long ORDERS_SALT = 0x4F524445L;
+
+    private static final String[] ADJECTIVES = {
+            "Fresh", "Organic", "Classic", "Crunchy", "Smoked", "Whole", "Light", "Spicy", "Sweet", "Premium",
+            "Family", "Roasted", "Frozen", "Wild", "Golden", "Creamy", "Natural", "Baked", "Mini", "Extra"
+    };
+    private static final String[] NOUNS = {
+            "Apples", "Bread", "Coffee", "Cheese", "Yogurt", "Pasta", "Rice", "Olive Oil", "Tomatoes", "Chicken",
+            "Salmon", "Cereal", "Chocolate", "Milk", "Butter", "Eggs", "Tea", "Beans", "Cookies", "Juice",
+            "Lettuce", "Potatoes", "Ham", "Honey", "Almonds", "Water", "Soap", "Detergent", "Shampoo", "Tissues"
+    };
+    private static final String[] FIRST_NAMES = {
+            "Ana", "Luis", "María", "Carlos", "Lucía", "Javier", "Elena", "Pablo", "Sofía", "Diego",
+            "Laura", "Miguel", "Carmen", "Jorge", "Isabel", "Andrés", "Paula", "Raúl", "Marta", "Sergio"
+    };
+    private static final String[] LAST_NAMES = {
+            "García", "Fernández", "González", "Rodríguez", "López", "Martínez", "Sánchez", "Pérez", "Gómez",
+            "Martín", "Jiménez", "Ruiz", "Hernández", "Díaz", "Moreno", "Álvarez", "Romero", "Navarro"
+    };
+    private static final String[] STREETS = {
+            "Calle Mayor", "Avenida de la Constitución", "Calle Real", "Gran Vía", "Calle del Sol",
+            "Paseo del Prado", "Calle Nueva", "Plaza de España", "Calle de Alcalá", "Ronda Norte"
+    };
+
+    private final DataSource dataSource;
+    private final DataGeneratorSettings settings;
+
+    public DataGenerator(DataSource dataSource, DataGeneratorSettings settings) {
+        this.dataSource = dataSource instanceof DelegatingDataSource delegating
+                ? delegating.getTargetDataSource()
+                : dataSource;
+        this.settings = settings;
+    }
+
+    public GeneratedDataset generate() throws SQLException, InterruptedException {
+        long started = System.nanoTime();
+        requireEmpty("products", "customers", "orders", "order_items", "inventory_ledger");
+
+        int products = settings.products();
+        int customers = settings.customers();
+        int orders = settings.orders();
+        long[] priceCents = new long[products];
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        try {
+            log.info("Generating {} products", products);
+            runChunks(executor, products, (from, to) -> insertProducts(from, to, priceCents));
+            insertOpeningReceipts();
+
+            log.info("Generating {} customers", customers);
+            runChunks(executor, customers, this::insertCustomers);
+
+            log.info("Generating {} orders over {} years", orders, settings.years());
+            ZipfDistribution productPopularity = new ZipfDistribution(products, PRODUCT_POPULARITY_EXPONENT,
+                    new SplittableRandom(settings.seed() ^ PRODUCTS_SALT));
+            ZipfDistribution customerActivity = new ZipfDistribution(customers, CUSTOMER_ACTIVITY_EXPONENT,
+                    new SplittableRandom(settings.seed() ^ CUSTOMERS_SALT));
+            AtomicLong orderItems = new AtomicLong();
+            runChunks(executor, orders, (from, to) -> orderItems.addAndGet(
+                    insertOrders(from, to, priceCents, productPopularity, customerActivity)));
+
+            finish();
+            GeneratedDataset dataset = new GeneratedDataset(customers, products, orders, orderItems.get(),
+                    Duration.ofNanos(System.nanoTime() - started));
+            log.info("Generated {} customers, {} products, {} orders and {} order items in {}",
+                    customers, products, orders, dataset.orderItems(), dataset.elapsed());
+            return dataset;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    public static String sku(long productId) {
+        return String.format("SKU-%08d", productId);
+    }
+
+    public static String productName(long productId) {
+        SplittableRandom random = new SplittableRandom(productId * 0x9E3779B97F4A7C15L);
+        return ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + NOUNS[random.nextInt(NOUNS.length)]
+                + " " + (100 + random.nextInt(900)) + "g";
+    }
+
+    public static String email(long customerId) {
+        return String.format("customer%08d@example.com", customerId);
+    }
+
+    private void insertProducts(int from, int to, long[] priceCents) throws SQLException {
+        SplittableRandom random = chunkRandom(PRODUCTS_SALT, from);
+        LocalDateTime catalogStart = settings.endDate().minusYears(settings.years()).atStartOfDay();
+        long catalogMinutes = Duration.ofDays(365L * settings.years()).toMinutes();
+        insert("insert into products (id, sku, name, description, price, stock_quantity, created_at, updated_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)", from, to, (statement, index) -> {
+            long id = index + 1L;
+            long cents = Math.max(25, Math.min(200_000, Math.round(Math.exp(Math.log(450) + 0.9 * gaussian(random)))));
+            priceCents[index] = cents;
+            LocalDateTime createdAt = catalogStart.plusMinutes(random.nextLong(catalogMinutes));
+            String name = productName(id);
+            statement.setLong(1, id);
+            statement.setString(2, sku(id));
+            statement.setString(3, name);
+            statement.setString(4, name + " from the generated catalog");
+            statement.setBigDecimal(5, BigDecimal.valueOf(cents, 2));
+            statement.setInt(6, stockQuantity(random));
+            statement.setObject(7, createdAt);
+            statement.setObject(8, createdAt.plusDays(random.nextInt(30)));
+        });
+    }
+
+    private void insertOpeningReceipts() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into inventory_ledger (product_id, entry_type, quantity_delta, "
+                    + "reference_id, recorded_at) select id, 'RECEIPT', stock_quantity, null, created_at "
+                    + "from products where stock_quantity <> 0 order by id");
+        }
+    }
+
+    private void insertCustomers(int from, int to) throws SQLException {
+        SplittableRandom random = chunkRandom(CUSTOMERS_SALT, from);
+        LocalDateTime signupStart = settings.endDate().minusYears(settings.years() + 2L).atStartOfDay();
+        long signupMinutes = Duration.ofDays(365L * (settings.years() + 2L)).toMinutes();
+        insert("insert into customers (id, email, first_name, last_name, phone, address, created_at, updated_at) "
+                + "values (?, ?, ?, ?, ?, ?, ?, ?)", from, to, (statement, index) -> {
+            long id = index + 1L;
+            LocalDateTime createdAt = signupStart.plusMinutes(random.nextLong(signupMinutes));
+            statement.setLong(1, id);
+            statement.setString(2, email(id));
+            statement.setString(3, FIRST_NAMES[random.nextInt(FIRST_NAMES.length)]);
+            statement.setString(4, LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " "
+                    + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+            statement.setString(5, random.nextInt(10) < 8 ? "+34 6" + (10_000_000 + random.nextInt(90_000_000)) : null);
+            statement.setString(6, STREETS[random.nextInt(STREETS.length)] + " " + (1 + random.nextInt(200))
+                    + ", " + (28_000 + random.nextInt(1_000)) + " Madrid");
+            statement.setObject(7, createdAt);
+            statement.setObject(8, createdAt);
+        });
+    }
+
+    private long insertOrders(int from, int to, long[] priceCents, ZipfDistribution productPopularity,
+                              ZipfDistribution customerActivity) throws SQLException {
+        SplittableRandom random = chunkRandom(ORDERS_SALT, from);
+        LocalDateTime historyEnd = settings.endDate().plusDays(1).atStartOfDay();
+        LocalDateTime historyStart = historyEnd.minusYears(settings.years());
+        long historySeconds = Duration.between(historyStart, historyEnd).toSeconds();
+        long[] productIds = new long[MAX_ITEMS_PER_ORDER];
+        int[] quantities = new int[MAX_ITEMS_PER_ORDER];
+        long items = 0;
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement orderInsert = connection.prepareStatement(
+                     "insert into orders (id, customer_id, total_amount, status, created_at, updated_at) "
+                             + "values (?, ?, ?, ?, ?, ?)");
+             PreparedStatement itemInsert = connection.prepareStatement(
+                     "insert into order_items (id, order_id, product_id, product_name, unit_price, quantity, subtotal) "
+                             + "values (?, ?, ?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(false);
+            int pending = 0;
+            for (int index = from; index < to; index++) {
+                long orderId = index + 1L;
+                long offset = (long) ((double) index / settings.orders() * historySeconds) + random.nextInt(600);
+                LocalDateTime createdAt = historyStart.plusSeconds(Math.min(offset, historySeconds - 1));
+                long ageDays = Duration.between(createdAt, historyEnd).toDays();
+                OrderStatus status = statusFor(ageDays, random);
+
+                int itemCount = 1;
+                while (itemCount < MAX_ITEMS_PER_ORDER && random.nextInt(100) < 60) {
+                    itemCount++;
+                }
+                long totalCents = 0;
+                for (int line = 0; line < itemCount; line++) {
+                    productIds[line] = productPopularity.sample(random) + 1L;
+                    quantities[line] = random.nextInt(10) < 7 ? 1 : 2 + random.nextInt(4);
+                    totalCents += priceCents[(int) productIds[line] - 1] * quantities[line];
+                }
+
+                orderInsert.setLong(1, orderId);
+                orderInsert.setLong(2, customerActivity.sample(random) + 1L);
+                orderInsert.setBigDecimal(3, BigDecimal.valueOf(totalCents, 2));
+                orderInsert.setString(4, status.name());
+                orderInsert.setObject(5, createdAt);
+                orderInsert.setObject(6, status == OrderStatus.PENDING
+                        ? createdAt
+                        : createdAt.plusMinutes(30 + random.nextInt(72 * 60)));
+                orderInsert.addBatch();
+
+                for (int line = 0; line < itemCount; line++) {
+                    long cents = priceCents[(int) productIds[line] - 1];
+                    itemInsert.setLong(1, (orderId - 1) * MAX_ITEMS_PER_ORDER + line + 1);
+                    itemInsert.setLong(2, orderId);
+                    itemInsert.setLong(3, productIds[line]);
+                    itemInsert.setString(4, productName(productIds[line]));
+                    itemInsert.setBigDecimal(5, BigDecimal.valueOf(cents, 2));
+                    itemInsert.setInt(6, quantities[line]);
+                    itemInsert.setBigDecimal(7, BigDecimal.valueOf(cents * quantities[line], 2));
+                    itemInsert.addBatch();
+                }
+                items += itemCount;
+
+                if (++pending == settings.batchSize()) {
+                    orderInsert.executeBatch();
+                    itemInsert.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                orderInsert.executeBatch();
+                itemInsert.executeBatch();
+                connection.commit();
+            }
+        }
+        return items;
+    }
+
+    private static OrderStatus statusFor(long ageDays, SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (ageDays > 30) {
+            return roll < 95 ? OrderStatus.DELIVERED : OrderStatus.CANCELLED;
+        }
+        if (ageDays > 7) {
+            return roll < 80 ? OrderStatus.DELIVERED : roll < 90 ? OrderStatus.SHIPPED : OrderStatus.CANCELLED;
+        }
+        return roll < 30 ? OrderStatus.PENDING
+                : roll < 60 ? OrderStatus.CONFIRMED
+                : roll < 90 ? OrderStatus.SHIPPED
+                : OrderStatus.CANCELLED;
+    }
+
+    private int stockQuantity(SplittableRandom random) {
+        if (settings.fixedStockQuantity() != null) {
+            return settings.fixedStockQuantity();
+        }
+        return random.nextInt(100) < 2 ? 0 : random.nextInt(1_000);
+    }
+
+    private void insert(String sql, int from, int to, RowBinder binder) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            connection.setAutoCommit(false);
+            int pending = 0;
+            for (int index = from; index < to; index++) {
+                binder.bind(statement, index);
+                statement.addBatch();
+                if (++pending == settings.batchSize()) {
+                    statement.executeBatch();
+                    connection.commit();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+            }
+        }
+    }
+
+    private void runChunks(ExecutorService executor, int rows, ChunkTask task)
+            throws SQLException, InterruptedException {
+        List<Future<?>> chunks = new ArrayList<>();
+        for (int from = 0; from < rows; from += CHUNK_ROWS) {
+            int chunkFrom = from;
+            int chunkTo = Math.min(rows, from + CHUNK_ROWS);
+            chunks.add(executor.submit(() -> {
+                task.run(chunkFrom, chunkTo);
+                return null;
+            }));
+        }
+        for (Future<?> chunk : chunks) {
+            try {
+                chunk.get();
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof SQLException sqlException) {
+                    throw sqlException;
+                }
+                throw new IllegalStateException("Data generation failed", e.getCause());
+            }
+        }
+    }
+
+    private void requireEmpty(String... tables) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String table : tables) {
+                try (ResultSet rows = statement.executeQuery("select count(*) from " + table)) {
+                    rows.next();
+                    if (rows.getLong(1) > 0) {
+                        throw new IllegalStateException("Table " + table + " is not empty; "
+                                + "the generator only loads into an empty schema");
+                    }
+                }
+            }
+        }
+    }
+
+    private void finish() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            for (String table : List.of("products", "customers", "orders", "order_items")) {
+                long next;
+                try (ResultSet rows = statement.executeQuery("select coalesce(max(id), 0) + 1 from " + table)) {
+                    rows.next();
+                    next = rows.getLong(1);
+                }
+                statement.execute("alter table " + table + " alter column id restart with " + next);
+            }
+            statement.execute("analyze");
+        }
+    }
+
+    private SplittableRandom chunkRandom(long salt, int chunkStart) {
+        return new SplittableRandom(settings.seed() ^ salt ^ ((long) chunkStart * 0x9E3779B97F4A7C15L));
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        double u = 1 - random.nextDouble();
+        double v = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, int index) throws SQLException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask {
+        void run(int from, int to) throws SQLException;
+    }
+}
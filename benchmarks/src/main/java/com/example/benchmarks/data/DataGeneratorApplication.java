@@ -0,0 +1,24 @@
+package com.example.benchmarks.data;
+
+import com.example.boot.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+public final class DataGeneratorApplication {
+
+    private DataGeneratorApplication() {
+    }
+
+    public static void main(String[] args) throws SQLException, InterruptedException {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            new DataGenerator(context.getBean(DataSource.class), DataGeneratorSettings.fromSystemProperties())
+                    .generate();
+        }
+    }
+}
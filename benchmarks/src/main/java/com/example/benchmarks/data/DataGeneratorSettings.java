@@ -0,0 +1,63 @@
+package com.example.benchmarks.data;
+
+import java.time.LocalDate;
+
+public record DataGeneratorSettings(
+        double scaleFactor,
+        long seed,
+        int batchSize,
+        int threads,
+        int years,
+        LocalDate endDate,
+        Integer fixedStockQuantity
+) {
+
+    static final int PRODUCTS_PER_SCALE = 100_000;
+    static final int CUSTOMERS_PER_SCALE = 100_000;
+    static final int ORDERS_PER_SCALE = 400_000;
+
+    private static final String PREFIX = "datagen.";
+
+    public static DataGeneratorSettings fromSystemProperties() {
+        String stock = System.getProperty(PREFIX + "stock-quantity");
+        return new DataGeneratorSettings(
+                Double.parseDouble(System.getProperty(PREFIX + "scale-factor", "1")),
+                Long.parseLong(System.getProperty(PREFIX + "seed", "20240314")),
+                Integer.parseInt(System.getProperty(PREFIX + "batch-size", "1000")),
+                Integer.parseInt(System.getProperty(PREFIX + "threads",
+                        Integer.toString(Runtime.getRuntime().availableProcessors()))),
+                Integer.parseInt(System.getProperty(PREFIX + "years", "3")),
+                LocalDate.parse(System.getProperty(PREFIX + "end-date", "2024-12-31")),
+                stock == null ? null : Integer.valueOf(stock)
+        );
+    }
+
+    public DataGeneratorSettings {
+        if (scaleFactor <= 0) {
+            throw new IllegalArgumentException("datagen.scale-factor must be positive");
+        }
+        if (batchSize <= 0 || threads <= 0 || years <= 0) {
+            throw new IllegalArgumentException("datagen.batch-size, datagen.threads and datagen.years must be positive");
+        }
+    }
+
+    public DataGeneratorSettings withFixedStockQuantity(int stockQuantity) {
+        return new DataGeneratorSettings(scaleFactor, seed, batchSize, threads, years, endDate, stockQuantity);
+    }
+
+    public int products() {
+        return scaled(PRODUCTS_PER_SCALE);
+    }
+
+    public int customers() {
+        return scaled(CUSTOMERS_PER_SCALE);
+    }
+
+    public int orders() {
+        return scaled(ORDERS_PER_SCALE);
+    }
+
+    private int scaled(int perScale) {
+        return (int) Math.max(1, Math.round(perScale * scaleFactor));
+    }
+}
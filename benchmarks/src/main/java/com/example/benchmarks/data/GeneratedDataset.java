@@ -0,0 +1,16 @@
+package com.example.benchmarks.data;
+
+import java.time.Duration;
+
+public record GeneratedDataset(
+        int customers,
+        int products,
+        int orders,
+        long orderItems,
+        Duration elapsed
+) {
+
+    public String sku(long productId) {
+        return DataGenerator.sku(productId);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.benchmarks.gate;
+
+public record Comparison(
+        String name,
+        String metric,
+        double baseline,
+        double baselineError,
+        double current,
+        double currentError,
+        boolean higherIsBetter,
+        double tolerance,
+        double absoluteSlack,
+        double maxRelativeError
+) {
+
+    public double change() {
+        if (baseline == 0) {
+            return current == 0 ? 0 : Double.POSITIVE_INFINITY;
+        }
+        return (current - baseline) / baseline;
+    }
+
+    public boolean regressed() {
+        if (higherIsBetter) {
+            return current < baseline * (1 - tolerance) - absoluteSlack;
+        }
+        return current > baseline * (1 + tolerance) + absoluteSlack;
+    }
+
+    public boolean noisy() {
+        return !withinErrorBound(baseline, baselineError, maxRelativeError, absoluteSlack)
+                || !withinErrorBound(current, currentError, maxRelativeError, absoluteSlack);
+    }
+
+    public boolean failed() {
+        return regressed() || noisy();
+    }
+
+    static boolean withinErrorBound(double score, double error, double maxRelativeError, double absoluteSlack) {
+        return error <= Math.abs(score) * maxRelativeError + absoluteSlack;
+    }
+
+    String format() {
+        return String.format("%-5s %-90s %-22s %14.3f +-%-9.3f %14.3f +-%-9.3f %+8.1f%%",
+                regressed() ? "FAIL" : noisy() ? "NOISY" : "ok", name, metric, baseline, baselineError, current,
+                currentError, change() * 100);
+    }
+}
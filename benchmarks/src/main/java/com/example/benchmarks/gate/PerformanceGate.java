@@ -0,0 +1,200 @@
+package com.example.benchmarks.gate;
+
+import com.example.benchmarks.gate.PerformanceResults.Measurement;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class PerformanceGate {
+
+    private static final String PREFIX = "perf.";
+
+    private final double timeTolerance;
+    private final double allocationTolerance;
+    private final double allocationSlackBytes;
+    private final double loadThroughputTolerance;
+    private final double loadLatencyTolerance;
+    private final double errorRateSlack;
+    private final double maxRelativeError;
+    private final double loadMaxRelativeError;
+
+    public PerformanceGate(double timeTolerance, double allocationTolerance, double allocationSlackBytes,
+                           double loadThroughputTolerance, double loadLatencyTolerance, double errorRateSlack,
+                           double maxRelativeError, double loadMaxRelativeError) {
+        this.timeTolerance = timeTolerance;
+        this.allocationTolerance = allocationTolerance;
+        this.allocationSlackBytes = allocationSlackBytes;
+        this.loadThroughputTolerance = loadThroughputTolerance;
+        this.loadLatencyTolerance = loadLatencyTolerance;
+        this.errorRateSlack = errorRateSlack;
+        this.maxRelativeError = maxRelativeError;
+        this.loadMaxRelativeError = loadMaxRelativeError;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: PerformanceGate <baseline-dir> <results-dir>");
+        }
+        Path baselines = Path.of(args[0]);
+        Path results = Path.of(args[1]);
+        PerformanceGate gate = new PerformanceGate(
+                doubleProperty("tolerance", 0.10),
+                doubleProperty("alloc-tolerance", 0.10),
+                doubleProperty("alloc-slack-bytes", 16),
+                doubleProperty("load.throughput-tolerance", 0.10),
+                doubleProperty("load.latency-tolerance", 0.20),
+                doubleProperty("load.error-rate-slack", 0.001),
+                doubleProperty("max-relative-error", 0.05),
+                doubleProperty("load.max-relative-error", 0.10)
+        );
+
+        if (Boolean.getBoolean(PREFIX + "update-baselines")) {
+            List<String> noisy = gate.noisy(results);
+            if (!noisy.isEmpty()) {
+                throw new IllegalStateException(noisy.size() + " measurement(s) in " + results
+                        + " exceed the relative error bound, baselines not updated. Rerun with more forks or "
+                        + "iterations (-Dperf.jmh.forks, -Dperf.jmh.iterations) on a quieter machine.");
+            }
+            Files.createDirectories(baselines);
+            for (String file : List.of(PerformanceResults.JMH_FILE, PerformanceResults.LOAD_FILE)) {
+                if (Files.exists(results.resolve(file))) {
+                    Files.copy(results.resolve(file), baselines.resolve(file), StandardCopyOption.REPLACE_EXISTING);
+                    System.out.println("Baseline updated: " + baselines.resolve(file));
+                }
+            }
+            return;
+        }
+
+        List<Comparison> failures = gate.check(baselines, results);
+        if (!failures.isEmpty()) {
+            throw new IllegalStateException(failures.size() + " performance regression(s) or noisy measurement(s) "
+                    + "against " + baselines + ". If a regression is intended, rerun with "
+                    + "-Dperf.update-baselines=true and commit the baselines.");
+        }
+    }
+
+    public List<Comparison> check(Path baselines, Path results) throws IOException {
+        PerformanceResults reader = new PerformanceResults();
+        List<Comparison> comparisons = new ArrayList<>();
+        List<String> missing = new ArrayList<>();
+
+        Path jmhBaseline = baselines.resolve(PerformanceResults.JMH_FILE);
+        Path jmhResult = results.resolve(PerformanceResults.JMH_FILE);
+        if (Files.exists(jmhResult)) {
+            requireBaseline(jmhBaseline);
+            compare(reader.readJmh(jmhBaseline), reader.readJmh(jmhResult), comparisons, missing);
+        }
+
+        Path loadBaseline = baselines.resolve(PerformanceResults.LOAD_FILE);
+        Path loadResult = results.resolve(PerformanceResults.LOAD_FILE);
+        if (Files.exists(loadResult)) {
+            requireBaseline(loadBaseline);
+            compare(reader.readLoadTest(loadBaseline), reader.readLoadTest(loadResult), comparisons, missing);
+        }
+
+        System.out.println(String.format("%-5s %-90s %-22s %26s %26s %9s",
+                "", "benchmark", "metric", "baseline", "current", "change"));
+        List<Comparison> failures = new ArrayList<>();
+        for (Comparison comparison : comparisons) {
+            System.out.println(comparison.format());
+            if (comparison.failed()) {
+                failures.add(comparison);
+            }
+        }
+        missing.forEach(name -> System.out.println("WARN no baseline for " + name));
+        return failures;
+    }
+
+    public List<String> noisy(Path results) throws IOException {
+        PerformanceResults reader = new PerformanceResults();
+        List<String> noisy = new ArrayList<>();
+        Path jmhResult = results.resolve(PerformanceResults.JMH_FILE);
+        if (Files.exists(jmhResult)) {
+            collectNoisy(reader.readJmh(jmhResult), noisy);
+        }
+        Path loadResult = results.resolve(PerformanceResults.LOAD_FILE);
+        if (Files.exists(loadResult)) {
+            collectNoisy(reader.readLoadTest(loadResult), noisy);
+        }
+        noisy.forEach(measurement -> System.out.println("NOISY " + measurement));
+        return noisy;
+    }
+
+    private void collectNoisy(Map<String, List<Measurement>> results, List<String> noisy) {
+        results.forEach((name, measurements) -> {
+            for (Measurement measurement : measurements) {
+                if (!Comparison.withinErrorBound(measurement.score(), measurement.error(),
+                        maxRelativeErrorFor(name), slackFor(measurement.metric()))) {
+                    noisy.add(String.format("%s %s %.3f +-%.3f %s", name, measurement.metric(), measurement.score(),
+                            measurement.error(), measurement.unit()));
+                }
+            }
+        });
+    }
+
+    private void compare(Map<String, List<Measurement>> baseline, Map<String, List<Measurement>> current,
+                         List<Comparison> comparisons, List<String> missing) {
+        current.forEach((name, measurements) -> {
+            List<Measurement> expected = baseline.get(name);
+            if (expected == null) {
+                missing.add(name);
+                return;
+            }
+            for (Measurement measurement : measurements) {
+                expected.stream()
+                        .filter(candidate -> candidate.metric().equals(measurement.metric()))
+                        .findFirst()
+                        .ifPresent(reference -> comparisons.add(new Comparison(
+                                name,
+                                measurement.metric() + " [" + measurement.unit() + "]",
+                                reference.score(),
+                                reference.error(),
+                                measurement.score(),
+                                measurement.error(),
+                                measurement.higherIsBetter(),
+                                toleranceFor(name, measurement.metric()),
+                                slackFor(measurement.metric()),
+                                maxRelativeErrorFor(name))));
+            }
+        });
+    }
+
+    private double toleranceFor(String name, String metric) {
+        if (name.startsWith("load:")) {
+            return switch (metric) {
+                case "throughput" -> loadThroughputTolerance;
+                case "p99" -> loadLatencyTolerance;
+                default -> 0;
+            };
+        }
+        return metric.startsWith("gc.") ? allocationTolerance : timeTolerance;
+    }
+
+    private double maxRelativeErrorFor(String name) {
+        return name.startsWith("load:") ? loadMaxRelativeError : maxRelativeError;
+    }
+
+    private double slackFor(String metric) {
+        return switch (metric) {
+            case "gc.alloc.rate.norm" -> allocationSlackBytes;
+            case "errorRate" -> errorRateSlack;
+            default -> 0;
+        };
+    }
+
+    private static void requireBaseline(Path baseline) {
+        if (!Files.exists(baseline)) {
+            throw new IllegalStateException("Missing baseline " + baseline
+                    + ". Record one with -Dperf.update-baselines=true.");
+        }
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        return Double.parseDouble(System.getProperty(PREFIX + name, Double.toString(defaultValue)));
+    }
+}
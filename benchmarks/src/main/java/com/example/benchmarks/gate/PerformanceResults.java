@@ -0,0 +1,84 @@
+package com.example.benchmarks.gate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+final class PerformanceResults {
+
+    static final String JMH_FILE = "jmh.json";
+    static final String LOAD_FILE = "load.json";
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    record Measurement(String metric, double score, double error, String unit, boolean higherIsBetter) {
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    Map<String, List<Measurement>> readJmh(Path file) throws IOException {
+        Map<String, List<Measurement>> measurements = new LinkedHashMap<>();
+        for (JsonNode run : objectMapper.readTree(file.toFile())) {
+            List<Measurement> metrics = new ArrayList<>(2);
+            JsonNode primary = run.get("primaryMetric");
+            String unit = primary.get("scoreUnit").asText();
+            metrics.add(new Measurement(run.get("mode").asText(), primary.get("score").asDouble(), error(primary),
+                    unit, !unit.endsWith("/op")));
+
+            JsonNode allocation = run.path("secondaryMetrics").get(ALLOCATION_METRIC);
+            if (allocation != null) {
+                metrics.add(new Measurement(ALLOCATION_METRIC, allocation.get("score").asDouble(), error(allocation),
+                        allocation.get("scoreUnit").asText(), false));
+            }
+            measurements.put(jmhKey(run), metrics);
+        }
+        return measurements;
+    }
+
+    Map<String, List<Measurement>> readLoadTest(Path file) throws IOException {
+        Map<String, List<Measurement>> measurements = new LinkedHashMap<>();
+        JsonNode report = objectMapper.readTree(file.toFile());
+        measurements.put("load:" + report.get("total").get("name").asText(), loadMetrics(report.get("total")));
+        for (JsonNode operation : report.get("operations")) {
+            measurements.put("load:" + operation.get("name").asText(), loadMetrics(operation));
+        }
+        return measurements;
+    }
+
+    private static List<Measurement> loadMetrics(JsonNode result) {
+        return List.of(
+                new Measurement("throughput", result.get("throughput").asDouble(), 0, "req/s", true),
+                new Measurement("p99", result.get("p99Millis").asDouble(), result.path("p99ErrorMillis").asDouble(0),
+                        "ms", false),
+                new Measurement("errorRate", result.get("errorRate").asDouble(), 0, "ratio", false)
+        );
+    }
+
+    private static double error(JsonNode metric) {
+        double error = metric.path("scoreError").asDouble(0);
+        return Double.isFinite(error) ? error : 0;
+    }
+
+    private static String jmhKey(JsonNode run) {
+        StringBuilder key = new StringBuilder(run.get("benchmark").asText());
+        JsonNode params = run.get("params");
+        if (params != null) {
+            Map<String, String> sorted = new TreeMap<>();
+            Iterator<Map.Entry<String, JsonNode>> fields = params.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                sorted.put(field.getKey(), field.getValue().asText());
+            }
+            sorted.forEach((name, value) -> key.append(':').append(name).append('=').append(value));
+        }
+        return key.toString();
+    }
+}
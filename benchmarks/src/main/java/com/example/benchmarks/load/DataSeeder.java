@@ -0,0 +1,74 @@
+package com.example.benchmarks.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntFunction;
+
+final class DataSeeder {
+
+    private static final int SEED_CONCURRENCY = 32;
+    private static final int SEED_STOCK = 10_000_000;
+
+    private final HttpClient client;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    DataSeeder(HttpClient client, URI baseUri) {
+        this.client = client;
+        this.baseUri = baseUri;
+    }
+
+    SeededData seed(LoadTestSettings settings) {
+        String runId = Long.toString(settings.seed(), 36) + "-" + Long.toString(System.currentTimeMillis(), 36);
+        long[] customerIds = createAll("/api/v1/customers", settings.customers(), i ->
+                "{\"email\":\"load-" + runId + "-" + i + "@example.com\",\"firstName\":\"Load\",\"lastName\":\"Customer " + i + "\"}");
+
+        String[] skus = new String[settings.products()];
+        for (int i = 0; i < skus.length; i++) {
+            skus[i] = "SEED-" + runId + "-" + i;
+        }
+        long[] productIds = createAll("/api/v1/products", settings.products(), i ->
+                Workload.productJson(skus[i], BigDecimal.valueOf(99 + (i % 5_000), 2), SEED_STOCK));
+        return new SeededData(customerIds, productIds, skus);
+    }
+
+    private long[] createAll(String path, int count, IntFunction<String> body) {
+        Semaphore permits = new Semaphore(SEED_CONCURRENCY);
+        long[] ids = new long[count];
+        List<CompletableFuture<Void>> pending = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(baseUri.resolve(path))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.apply(i)))
+                    .build();
+            permits.acquireUninterruptibly();
+            pending.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenAccept(response -> ids[index] = idOf(path, response))
+                    .whenComplete((ignored, error) -> permits.release()));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+        return ids;
+    }
+
+    private long idOf(String path, HttpResponse<String> response) {
+        if (response.statusCode() != 201) {
+            throw new IllegalStateException("Seeding " + path + " failed with " + response.statusCode() + ": " + response.body());
+        }
+        try {
+            return objectMapper.readTree(response.body()).get("id").asLong();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unreadable response from " + path, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.benchmarks.load;
+
+import com.example.application.port.in.RebuildProductViewsUseCase;
+import com.example.benchmarks.data.DataGenerator;
+import com.example.benchmarks.data.DataGeneratorSettings;
+import com.example.benchmarks.data.GeneratedDataset;
+import com.example.boot.Application;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+
+public final class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+    private static final int SEEDED_STOCK = 10_000_000;
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException, SQLException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ConfigurableApplicationContext application = null;
+        try {
+            URI baseUri;
+            if (settings.baseUrl() == null) {
+                application = startEmbeddedServer(args);
+                int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+                baseUri = URI.create("http://localhost:" + port + "/");
+            } else {
+                baseUri = URI.create(settings.baseUrl().endsWith("/") ? settings.baseUrl() : settings.baseUrl() + "/");
+            }
+
+            SeededData data = settings.scaleFactor() == null ? null : generateData(application, settings);
+            LoadTestResult result = run(settings, baseUri, data);
+            System.out.print(result.format());
+            if (settings.reportFile() != null) {
+                Path report = Path.of(settings.reportFile());
+                if (report.getParent() != null) {
+                    Files.createDirectories(report.getParent());
+                }
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), result);
+                log.info("Load test report written to {}", report.toAbsolutePath());
+            }
+        } finally {
+            if (application != null) {
+                application.close();
+            }
+        }
+    }
+
+    static LoadTestResult run(LoadTestSettings settings, URI baseUri, SeededData preloaded) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        SeededData data = preloaded;
+        if (data == null) {
+            log.info("Seeding {} customers and {} products at {}", settings.customers(), settings.products(), baseUri);
+            data = new DataSeeder(client, baseUri).seed(settings);
+        }
+
+        log.info("Driving {} req/s for {} (after {} warm-up), mix {}",
+                settings.arrivalRate(), settings.duration(), settings.warmup(), settings.mix());
+        return new OpenLoopDriver(client, new Workload(baseUri, data, settings), settings).run();
+    }
+
+    private static SeededData generateData(ConfigurableApplicationContext application, LoadTestSettings settings)
+            throws SQLException, InterruptedException {
+        DataGeneratorSettings generatorSettings = DataGeneratorSettings.fromSystemProperties();
+        generatorSettings = new DataGeneratorSettings(settings.scaleFactor(), settings.seed(),
+                generatorSettings.batchSize(), generatorSettings.threads(), generatorSettings.years(),
+                generatorSettings.endDate(), SEEDED_STOCK);
+        GeneratedDataset dataset = new DataGenerator(application.getBean(DataSource.class), generatorSettings).generate();
+        application.getBean(RebuildProductViewsUseCase.class).execute();
+
+        long[] customerIds = new long[dataset.customers()];
+        for (int i = 0; i < customerIds.length; i++) {
+            customerIds[i] = i + 1L;
+        }
+        long[] productIds = new long[dataset.products()];
+        String[] skus = new String[dataset.products()];
+        for (int i = 0; i < productIds.length; i++) {
+            productIds[i] = i + 1L;
+            skus[i] = dataset.sku(i + 1L);
+        }
+        return new SeededData(customerIds, productIds, skus);
+    }
+
+    static ConfigurableApplicationContext startEmbeddedServer(String[] args) {
+        String[] arguments = Arrays.copyOf(args, args.length + 2);
+        arguments[args.length] = "--server.port=0";
+        arguments[args.length + 1] = "--logging.level.com.example=INFO";
+        return new SpringApplicationBuilder(Application.class).run(arguments);
+    }
+}
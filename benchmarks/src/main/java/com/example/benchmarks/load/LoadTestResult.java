@@ -0,0 +1,120 @@
+package com.example.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.openjdk.jmh.util.ListStatistics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public record LoadTestResult(
+        double targetRate,
+        double durationSeconds,
+        double maxDispatchLagMillis,
+        OperationResult total,
+        List<OperationResult> operations
+) {
+
+    private static final double P99_ERROR_CONFIDENCE = 0.999;
+
+    public record OperationResult(
+            String name,
+            long requests,
+            long errors,
+            double errorRate,
+            double throughput,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p99ErrorMillis,
+            double p999Millis,
+            double maxMillis,
+            Map<Integer, Long> statusCodes
+    ) {
+
+        static OperationResult of(String name, Histogram latencies, List<Histogram> windows, long errors,
+                                  double seconds, Map<Integer, Long> statusCodes) {
+            long requests = latencies.getTotalCount();
+            ListStatistics windowP99 = new ListStatistics();
+            for (Histogram window : windows) {
+                if (window.getTotalCount() > 0) {
+                    windowP99.addValue(millis(window.getValueAtPercentile(99)));
+                }
+            }
+            double p99Error = windowP99.getMeanErrorAt(P99_ERROR_CONFIDENCE);
+            return new OperationResult(
+                    name,
+                    requests,
+                    errors,
+                    requests == 0 ? 0 : (double) errors / requests,
+                    requests / seconds,
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    Double.isFinite(p99Error) ? p99Error : 0,
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()),
+                    statusCodes
+            );
+        }
+    }
+
+    static LoadTestResult from(LoadTestSettings settings, Collection<OperationStats> stats,
+                               long elapsedNanos, long maxDispatchLagNanos) {
+        double seconds = Math.max(elapsedNanos, settings.duration().toNanos()) / 1e9;
+        Histogram combined = null;
+        List<Histogram> combinedWindows = new ArrayList<>(settings.windows());
+        long totalErrors = 0;
+        List<OperationResult> operations = new ArrayList<>(stats.size());
+        for (OperationStats operationStats : stats) {
+            Histogram latencies = operationStats.latencies();
+            List<Histogram> windows = operationStats.windowLatencies();
+            if (combined == null) {
+                combined = new Histogram(latencies.getHighestTrackableValue(), latencies.getNumberOfSignificantValueDigits());
+                for (int window = 0; window < windows.size(); window++) {
+                    combinedWindows.add(new Histogram(latencies.getHighestTrackableValue(),
+                            latencies.getNumberOfSignificantValueDigits()));
+                }
+            }
+            combined.add(latencies);
+            for (int window = 0; window < windows.size(); window++) {
+                combinedWindows.get(window).add(windows.get(window));
+            }
+            totalErrors += operationStats.failures();
+            operations.add(OperationResult.of(operationStats.operation().getEndpoint(), latencies, windows,
+                    operationStats.failures(), seconds, operationStats.statusCodes()));
+        }
+        return new LoadTestResult(
+                settings.arrivalRate(),
+                seconds,
+                millis(maxDispatchLagNanos),
+                OperationResult.of("total", combined, combinedWindows, totalErrors, seconds, Map.of()),
+                operations
+        );
+    }
+
+    public String format() {
+        StringBuilder report = new StringBuilder()
+                .append(String.format("Target rate %.1f req/s, measured %.1f s, achieved %.1f req/s, max dispatch lag %.2f ms%n",
+                        targetRate, durationSeconds, total.throughput(), maxDispatchLagMillis))
+                .append(String.format("%-32s %9s %8s %9s %9s %9s %9s %9s %9s%n",
+                        "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        for (OperationResult operation : operations) {
+            appendRow(report, operation);
+        }
+        appendRow(report, total);
+        return report.toString();
+    }
+
+    private static void appendRow(StringBuilder report, OperationResult result) {
+        report.append(String.format("%-32s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                result.name(), result.requests(), result.errors(), result.throughput(),
+                result.p50Millis(), result.p90Millis(), result.p99Millis(), result.p999Millis(), result.maxMillis()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
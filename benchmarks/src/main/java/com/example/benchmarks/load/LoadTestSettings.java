@@ -0,0 +1,82 @@
+package com.example.benchmarks.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+public record LoadTestSettings(
+        String baseUrl,
+        int customers,
+        int products,
+        double arrivalRate,
+        Duration warmup,
+        Duration duration,
+        int windows,
+        int maxInFlight,
+        double zipfExponent,
+        int maxItemsPerOrder,
+        long seed,
+        Map<Operation, Integer> mix,
+        String reportFile,
+        Double scaleFactor
+) {
+
+    static final String PREFIX = "load.";
+
+    public static LoadTestSettings fromSystemProperties() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.CREATE_ORDER, intProperty("mix.create-order", 30));
+        mix.put(Operation.GET_PRODUCT_BY_ID, intProperty("mix.get-product-by-id", 40));
+        mix.put(Operation.GET_PRODUCT_BY_SKU, intProperty("mix.get-product-by-sku", 25));
+        mix.put(Operation.CREATE_PRODUCT, intProperty("mix.create-product", 5));
+
+        return new LoadTestSettings(
+                System.getProperty(PREFIX + "base-url"),
+                intProperty("customers", 1_000),
+                intProperty("products", 5_000),
+                Double.parseDouble(System.getProperty(PREFIX + "rate", "500")),
+                Duration.parse(System.getProperty(PREFIX + "warmup", "PT10S")),
+                Duration.parse(System.getProperty(PREFIX + "duration", "PT30S")),
+                intProperty("windows", 10),
+                intProperty("max-in-flight", 512),
+                Double.parseDouble(System.getProperty(PREFIX + "zipf-exponent", "1.0")),
+                intProperty("max-items-per-order", 5),
+                Long.parseLong(System.getProperty(PREFIX + "seed", "20240314")),
+                mix,
+                System.getProperty(PREFIX + "report-file"),
+                System.getProperty(PREFIX + "scale-factor") == null
+                        ? null
+                        : Double.valueOf(System.getProperty(PREFIX + "scale-factor"))
+        );
+    }
+
+    public LoadTestSettings {
+        if (customers <= 0 || products <= 0) {
+            throw new IllegalArgumentException("load.customers and load.products must be positive");
+        }
+        if (arrivalRate <= 0) {
+            throw new IllegalArgumentException("load.rate must be positive");
+        }
+        if (windows <= 0) {
+            throw new IllegalArgumentException("load.windows must be positive");
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("At least one load.mix.* weight must be positive");
+        }
+        if (scaleFactor != null && baseUrl != null) {
+            throw new IllegalArgumentException("load.scale-factor generates data in-process and cannot be used with load.base-url");
+        }
+    }
+
+    public long intervalNanos() {
+        return Math.max(1L, Math.round(1_000_000_000d / arrivalRate));
+    }
+
+    public long windowNanos() {
+        return Math.max(1L, duration.toNanos() / windows);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(PREFIX + name, Integer.toString(defaultValue)));
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.benchmarks.load;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+final class OpenLoopDriver {
+
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long DRAIN_TIMEOUT_SECONDS = 60;
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final LoadTestSettings settings;
+
+    OpenLoopDriver(HttpClient client, Workload workload, LoadTestSettings settings) {
+        this.client = client;
+        this.workload = workload;
+        this.settings = settings;
+    }
+
+    LoadTestResult run() throws InterruptedException {
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation, settings.windows()));
+        }
+        SplittableRandom random = new SplittableRandom(settings.seed() ^ 0x5DEECE66DL);
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+
+        long interval = settings.intervalNanos();
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        long maxDispatchLag = 0;
+        AtomicLong lastCompletion = new AtomicLong(measureFrom);
+
+        for (long sequence = 0; ; sequence++) {
+            long intendedStart = start + sequence * interval;
+            if (intendedStart >= end) {
+                break;
+            }
+            waitUntil(intendedStart);
+
+            Operation operation = workload.nextOperation(random);
+            HttpRequest request = workload.request(operation, random);
+            boolean measured = intendedStart >= measureFrom;
+            int window = measured
+                    ? (int) Math.min(settings.windows() - 1, (intendedStart - measureFrom) / settings.windowNanos())
+                    : 0;
+            inFlight.acquireUninterruptibly();
+            if (measured) {
+                maxDispatchLag = Math.max(maxDispatchLag, System.nanoTime() - intendedStart);
+            }
+
+            OperationStats operationStats = stats.get(operation);
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - intendedStart;
+                        if (measured) {
+                            lastCompletion.accumulateAndGet(intendedStart + latency, Math::max);
+                            if (error == null) {
+                                operationStats.recordResponse(window, response.statusCode(), latency);
+                            } else {
+                                operationStats.recordFailure(window, latency);
+                            }
+                        }
+                        inFlight.release();
+                    });
+        }
+
+        if (!inFlight.tryAcquire(settings.maxInFlight(), DRAIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Requests still in flight " + DRAIN_TIMEOUT_SECONDS + "s after the run ended");
+        }
+        return LoadTestResult.from(settings, stats.values(), lastCompletion.get() - measureFrom, maxDispatchLag);
+    }
+
+    private static void waitUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}
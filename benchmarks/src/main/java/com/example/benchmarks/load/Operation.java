@@ -0,0 +1,18 @@
+package com.example.benchmarks.load;
+
+public enum Operation {
+    CREATE_ORDER("POST /api/v1/orders"),
+    GET_PRODUCT_BY_ID("GET /api/v1/products/{id}"),
+    GET_PRODUCT_BY_SKU("GET /api/v1/products/sku/{sku}"),
+    CREATE_PRODUCT("POST /api/v1/products");
+
+    private final String endpoint;
+
+    Operation(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.benchmarks.load;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+final class OperationStats {
+
+    private static final long HIGHEST_TRACKABLE_NANOS = 60_000_000_000L;
+
+    private final Operation operation;
+    private final Recorder latencies = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+    private final Recorder[] windowLatencies;
+    private final LongAdder failures = new LongAdder();
+    private final Map<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+
+    OperationStats(Operation operation, int windows) {
+        this.operation = operation;
+        this.windowLatencies = new Recorder[windows];
+        for (int window = 0; window < windows; window++) {
+            windowLatencies[window] = new Recorder(HIGHEST_TRACKABLE_NANOS, 3);
+        }
+    }
+
+    void recordResponse(int window, int statusCode, long latencyNanos) {
+        recordLatency(window, latencyNanos);
+        statusCodes.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        if (statusCode >= 400) {
+            failures.increment();
+        }
+    }
+
+    void recordFailure(int window, long latencyNanos) {
+        recordLatency(window, latencyNanos);
+        failures.increment();
+    }
+
+    Operation operation() {
+        return operation;
+    }
+
+    Histogram latencies() {
+        return latencies.getIntervalHistogram();
+    }
+
+    List<Histogram> windowLatencies() {
+        List<Histogram> windows = new ArrayList<>(windowLatencies.length);
+        for (Recorder window : windowLatencies) {
+            windows.add(window.getIntervalHistogram());
+        }
+        return windows;
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    Map<Integer, Long> statusCodes() {
+        Map<Integer, Long> snapshot = new TreeMap<>();
+        statusCodes.forEach((code, count) -> snapshot.put(code, count.sum()));
+        return snapshot;
+    }
+
+    private void recordLatency(int window, long latencyNanos) {
+        long latency = Math.min(latencyNanos, HIGHEST_TRACKABLE_NANOS);
+        latencies.recordValue(latency);
+        windowLatencies[window].recordValue(latency);
+    }
+}
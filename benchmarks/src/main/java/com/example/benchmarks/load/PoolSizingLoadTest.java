@@ -0,0 +1,71 @@
+package com.example.benchmarks.load;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public final class PoolSizingLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PoolSizingLoadTest.class);
+    private static final String AUTO = "auto";
+
+    private PoolSizingLoadTest() {
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (settings.baseUrl() != null || settings.scaleFactor() != null) {
+            throw new IllegalArgumentException("The pool sizing load test starts its own server per pool size");
+        }
+        List<String> sizes = Arrays.stream(System.getProperty("pool.sizes", "2," + AUTO + ",32").split(","))
+                .map(String::trim)
+                .toList();
+
+        List<String> rows = new ArrayList<>();
+        for (String size : sizes) {
+            String[] arguments = Arrays.copyOf(args, args.length + 1);
+            arguments[args.length] = AUTO.equals(size)
+                    ? "--supermarket.datasource.pool.sizing-enabled=true"
+                    : "--spring.datasource.hikari.maximum-pool-size=" + Integer.parseInt(size);
+            log.info("Running load test with pool size {}", size);
+            try (ConfigurableApplicationContext application = LoadTest.startEmbeddedServer(arguments)) {
+                int port = ((WebServerApplicationContext) application).getWebServer().getPort();
+                LoadTestResult result = LoadTest.run(settings, URI.create("http://localhost:" + port + "/"), null);
+                System.out.print(result.format());
+                rows.add(row(size, result, application.getBean(MeterRegistry.class)));
+            }
+        }
+
+        System.out.printf("%nPool sizing at %.1f req/s%n", settings.arrivalRate());
+        System.out.printf("%-10s %8s %14s %14s %12s %16s %16s %14s%n",
+                "pool", "max", "order p50 ms", "order p99 ms", "errors", "acquire p99 ms", "acquire max ms", "hold mean ms");
+        rows.forEach(System.out::println);
+    }
+
+    private static String row(String size, LoadTestResult result, MeterRegistry meterRegistry) {
+        LoadTestResult.OperationResult createOrder = result.operations().stream()
+                .filter(operation -> operation.name().equals(Operation.CREATE_ORDER.getEndpoint()))
+                .findFirst()
+                .orElseThrow();
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").timer();
+        Timer usage = meterRegistry.get("hikaricp.connections.usage").timer();
+        double maxConnections = meterRegistry.get("hikaricp.connections.max").gauge().value();
+        double acquireP99 = Arrays.stream(acquire.takeSnapshot().percentileValues())
+                .filter(value -> value.percentile() == 0.99)
+                .mapToDouble(value -> value.value(TimeUnit.MILLISECONDS))
+                .findFirst()
+                .orElse(Double.NaN);
+        return String.format("%-10s %8.0f %14.2f %14.2f %12d %16.2f %16.2f %14.2f",
+                size, maxConnections, createOrder.p50Millis(), createOrder.p99Millis(), result.total().errors(),
+                acquireP99, acquire.max(TimeUnit.MILLISECONDS), usage.mean(TimeUnit.MILLISECONDS));
+    }
+}
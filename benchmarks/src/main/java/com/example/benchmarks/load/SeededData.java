@@ -0,0 +1,4 @@
+package com.example.benchmarks.load;
+
+record SeededData(long[] customerIds, long[] productIds, String[] skus) {
+}
@@ -0,0 +1,106 @@
+package com.example.benchmarks.load;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+final class Workload {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final SeededData data;
+    private final ZipfDistribution popularity;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final int maxItemsPerOrder;
+    private final String runId;
+    private final AtomicLong createdProducts = new AtomicLong();
+
+    Workload(URI baseUri, SeededData data, LoadTestSettings settings) {
+        this.baseUri = baseUri;
+        this.data = data;
+        this.popularity = new ZipfDistribution(data.productIds().length, settings.zipfExponent(),
+                new SplittableRandom(settings.seed()));
+        this.maxItemsPerOrder = settings.maxItemsPerOrder();
+        this.runId = Long.toString(System.currentTimeMillis(), 36);
+
+        Map<Operation, Integer> mix = settings.mix();
+        this.operations = mix.keySet().toArray(Operation[]::new);
+        this.cumulativeWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += Math.max(0, mix.get(operations[i]));
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Operation nextOperation(SplittableRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        throw new IllegalStateException("Operation weights are inconsistent");
+    }
+
+    HttpRequest request(Operation operation, SplittableRandom random) {
+        return switch (operation) {
+            case CREATE_ORDER -> post("/api/v1/orders", orderBody(random));
+            case GET_PRODUCT_BY_ID -> get("/api/v1/products/" + data.productIds()[popularProduct(random)]);
+            case GET_PRODUCT_BY_SKU -> get("/api/v1/products/sku/" + data.skus()[popularProduct(random)]);
+            case CREATE_PRODUCT -> post("/api/v1/products", productBody(random));
+        };
+    }
+
+    private String orderBody(SplittableRandom random) {
+        long customerId = data.customerIds()[random.nextInt(data.customerIds().length)];
+        int itemCount = 1 + random.nextInt(maxItemsPerOrder);
+        StringBuilder body = new StringBuilder(64 + itemCount * 40)
+                .append("{\"customerId\":").append(customerId).append(",\"items\":[");
+        for (int i = 0; i < itemCount; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"productId\":").append(data.productIds()[popularProduct(random)])
+                    .append(",\"quantity\":").append(1 + random.nextInt(3)).append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private String productBody(SplittableRandom random) {
+        String sku = "LT-" + runId + "-" + createdProducts.incrementAndGet();
+        return productJson(sku, BigDecimal.valueOf(100 + random.nextInt(10_000), 2), 1_000);
+    }
+
+    static String productJson(String sku, BigDecimal price, int stockQuantity) {
+        return "{\"sku\":\"" + sku + "\",\"name\":\"Product " + sku + "\",\"description\":\"Load test product\""
+                + ",\"price\":" + price.toPlainString() + ",\"stockQuantity\":" + stockQuantity + "}";
+    }
+
+    private int popularProduct(SplittableRandom random) {
+        return popularity.sample(random);
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+}
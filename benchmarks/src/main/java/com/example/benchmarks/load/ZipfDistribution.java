@@ -0,0 +1,54 @@
+package com.example.benchmarks.load;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public final class ZipfDistribution {
+
+    private final double[] cumulative;
+    private final int[] itemByRank;
+
+    public ZipfDistribution(int size, double exponent) {
+        this(size, exponent, null);
+    }
+
+    public ZipfDistribution(int size, double exponent, SplittableRandom shuffle) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive");
+        }
+        cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            sum += 1d / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= sum;
+        }
+        itemByRank = shuffle == null ? null : shuffledRanks(size, shuffle);
+    }
+
+    public int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+        return itemByRank == null ? rank : itemByRank[rank];
+    }
+
+    public int size() {
+        return cumulative.length;
+    }
+
+    private static int[] shuffledRanks(int size, SplittableRandom random) {
+        int[] ranks = new int[size];
+        for (int i = 0; i < size; i++) {
+            ranks[i] = i;
+        }
+        for (int i = size - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ranks[i];
+            ranks[i] = ranks[j];
+            ranks[j] = swap;
+        }
+        return ranks;
+    }
+}
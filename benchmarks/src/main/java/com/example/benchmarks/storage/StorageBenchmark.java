@@ -0,0 +1,137 @@
+package com.example.benchmarks.storage;
+
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.benchmarks.data.DataGenerator;
+import com.example.benchmarks.data.DataGeneratorSettings;
+import com.example.benchmarks.data.GeneratedDataset;
+import com.example.boot.Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+public final class StorageBenchmark {
+
+    private static final String PREFIX = "storage.";
+
+    private StorageBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, SQLException, InterruptedException {
+        Path dataDir = Path.of(System.getProperty(PREFIX + "data-dir", "target/storage-benchmark")).toAbsolutePath();
+        int commits = Integer.parseInt(System.getProperty(PREFIX + "commits", "10000"));
+        DataGeneratorSettings generatorSettings = DataGeneratorSettings.fromSystemProperties();
+        FileSystemUtils.deleteRecursively(dataDir);
+        Files.createDirectories(dataDir);
+
+        long started = System.nanoTime();
+        ConfigurableApplicationContext context = start(dataDir, args);
+        double emptyStartSeconds = seconds(started);
+
+        GeneratedDataset dataset = new DataGenerator(context.getBean(DataSource.class), generatorSettings).generate();
+        long bulkRows = dataset.customers() + dataset.products() + dataset.orders() + dataset.orderItems();
+        double bulkSeconds = dataset.elapsed().toNanos() / 1e9;
+
+        double commitSeconds = singleRowCommits(context.getBean(DataSource.class), commits);
+
+        started = System.nanoTime();
+        context.close();
+        double shutdownSeconds = seconds(started);
+        long storeBytes = storeSize(dataDir);
+
+        started = System.nanoTime();
+        context = start(dataDir, args);
+        double restartSeconds = seconds(started);
+
+        started = System.nanoTime();
+        long orderItems = count(context.getBean(DataSource.class), "select count(*) from order_items");
+        double firstScanSeconds = seconds(started);
+
+        started = System.nanoTime();
+        boolean found = context.getBean(ProductRepositoryPort.class).findBySku(dataset.sku(dataset.products())).isPresent();
+        double firstLookupMillis = seconds(started) * 1_000;
+        context.close();
+
+        System.out.printf("""
+                        H2 file store at %s
+                          empty start + migration   %8.2f s
+                          bulk load                 %,d rows in %.1f s (%,.0f rows/s, %,d order items)
+                          single-row commits        %,d in %.2f s (%,.0f commits/s)
+                          shutdown (incl. compact)  %8.2f s
+                          store size                %,d MB
+                          restart                   %8.2f s
+                          first count(order_items)  %8.2f s (%,d rows)
+                          first lookup by SKU       %8.2f ms (found: %s)
+                        """,
+                dataDir, emptyStartSeconds,
+                bulkRows, bulkSeconds, bulkRows / bulkSeconds, dataset.orderItems(),
+                commits, commitSeconds, commits / commitSeconds,
+                shutdownSeconds, storeBytes / (1024 * 1024), restartSeconds,
+                firstScanSeconds, orderItems, firstLookupMillis, found);
+    }
+
+    private static ConfigurableApplicationContext start(Path dataDir, String[] args) {
+        String[] arguments = Arrays.copyOf(args, args.length + 3);
+        arguments[args.length] = "--spring.profiles.active=standalone";
+        arguments[args.length + 1] = "--supermarket.data-dir=" + dataDir;
+        arguments[args.length + 2] = "--logging.level.com.example=INFO";
+        return new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run(arguments);
+    }
+
+    private static double singleRowCommits(DataSource dataSource, int commits) throws SQLException {
+        DataSource target = dataSource instanceof DelegatingDataSource delegating
+                ? delegating.getTargetDataSource()
+                : dataSource;
+        long started = System.nanoTime();
+        try (Connection connection = target.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "insert into customers (email, first_name, last_name, created_at, updated_at) values (?, ?, ?, ?, ?)")) {
+            connection.setAutoCommit(true);
+            LocalDateTime now = LocalDateTime.now();
+            for (int i = 0; i < commits; i++) {
+                insert.setString(1, "commit-" + i + "@example.com");
+                insert.setString(2, "Commit");
+                insert.setString(3, "Benchmark");
+                insert.setObject(4, now);
+                insert.setObject(5, now);
+                insert.executeUpdate();
+            }
+        }
+        return seconds(started);
+    }
+
+    private static long count(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static long storeSize(Path dataDir) throws IOException {
+        try (Stream<Path> files = Files.list(dataDir)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+
+    private static double seconds(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1e9;
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.benchmarks.wire;
+
+import com.example.application.port.in.CreateProductUseCase;
+import com.example.application.port.in.command.CreateProductCommand;
+import com.example.benchmarks.Fixtures;
+import com.example.boot.Application;
+import com.example.domain.model.Product;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+public final class ResponseEncodingBenchmark {
+
+    private static final String PREFIX = "wire.";
+    private static final String SERVER_THREAD = "-exec-";
+
+    private static final List<Variant> VARIANTS = List.of(
+            new Variant("application/json", "identity"),
+            new Variant("application/json", "gzip"),
+            new Variant("application/x-jackson-smile", "identity"),
+            new Variant("application/x-jackson-smile", "gzip"),
+            new Variant("application/cbor", "identity"),
+            new Variant("application/cbor", "gzip"));
+
+    private ResponseEncodingBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int products = Integer.parseInt(System.getProperty(PREFIX + "products", "5000"));
+        int warmup = Integer.parseInt(System.getProperty(PREFIX + "warmup", "50"));
+        int requests = Integer.parseInt(System.getProperty(PREFIX + "requests", "200"));
+
+        ConfigurableApplicationContext context = start(args);
+        try {
+            CreateProductUseCase createProductUseCase = context.getBean(CreateProductUseCase.class);
+            for (int i = 1; i <= products; i++) {
+                Product product = Fixtures.product(i);
+                createProductUseCase.execute(new CreateProductCommand(product.getSku(), product.getName(),
+                        product.getDescription(), product.getPrice(), product.getStockQuantity()));
+            }
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/api/v1/products");
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+            System.out.printf("GET /api/v1/products with %,d products, %,d requests per variant%n", products, requests);
+            System.out.printf("  %-28s %-9s %12s %12s %12s%n",
+                    "Accept", "Encoding", "bytes/req", "CPU us/req", "wall us/req");
+            for (Variant variant : VARIANTS) {
+                HttpRequest request = HttpRequest.newBuilder(uri)
+                        .header("Accept", variant.accept())
+                        .header("Accept-Encoding", variant.encoding())
+                        .GET()
+                        .build();
+                for (int i = 0; i < warmup; i++) {
+                    send(client, request);
+                }
+
+                long bytes = 0;
+                long cpuBefore = serverCpuNanos(threads);
+                long started = System.nanoTime();
+                for (int i = 0; i < requests; i++) {
+                    bytes += send(client, request);
+                }
+                long wall = System.nanoTime() - started;
+                long cpu = serverCpuNanos(threads) - cpuBefore;
+
+                System.out.printf("  %-28s %-9s %,12d %,12.1f %,12.1f%n", variant.accept(), variant.encoding(),
+                        bytes / requests, cpu / 1e3 / requests, wall / 1e3 / requests);
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static int send(HttpClient client, HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + request);
+        }
+        return response.body().length;
+    }
+
+    private static long serverCpuNanos(ThreadMXBean threads) {
+        long total = 0;
+        for (ThreadInfo thread : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if (thread != null && thread.getThreadName().contains(SERVER_THREAD)) {
+                long cpu = threads.getThreadCpuTime(thread.getThreadId());
+                if (cpu > 0) {
+                    total += cpu;
+                }
+            }
+        }
+        return total;
+    }
+
+    private static ConfigurableApplicationContext start(String[] args) {
+        String[] arguments = Arrays.copyOf(args, args.length + 4);
+        arguments[args.length] = "--server.port=0";
+        arguments[args.length + 1] = "--supermarket.orders.expiry.enabled=false";
+        arguments[args.length + 2] = "--supermarket.inventory.enabled=false";
+        arguments[args.length + 3] = "--logging.level.com.example=INFO";
+        return new SpringApplicationBuilder(Application.class).run(arguments);
+    }
+
+    private record Variant(String accept, String encoding) {
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.config.expiry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TimingWheelBenchmark {
+
+    private static final long TICK_MILLIS = 1_000;
+    private static final long TTL_MILLIS = 30 * 60 * 1_000;
+
+    @Param({"10000", "1000000"})
+    private int pendingOrders;
+
+    private HierarchicalTimingWheel wheel;
+    private SplittableRandom random;
+    private long now;
+    private long nextOrderId;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        random = new SplittableRandom(20240314L);
+        now = 0;
+        wheel = new HierarchicalTimingWheel(TICK_MILLIS, now);
+        for (nextOrderId = 0; nextOrderId < pendingOrders; nextOrderId++) {
+            wheel.schedule(nextOrderId, random.nextLong(TTL_MILLIS));
+        }
+    }
+
+    @Benchmark
+    public void scheduleAndCancel() {
+        long orderId = random.nextLong(pendingOrders);
+        wheel.cancel(orderId);
+        wheel.schedule(orderId, now + TTL_MILLIS);
+    }
+
+    @Benchmark
+    public void placeAndAdvance(Blackhole blackhole) {
+        wheel.schedule(nextOrderId++, now + TTL_MILLIS);
+        now += TICK_MILLIS / 100;
+        wheel.advanceTo(now, blackhole::consume);
+    }
+}
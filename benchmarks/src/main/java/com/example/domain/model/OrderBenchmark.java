@@ -0,0 +1,64 @@
+package com.example.domain.model;
+
+import com.example.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "50", "200"})
+    private int basketSize;
+
+    private List<OrderItem> items;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        items = Fixtures.orderItems(1L, basketSize, 20240314L);
+    }
+
+    @Benchmark
+    public Order addItemOneByOne() {
+        Order order = new Order(1L, 42L);
+        for (OrderItem item : items) {
+            order.addItem(item);
+        }
+        return order;
+    }
+
+    @Benchmark
+    public BigDecimal recalculateTotalAmountOnce() {
+        Order order = new Order(1L, 42L);
+        order.setItems(items);
+        return order.getTotalAmount();
+    }
+
+    @Benchmark
+    public Order checkoutWithDomainItems() {
+        Order order = new Order(null, 42L);
+        for (OrderItem item : items) {
+            order.addItem(new OrderItem(null, null, item.getProductId(), item.getProductName(),
+                    item.getUnitPrice(), item.getQuantity()));
+        }
+        return order;
+    }
+}
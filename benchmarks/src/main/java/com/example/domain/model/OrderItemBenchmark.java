@@ -0,0 +1,51 @@
+package com.example.domain.model;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class OrderItemBenchmark {
+
+    @Param({"1", "12", "1000"})
+    private int quantity;
+
+    @Param({"0.99", "19.99", "12345.67"})
+    private String unitPrice;
+
+    private BigDecimal price;
+    private OrderItem item;
+
+    @Setup
+    public void setUp() {
+        price = new BigDecimal(unitPrice);
+        item = new OrderItem(1L, 1L, 7L, "Benchmark product", price, quantity);
+    }
+
+    @Benchmark
+    public BigDecimal createAndComputeSubtotal() {
+        return new OrderItem(1L, 1L, 7L, "Benchmark product", price, quantity).getSubtotal();
+    }
+
+    @Benchmark
+    public BigDecimal updateQuantityAndRecomputeSubtotal() {
+        item.updateQuantity(quantity);
+        return item.getSubtotal();
+    }
+}
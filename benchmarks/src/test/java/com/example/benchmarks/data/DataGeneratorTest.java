@@ -0,0 +1,189 @@
+package com.example.benchmarks.data;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DataGenerator Tests")
+class DataGeneratorTest {
+
+    private static final String FINGERPRINT = """
+            select (select sum(total_amount) from orders),
+                   (select sum(product_id * quantity) from order_items),
+                   (select sum(customer_id) from orders),
+                   (select sum(price) from products),
+                   (select count(*) from orders where status = 'DELIVERED')
+            """;
+
+    @Test
+    @DisplayName("givenSameSeed_whenGeneratedWithDifferentThreadCounts_thenDatasetsAreIdentical")
+    void givenSameSeed_whenGeneratedWithDifferentThreadCounts_thenDatasetsAreIdentical() throws Exception {
+        // Given
+        DataSource first = emptySchema();
+        DataSource second = emptySchema();
+
+        // When
+        GeneratedDataset firstDataset = new DataGenerator(first, settings(1)).generate();
+        GeneratedDataset secondDataset = new DataGenerator(second, settings(4)).generate();
+
+        // Then
+        assertThat(secondDataset.orderItems()).isEqualTo(firstDataset.orderItems());
+        assertThat(fingerprint(second)).isEqualTo(fingerprint(first));
+    }
+
+    @Test
+    @DisplayName("givenScaleFactor_whenGenerate_thenRowCountsAndOrderTotalsAreConsistent")
+    void givenScaleFactor_whenGenerate_thenRowCountsAndOrderTotalsAreConsistent() throws Exception {
+        // Given
+        DataSource dataSource = emptySchema();
+
+        // When
+        GeneratedDataset dataset = new DataGenerator(dataSource, settings(2)).generate();
+
+        // Then
+        assertThat(dataset.products()).isEqualTo(1_000);
+        assertThat(dataset.customers()).isEqualTo(1_000);
+        assertThat(dataset.orders()).isEqualTo(4_000);
+        assertThat(queryLong(dataSource, "select count(*) from order_items")).isEqualTo(dataset.orderItems());
+        assertThat(queryLong(dataSource, """
+                select count(*) from orders o
+                where o.total_amount <> (select sum(i.subtotal) from order_items i where i.order_id = o.id)
+                """)).isZero();
+        assertThat(queryLong(dataSource, "select count(*) from products where sku = '" + dataset.sku(1) + "'"))
+                .isEqualTo(1);
+        assertThat(queryLong(dataSource, """
+                select count(*) from products p
+                where p.stock_quantity <> coalesce((select sum(l.quantity_delta) from inventory_ledger l
+                                                    where l.product_id = p.id and l.entry_type = 'RECEIPT'), 0)
+                """)).isZero();
+    }
+
+    @Test
+    @DisplayName("givenGeneratedData_whenInsertingWithoutId_thenIdentityContinuesAfterGeneratedRows")
+    void givenGeneratedData_whenInsertingWithoutId_thenIdentityContinuesAfterGeneratedRows() throws Exception {
+        // Given
+        DataSource dataSource = emptySchema();
+        new DataGenerator(dataSource, settings(1)).generate();
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    insert into products (sku, name, price, stock_quantity, created_at, updated_at)
+                    values ('NEW-1', 'New', 1.00, 1, current_timestamp, current_timestamp)
+                    """);
+        }
+
+        // Then
+        assertThat(queryLong(dataSource, "select id from products where sku = 'NEW-1'")).isEqualTo(1_001);
+    }
+
+    @Test
+    @DisplayName("givenNonEmptyTables_whenGenerate_thenGenerationIsRefused")
+    void givenNonEmptyTables_whenGenerate_thenGenerationIsRefused() throws Exception {
+        // Given
+        DataSource dataSource = emptySchema();
+        new DataGenerator(dataSource, settings(1)).generate();
+
+        // When / Then
+        assertThatThrownBy(() -> new DataGenerator(dataSource, settings(1)).generate())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("not empty");
+    }
+
+    private static DataGeneratorSettings settings(int threads) {
+        return new DataGeneratorSettings(0.01, 42L, 250, threads, 2, LocalDate.of(2024, 12, 31), null);
+    }
+
+    private static String fingerprint(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(FINGERPRINT)) {
+            rows.next();
+            StringBuilder fingerprint = new StringBuilder();
+            for (int column = 1; column <= 5; column++) {
+                fingerprint.append(rows.getString(column)).append('|');
+            }
+            return fingerprint.toString();
+        }
+    }
+
+    private static long queryLong(DataSource dataSource, String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(sql)) {
+            rows.next();
+            return rows.getLong(1);
+        }
+    }
+
+    private static DataSource emptySchema() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    create table products (
+                        id bigint generated by default as identity primary key,
+                        sku varchar(255) not null unique,
+                        name varchar(255) not null,
+                        description varchar(1000),
+                        price numeric(10, 2) not null,
+                        stock_quantity integer not null,
+                        created_at timestamp(6) not null,
+                        updated_at timestamp(6) not null)
+                    """);
+            statement.execute("""
+                    create table customers (
+                        id bigint generated by default as identity primary key,
+                        email varchar(255) not null unique,
+                        first_name varchar(255) not null,
+                        last_name varchar(255) not null,
+                        phone varchar(255),
+                        address varchar(500),
+                        created_at timestamp(6) not null,
+                        updated_at timestamp(6) not null)
+                    """);
+            statement.execute("""
+                    create table orders (
+                        id bigint generated by default as identity primary key,
+                        customer_id bigint not null,
+                        total_amount numeric(10, 2) not null,
+                        status varchar(255) not null,
+                        created_at timestamp(6) not null,
+                        updated_at timestamp(6) not null)
+                    """);
+            statement.execute("""
+                    create table order_items (
+                        id bigint generated by default as identity primary key,
+                        order_id bigint not null references orders (id),
+                        product_id bigint not null,
+                        product_name varchar(255) not null,
+                        unit_price numeric(10, 2) not null,
+                        quantity integer not null,
+                        subtotal numeric(10, 2) not null)
+                    """);
+            statement.execute("""
+                    create table inventory_ledger (
+                        id bigint generated by default as identity primary key,
+                        product_id bigint not null,
+                        entry_type varchar(32) not null,
+                        quantity_delta integer not null,
+                        reference_id bigint,
+                        recorded_at timestamp(6) not null)
+                    """);
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.benchmarks.gate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PerformanceGate Tests")
+class PerformanceGateTest {
+
+    private final PerformanceGate gate = new PerformanceGate(0.10, 0.10, 16, 0.10, 0.20, 0.001, 0.05, 0.10);
+
+    @TempDir
+    Path baselines;
+
+    @TempDir
+    Path results;
+
+    @Test
+    @DisplayName("givenScoresWithinTolerance_whenCheck_thenNoRegressionIsReported")
+    void givenScoresWithinTolerance_whenCheck_thenNoRegressionIsReported() throws IOException {
+        // Given
+        writeJmh(baselines, 100.0, 1.0, 400.0);
+        writeJmh(results, 108.0, 1.0, 410.0);
+
+        // When
+        List<Comparison> regressions = gate.check(baselines, results);
+
+        // Then
+        assertThat(regressions).isEmpty();
+    }
+
+    @Test
+    @DisplayName("givenSlowerAverageTime_whenCheck_thenTimeRegressionIsReported")
+    void givenSlowerAverageTime_whenCheck_thenTimeRegressionIsReported() throws IOException {
+        // Given
+        writeJmh(baselines, 100.0, 1.0, 400.0);
+        writeJmh(results, 125.0, 1.0, 400.0);
+
+        // When
+        List<Comparison> regressions = gate.check(baselines, results);
+
+        // Then
+        assertThat(regressions).singleElement()
+                .satisfies(comparison -> assertThat(comparison.metric()).startsWith("avgt"));
+    }
+
+    @Test
+    @DisplayName("givenSlowerMeanWithOverlappingErrorBars_whenCheck_thenTimeRegressionIsReported")
+    void givenSlowerMeanWithOverlappingErrorBars_whenCheck_thenTimeRegressionIsReported() throws IOException {
+        // Given
+        writeJmh(baselines, 100.0, 4.0, 400.0);
+        writeJmh(results, 112.0, 4.0, 400.0);
+
+        // When
+        List<Comparison> regressions = gate.check(baselines, results);
+
+        // Then
+        assertThat(regressions).singleElement()
+                .satisfies(comparison -> assertThat(comparison.regressed()).isTrue())
+                .satisfies(comparison -> assertThat(comparison.noisy()).isFalse());
+    }
+
+    @Test
+    @DisplayName("givenCurrentScoreErrorAboveBound_whenCheck_thenMeasurementFailsAsNoisy")
+    void givenCurrentScoreErrorAboveBound_whenCheck_thenMeasurementFailsAsNoisy() throws IOException {
+        // Given
+        writeJmh(baselines, 100.0, 1.0, 400.0);
+        writeJmh(results, 101.0, 20.0, 400.0);
+
+        // When
+        List<Comparison> failures = gate.check(baselines, results);
+
+        // Then
+        assertThat(failures).singleElement()
+                .satisfies(comparison -> assertThat(comparison.metric()).startsWith("avgt"))
+                .satisfies(comparison -> assertThat(comparison.regressed()).isFalse())
+                .satisfies(comparison -> assertThat(comparison.noisy()).isTrue());
+    }
+
+    @Test
+    @DisplayName("givenResultsAboveErrorBound_whenListingNoisy_thenEachNoisyMeasurementIsListed")
+    void givenResultsAboveErrorBound_whenListingNoisy_thenEachNoisyMeasurementIsListed() throws IOException {
+        // Given
+        writeJmh(results, 100.0, 20.0, 400.0);
+        writeLoad(results, 500.0, 20.0, 5.0);
+
+        // When
+        List<String> noisy = gate.noisy(results);
+
+        // Then
+        assertThat(noisy).hasSize(2)
+                .anySatisfy(measurement -> assertThat(measurement).contains("OrderBenchmark", "avgt"))
+                .anySatisfy(measurement -> assertThat(measurement).contains("load:total", "p99"));
+    }
+
+    @Test
+    @DisplayName("givenResultsWithinErrorBound_whenListingNoisy_thenNothingIsListed")
+    void givenResultsWithinErrorBound_whenListingNoisy_thenNothingIsListed() throws IOException {
+        // Given
+        writeJmh(results, 100.0, 4.0, 400.0);
+        writeLoad(results, 500.0, 20.0, 1.0);
+
+        // When & Then
+        assertThat(gate.noisy(results)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("givenMoreBytesPerOperation_whenCheck_thenAllocationRegressionIsReported")
+    void givenMoreBytesPerOperation_whenCheck_thenAllocationRegressionIsReported() throws IOException {
+        // Given
+        writeJmh(baselines, 100.0, 1.0, 400.0);
+        writeJmh(results, 100.0, 1.0, 480.0);
+
+        // When
+        List<Comparison> regressions = gate.check(baselines, results);
+
+        // Then
+        assertThat(regressions).singleElement()
+                .satisfies(comparison -> assertThat(comparison.metric()).startsWith("gc.alloc.rate.norm"));
+    }
+
+    @Test
+    @DisplayName("givenLowerLoadTestThroughput_whenCheck_thenThroughputRegressionIsReported")
+    void givenLowerLoadTestThroughput_whenCheck_thenThroughputRegressionIsReported() throws IOException {
+        // Given
+        writeLoad(baselines, 500.0, 20.0, 1.0);
+        writeLoad(results, 400.0, 22.0, 1.0);
+
+        // When
+        List<Comparison> regressions = gate.check(baselines, results);
+
+        // Then
+        assertThat(regressions).singleElement()
+                .satisfies(comparison -> assertThat(comparison.metric()).startsWith("throughput"));
+    }
+
+    @Test
+    @DisplayName("givenHigherLoadTestP99_whenCheck_thenLatencyRegressionIsReported")
+    void givenHigherLoadTestP99_whenCheck_thenLatencyRegressionIsReported() throws IOException {
+        // Given
+        writeLoad(baselines, 500.0, 20.0, 1.0);
+        writeLoad(results, 500.0, 25.0, 1.0);
+
+        // When
+        List<Comparison> regressions = gate.check(baselines, results);
+
+        // Then
+        assertThat(regressions).singleElement()
+                .satisfies(comparison -> assertThat(comparison.metric()).startsWith("p99"));
+    }
+
+    private static void writeJmh(Path directory, double averageTime, double averageTimeError, double bytesPerOperation)
+            throws IOException {
+        Files.writeString(directory.resolve(PerformanceResults.JMH_FILE), """
+                [ {
+                    "benchmark" : "com.example.domain.model.OrderBenchmark.addItemOneByOne",
+                    "mode" : "avgt",
+                    "params" : { "basketSize" : "10" },
+                    "primaryMetric" : { "score" : %s, "scoreError" : %s, "scoreUnit" : "ns/op" },
+                    "secondaryMetrics" : {
+                        "gc.alloc.rate.norm" : { "score" : %s, "scoreError" : 0.0, "scoreUnit" : "B/op" }
+                    }
+                } ]
+                """.formatted(averageTime, averageTimeError, bytesPerOperation));
+    }
+
+    private static void writeLoad(Path directory, double throughput, double p99, double p99Error)
+            throws IOException {
+        Files.writeString(directory.resolve(PerformanceResults.LOAD_FILE), """
+                {
+                    "total" : { "name" : "total", "throughput" : %s, "p99Millis" : %s, "p99ErrorMillis" : %s,
+                                "errorRate" : 0.0 },
+                    "operations" : [ ]
+                }
+                """.formatted(throughput, p99, p99Error));
+    }
+}
@@ -11,4 +11,4 @@ Write-Host "Java Home: $env:JAVA_HOME" -ForegroundColor Cyan
 Write-Host ""
 
 # Ejecutar la aplicación
-java -jar target/copilot-java-prompt-example-0.0.1-SNAPSHOT.jar
+java -jar target/copilot-java-prompt-example-0.0.1-SNAPSHOT-exec.jar
@@ -33,7 +33,7 @@ public class CustomerController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(customer));
     }
 
-    private CustomerResponse toResponse(Customer customer) {
+    CustomerResponse toResponse(Customer customer) {
         return new CustomerResponse(
                 customer.getId(),
                 customer.getEmail(),
@@ -0,0 +1,92 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.CustomerMetricsProgressResponse;
+import com.example.adapters.inbound.rest.dto.CustomerMetricsResponse;
+import com.example.adapters.inbound.rest.dto.CustomerMetricsRunResponse;
+import com.example.application.port.in.ComputeCustomerMetricsUseCase;
+import com.example.application.port.in.GetCustomerMetricsUseCase;
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.domain.model.CustomerMetrics;
+import com.example.domain.model.CustomerMetricsProgress;
+import com.example.domain.model.CustomerMetricsRun;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/customers")
+public class CustomerMetricsController {
+
+    private final GetCustomerMetricsUseCase getCustomerMetricsUseCase;
+    private final ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase;
+
+    public CustomerMetricsController(GetCustomerMetricsUseCase getCustomerMetricsUseCase,
+                                     ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase) {
+        this.getCustomerMetricsUseCase = getCustomerMetricsUseCase;
+        this.computeCustomerMetricsUseCase = computeCustomerMetricsUseCase;
+    }
+
+    @GetMapping("/{id}/metrics")
+    public ResponseEntity<CustomerMetricsResponse> getCustomerMetrics(@PathVariable Long id) {
+        return getCustomerMetricsUseCase.findByCustomerId(id)
+                .map(metrics -> ResponseEntity.ok(toResponse(metrics)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/metrics/recompute")
+    public ResponseEntity<CustomerMetricsRunResponse> recompute(
+            @RequestParam(required = false) Integer parallelism,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        CustomerMetricsRun run = computeCustomerMetricsUseCase.execute(
+                new ComputeCustomerMetricsCommand(parallelism, asOf));
+        return ResponseEntity.ok(new CustomerMetricsRunResponse(
+                run.asOf(),
+                run.ordersScanned(),
+                run.customers(),
+                run.staleRowsDeleted(),
+                run.parallelism(),
+                run.scanElapsed().toMillis(),
+                run.scoreElapsed().toMillis(),
+                run.writeElapsed().toMillis()
+        ));
+    }
+
+    @GetMapping("/metrics/progress")
+    public ResponseEntity<CustomerMetricsProgressResponse> getProgress() {
+        return computeCustomerMetricsUseCase.progress()
+                .map(progress -> ResponseEntity.ok(toResponse(progress)))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    private static CustomerMetricsResponse toResponse(CustomerMetrics metrics) {
+        return new CustomerMetricsResponse(
+                metrics.customerId(),
+                metrics.firstOrderDay(),
+                metrics.lastOrderDay(),
+                metrics.recencyDays(),
+                metrics.orders(),
+                metrics.averageOrderValue(),
+                metrics.lifetimeValue(),
+                metrics.recencyScore(),
+                metrics.frequencyScore(),
+                metrics.monetaryScore(),
+                "" + metrics.recencyScore() + metrics.frequencyScore() + metrics.monetaryScore(),
+                metrics.segment().name(),
+                metrics.computedAt()
+        );
+    }
+
+    private static CustomerMetricsProgressResponse toResponse(CustomerMetricsProgress progress) {
+        long elapsedMillis = progress.elapsed().toMillis();
+        return new CustomerMetricsProgressResponse(
+                progress.phase().name(),
+                progress.ordersScanned(),
+                progress.customers(),
+                progress.customersWritten(),
+                elapsedMillis,
+                elapsedMillis == 0 ? progress.ordersScanned() : progress.ordersScanned() * 1_000 / elapsedMillis
+        );
+    }
+}
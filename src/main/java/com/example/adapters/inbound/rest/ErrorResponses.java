@@ -0,0 +1,39 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.ErrorResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+
+final class ErrorResponses {
+
+    private static final String NO_DATABASE_CONNECTION = "No database connection available, please retry";
+
+    private ErrorResponses() {
+    }
+
+    static ResponseEntity<ErrorResponse> of(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+
+    static ResponseEntity<ErrorResponse> productNotFound(Long productId) {
+        return of(HttpStatus.NOT_FOUND, "Product not found with id: " + productId);
+    }
+
+    static ResponseEntity<ErrorResponse> productNotFound(String sku) {
+        return of(HttpStatus.NOT_FOUND, "Product not found with SKU: " + sku);
+    }
+
+    static ResponseEntity<ErrorResponse> orderNotFound(Long orderId) {
+        return of(HttpStatus.NOT_FOUND, "Order not found with id: " + orderId);
+    }
+
+    static ResponseEntity<ErrorResponse> noDatabaseConnection() {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(HttpStatus.SERVICE_UNAVAILABLE.value(), NO_DATABASE_CONNECTION,
+                        LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.InventoryEntryResponse;
+import com.example.adapters.inbound.rest.dto.InventoryLevelResponse;
+import com.example.application.port.in.AdjustInventoryUseCase;
+import com.example.application.port.in.GetInventoryUseCase;
+import com.example.application.port.in.command.AdjustInventoryCommand;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.InventoryLevel;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/products/{id}/inventory")
+public class InventoryController {
+
+    private final GetInventoryUseCase getInventoryUseCase;
+    private final AdjustInventoryUseCase adjustInventoryUseCase;
+
+    public InventoryController(GetInventoryUseCase getInventoryUseCase,
+                               AdjustInventoryUseCase adjustInventoryUseCase) {
+        this.getInventoryUseCase = getInventoryUseCase;
+        this.adjustInventoryUseCase = adjustInventoryUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<InventoryLevelResponse> level(@PathVariable Long id) {
+        return ResponseEntity.ok(toResponse(getInventoryUseCase.level(id)));
+    }
+
+    @GetMapping("/entries")
+    public ResponseEntity<List<InventoryEntryResponse>> entries(@PathVariable Long id,
+                                                                @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(getInventoryUseCase.entries(id, limit).stream()
+                .map(entry -> new InventoryEntryResponse(
+                        entry.id(),
+                        entry.type(),
+                        entry.quantityDelta(),
+                        entry.referenceId(),
+                        entry.recordedAt()))
+                .toList());
+    }
+
+    @PostMapping("/receipts")
+    public ResponseEntity<InventoryLevelResponse> receive(@PathVariable Long id,
+                                                          @RequestParam(required = false) Integer quantity) {
+        return ResponseEntity.ok(toResponse(adjustInventoryUseCase.execute(
+                new AdjustInventoryCommand(id, InventoryEntryType.RECEIPT, quantity))));
+    }
+
+    @PostMapping("/adjustments")
+    public ResponseEntity<InventoryLevelResponse> adjust(@PathVariable Long id,
+                                                         @RequestParam(required = false) Integer quantity) {
+        return ResponseEntity.ok(toResponse(adjustInventoryUseCase.execute(
+                new AdjustInventoryCommand(id, InventoryEntryType.ADJUSTMENT, quantity))));
+    }
+
+    private InventoryLevelResponse toResponse(InventoryLevel level) {
+        return new InventoryLevelResponse(
+                level.productId(),
+                level.stock(),
+                level.snapshotEntryId(),
+                level.tailEntries()
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.OrderArchiveRunResponse;
+import com.example.application.port.in.ArchiveOrdersUseCase;
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.domain.model.OrderArchiveRun;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/orders")
+public class OrderArchiveController {
+
+    private final ArchiveOrdersUseCase archiveOrdersUseCase;
+
+    public OrderArchiveController(ArchiveOrdersUseCase archiveOrdersUseCase) {
+        this.archiveOrdersUseCase = archiveOrdersUseCase;
+    }
+
+    @PostMapping("/archive")
+    public ResponseEntity<OrderArchiveRunResponse> archive(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate before,
+            @RequestParam(required = false) Integer batchSize) {
+        OrderArchiveRun run = archiveOrdersUseCase.execute(new ArchiveOrdersCommand(before, batchSize));
+        return ResponseEntity.ok(new OrderArchiveRunResponse(
+                run.placedBefore(),
+                run.ordersArchived(),
+                run.batches(),
+                run.elapsed().toMillis()
+        ));
+    }
+}
@@ -1,19 +1,34 @@
 package com.example.adapters.inbound.rest;
 
+import com.example.adapters.inbound.rest.dto.BulkOrderStatusRequest;
+import com.example.adapters.inbound.rest.dto.BulkOrderStatusResponse;
+import com.example.adapters.inbound.rest.dto.OrderCancellationRequest;
 import com.example.adapters.inbound.rest.dto.OrderItemResponse;
 import com.example.adapters.inbound.rest.dto.OrderRequest;
 import com.example.adapters.inbound.rest.dto.OrderResponse;
+import com.example.adapters.inbound.rest.dto.OrderStatusRequest;
+import com.example.adapters.inbound.rest.dto.OrderStatusResponse;
+import com.example.application.port.in.CancelOrdersUseCase;
+import com.example.application.port.in.ChangeOrderStatusUseCase;
 import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.command.CancelOrdersCommand;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
 import com.example.application.port.in.command.CreateOrderCommand;
 import com.example.application.port.in.command.OrderItemCommand;
 import com.example.domain.model.Order;
 import com.example.domain.model.OrderItem;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.OrderStatusTransition;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -21,9 +36,15 @@ import java.util.stream.Collectors;
 public class OrderController {
 
     private final CreateOrderUseCase createOrderUseCase;
+    private final ChangeOrderStatusUseCase changeOrderStatusUseCase;
+    private final CancelOrdersUseCase cancelOrdersUseCase;
 
-    public OrderController(CreateOrderUseCase createOrderUseCase) {
+    public OrderController(CreateOrderUseCase createOrderUseCase,
+                           ChangeOrderStatusUseCase changeOrderStatusUseCase,
+                           CancelOrdersUseCase cancelOrdersUseCase) {
         this.createOrderUseCase = createOrderUseCase;
+        this.changeOrderStatusUseCase = changeOrderStatusUseCase;
+        this.cancelOrdersUseCase = cancelOrdersUseCase;
     }
 
     @PostMapping
@@ -40,7 +61,77 @@ public class OrderController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toResponse(order));
     }
 
-    private OrderResponse toResponse(Order order) {
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<?> changeStatus(@PathVariable Long id, @Valid @RequestBody OrderStatusRequest request) {
+        return transition(id, parseStatus(request.status()));
+    }
+
+    @PatchMapping("/{id}/confirm")
+    public ResponseEntity<?> confirm(@PathVariable Long id) {
+        return transition(id, OrderStatus.CONFIRMED);
+    }
+
+    @PatchMapping("/{id}/ship")
+    public ResponseEntity<?> ship(@PathVariable Long id) {
+        return transition(id, OrderStatus.SHIPPED);
+    }
+
+    @PatchMapping("/{id}/deliver")
+    public ResponseEntity<?> deliver(@PathVariable Long id) {
+        return transition(id, OrderStatus.DELIVERED);
+    }
+
+    @PatchMapping("/{id}/cancel")
+    public ResponseEntity<?> cancel(@PathVariable Long id) {
+        return transition(id, OrderStatus.CANCELLED);
+    }
+
+    @PatchMapping("/status")
+    public ResponseEntity<BulkOrderStatusResponse> changeStatuses(@Valid @RequestBody BulkOrderStatusRequest request) {
+        OrderStatus target = parseStatus(request.status());
+        List<OrderStatusTransition> transitions = changeOrderStatusUseCase
+                .execute(new ChangeOrderStatusCommand(request.orderIds(), target));
+        return ResponseEntity.ok(toBulkResponse(target, transitions));
+    }
+
+    @PostMapping("/cancellations")
+    public ResponseEntity<BulkOrderStatusResponse> cancelOrders(@Valid @RequestBody OrderCancellationRequest request) {
+        List<OrderStatusTransition> transitions = cancelOrdersUseCase
+                .execute(new CancelOrdersCommand(request.orderIds()));
+        return ResponseEntity.ok(toBulkResponse(OrderStatus.CANCELLED, transitions));
+    }
+
+    private BulkOrderStatusResponse toBulkResponse(OrderStatus target, List<OrderStatusTransition> transitions) {
+        Map<OrderStatusTransition.Outcome, Integer> counts = new EnumMap<>(OrderStatusTransition.Outcome.class);
+        List<OrderStatusResponse> results = new ArrayList<>(transitions.size());
+        for (OrderStatusTransition transition : transitions) {
+            counts.merge(transition.outcome(), 1, Integer::sum);
+            results.add(toStatusResponse(transition));
+        }
+        return new BulkOrderStatusResponse(
+                target.name(),
+                transitions.size(),
+                counts.getOrDefault(OrderStatusTransition.Outcome.TRANSITIONED, 0),
+                counts.getOrDefault(OrderStatusTransition.Outcome.UNCHANGED, 0),
+                counts.getOrDefault(OrderStatusTransition.Outcome.REJECTED, 0),
+                counts.getOrDefault(OrderStatusTransition.Outcome.NOT_FOUND, 0),
+                results
+        );
+    }
+
+    private ResponseEntity<?> transition(Long id, OrderStatus target) {
+        OrderStatusTransition transition = changeOrderStatusUseCase
+                .execute(new ChangeOrderStatusCommand(List.of(id), target))
+                .get(0);
+        return switch (transition.outcome()) {
+            case TRANSITIONED, UNCHANGED -> ResponseEntity.ok(toStatusResponse(transition));
+            case REJECTED -> ErrorResponses.of(HttpStatus.CONFLICT,
+                    "Order " + id + " cannot move from " + transition.status() + " to " + target);
+            case NOT_FOUND -> ErrorResponses.orderNotFound(id);
+        };
+    }
+
+    OrderResponse toResponse(Order order) {
         List<OrderItemResponse> items = order.getItems().stream()
                 .map(this::toItemResponse)
                 .collect(Collectors.toList());
@@ -66,4 +157,20 @@ public class OrderController {
                 item.getSubtotal()
         );
     }
+
+    private OrderStatusResponse toStatusResponse(OrderStatusTransition transition) {
+        return new OrderStatusResponse(
+                transition.orderId(),
+                transition.outcome().name(),
+                transition.status() == null ? null : transition.status().name()
+        );
+    }
+
+    private static OrderStatus parseStatus(String status) {
+        try {
+            return OrderStatus.valueOf(status.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown order status: " + status);
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.ExportedPartitionResponse;
+import com.example.adapters.inbound.rest.dto.OrderExportResponse;
+import com.example.application.port.in.ExportOrdersUseCase;
+import com.example.application.port.in.command.ExportOrdersCommand;
+import com.example.domain.model.OrderSnapshotExport;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/exports")
+public class OrderExportController {
+
+    private final ExportOrdersUseCase exportOrdersUseCase;
+
+    public OrderExportController(ExportOrdersUseCase exportOrdersUseCase) {
+        this.exportOrdersUseCase = exportOrdersUseCase;
+    }
+
+    @PostMapping("/orders")
+    public ResponseEntity<OrderExportResponse> exportOrders(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer parallelism) {
+        OrderSnapshotExport export = exportOrdersUseCase.execute(new ExportOrdersCommand(from, to, parallelism));
+        return ResponseEntity.ok(new OrderExportResponse(
+                export.from(),
+                export.to(),
+                export.rows(OrderSnapshotExport.ORDERS),
+                export.rows(OrderSnapshotExport.ORDER_ITEMS),
+                export.bytes(),
+                export.parallelism(),
+                export.elapsed().toMillis(),
+                export.partitions().stream()
+                        .map(partition -> new ExportedPartitionResponse(
+                                partition.table(),
+                                partition.day(),
+                                partition.location(),
+                                partition.rows(),
+                                partition.bytes()))
+                        .toList()
+        ));
+    }
+}
@@ -5,7 +5,6 @@ import com.example.adapters.inbound.rest.dto.ProductResponse;
 import com.example.application.port.in.CreateProductUseCase;
 import com.example.application.port.in.GetProductUseCase;
 import com.example.application.port.in.command.CreateProductCommand;
-import com.example.domain.exception.ProductNotFoundException;
 import com.example.domain.model.Product;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -41,17 +40,17 @@ public class ProductController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable Long id) {
-        Product product = getProductUseCase.findById(id)
-                .orElseThrow(() -> new ProductNotFoundException(id));
-        return ResponseEntity.ok(toResponse(product));
+    public ResponseEntity<?> getProductById(@PathVariable Long id) {
+        return getProductUseCase.findById(id)
+                .<ResponseEntity<?>>map(product -> ResponseEntity.ok(toResponse(product)))
+                .orElseGet(() -> ErrorResponses.productNotFound(id));
     }
 
     @GetMapping("/sku/{sku}")
-    public ResponseEntity<ProductResponse> getProductBySku(@PathVariable String sku) {
-        Product product = getProductUseCase.findBySku(sku)
-                .orElseThrow(() -> new ProductNotFoundException(sku));
-        return ResponseEntity.ok(toResponse(product));
+    public ResponseEntity<?> getProductBySku(@PathVariable String sku) {
+        return getProductUseCase.findBySku(sku)
+                .<ResponseEntity<?>>map(product -> ResponseEntity.ok(toResponse(product)))
+                .orElseGet(() -> ErrorResponses.productNotFound(sku));
     }
 
     @GetMapping
@@ -63,7 +62,7 @@ public class ProductController {
         return ResponseEntity.ok(responses);
     }
 
-    private ProductResponse toResponse(Product product) {
+    ProductResponse toResponse(Product product) {
         return new ProductResponse(
                 product.getId(),
                 product.getSku(),
@@ -0,0 +1,24 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.ProductViewRebuildResponse;
+import com.example.application.port.in.RebuildProductViewsUseCase;
+import com.example.domain.model.ProductViewRebuild;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/products/read-model")
+public class ProductViewController {
+
+    private final RebuildProductViewsUseCase rebuildProductViewsUseCase;
+
+    public ProductViewController(RebuildProductViewsUseCase rebuildProductViewsUseCase) {
+        this.rebuildProductViewsUseCase = rebuildProductViewsUseCase;
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ProductViewRebuildResponse> rebuild() {
+        ProductViewRebuild rebuild = rebuildProductViewsUseCase.execute();
+        return ResponseEntity.ok(new ProductViewRebuildResponse(rebuild.products(), rebuild.elapsed().toMillis()));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.CustomerSalesReportResponse;
+import com.example.adapters.inbound.rest.dto.DailySalesResponse;
+import com.example.adapters.inbound.rest.dto.ProductSalesReportResponse;
+import com.example.adapters.inbound.rest.dto.SalesReportResponse;
+import com.example.adapters.inbound.rest.dto.SalesRollupRebuildResponse;
+import com.example.adapters.inbound.rest.dto.TopProductResponse;
+import com.example.application.port.in.GetSalesAnalyticsUseCase;
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.command.RebuildSalesRollupsCommand;
+import com.example.domain.model.CustomerDailySales;
+import com.example.domain.model.DailySales;
+import com.example.domain.model.ProductDailySales;
+import com.example.domain.model.ProductSales;
+import com.example.domain.model.SalesMetric;
+import com.example.domain.model.SalesRollupRebuild;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/analytics")
+public class SalesAnalyticsController {
+
+    static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final GetSalesAnalyticsUseCase getSalesAnalyticsUseCase;
+    private final RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase;
+
+    public SalesAnalyticsController(GetSalesAnalyticsUseCase getSalesAnalyticsUseCase,
+                                    RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase) {
+        this.getSalesAnalyticsUseCase = getSalesAnalyticsUseCase;
+        this.rebuildSalesRollupsUseCase = rebuildSalesRollupsUseCase;
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<SalesReportResponse> getRevenue(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        List<DailySales> sales = getSalesAnalyticsUseCase.dailySales(start, end);
+
+        long orders = 0;
+        long units = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        List<DailySalesResponse> days = new ArrayList<>(sales.size());
+        for (DailySales day : sales) {
+            orders += day.orders();
+            units += day.units();
+            revenue = revenue.add(day.revenue());
+            days.add(new DailySalesResponse(day.day(), day.orders(), day.units(), day.revenue()));
+        }
+        return ResponseEntity.ok(new SalesReportResponse(start, end, orders, units, revenue, days));
+    }
+
+    @GetMapping("/products/{id}")
+    public ResponseEntity<ProductSalesReportResponse> getProductSales(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        List<ProductDailySales> sales = getSalesAnalyticsUseCase.productSales(id, start, end);
+
+        long units = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        List<DailySalesResponse> days = new ArrayList<>(sales.size());
+        for (ProductDailySales day : sales) {
+            units += day.units();
+            revenue = revenue.add(day.revenue());
+            days.add(new DailySalesResponse(day.day(), null, day.units(), day.revenue()));
+        }
+        return ResponseEntity.ok(new ProductSalesReportResponse(id, start, end, units, revenue, days));
+    }
+
+    @GetMapping("/products/top")
+    public ResponseEntity<List<TopProductResponse>> getTopProducts(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "10") int limit,
+            @RequestParam(defaultValue = "units") String by) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        List<ProductSales> top = getSalesAnalyticsUseCase.topProducts(start, end, limit, parseMetric(by));
+
+        List<TopProductResponse> responses = new ArrayList<>(top.size());
+        for (ProductSales product : top) {
+            responses.add(new TopProductResponse(responses.size() + 1, product.productId(), product.units(),
+                    product.revenue()));
+        }
+        return ResponseEntity.ok(responses);
+    }
+
+    @GetMapping("/customers/{id}")
+    public ResponseEntity<CustomerSalesReportResponse> getCustomerSales(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = endOf(to);
+        LocalDate start = startOf(from, end);
+        List<CustomerDailySales> sales = getSalesAnalyticsUseCase.customerSales(id, start, end);
+
+        long orders = 0;
+        BigDecimal revenue = BigDecimal.ZERO;
+        List<DailySalesResponse> days = new ArrayList<>(sales.size());
+        for (CustomerDailySales day : sales) {
+            orders += day.orders();
+            revenue = revenue.add(day.revenue());
+            days.add(new DailySalesResponse(day.day(), day.orders(), null, day.revenue()));
+        }
+        return ResponseEntity.ok(new CustomerSalesReportResponse(id, start, end, orders, revenue, days));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<SalesRollupRebuildResponse> rebuild(@RequestParam(required = false) Integer parallelism) {
+        SalesRollupRebuild rebuild = rebuildSalesRollupsUseCase.execute(new RebuildSalesRollupsCommand(parallelism));
+        return ResponseEntity.ok(new SalesRollupRebuildResponse(
+                rebuild.watermarkOrderId(),
+                rebuild.linesScanned(),
+                rebuild.productDays(),
+                rebuild.customerDays(),
+                rebuild.parallelism(),
+                rebuild.elapsed().toMillis()
+        ));
+    }
+
+    private static LocalDate endOf(LocalDate to) {
+        return to != null ? to : LocalDate.now();
+    }
+
+    private static LocalDate startOf(LocalDate from, LocalDate end) {
+        return from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+    }
+
+    private static SalesMetric parseMetric(String metric) {
+        try {
+            return SalesMetric.valueOf(metric.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown sales metric: " + metric);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.adapters.inbound.rest.dto.TrendingProductResponse;
+import com.example.adapters.inbound.rest.dto.TrendingProductsResponse;
+import com.example.application.port.in.GetTrendingProductsUseCase;
+import com.example.domain.model.TrendingProduct;
+import com.example.domain.model.TrendingWindow;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/analytics/products/trending")
+public class TrendingProductsController {
+
+    private final GetTrendingProductsUseCase getTrendingProductsUseCase;
+
+    public TrendingProductsController(GetTrendingProductsUseCase getTrendingProductsUseCase) {
+        this.getTrendingProductsUseCase = getTrendingProductsUseCase;
+    }
+
+    @GetMapping
+    public ResponseEntity<TrendingProductsResponse> getTrendingProducts(
+            @RequestParam(defaultValue = "1h") String window,
+            @RequestParam(defaultValue = "10") int limit) {
+        TrendingWindow trendingWindow = TrendingWindow.fromLabel(window.trim());
+        List<TrendingProduct> trending = getTrendingProductsUseCase.trendingProducts(trendingWindow, limit);
+
+        List<TrendingProductResponse> products = new ArrayList<>(trending.size());
+        for (TrendingProduct product : trending) {
+            products.add(new TrendingProductResponse(products.size() + 1, product.productId(),
+                    product.estimatedUnits()));
+        }
+        return ResponseEntity.ok(new TrendingProductsResponse(trendingWindow.label(), products));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.adapters.inbound.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkOrderStatusRequest(
+        @NotEmpty(message = "At least one order ID is required")
+        @Size(max = 20_000, message = "At most 20000 orders can be changed at once")
+        List<@NotNull(message = "Order ID cannot be null") Long> orderIds,
+        @NotBlank(message = "Status is required") String status
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.util.List;
+
+public record BulkOrderStatusResponse(
+        String targetStatus,
+        int requested,
+        int transitioned,
+        int unchanged,
+        int rejected,
+        int notFound,
+        List<OrderStatusResponse> results
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.adapters.inbound.rest.dto;
+
+public record CustomerMetricsProgressResponse(
+        String phase,
+        long ordersScanned,
+        long customers,
+        long customersWritten,
+        long elapsedMillis,
+        long ordersPerSecond
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record CustomerMetricsResponse(
+        Long customerId,
+        LocalDate firstOrderDay,
+        LocalDate lastOrderDay,
+        int recencyDays,
+        long orders,
+        BigDecimal averageOrderValue,
+        BigDecimal lifetimeValue,
+        int recencyScore,
+        int frequencyScore,
+        int monetaryScore,
+        String rfm,
+        String segment,
+        LocalDateTime computedAt
+) {
+}
@@ -0,0 +1,15 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.time.LocalDate;
+
+public record CustomerMetricsRunResponse(
+        LocalDate asOf,
+        long ordersScanned,
+        long customers,
+        int staleRowsDeleted,
+        int parallelism,
+        long scanMillis,
+        long scoreMillis,
+        long writeMillis
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record DailySalesResponse(
+        LocalDate day,
+        Long orders,
+        Long units,
+        BigDecimal revenue
+) {
+}
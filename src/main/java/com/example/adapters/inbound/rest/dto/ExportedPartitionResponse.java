@@ -0,0 +1,12 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.time.LocalDate;
+
+public record ExportedPartitionResponse(
+        String table,
+        LocalDate day,
+        String location,
+        long rows,
+        long bytes
+) {
+}
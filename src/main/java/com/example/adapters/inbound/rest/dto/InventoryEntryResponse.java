@@ -0,0 +1,14 @@
+package com.example.adapters.inbound.rest.dto;
+
+import com.example.domain.model.InventoryEntryType;
+
+import java.time.LocalDateTime;
+
+public record InventoryEntryResponse(
+        Long id,
+        InventoryEntryType type,
+        int quantityDelta,
+        Long referenceId,
+        LocalDateTime recordedAt
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.adapters.inbound.rest.dto;
+
+public record InventoryLevelResponse(
+        Long productId,
+        long stock,
+        long snapshotEntryId,
+        long tailEntries
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.time.LocalDate;
+
+public record OrderArchiveRunResponse(
+        LocalDate placedBefore,
+        long ordersArchived,
+        int batches,
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record OrderExportResponse(
+        LocalDate from,
+        LocalDate to,
+        long orders,
+        long orderItems,
+        long bytes,
+        int parallelism,
+        long elapsedMillis,
+        List<ExportedPartitionResponse> partitions
+) {
+}
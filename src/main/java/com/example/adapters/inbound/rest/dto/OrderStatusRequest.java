@@ -0,0 +1,8 @@
+package com.example.adapters.inbound.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record OrderStatusRequest(
+        @NotBlank(message = "Status is required") String status
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.adapters.inbound.rest.dto;
+
+public record OrderStatusResponse(
+        Long orderId,
+        String outcome,
+        String status
+) {
+}
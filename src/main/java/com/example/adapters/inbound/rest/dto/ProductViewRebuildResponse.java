@@ -0,0 +1,7 @@
+package com.example.adapters.inbound.rest.dto;
+
+public record ProductViewRebuildResponse(
+        int products,
+        long elapsedMillis
+) {
+}
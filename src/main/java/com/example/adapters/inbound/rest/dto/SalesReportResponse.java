@@ -0,0 +1,15 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record SalesReportResponse(
+        LocalDate from,
+        LocalDate to,
+        long orders,
+        long units,
+        BigDecimal revenue,
+        List<DailySalesResponse> days
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.adapters.inbound.rest.dto;
+
+public record SalesRollupRebuildResponse(
+        long watermarkOrderId,
+        long linesScanned,
+        int productDays,
+        int customerDays,
+        int parallelism,
+        long elapsedMillis
+) {
+}
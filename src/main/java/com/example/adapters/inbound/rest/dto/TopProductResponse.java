@@ -0,0 +1,11 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.math.BigDecimal;
+
+public record TopProductResponse(
+        int rank,
+        Long productId,
+        long units,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.adapters.inbound.rest.dto;
+
+public record TrendingProductResponse(
+        int rank,
+        Long productId,
+        long estimatedUnits
+) {
+}
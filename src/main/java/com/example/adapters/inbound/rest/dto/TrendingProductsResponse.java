@@ -0,0 +1,9 @@
+package com.example.adapters.inbound.rest.dto;
+
+import java.util.List;
+
+public record TrendingProductsResponse(
+        String window,
+        List<TrendingProductResponse> products
+) {
+}
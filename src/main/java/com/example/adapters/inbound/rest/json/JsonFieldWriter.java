@@ -0,0 +1,108 @@
+package com.example.adapters.inbound.rest.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+final class JsonFieldWriter {
+
+    private static final int MAX_TIMESTAMP_LENGTH = 29;
+
+    private JsonFieldWriter() {
+    }
+
+    static void writeLong(JsonGenerator gen, SerializedString name, Long value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    static void writeInteger(JsonGenerator gen, SerializedString name, Integer value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    static void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(value);
+        }
+    }
+
+    static void writeDecimal(JsonGenerator gen, SerializedString name, BigDecimal value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value);
+        }
+    }
+
+    static void writeTimestamp(JsonGenerator gen, SerializedString name, LocalDateTime value) throws IOException {
+        gen.writeFieldName(name);
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+        char[] buffer = new char[MAX_TIMESTAMP_LENGTH];
+        int length = formatIsoLocalDateTime(value, buffer);
+        gen.writeString(buffer, 0, length);
+    }
+
+    static int formatIsoLocalDateTime(LocalDateTime value, char[] buffer) {
+        int year = value.getYear();
+        buffer[0] = digit(year / 1000);
+        buffer[1] = digit(year / 100 % 10);
+        buffer[2] = digit(year / 10 % 10);
+        buffer[3] = digit(year % 10);
+        buffer[4] = '-';
+        writeTwoDigits(buffer, 5, value.getMonthValue());
+        buffer[7] = '-';
+        writeTwoDigits(buffer, 8, value.getDayOfMonth());
+        buffer[10] = 'T';
+        writeTwoDigits(buffer, 11, value.getHour());
+        buffer[13] = ':';
+        writeTwoDigits(buffer, 14, value.getMinute());
+        buffer[16] = ':';
+        writeTwoDigits(buffer, 17, value.getSecond());
+
+        int nano = value.getNano();
+        if (nano == 0) {
+            return 19;
+        }
+        buffer[19] = '.';
+        int length = 20;
+        for (int divisor = 100_000_000; divisor > 0 && nano > 0; divisor /= 10) {
+            buffer[length++] = digit(nano / divisor);
+            nano %= divisor;
+        }
+        return length;
+    }
+
+    private static void writeTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = digit(value / 10);
+        buffer[offset + 1] = digit(value % 10);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
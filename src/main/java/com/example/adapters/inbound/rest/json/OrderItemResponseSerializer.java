@@ -0,0 +1,37 @@
+package com.example.adapters.inbound.rest.json;
+
+import com.example.adapters.inbound.rest.dto.OrderItemResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+@JsonComponent
+public class OrderItemResponseSerializer extends StdSerializer<OrderItemResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString PRODUCT_ID = new SerializedString("productId");
+    private static final SerializedString PRODUCT_NAME = new SerializedString("productName");
+    private static final SerializedString UNIT_PRICE = new SerializedString("unitPrice");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString SUBTOTAL = new SerializedString("subtotal");
+
+    public OrderItemResponseSerializer() {
+        super(OrderItemResponse.class);
+    }
+
+    @Override
+    public void serialize(OrderItemResponse item, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(item);
+        JsonFieldWriter.writeLong(gen, ID, item.id());
+        JsonFieldWriter.writeLong(gen, PRODUCT_ID, item.productId());
+        JsonFieldWriter.writeString(gen, PRODUCT_NAME, item.productName());
+        JsonFieldWriter.writeDecimal(gen, UNIT_PRICE, item.unitPrice());
+        JsonFieldWriter.writeInteger(gen, QUANTITY, item.quantity());
+        JsonFieldWriter.writeDecimal(gen, SUBTOTAL, item.subtotal());
+        gen.writeEndObject();
+    }
+}
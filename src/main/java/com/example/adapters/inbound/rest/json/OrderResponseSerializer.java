@@ -0,0 +1,51 @@
+package com.example.adapters.inbound.rest.json;
+
+import com.example.adapters.inbound.rest.dto.OrderItemResponse;
+import com.example.adapters.inbound.rest.dto.OrderResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+@JsonComponent
+public class OrderResponseSerializer extends StdSerializer<OrderResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString CUSTOMER_ID = new SerializedString("customerId");
+    private static final SerializedString ITEMS = new SerializedString("items");
+    private static final SerializedString TOTAL_AMOUNT = new SerializedString("totalAmount");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private final OrderItemResponseSerializer itemSerializer = new OrderItemResponseSerializer();
+
+    public OrderResponseSerializer() {
+        super(OrderResponse.class);
+    }
+
+    @Override
+    public void serialize(OrderResponse order, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(order);
+        JsonFieldWriter.writeLong(gen, ID, order.id());
+        JsonFieldWriter.writeLong(gen, CUSTOMER_ID, order.customerId());
+        gen.writeFieldName(ITEMS);
+        if (order.items() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartArray(order.items(), order.items().size());
+            for (OrderItemResponse item : order.items()) {
+                itemSerializer.serialize(item, gen, provider);
+            }
+            gen.writeEndArray();
+        }
+        JsonFieldWriter.writeDecimal(gen, TOTAL_AMOUNT, order.totalAmount());
+        JsonFieldWriter.writeString(gen, STATUS, order.status());
+        JsonFieldWriter.writeTimestamp(gen, CREATED_AT, order.createdAt());
+        JsonFieldWriter.writeTimestamp(gen, UPDATED_AT, order.updatedAt());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.adapters.inbound.rest.json;
+
+import com.example.adapters.inbound.rest.dto.ProductResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.boot.jackson.JsonComponent;
+
+import java.io.IOException;
+
+@JsonComponent
+public class ProductResponseSerializer extends StdSerializer<ProductResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString SKU = new SerializedString("sku");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString STOCK_QUANTITY = new SerializedString("stockQuantity");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    public ProductResponseSerializer() {
+        super(ProductResponse.class);
+    }
+
+    @Override
+    public void serialize(ProductResponse product, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(product);
+        JsonFieldWriter.writeLong(gen, ID, product.id());
+        JsonFieldWriter.writeString(gen, SKU, product.sku());
+        JsonFieldWriter.writeString(gen, NAME, product.name());
+        JsonFieldWriter.writeString(gen, DESCRIPTION, product.description());
+        JsonFieldWriter.writeDecimal(gen, PRICE, product.price());
+        JsonFieldWriter.writeInteger(gen, STOCK_QUANTITY, product.stockQuantity());
+        JsonFieldWriter.writeTimestamp(gen, CREATED_AT, product.createdAt());
+        JsonFieldWriter.writeTimestamp(gen, UPDATED_AT, product.updatedAt());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.adapters.outbound.event;
+
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.domain.event.DomainEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SpringDomainEventPublisher implements DomainEventPublisherPort {
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public SpringDomainEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        applicationEventPublisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.adapters.outbound.export;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+final class ColumnEncoding {
+
+    static final int PLAIN = 0;
+    static final int DELTA = 1;
+    static final int RLE = 2;
+    static final int DICTIONARY = 3;
+
+    private ColumnEncoding() {
+    }
+
+    static Encoded encodeLongs(long[] values, int count) {
+        Sink plain = new Sink(count * 2);
+        Sink delta = new Sink(count);
+        Sink rle = new Sink(count);
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            plain.writeSignedVarint(values[i]);
+            delta.writeSignedVarint(values[i] - previous);
+            previous = values[i];
+        }
+        for (int i = 0; i < count; ) {
+            int run = runLength(values, i, count);
+            rle.writeSignedVarint(values[i]);
+            rle.writeVarint(run);
+            i += run;
+        }
+        Sink smallest = plain;
+        int encoding = PLAIN;
+        if (delta.size() < smallest.size()) {
+            smallest = delta;
+            encoding = DELTA;
+        }
+        if (rle.size() < smallest.size()) {
+            smallest = rle;
+            encoding = RLE;
+        }
+        return new Encoded(encoding, smallest.bytes(), smallest.size());
+    }
+
+    static void decodeLongs(int encoding, ByteBuffer in, int count, LongConsumer consumer) {
+        switch (encoding) {
+            case PLAIN -> {
+                for (int i = 0; i < count; i++) {
+                    consumer.accept(readSignedVarint(in));
+                }
+            }
+            case DELTA -> {
+                long value = 0;
+                for (int i = 0; i < count; i++) {
+                    value += readSignedVarint(in);
+                    consumer.accept(value);
+                }
+            }
+            case RLE -> {
+                for (int decoded = 0; decoded < count; ) {
+                    long value = readSignedVarint(in);
+                    int run = (int) readVarint(in);
+                    for (int i = 0; i < run; i++) {
+                        consumer.accept(value);
+                    }
+                    decoded += run;
+                }
+            }
+            default -> throw new IllegalStateException("Unsupported numeric encoding: " + encoding);
+        }
+    }
+
+    static Encoded encodeStrings(String[] values, int count) {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] indexes = new int[count];
+        for (int i = 0; i < count; i++) {
+            Integer index = dictionary.putIfAbsent(values[i], dictionary.size());
+            indexes[i] = index != null ? index : dictionary.size() - 1;
+        }
+        if (dictionary.size() * 2 > count && count > 1) {
+            Sink plain = new Sink(count * 16);
+            for (int i = 0; i < count; i++) {
+                plain.writeString(values[i]);
+            }
+            return new Encoded(PLAIN, plain.bytes(), plain.size());
+        }
+
+        String[] entries = new String[dictionary.size()];
+        dictionary.forEach((value, index) -> entries[index] = value);
+        Sink sink = new Sink(count + entries.length * 16);
+        sink.writeVarint(entries.length);
+        for (String entry : entries) {
+            sink.writeString(entry);
+        }
+        for (int i = 0; i < count; ) {
+            int run = 1;
+            while (i + run < count && indexes[i + run] == indexes[i]) {
+                run++;
+            }
+            sink.writeVarint(indexes[i]);
+            sink.writeVarint(run);
+            i += run;
+        }
+        return new Encoded(DICTIONARY, sink.bytes(), sink.size());
+    }
+
+    static void decodeStrings(int encoding, ByteBuffer in, int count, Consumer<String> consumer) {
+        switch (encoding) {
+            case PLAIN -> {
+                for (int i = 0; i < count; i++) {
+                    consumer.accept(readString(in));
+                }
+            }
+            case DICTIONARY -> {
+                String[] entries = new String[(int) readVarint(in)];
+                for (int i = 0; i < entries.length; i++) {
+                    entries[i] = readString(in);
+                }
+                for (int decoded = 0; decoded < count; ) {
+                    String value = entries[(int) readVarint(in)];
+                    int run = (int) readVarint(in);
+                    for (int i = 0; i < run; i++) {
+                        consumer.accept(value);
+                    }
+                    decoded += run;
+                }
+            }
+            default -> throw new IllegalStateException("Unsupported string encoding: " + encoding);
+        }
+    }
+
+    static long readVarint(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+    }
+
+    static long readSignedVarint(ByteBuffer in) {
+        long zigzag = readVarint(in);
+        return (zigzag >>> 1) ^ -(zigzag & 1);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = (int) readVarint(in);
+        String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+        in.position(in.position() + length);
+        return value;
+    }
+
+    private static int runLength(long[] values, int from, int count) {
+        int run = 1;
+        while (from + run < count && values[from + run] == values[from]) {
+            run++;
+        }
+        return run;
+    }
+
+    record Encoded(int encoding, byte[] bytes, int length) {
+    }
+
+    static final class Sink {
+
+        private byte[] buffer;
+        private int size;
+
+        Sink(int capacity) {
+            this.buffer = new byte[Math.max(16, capacity)];
+        }
+
+        void writeVarint(long value) {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+
+        void writeSignedVarint(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            ensure(bytes.length);
+            System.arraycopy(bytes, 0, buffer, size, bytes.length);
+            size += bytes.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        byte[] bytes() {
+            return buffer;
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+            }
+        }
+    }
+}
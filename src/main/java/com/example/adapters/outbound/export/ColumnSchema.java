@@ -0,0 +1,7 @@
+package com.example.adapters.outbound.export;
+
+public record ColumnSchema(
+        String name,
+        ColumnType type
+) {
+}
@@ -0,0 +1,27 @@
+package com.example.adapters.outbound.export;
+
+public enum ColumnType {
+    INT64(1),
+    DECIMAL2(2),
+    TIMESTAMP(3),
+    STRING(4);
+
+    private final int code;
+
+    ColumnType(int code) {
+        this.code = code;
+    }
+
+    int code() {
+        return code;
+    }
+
+    static ColumnType of(int code) {
+        for (ColumnType type : values()) {
+            if (type.code == code) {
+                return type;
+            }
+        }
+        throw new IllegalStateException("Unknown column type code: " + code);
+    }
+}
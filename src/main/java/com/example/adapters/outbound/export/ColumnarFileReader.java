@@ -0,0 +1,153 @@
+package com.example.adapters.outbound.export;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public final class ColumnarFileReader implements Closeable {
+
+    private final FileChannel channel;
+    private final String table;
+    private final List<ColumnSchema> columns;
+    private final List<RowGroup> rowGroups;
+
+    private ColumnarFileReader(FileChannel channel, String table, List<ColumnSchema> columns,
+                               List<RowGroup> rowGroups) {
+        this.channel = channel;
+        this.table = table;
+        this.columns = columns;
+        this.rowGroups = rowGroups;
+    }
+
+    public static ColumnarFileReader open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            ByteBuffer trailer = read(channel, channel.size() - 8, 8);
+            int footerLength = trailer.getInt();
+            byte[] magic = new byte[4];
+            trailer.get(magic);
+            if (!Arrays.equals(magic, ColumnarFileWriter.MAGIC)) {
+                throw new IOException("Not a columnar export file: " + file);
+            }
+            ByteBuffer footerBuffer = read(channel, channel.size() - 8 - footerLength, footerLength);
+            DataInputStream footer = new DataInputStream(new ByteArrayInputStream(footerBuffer.array()));
+            String table = footer.readUTF();
+            List<ColumnSchema> columns = new ArrayList<>();
+            for (int i = footer.readShort(); i > 0; i--) {
+                columns.add(new ColumnSchema(footer.readUTF(), ColumnType.of(footer.readByte())));
+            }
+            List<RowGroup> rowGroups = new ArrayList<>();
+            for (int group = footer.readInt(); group > 0; group--) {
+                int rows = footer.readInt();
+                Chunk[] chunks = new Chunk[columns.size()];
+                for (int column = 0; column < chunks.length; column++) {
+                    chunks[column] = new Chunk(footer.readLong(), footer.readInt(), footer.readInt(),
+                            footer.readByte());
+                }
+                rowGroups.add(new RowGroup(rows, chunks));
+            }
+            return new ColumnarFileReader(channel, table, List.copyOf(columns), List.copyOf(rowGroups));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public String table() {
+        return table;
+    }
+
+    public List<ColumnSchema> columns() {
+        return columns;
+    }
+
+    public long rowCount() {
+        long rows = 0;
+        for (RowGroup group : rowGroups) {
+            rows += group.rows();
+        }
+        return rows;
+    }
+
+    public void scanLongs(String column, LongConsumer consumer) throws IOException {
+        int index = indexOf(column);
+        if (columns.get(index).type() == ColumnType.STRING) {
+            throw new IllegalArgumentException("Column " + column + " is not numeric");
+        }
+        for (RowGroup group : rowGroups) {
+            Chunk chunk = group.chunks()[index];
+            ColumnEncoding.decodeLongs(chunk.encoding(), inflate(chunk), group.rows(), consumer);
+        }
+    }
+
+    public void scanStrings(String column, Consumer<String> consumer) throws IOException {
+        int index = indexOf(column);
+        if (columns.get(index).type() != ColumnType.STRING) {
+            throw new IllegalArgumentException("Column " + column + " is not a string column");
+        }
+        for (RowGroup group : rowGroups) {
+            Chunk chunk = group.chunks()[index];
+            ColumnEncoding.decodeStrings(chunk.encoding(), inflate(chunk), group.rows(), consumer);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int indexOf(String column) {
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).name().equals(column)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Unknown column " + column + " in " + table);
+    }
+
+    private ByteBuffer inflate(Chunk chunk) throws IOException {
+        ByteBuffer compressed = read(channel, chunk.offset(), chunk.compressedLength());
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed.array(), 0, chunk.compressedLength());
+            byte[] raw = new byte[chunk.length()];
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                length += inflater.inflate(raw, length, raw.length - length);
+            }
+            return ByteBuffer.wrap(raw);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupt column chunk at offset " + chunk.offset(), e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of columnar export file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private record RowGroup(int rows, Chunk[] chunks) {
+    }
+
+    private record Chunk(long offset, int compressedLength, int length, int encoding) {
+    }
+}
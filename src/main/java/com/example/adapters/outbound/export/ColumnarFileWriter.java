@@ -0,0 +1,168 @@
+package com.example.adapters.outbound.export;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+
+final class ColumnarFileWriter implements Closeable {
+
+    static final byte[] MAGIC = {'S', 'M', 'C', 'F'};
+    static final int VERSION = 1;
+
+    private final OutputStream out;
+    private final String table;
+    private final List<ColumnSchema> columns;
+    private final int rowGroupSize;
+    private final Deflater deflater;
+    private final long[][] longBuffers;
+    private final String[][] stringBuffers;
+    private final List<RowGroup> rowGroups = new ArrayList<>();
+    private byte[] compressed = new byte[64 * 1024];
+    private int bufferedRows;
+    private long rows;
+    private long position;
+
+    ColumnarFileWriter(Path file, String table, List<ColumnSchema> columns, int rowGroupSize, int compressionLevel)
+            throws IOException {
+        this.out = new BufferedOutputStream(Files.newOutputStream(file), 64 * 1024);
+        this.table = table;
+        this.columns = List.copyOf(columns);
+        this.rowGroupSize = rowGroupSize;
+        this.deflater = new Deflater(compressionLevel);
+        this.longBuffers = new long[columns.size()][];
+        this.stringBuffers = new String[columns.size()][];
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).type() == ColumnType.STRING) {
+                stringBuffers[i] = new String[rowGroupSize];
+            } else {
+                longBuffers[i] = new long[rowGroupSize];
+            }
+        }
+        write(MAGIC, MAGIC.length);
+        write(new byte[]{VERSION}, 1);
+    }
+
+    void append(ResultSet resultSet) throws SQLException, IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            int index = i + 1;
+            switch (columns.get(i).type()) {
+                case INT64 -> longBuffers[i][bufferedRows] = resultSet.getLong(index);
+                case DECIMAL2 -> longBuffers[i][bufferedRows] = unscaled(resultSet.getBigDecimal(index));
+                case TIMESTAMP -> longBuffers[i][bufferedRows] =
+                        epochMicros(resultSet.getObject(index, LocalDateTime.class));
+                case STRING -> stringBuffers[i][bufferedRows] = resultSet.getString(index);
+            }
+        }
+        rows++;
+        if (++bufferedRows == rowGroupSize) {
+            flushRowGroup();
+        }
+    }
+
+    long rows() {
+        return rows;
+    }
+
+    long bytesWritten() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flushRowGroup();
+            ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+            DataOutputStream footer = new DataOutputStream(footerBytes);
+            footer.writeUTF(table);
+            footer.writeShort(columns.size());
+            for (ColumnSchema column : columns) {
+                footer.writeUTF(column.name());
+                footer.writeByte(column.type().code());
+            }
+            footer.writeInt(rowGroups.size());
+            for (RowGroup group : rowGroups) {
+                footer.writeInt(group.rows());
+                for (Chunk chunk : group.chunks()) {
+                    footer.writeLong(chunk.offset());
+                    footer.writeInt(chunk.compressedLength());
+                    footer.writeInt(chunk.length());
+                    footer.writeByte(chunk.encoding());
+                }
+            }
+            int footerLength = footerBytes.size();
+            write(footerBytes.toByteArray(), footerLength);
+            write(new byte[]{(byte) (footerLength >>> 24), (byte) (footerLength >>> 16), (byte) (footerLength >>> 8),
+                    (byte) footerLength}, Integer.BYTES);
+            write(MAGIC, MAGIC.length);
+        } finally {
+            deflater.end();
+            out.close();
+        }
+    }
+
+    private void flushRowGroup() throws IOException {
+        if (bufferedRows == 0) {
+            return;
+        }
+        List<Chunk> chunks = new ArrayList<>(columns.size());
+        for (int i = 0; i < columns.size(); i++) {
+            ColumnEncoding.Encoded encoded = columns.get(i).type() == ColumnType.STRING
+                    ? ColumnEncoding.encodeStrings(stringBuffers[i], bufferedRows)
+                    : ColumnEncoding.encodeLongs(longBuffers[i], bufferedRows);
+            long offset = position;
+            int compressedLength = compress(encoded);
+            write(compressed, compressedLength);
+            chunks.add(new Chunk(offset, compressedLength, encoded.length(), encoded.encoding()));
+        }
+        rowGroups.add(new RowGroup(bufferedRows, chunks));
+        bufferedRows = 0;
+    }
+
+    private int compress(ColumnEncoding.Encoded encoded) {
+        deflater.reset();
+        deflater.setInput(encoded.bytes(), 0, encoded.length());
+        deflater.finish();
+        int length = 0;
+        while (!deflater.finished()) {
+            if (length == compressed.length) {
+                compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            }
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        return length;
+    }
+
+    private void write(byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        position += length;
+    }
+
+    private static long unscaled(BigDecimal value) {
+        return value.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static long epochMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    private record RowGroup(int rows, List<Chunk> chunks) {
+    }
+
+    private record Chunk(long offset, int compressedLength, int length, int encoding) {
+    }
+}
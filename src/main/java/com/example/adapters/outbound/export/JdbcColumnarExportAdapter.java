@@ -0,0 +1,152 @@
+package com.example.adapters.outbound.export;
+
+import com.example.application.port.out.OrderSnapshotExportPort;
+import com.example.domain.model.ExportedPartition;
+import com.example.domain.model.OrderSnapshotExport;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JdbcColumnarExportAdapter implements OrderSnapshotExportPort {
+
+    static final String FILE_EXTENSION = ".smc";
+    static final List<ColumnSchema> ORDER_COLUMNS = List.of(
+            new ColumnSchema("id", ColumnType.INT64),
+            new ColumnSchema("customer_id", ColumnType.INT64),
+            new ColumnSchema("total_amount", ColumnType.DECIMAL2),
+            new ColumnSchema("status", ColumnType.STRING),
+            new ColumnSchema("created_at", ColumnType.TIMESTAMP),
+            new ColumnSchema("updated_at", ColumnType.TIMESTAMP)
+    );
+    static final List<ColumnSchema> ORDER_ITEM_COLUMNS = List.of(
+            new ColumnSchema("id", ColumnType.INT64),
+            new ColumnSchema("order_id", ColumnType.INT64),
+            new ColumnSchema("product_id", ColumnType.INT64),
+            new ColumnSchema("product_name", ColumnType.STRING),
+            new ColumnSchema("unit_price", ColumnType.DECIMAL2),
+            new ColumnSchema("quantity", ColumnType.INT64),
+            new ColumnSchema("subtotal", ColumnType.DECIMAL2)
+    );
+
+    private static final String ORDERS_SQL =
+            "select id, customer_id, total_amount, status, created_at, updated_at from orders " +
+            "where created_at >= ? and created_at < ? " +
+            "union all " +
+            "select id, customer_id, total_amount, status, created_at, updated_at from orders_archive " +
+            "where created_at >= ? and created_at < ? order by id";
+    private static final String ORDER_ITEMS_SQL =
+            "select i.id, i.order_id, i.product_id, i.product_name, i.unit_price, i.quantity, i.subtotal " +
+            "from orders o join order_items i on i.order_id = o.id " +
+            "where o.created_at >= ? and o.created_at < ? " +
+            "union all " +
+            "select i.id, i.order_id, i.product_id, i.product_name, i.unit_price, i.quantity, i.subtotal " +
+            "from orders_archive o join order_items_archive i on i.order_id = o.id " +
+            "where o.created_at >= ? and o.created_at < ? order by order_id, id";
+    private static final int SCAN_FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshot;
+    private final Path directory;
+    private final int rowGroupSize;
+    private final int compressionLevel;
+
+    public JdbcColumnarExportAdapter(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                     Path directory, int rowGroupSize, int compressionLevel) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshot = new TransactionTemplate(transactionManager);
+        this.snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_SERIALIZABLE);
+        this.snapshot.setReadOnly(true);
+        this.directory = directory;
+        this.rowGroupSize = rowGroupSize;
+        this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public List<ExportedPartition> exportDay(LocalDate day) {
+        Path orders = partitionPath(directory, OrderSnapshotExport.ORDERS, day);
+        Path orderItems = partitionPath(directory, OrderSnapshotExport.ORDER_ITEMS, day);
+        try {
+            Path stagedOrders = stagingFile(orders);
+            Path stagedOrderItems = stagingFile(orderItems);
+            try {
+                long[] rows = snapshot.execute(status -> new long[]{
+                        write(OrderSnapshotExport.ORDERS, ORDERS_SQL, ORDER_COLUMNS, day, stagedOrders),
+                        write(OrderSnapshotExport.ORDER_ITEMS, ORDER_ITEMS_SQL, ORDER_ITEM_COLUMNS, day,
+                                stagedOrderItems)
+                });
+                List<ExportedPartition> exported = new ArrayList<>(2);
+                publish(OrderSnapshotExport.ORDERS, day, stagedOrders, orders, rows[0], exported);
+                publish(OrderSnapshotExport.ORDER_ITEMS, day, stagedOrderItems, orderItems, rows[1], exported);
+                return exported;
+            } finally {
+                Files.deleteIfExists(stagedOrders);
+                Files.deleteIfExists(stagedOrderItems);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not export orders for " + day, e);
+        }
+    }
+
+    static Path partitionPath(Path directory, String table, LocalDate day) {
+        return directory.resolve(table).resolve("date=" + day + FILE_EXTENSION);
+    }
+
+    private static Path stagingFile(Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        return Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+    }
+
+    private long write(String table, String sql, List<ColumnSchema> columns, LocalDate day, Path file) {
+        try (ColumnarFileWriter writer = new ColumnarFileWriter(file, table, columns, rowGroupSize, compressionLevel)) {
+            scan(sql, day, writer);
+            return writer.rows();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not export " + table + " for " + day, e);
+        }
+    }
+
+    private static void publish(String table, LocalDate day, Path staged, Path target, long rows,
+                                List<ExportedPartition> exported) throws IOException {
+        if (rows == 0) {
+            Files.deleteIfExists(target);
+            return;
+        }
+        long bytes = Files.size(staged);
+        Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        exported.add(new ExportedPartition(table, day, target.toString(), rows, bytes));
+    }
+
+    private void scan(String sql, LocalDate day, ColumnarFileWriter writer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(sql,
+                            ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(SCAN_FETCH_SIZE);
+                    statement.setObject(1, day.atStartOfDay());
+                    statement.setObject(2, day.plusDays(1).atStartOfDay());
+                    statement.setObject(3, day.atStartOfDay());
+                    statement.setObject(4, day.plusDays(1).atStartOfDay());
+                    return statement;
+                },
+                (RowCallbackHandler) resultSet -> {
+                    try {
+                        writer.append(resultSet);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
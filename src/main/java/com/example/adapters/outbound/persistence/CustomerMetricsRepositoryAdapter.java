@@ -0,0 +1,101 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.application.port.out.CustomerMetricsRepositoryPort;
+import com.example.domain.model.CustomerMetrics;
+import com.example.domain.model.CustomerSegment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+public class CustomerMetricsRepositoryAdapter implements CustomerMetricsRepositoryPort {
+
+    private static final String UPSERT_SQL = """
+            merge into customer_metrics t
+            using (values (cast(? as bigint), cast(? as date), cast(? as date), cast(? as integer), cast(? as bigint),
+                    cast(? as numeric(19, 2)), cast(? as numeric(19, 2)), cast(? as smallint), cast(? as smallint),
+                    cast(? as smallint), cast(? as varchar(32)), cast(? as timestamp(6))))
+                s (customer_id, first_order_day, last_order_day, recency_days, orders_placed, average_order_value,
+                    lifetime_value, recency_score, frequency_score, monetary_score, segment, computed_at)
+            on t.customer_id = s.customer_id
+            when matched then update set first_order_day = s.first_order_day, last_order_day = s.last_order_day,
+                recency_days = s.recency_days, orders_placed = s.orders_placed,
+                average_order_value = s.average_order_value, lifetime_value = s.lifetime_value,
+                recency_score = s.recency_score, frequency_score = s.frequency_score,
+                monetary_score = s.monetary_score, segment = s.segment, computed_at = s.computed_at
+            when not matched then insert (customer_id, first_order_day, last_order_day, recency_days, orders_placed,
+                    average_order_value, lifetime_value, recency_score, frequency_score, monetary_score, segment,
+                    computed_at)
+                values (s.customer_id, s.first_order_day, s.last_order_day, s.recency_days, s.orders_placed,
+                    s.average_order_value, s.lifetime_value, s.recency_score, s.frequency_score, s.monetary_score,
+                    s.segment, s.computed_at)""";
+    private static final String DELETE_STALE_SQL = "delete from customer_metrics where computed_at < ?";
+    private static final String SELECT_SQL = """
+            select customer_id, first_order_day, last_order_day, recency_days, orders_placed, average_order_value,
+                lifetime_value, recency_score, frequency_score, monetary_score, segment, computed_at
+            from customer_metrics where customer_id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomerMetricsRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void upsert(Collection<CustomerMetrics> metrics) {
+        if (metrics.isEmpty()) {
+            return;
+        }
+        List<Object[]> arguments = new ArrayList<>(metrics.size());
+        metrics.stream().sorted(Comparator.comparing(CustomerMetrics::customerId)).forEach(row -> arguments.add(
+                new Object[]{
+                        row.customerId(),
+                        Date.valueOf(row.firstOrderDay()),
+                        Date.valueOf(row.lastOrderDay()),
+                        row.recencyDays(),
+                        row.orders(),
+                        row.averageOrderValue(),
+                        row.lifetimeValue(),
+                        row.recencyScore(),
+                        row.frequencyScore(),
+                        row.monetaryScore(),
+                        row.segment().name(),
+                        Timestamp.valueOf(row.computedAt())
+                }));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, arguments);
+    }
+
+    @Override
+    public int deleteComputedBefore(LocalDateTime computedAt) {
+        return jdbcTemplate.update(DELETE_STALE_SQL, Timestamp.valueOf(computedAt));
+    }
+
+    @Override
+    public Optional<CustomerMetrics> findByCustomerId(Long customerId) {
+        return jdbcTemplate.query(SELECT_SQL, (resultSet, rowNum) -> new CustomerMetrics(
+                resultSet.getLong(1),
+                resultSet.getObject(2, LocalDate.class),
+                resultSet.getObject(3, LocalDate.class),
+                resultSet.getInt(4),
+                resultSet.getLong(5),
+                resultSet.getBigDecimal(6),
+                resultSet.getBigDecimal(7),
+                resultSet.getInt(8),
+                resultSet.getInt(9),
+                resultSet.getInt(10),
+                CustomerSegment.valueOf(resultSet.getString(11)),
+                resultSet.getObject(12, LocalDateTime.class)
+        ), customerId).stream().findFirst();
+    }
+}
@@ -2,19 +2,24 @@ package com.example.adapters.outbound.persistence;
 
 import com.example.application.port.out.CustomerRepositoryPort;
 import com.example.domain.model.Customer;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Component
 public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
 
     private final SpringDataCustomerRepository springDataCustomerRepository;
+    private final EntityManager entityManager;
 
-    public CustomerRepositoryAdapter(SpringDataCustomerRepository springDataCustomerRepository) {
+    public CustomerRepositoryAdapter(SpringDataCustomerRepository springDataCustomerRepository,
+                                     EntityManager entityManager) {
         this.springDataCustomerRepository = springDataCustomerRepository;
+        this.entityManager = entityManager;
     }
 
     @Override
@@ -30,15 +35,17 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Customer> findByEmail(String email) {
-        return springDataCustomerRepository.findByEmail(email).map(this::toDomain);
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(CustomerEntity.class)
+                .loadOptional(email)
+                .map(this::toDomain);
     }
 
     @Override
     public List<Customer> findAll() {
-        return springDataCustomerRepository.findAll().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return springDataCustomerRepository.findAllProjected();
     }
 
     @Override
@@ -51,7 +58,8 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
         return springDataCustomerRepository.existsByEmail(email);
     }
 
-    private CustomerEntity toEntity(Customer customer) {
+    CustomerEntity toEntity(Customer customer) {
+        EntityMappingEvent event = EntityMappingEvent.started();
         CustomerEntity entity = new CustomerEntity();
         entity.setId(customer.getId());
         entity.setEmail(customer.getEmail());
@@ -61,20 +69,23 @@ public class CustomerRepositoryAdapter implements CustomerRepositoryPort {
         entity.setAddress(customer.getAddress());
         entity.setCreatedAt(customer.getCreatedAt());
         entity.setUpdatedAt(customer.getUpdatedAt());
+        event.finish("Customer", "toEntity", 1);
         return entity;
     }
 
-    private Customer toDomain(CustomerEntity entity) {
+    Customer toDomain(CustomerEntity entity) {
+        EntityMappingEvent event = EntityMappingEvent.started();
         Customer customer = new Customer(
                 entity.getId(),
                 entity.getEmail(),
                 entity.getFirstName(),
                 entity.getLastName(),
                 entity.getPhone(),
-                entity.getAddress()
+                entity.getAddress(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
         );
-        customer.setCreatedAt(entity.getCreatedAt());
-        customer.setUpdatedAt(entity.getUpdatedAt());
+        event.finish("Customer", "toDomain", 1);
         return customer;
     }
 }
@@ -0,0 +1,41 @@
+package com.example.adapters.outbound.persistence;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.EntityMapping")
+@Label("Entity Mapping")
+@Category({"Supermarket", "Persistence"})
+@Description("Conversion between JPA entities and domain objects")
+@StackTrace(false)
+public class EntityMappingEvent extends Event {
+
+    @Label("Type")
+    public String type;
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Items")
+    public int itemCount;
+
+    static EntityMappingEvent started() {
+        EntityMappingEvent event = new EntityMappingEvent();
+        event.begin();
+        return event;
+    }
+
+    void finish(String type, String direction, int itemCount) {
+        end();
+        if (shouldCommit()) {
+            this.type = type;
+            this.direction = direction;
+            this.itemCount = itemCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.application.port.out.InventoryLedgerPort;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.InventoryLevel;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class InventoryLedgerRepositoryAdapter implements InventoryLedgerPort {
+
+    private static final String APPEND_SQL = """
+            insert into inventory_ledger (product_id, entry_type, quantity_delta, reference_id, recorded_at)
+            values (?, ?, ?, ?, ?)""";
+    private static final String LEVEL_SQL = """
+            select coalesce(s.stock, 0) + coalesce(sum(l.quantity_delta), 0), coalesce(s.last_entry_id, 0), count(l.id)
+            from (select cast(? as bigint) product_id) k
+            left join inventory_snapshots s on s.product_id = k.product_id
+            left join inventory_ledger l on l.product_id = k.product_id and l.id > coalesce(s.last_entry_id, 0)
+            group by s.stock, s.last_entry_id""";
+    private static final String LATEST_ENTRIES_SQL = """
+            select id, product_id, entry_type, quantity_delta, reference_id, recorded_at
+            from inventory_ledger
+            where product_id = ?
+            order by id desc
+            fetch first ? rows only""";
+    private static final String SNAPSHOT_SQL = """
+            merge into inventory_snapshots t
+            using (select product_id, sum(quantity_delta) delta
+                   from inventory_ledger
+                   where id > ? and id <= ?
+                   group by product_id) s
+            on t.product_id = s.product_id
+            when matched then update set stock = t.stock + s.delta, last_entry_id = ?, taken_at = ?
+            when not matched then insert (product_id, last_entry_id, stock, taken_at)
+                values (s.product_id, ?, s.delta, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReadWriteLock appendGate = new ReentrantReadWriteLock();
+    private final NavigableSet<Long> uncommittedEntryIds = new ConcurrentSkipListSet<>();
+    private final Object uncommittedHold = new Object();
+
+    public InventoryLedgerRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void append(List<InventoryEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        KeyHolder keys = new GeneratedKeyHolder();
+        appendGate.readLock().lock();
+        try {
+            jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(APPEND_SQL, new String[]{"id"}),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement statement, int i) throws SQLException {
+                            InventoryEntry entry = entries.get(i);
+                            statement.setLong(1, entry.productId());
+                            statement.setString(2, entry.type().name());
+                            statement.setInt(3, entry.quantityDelta());
+                            statement.setObject(4, entry.referenceId());
+                            statement.setTimestamp(5, Timestamp.valueOf(entry.recordedAt()));
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return entries.size();
+                        }
+                    }, keys);
+            holdUntilCompletion(firstId(keys));
+        } finally {
+            appendGate.readLock().unlock();
+        }
+    }
+
+    @Override
+    public InventoryLevel findLevel(Long productId) {
+        return jdbcTemplate.queryForObject(LEVEL_SQL, (resultSet, row) -> new InventoryLevel(
+                productId,
+                resultSet.getLong(1),
+                resultSet.getLong(2),
+                resultSet.getLong(3)), productId);
+    }
+
+    @Override
+    public List<InventoryEntry> findLatestEntries(Long productId, int limit) {
+        return jdbcTemplate.query(LATEST_ENTRIES_SQL, (resultSet, row) -> new InventoryEntry(
+                resultSet.getLong(1),
+                resultSet.getLong(2),
+                InventoryEntryType.valueOf(resultSet.getString(3)),
+                resultSet.getInt(4),
+                resultSet.getObject(5, Long.class),
+                resultSet.getObject(6, LocalDateTime.class)), productId, limit);
+    }
+
+    @Override
+    public long settledEntryId() {
+        appendGate.writeLock().lock();
+        try {
+            Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from inventory_ledger", Long.class);
+            long settled = max != null ? max : 0;
+            Long firstUncommitted = uncommittedEntryIds.ceiling(Long.MIN_VALUE);
+            return firstUncommitted != null ? Math.min(settled, firstUncommitted - 1) : settled;
+        } finally {
+            appendGate.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public long snapshotWatermark() {
+        Long watermark = jdbcTemplate.queryForObject(
+                "select coalesce(max(last_entry_id), 0) from inventory_snapshots", Long.class);
+        return watermark != null ? watermark : 0;
+    }
+
+    @Override
+    @Transactional
+    public int snapshot(long afterEntryId, long upToEntryId) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(SNAPSHOT_SQL, afterEntryId, upToEntryId, upToEntryId, now, upToEntryId, now);
+    }
+
+    private void holdUntilCompletion(long firstEntryId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(uncommittedHold)) {
+            return;
+        }
+        uncommittedEntryIds.add(firstEntryId);
+        TransactionSynchronizationManager.bindResource(uncommittedHold, firstEntryId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(uncommittedHold);
+                uncommittedEntryIds.remove(firstEntryId);
+            }
+        });
+    }
+
+    private static long firstId(KeyHolder keys) {
+        long first = Long.MAX_VALUE;
+        for (Map<String, Object> key : keys.getKeyList()) {
+            for (Object value : key.values()) {
+                first = Math.min(first, ((Number) value).longValue());
+            }
+        }
+        return first;
+    }
+}
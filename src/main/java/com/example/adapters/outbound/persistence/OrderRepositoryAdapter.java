@@ -3,19 +3,84 @@ package com.example.adapters.outbound.persistence;
 import com.example.application.port.out.OrderRepositoryPort;
 import com.example.domain.model.Order;
 import com.example.domain.model.OrderItem;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.SalesLine;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 @Component
 public class OrderRepositoryAdapter implements OrderRepositoryPort {
 
+    private static final String PENDING_ORDERS_SQL =
+            "select id, created_at from orders where status = 'PENDING'";
+    private static final String SALES_LINES_SQL =
+            "select o.id, o.customer_id, o.created_at, i.product_id, i.quantity, i.subtotal " +
+            "from orders o join order_items i on i.order_id = o.id " +
+            "where o.id between ? and ? and o.status <> 'CANCELLED' " +
+            "union all " +
+            "select o.id, o.customer_id, o.created_at, i.product_id, i.quantity, i.subtotal " +
+            "from orders_archive o join order_items_archive i on i.order_id = o.id " +
+            "where o.id between ? and ? and o.status <> 'CANCELLED'";
+    private static final String CUSTOMER_ORDERS_SQL =
+            "select customer_id, created_at, total_amount from orders " +
+            "where status <> 'CANCELLED' order by customer_id";
+    private static final String ARCHIVED_CUSTOMER_ORDERS_SQL =
+            "select customer_id, created_at, total_amount from orders_archive " +
+            "where status <> 'CANCELLED' order by customer_id";
+    private static final String MAX_ORDER_ID_SQL =
+            "select greatest((select coalesce(max(id), 0) from orders), " +
+            "(select coalesce(max(id), 0) from orders_archive))";
+    private static final String ARCHIVED_ORDER_SQL =
+            "select o.id, o.customer_id, o.status, o.created_at, o.updated_at, " +
+            "i.id, i.product_id, i.product_name, i.unit_price, i.quantity " +
+            "from orders_archive o left join order_items_archive i on i.order_id = o.id " +
+            "where o.id = ? order by i.id";
+    private static final String ARCHIVED_ORDERS_BY_CUSTOMER_SQL =
+            "select o.id, o.customer_id, o.status, o.created_at, o.updated_at, " +
+            "i.id, i.product_id, i.product_name, i.unit_price, i.quantity " +
+            "from orders_archive o left join order_items_archive i on i.order_id = o.id " +
+            "where o.customer_id = ? order by o.id, i.id";
+    private static final String ARCHIVED_STATUSES_SQL =
+            "select id, status from orders_archive where id = any(?)";
+    private static final String ARCHIVABLE_ORDERS_SQL =
+            "select id from orders where status = any(?) and created_at < ? fetch first ? rows only";
+    private static final String ARCHIVE_ORDERS_SQL =
+            "insert into orders_archive (id, customer_id, total_amount, status, created_at, updated_at, archived_at) " +
+            "select id, customer_id, total_amount, status, created_at, updated_at, ? from orders where id = any(?)";
+    private static final String ARCHIVE_ORDER_ITEMS_SQL =
+            "insert into order_items_archive (id, order_id, product_id, product_name, unit_price, quantity, subtotal) " +
+            "select id, order_id, product_id, product_name, unit_price, quantity, subtotal from order_items " +
+            "where order_id = any(?)";
+    private static final String DELETE_ORDER_ITEMS_SQL = "delete from order_items where order_id = any(?)";
+    private static final String DELETE_ORDERS_SQL = "delete from orders where id = any(?)";
+    private static final int SCAN_FETCH_SIZE = 10_000;
+
     private final SpringDataOrderRepository springDataOrderRepository;
+    private final JdbcTemplate jdbcTemplate;
 
-    public OrderRepositoryAdapter(SpringDataOrderRepository springDataOrderRepository) {
+    public OrderRepositoryAdapter(SpringDataOrderRepository springDataOrderRepository,
+                                  JdbcTemplate jdbcTemplate) {
         this.springDataOrderRepository = springDataOrderRepository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -27,21 +92,35 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
 
     @Override
     public Optional<Order> findById(Long id) {
-        return springDataOrderRepository.findById(id).map(this::toDomain);
+        Optional<Order> order = springDataOrderRepository.findById(id).map(this::toDomain);
+        if (order.isPresent()) {
+            return order;
+        }
+        return archivedOrders(ARCHIVED_ORDER_SQL, id).stream().findFirst();
     }
 
     @Override
     public List<Order> findByCustomerId(Long customerId) {
-        return springDataOrderRepository.findByCustomerId(customerId).stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        List<Order> archived = archivedOrders(ARCHIVED_ORDERS_BY_CUSTOMER_SQL, customerId);
+        List<Order> orders = springDataOrderRepository.findProjectedByCustomerId(customerId);
+        if (orders.isEmpty()) {
+            return archived;
+        }
+        attachItems(orders, springDataOrderRepository.findProjectedItemsByCustomerId(customerId));
+        if (archived.isEmpty()) {
+            return orders;
+        }
+        archived.addAll(orders);
+        return archived;
     }
 
     @Override
     public List<Order> findAll() {
-        return springDataOrderRepository.findAll().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        List<Order> orders = springDataOrderRepository.findAllProjected();
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        return attachItems(orders, springDataOrderRepository.findAllProjectedItems());
     }
 
     @Override
@@ -49,7 +128,125 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         springDataOrderRepository.deleteById(id);
     }
 
-    private OrderEntity toEntity(Order order) {
+    @Override
+    public Map<Long, OrderStatus> lockStatuses(Collection<Long> orderIds) {
+        List<OrderStatusRow> rows = springDataOrderRepository.findStatusesForUpdate(orderIds);
+        Map<Long, OrderStatus> statuses = new HashMap<>(rows.size() * 2);
+        for (OrderStatusRow row : rows) {
+            statuses.put(row.id(), row.status());
+        }
+        if (statuses.size() < orderIds.size()) {
+            Long[] missing = orderIds.stream().filter(id -> !statuses.containsKey(id)).toArray(Long[]::new);
+            jdbcTemplate.query(ARCHIVED_STATUSES_SQL,
+                    statement -> statement.setArray(1, statement.getConnection().createArrayOf("BIGINT", missing)),
+                    (RowCallbackHandler) resultSet ->
+                            statuses.put(resultSet.getLong(1), OrderStatus.valueOf(resultSet.getString(2))));
+        }
+        return statuses;
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> orderIds, Set<OrderStatus> expectedStatuses, OrderStatus targetStatus) {
+        return springDataOrderRepository.updateStatus(orderIds, expectedStatuses, targetStatus, LocalDateTime.now());
+    }
+
+    @Override
+    public void forEachPendingOrder(BiConsumer<Long, LocalDateTime> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(PENDING_ORDERS_SQL);
+                    statement.setFetchSize(SCAN_FETCH_SIZE);
+                    return statement;
+                },
+                (RowCallbackHandler) resultSet ->
+                        consumer.accept(resultSet.getLong(1), resultSet.getObject(2, LocalDateTime.class)));
+    }
+
+    @Override
+    public List<SalesLine> findSalesLines(Collection<Long> orderIds) {
+        return springDataOrderRepository.findSalesLines(orderIds);
+    }
+
+    @Override
+    public void forEachSalesLine(long fromOrderId, long toOrderId, Consumer<SalesLine> consumer) {
+        jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SALES_LINES_SQL);
+                    statement.setFetchSize(SCAN_FETCH_SIZE);
+                    statement.setLong(1, fromOrderId);
+                    statement.setLong(2, toOrderId);
+                    statement.setLong(3, fromOrderId);
+                    statement.setLong(4, toOrderId);
+                    return statement;
+                },
+                (RowCallbackHandler) resultSet -> consumer.accept(new SalesLine(
+                        resultSet.getLong(1),
+                        resultSet.getLong(2),
+                        resultSet.getObject(3, LocalDateTime.class),
+                        resultSet.getLong(4),
+                        resultSet.getInt(5),
+                        resultSet.getBigDecimal(6))));
+    }
+
+    @Override
+    public long maxOrderId() {
+        Long maxId = jdbcTemplate.queryForObject(MAX_ORDER_ID_SQL, Long.class);
+        return maxId != null ? maxId : 0;
+    }
+
+    @Override
+    public void forEachOrderByCustomer(CustomerOrderConsumer consumer) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement hot = scanStatement(connection, CUSTOMER_ORDERS_SQL);
+                 PreparedStatement archived = scanStatement(connection, ARCHIVED_CUSTOMER_ORDERS_SQL);
+                 ResultSet hotRows = hot.executeQuery();
+                 ResultSet archivedRows = archived.executeQuery()) {
+                boolean hasHot = hotRows.next();
+                boolean hasArchived = archivedRows.next();
+                while (hasHot || hasArchived) {
+                    if (hasArchived && (!hasHot || archivedRows.getLong(1) <= hotRows.getLong(1))) {
+                        acceptCustomerOrder(consumer, archivedRows);
+                        hasArchived = archivedRows.next();
+                    } else {
+                        acceptCustomerOrder(consumer, hotRows);
+                        hasHot = hotRows.next();
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    @Override
+    @Transactional
+    public int archiveOrders(LocalDateTime placedBefore, Set<OrderStatus> statuses, int limit) {
+        String[] statusNames = statuses.stream().map(OrderStatus::name).toArray(String[]::new);
+        List<Long> ids = jdbcTemplate.query(ARCHIVABLE_ORDERS_SQL,
+                statement -> {
+                    statement.setArray(1, statement.getConnection().createArrayOf("VARCHAR", statusNames));
+                    statement.setObject(2, placedBefore);
+                    statement.setInt(3, limit);
+                },
+                (resultSet, rowNum) -> resultSet.getLong(1));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Long[] orderIds = ids.toArray(Long[]::new);
+        LocalDateTime archivedAt = LocalDateTime.now();
+        jdbcTemplate.update(ARCHIVE_ORDERS_SQL, statement -> {
+            statement.setObject(1, archivedAt);
+            statement.setArray(2, statement.getConnection().createArrayOf("BIGINT", orderIds));
+        });
+        jdbcTemplate.update(ARCHIVE_ORDER_ITEMS_SQL,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("BIGINT", orderIds)));
+        jdbcTemplate.update(DELETE_ORDER_ITEMS_SQL,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("BIGINT", orderIds)));
+        return jdbcTemplate.update(DELETE_ORDERS_SQL,
+                statement -> statement.setArray(1, statement.getConnection().createArrayOf("BIGINT", orderIds)));
+    }
+
+    OrderEntity toEntity(Order order) {
+        EntityMappingEvent event = EntityMappingEvent.started();
         OrderEntity entity = new OrderEntity();
         entity.setId(order.getId());
         entity.setCustomerId(order.getCustomerId());
@@ -69,30 +266,79 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
             entity.addItem(itemEntity);
         }
 
+        event.finish("Order", "toEntity", entity.getItems().size());
         return entity;
     }
 
-    private Order toDomain(OrderEntity entity) {
-        Order order = new Order(entity.getId(), entity.getCustomerId());
-        order.setStatus(entity.getStatus());
-        order.setCreatedAt(entity.getCreatedAt());
-        order.setUpdatedAt(entity.getUpdatedAt());
-
-        List<OrderItem> items = entity.getItems().stream()
-                .map(itemEntity -> {
-                    OrderItem item = new OrderItem(
-                            itemEntity.getId(),
-                            entity.getId(),
-                            itemEntity.getProductId(),
-                            itemEntity.getProductName(),
-                            itemEntity.getUnitPrice(),
-                            itemEntity.getQuantity()
-                    );
-                    return item;
-                })
-                .collect(Collectors.toList());
+    private List<Order> archivedOrders(String sql, long key) {
+        Map<Long, Order> orders = new LinkedHashMap<>();
+        Map<Long, List<OrderItem>> items = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> {
+            long orderId = resultSet.getLong(1);
+            if (!orders.containsKey(orderId)) {
+                orders.put(orderId, new Order(orderId, resultSet.getLong(2), OrderStatus.valueOf(resultSet.getString(3)),
+                        resultSet.getObject(4, LocalDateTime.class), resultSet.getObject(5, LocalDateTime.class)));
+            }
+            long itemId = resultSet.getLong(6);
+            if (!resultSet.wasNull()) {
+                items.computeIfAbsent(orderId, id -> new ArrayList<>()).add(new OrderItem(itemId, orderId,
+                        resultSet.getLong(7), resultSet.getString(8), resultSet.getBigDecimal(9), resultSet.getInt(10)));
+            }
+        }, key);
+        for (Order order : orders.values()) {
+            order.setItems(items.getOrDefault(order.getId(), List.of()));
+        }
+        return new ArrayList<>(orders.values());
+    }
+
+    private static PreparedStatement scanStatement(Connection connection, String sql) throws SQLException {
+        PreparedStatement statement = connection.prepareStatement(sql,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        statement.setFetchSize(SCAN_FETCH_SIZE);
+        return statement;
+    }
+
+    private static void acceptCustomerOrder(CustomerOrderConsumer consumer, ResultSet resultSet) throws SQLException {
+        consumer.accept(resultSet.getLong(1), resultSet.getObject(2, LocalDateTime.class), resultSet.getBigDecimal(3));
+    }
+
+    private List<Order> attachItems(List<Order> orders, List<OrderItem> items) {
+        EntityMappingEvent event = EntityMappingEvent.started();
+        Map<Long, List<OrderItem>> itemsByOrderId = new HashMap<>(orders.size() * 2);
+        for (OrderItem item : items) {
+            itemsByOrderId.computeIfAbsent(item.getOrderId(), orderId -> new ArrayList<>()).add(item);
+        }
+        for (Order order : orders) {
+            order.setItems(itemsByOrderId.getOrDefault(order.getId(), List.of()));
+        }
+        event.finish("Order", "attachItems", items.size());
+        return orders;
+    }
+
+    Order toDomain(OrderEntity entity) {
+        EntityMappingEvent event = EntityMappingEvent.started();
+        Order order = new Order(
+                entity.getId(),
+                entity.getCustomerId(),
+                entity.getStatus(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
+        );
+
+        List<OrderItem> items = new ArrayList<>(entity.getItems().size());
+        for (OrderItemEntity itemEntity : entity.getItems()) {
+            items.add(new OrderItem(
+                    itemEntity.getId(),
+                    entity.getId(),
+                    itemEntity.getProductId(),
+                    itemEntity.getProductName(),
+                    itemEntity.getUnitPrice(),
+                    itemEntity.getQuantity()
+            ));
+        }
 
         order.setItems(items);
+        event.finish("Order", "toDomain", items.size());
         return order;
     }
 }
@@ -0,0 +1,6 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.domain.model.OrderStatus;
+
+record OrderStatusRow(Long id, OrderStatus status) {
+}
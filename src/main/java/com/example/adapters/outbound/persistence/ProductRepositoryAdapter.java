@@ -2,19 +2,43 @@ package com.example.adapters.outbound.persistence;
 
 import com.example.application.port.out.ProductRepositoryPort;
 import com.example.domain.model.Product;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.TreeMap;
 
 @Component
 public class ProductRepositoryAdapter implements ProductRepositoryPort {
 
+    private static final String INCREASE_STOCK_SQL =
+            "update products set stock_quantity = stock_quantity + ?, updated_at = ? where id = ?";
+    private static final String DECREASE_STOCK_SQL =
+            "update products set stock_quantity = stock_quantity - ?, updated_at = ? where id = ? and stock_quantity >= ?";
+    private static final String ADJUST_STOCK_SQL =
+            "update products set stock_quantity = stock_quantity + ?, updated_at = ? where id = ? and stock_quantity + ? >= 0";
+
     private final SpringDataProductRepository springDataProductRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
 
-    public ProductRepositoryAdapter(SpringDataProductRepository springDataProductRepository) {
+    public ProductRepositoryAdapter(SpringDataProductRepository springDataProductRepository,
+                                    EntityManager entityManager,
+                                    JdbcTemplate jdbcTemplate) {
         this.springDataProductRepository = springDataProductRepository;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -30,15 +54,17 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Product> findBySku(String sku) {
-        return springDataProductRepository.findBySku(sku).map(this::toDomain);
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(ProductEntity.class)
+                .loadOptional(sku)
+                .map(this::toDomain);
     }
 
     @Override
     public List<Product> findAll() {
-        return springDataProductRepository.findAll().stream()
-                .map(this::toDomain)
-                .collect(Collectors.toList());
+        return springDataProductRepository.findAllProjected();
     }
 
     @Override
@@ -51,7 +77,70 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         return springDataProductRepository.existsBySku(sku);
     }
 
-    private ProductEntity toEntity(Product product) {
+    @Override
+    public void increaseStock(Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> ordered = new TreeMap<>(quantitiesByProductId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(ordered.size());
+        ordered.forEach((productId, quantity) -> arguments.add(new Object[]{quantity, now, productId}));
+        jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, arguments);
+        evictOnCompletion(ordered.keySet());
+    }
+
+    @Override
+    public List<Long> decreaseStock(Map<Long, Integer> quantitiesByProductId) {
+        if (quantitiesByProductId.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> ordered = new TreeMap<>(quantitiesByProductId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> arguments = new ArrayList<>(ordered.size());
+        ordered.forEach((productId, quantity) -> arguments.add(new Object[]{quantity, now, productId, quantity}));
+        int[] updated = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, arguments);
+        evictOnCompletion(ordered.keySet());
+
+        List<Long> rejected = new ArrayList<>();
+        int index = 0;
+        for (Long productId : ordered.keySet()) {
+            if (updated[index++] == 0) {
+                rejected.add(productId);
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public boolean adjustStock(Long productId, int quantity) {
+        int updated = jdbcTemplate.update(ADJUST_STOCK_SQL, quantity, Timestamp.valueOf(LocalDateTime.now()),
+                productId, quantity);
+        evictOnCompletion(List.of(productId));
+        return updated == 1;
+    }
+
+    private void evictOnCompletion(Iterable<Long> productIds) {
+        evictProducts(productIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictProducts(productIds);
+                }
+            });
+        }
+    }
+
+    private void evictProducts(Iterable<Long> productIds) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        for (Long productId : productIds) {
+            cache.evict(ProductEntity.class, productId);
+        }
+    }
+
+    ProductEntity toEntity(Product product) {
+        EntityMappingEvent event = EntityMappingEvent.started();
         ProductEntity entity = new ProductEntity();
         entity.setId(product.getId());
         entity.setSku(product.getSku());
@@ -61,20 +150,23 @@ public class ProductRepositoryAdapter implements ProductRepositoryPort {
         entity.setStockQuantity(product.getStockQuantity());
         entity.setCreatedAt(product.getCreatedAt());
         entity.setUpdatedAt(product.getUpdatedAt());
+        event.finish("Product", "toEntity", 1);
         return entity;
     }
 
-    private Product toDomain(ProductEntity entity) {
+    Product toDomain(ProductEntity entity) {
+        EntityMappingEvent event = EntityMappingEvent.started();
         Product product = new Product(
                 entity.getId(),
                 entity.getSku(),
                 entity.getName(),
                 entity.getDescription(),
                 entity.getPrice(),
-                entity.getStockQuantity()
+                entity.getStockQuantity(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt()
         );
-        product.setCreatedAt(entity.getCreatedAt());
-        product.setUpdatedAt(entity.getUpdatedAt());
+        event.finish("Product", "toDomain", 1);
         return product;
     }
 }
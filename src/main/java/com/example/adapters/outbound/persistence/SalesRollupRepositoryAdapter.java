@@ -0,0 +1,111 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.application.port.out.SalesRollupRepositoryPort;
+import com.example.domain.model.CustomerDailySales;
+import com.example.domain.model.ProductDailySales;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+public class SalesRollupRepositoryAdapter implements SalesRollupRepositoryPort {
+
+    private static final String MERGE_PRODUCT_SQL = """
+            merge into product_daily_sales t
+            using (values (cast(? as bigint), cast(? as date), cast(? as bigint), cast(? as numeric(19, 2))))
+                s (product_id, sales_day, units_sold, revenue)
+            on t.product_id = s.product_id and t.sales_day = s.sales_day
+            when matched then update set units_sold = t.units_sold + s.units_sold, revenue = t.revenue + s.revenue
+            when not matched then insert (product_id, sales_day, units_sold, revenue)
+                values (s.product_id, s.sales_day, s.units_sold, s.revenue)""";
+    private static final String MERGE_CUSTOMER_SQL = """
+            merge into customer_daily_sales t
+            using (values (cast(? as bigint), cast(? as date), cast(? as bigint), cast(? as numeric(19, 2))))
+                s (customer_id, sales_day, orders_placed, revenue)
+            on t.customer_id = s.customer_id and t.sales_day = s.sales_day
+            when matched then update set orders_placed = t.orders_placed + s.orders_placed, revenue = t.revenue + s.revenue
+            when not matched then insert (customer_id, sales_day, orders_placed, revenue)
+                values (s.customer_id, s.sales_day, s.orders_placed, s.revenue)""";
+    private static final String INSERT_PRODUCT_SQL =
+            "insert into product_daily_sales (product_id, sales_day, units_sold, revenue) values (?, ?, ?, ?)";
+    private static final String INSERT_CUSTOMER_SQL =
+            "insert into customer_daily_sales (customer_id, sales_day, orders_placed, revenue) values (?, ?, ?, ?)";
+    private static final String SELECT_PRODUCT_SQL =
+            "select product_id, sales_day, units_sold, revenue from product_daily_sales";
+    private static final String SELECT_CUSTOMER_SQL =
+            "select customer_id, sales_day, orders_placed, revenue from customer_daily_sales";
+
+    private static final Comparator<ProductDailySales> PRODUCT_KEY_ORDER =
+            Comparator.comparing(ProductDailySales::productId).thenComparing(ProductDailySales::day);
+    private static final Comparator<CustomerDailySales> CUSTOMER_KEY_ORDER =
+            Comparator.comparing(CustomerDailySales::customerId).thenComparing(CustomerDailySales::day);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SalesRollupRepositoryAdapter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    @Transactional
+    public void merge(Collection<ProductDailySales> productDeltas, Collection<CustomerDailySales> customerDeltas) {
+        writeProducts(MERGE_PRODUCT_SQL, productDeltas);
+        writeCustomers(MERGE_CUSTOMER_SQL, customerDeltas);
+    }
+
+    @Override
+    @Transactional
+    public void replaceAll(Collection<ProductDailySales> productSales, Collection<CustomerDailySales> customerSales) {
+        jdbcTemplate.update("delete from product_daily_sales");
+        jdbcTemplate.update("delete from customer_daily_sales");
+        writeProducts(INSERT_PRODUCT_SQL, productSales);
+        writeCustomers(INSERT_CUSTOMER_SQL, customerSales);
+    }
+
+    @Override
+    public void forEachProductDailySales(Consumer<ProductDailySales> consumer) {
+        jdbcTemplate.query(SELECT_PRODUCT_SQL, (RowCallbackHandler) resultSet -> consumer.accept(new ProductDailySales(
+                resultSet.getLong(1),
+                resultSet.getObject(2, LocalDate.class),
+                resultSet.getLong(3),
+                resultSet.getBigDecimal(4))));
+    }
+
+    @Override
+    public void forEachCustomerDailySales(Consumer<CustomerDailySales> consumer) {
+        jdbcTemplate.query(SELECT_CUSTOMER_SQL, (RowCallbackHandler) resultSet -> consumer.accept(new CustomerDailySales(
+                resultSet.getLong(1),
+                resultSet.getObject(2, LocalDate.class),
+                resultSet.getLong(3),
+                resultSet.getBigDecimal(4))));
+    }
+
+    private void writeProducts(String sql, Collection<ProductDailySales> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> arguments = new ArrayList<>(rows.size());
+        rows.stream().sorted(PRODUCT_KEY_ORDER).forEach(row -> arguments.add(new Object[]{
+                row.productId(), Date.valueOf(row.day()), row.units(), row.revenue()}));
+        jdbcTemplate.batchUpdate(sql, arguments);
+    }
+
+    private void writeCustomers(String sql, Collection<CustomerDailySales> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<Object[]> arguments = new ArrayList<>(rows.size());
+        rows.stream().sorted(CUSTOMER_KEY_ORDER).forEach(row -> arguments.add(new Object[]{
+                row.customerId(), Date.valueOf(row.day()), row.orders(), row.revenue()}));
+        jdbcTemplate.batchUpdate(sql, arguments);
+    }
+}
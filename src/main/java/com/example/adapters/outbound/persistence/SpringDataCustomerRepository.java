@@ -1,12 +1,19 @@
 package com.example.adapters.outbound.persistence;
 
+import com.example.domain.model.Customer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SpringDataCustomerRepository extends JpaRepository<CustomerEntity, Long> {
     Optional<CustomerEntity> findByEmail(String email);
     boolean existsByEmail(String email);
+
+    @Query("select new com.example.domain.model.Customer(c.id, c.email, c.firstName, c.lastName, c.phone, " +
+            "c.address, c.createdAt, c.updatedAt) from CustomerEntity c")
+    List<Customer> findAllProjected();
 }
@@ -1,11 +1,53 @@
 package com.example.adapters.outbound.persistence;
 
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderItem;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.SalesLine;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface SpringDataOrderRepository extends JpaRepository<OrderEntity, Long> {
-    List<OrderEntity> findByCustomerId(Long customerId);
+    @Query("select new com.example.domain.model.Order(o.id, o.customerId, o.status, o.createdAt, o.updatedAt) " +
+            "from OrderEntity o where o.customerId = :customerId")
+    List<Order> findProjectedByCustomerId(@Param("customerId") Long customerId);
+
+    @Query("select new com.example.domain.model.OrderItem(i.id, i.order.id, i.productId, i.productName, " +
+            "i.unitPrice, i.quantity) from OrderItemEntity i where i.order.customerId = :customerId")
+    List<OrderItem> findProjectedItemsByCustomerId(@Param("customerId") Long customerId);
+
+    @Query("select new com.example.domain.model.Order(o.id, o.customerId, o.status, o.createdAt, o.updatedAt) " +
+            "from OrderEntity o")
+    List<Order> findAllProjected();
+
+    @Query("select new com.example.domain.model.OrderItem(i.id, i.order.id, i.productId, i.productName, " +
+            "i.unitPrice, i.quantity) from OrderItemEntity i")
+    List<OrderItem> findAllProjectedItems();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select new com.example.adapters.outbound.persistence.OrderStatusRow(o.id, o.status) " +
+            "from OrderEntity o where o.id in :ids")
+    List<OrderStatusRow> findStatusesForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update OrderEntity o set o.status = :target, o.updatedAt = :updatedAt " +
+            "where o.id in :ids and o.status in :expected")
+    int updateStatus(@Param("ids") Collection<Long> ids,
+                     @Param("expected") Collection<OrderStatus> expected,
+                     @Param("target") OrderStatus target,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Query("select new com.example.domain.model.SalesLine(o.id, o.customerId, o.createdAt, i.productId, " +
+            "i.quantity, i.subtotal) from OrderItemEntity i join i.order o where o.id in :orderIds")
+    List<SalesLine> findSalesLines(@Param("orderIds") Collection<Long> orderIds);
 }
@@ -1,12 +1,19 @@
 package com.example.adapters.outbound.persistence;
 
+import com.example.domain.model.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface SpringDataProductRepository extends JpaRepository<ProductEntity, Long> {
     Optional<ProductEntity> findBySku(String sku);
     boolean existsBySku(String sku);
+
+    @Query("select new com.example.domain.model.Product(p.id, p.sku, p.name, p.description, p.price, " +
+            "p.stockQuantity, p.createdAt, p.updatedAt) from ProductEntity p")
+    List<Product> findAllProjected();
 }
@@ -0,0 +1,66 @@
+package com.example.adapters.outbound.readmodel;
+
+import com.example.application.port.out.ProductViewPort;
+import com.example.domain.model.ProductView;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+public class InMemoryProductViewAdapter implements ProductViewPort {
+
+    private volatile Views views = new Views(new ConcurrentSkipListMap<>(), new ConcurrentHashMap<>());
+
+    @Override
+    public Optional<ProductView> findById(Long id) {
+        return Optional.ofNullable(views.byId().get(id));
+    }
+
+    @Override
+    public Optional<ProductView> findBySku(String sku) {
+        Views current = views;
+        Long id = current.idBySku().get(sku);
+        return id != null ? Optional.ofNullable(current.byId().get(id)) : Optional.empty();
+    }
+
+    @Override
+    public List<ProductView> findAll() {
+        return List.copyOf(views.byId().values());
+    }
+
+    @Override
+    public void put(ProductView view) {
+        Views current = views;
+        current.byId().put(view.id(), view);
+        current.idBySku().put(view.sku(), view.id());
+    }
+
+    @Override
+    public void applyStockDeltas(Map<Long, Integer> quantityDeltas, LocalDateTime changedAt) {
+        ConcurrentNavigableMap<Long, ProductView> byId = views.byId();
+        quantityDeltas.forEach((productId, delta) ->
+                byId.computeIfPresent(productId, (id, view) -> view.withStockDelta(delta, changedAt)));
+    }
+
+    @Override
+    public void replaceAll(Collection<ProductView> replacement) {
+        ConcurrentNavigableMap<Long, ProductView> byId = new ConcurrentSkipListMap<>();
+        ConcurrentMap<String, Long> idBySku = new ConcurrentHashMap<>(Math.max(16, replacement.size() * 2));
+        for (ProductView view : replacement) {
+            byId.put(view.id(), view);
+            idBySku.put(view.sku(), view.id());
+        }
+        views = new Views(byId, idBySku);
+    }
+
+    private record Views(ConcurrentNavigableMap<Long, ProductView> byId, ConcurrentMap<String, Long> idBySku) {
+    }
+}
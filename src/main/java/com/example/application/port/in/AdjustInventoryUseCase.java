@@ -0,0 +1,8 @@
+package com.example.application.port.in;
+
+import com.example.application.port.in.command.AdjustInventoryCommand;
+import com.example.domain.model.InventoryLevel;
+
+public interface AdjustInventoryUseCase {
+    InventoryLevel execute(AdjustInventoryCommand command);
+}
@@ -0,0 +1,8 @@
+package com.example.application.port.in;
+
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.domain.model.OrderArchiveRun;
+
+public interface ArchiveOrdersUseCase {
+    OrderArchiveRun execute(ArchiveOrdersCommand command);
+}
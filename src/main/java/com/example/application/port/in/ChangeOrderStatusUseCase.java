@@ -0,0 +1,10 @@
+package com.example.application.port.in;
+
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
+import com.example.domain.model.OrderStatusTransition;
+
+import java.util.List;
+
+public interface ChangeOrderStatusUseCase {
+    List<OrderStatusTransition> execute(ChangeOrderStatusCommand command);
+}
@@ -0,0 +1,12 @@
+package com.example.application.port.in;
+
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.domain.model.CustomerMetricsProgress;
+import com.example.domain.model.CustomerMetricsRun;
+
+import java.util.Optional;
+
+public interface ComputeCustomerMetricsUseCase {
+    CustomerMetricsRun execute(ComputeCustomerMetricsCommand command);
+    Optional<CustomerMetricsProgress> progress();
+}
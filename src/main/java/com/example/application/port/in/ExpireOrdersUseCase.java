@@ -0,0 +1,10 @@
+package com.example.application.port.in;
+
+import com.example.application.port.in.command.ExpireOrdersCommand;
+import com.example.domain.model.OrderStatusTransition;
+
+import java.util.List;
+
+public interface ExpireOrdersUseCase {
+    List<OrderStatusTransition> execute(ExpireOrdersCommand command);
+}
@@ -0,0 +1,8 @@
+package com.example.application.port.in;
+
+import com.example.application.port.in.command.ExportOrdersCommand;
+import com.example.domain.model.OrderSnapshotExport;
+
+public interface ExportOrdersUseCase {
+    OrderSnapshotExport execute(ExportOrdersCommand command);
+}
@@ -0,0 +1,9 @@
+package com.example.application.port.in;
+
+import com.example.domain.model.CustomerMetrics;
+
+import java.util.Optional;
+
+public interface GetCustomerMetricsUseCase {
+    Optional<CustomerMetrics> findByCustomerId(Long customerId);
+}
@@ -0,0 +1,11 @@
+package com.example.application.port.in;
+
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryLevel;
+
+import java.util.List;
+
+public interface GetInventoryUseCase {
+    InventoryLevel level(Long productId);
+    List<InventoryEntry> entries(Long productId, int limit);
+}
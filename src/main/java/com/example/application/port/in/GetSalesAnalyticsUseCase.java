@@ -0,0 +1,17 @@
+package com.example.application.port.in;
+
+import com.example.domain.model.CustomerDailySales;
+import com.example.domain.model.DailySales;
+import com.example.domain.model.ProductDailySales;
+import com.example.domain.model.ProductSales;
+import com.example.domain.model.SalesMetric;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface GetSalesAnalyticsUseCase {
+    List<DailySales> dailySales(LocalDate from, LocalDate to);
+    List<ProductDailySales> productSales(Long productId, LocalDate from, LocalDate to);
+    List<CustomerDailySales> customerSales(Long customerId, LocalDate from, LocalDate to);
+    List<ProductSales> topProducts(LocalDate from, LocalDate to, int limit, SalesMetric metric);
+}
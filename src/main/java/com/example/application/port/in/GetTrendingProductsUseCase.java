@@ -0,0 +1,10 @@
+package com.example.application.port.in;
+
+import com.example.domain.model.TrendingProduct;
+import com.example.domain.model.TrendingWindow;
+
+import java.util.List;
+
+public interface GetTrendingProductsUseCase {
+    List<TrendingProduct> trendingProducts(TrendingWindow window, int limit);
+}
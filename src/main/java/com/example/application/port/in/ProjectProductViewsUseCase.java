@@ -0,0 +1,13 @@
+package com.example.application.port.in;
+
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.ProductCreated;
+import com.example.domain.event.ProductStockChanged;
+
+public interface ProjectProductViewsUseCase {
+    void projectCreated(ProductCreated event);
+    void projectPlaced(OrderPlaced event);
+    void projectStockChanged(ProductStockChanged event);
+    void holdRebuild();
+    void releaseRebuild();
+}
@@ -0,0 +1,7 @@
+package com.example.application.port.in;
+
+import com.example.domain.model.ProductViewRebuild;
+
+public interface RebuildProductViewsUseCase {
+    ProductViewRebuild execute();
+}
@@ -0,0 +1,9 @@
+package com.example.application.port.in;
+
+import com.example.application.port.in.command.RebuildSalesRollupsCommand;
+import com.example.domain.model.SalesRollupRebuild;
+
+public interface RebuildSalesRollupsUseCase {
+    SalesRollupRebuild execute(RebuildSalesRollupsCommand command);
+    void restore();
+}
@@ -0,0 +1,15 @@
+package com.example.application.port.in;
+
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.model.SalesLine;
+
+import java.util.List;
+
+public interface RecordSalesUseCase {
+    void persistPlaced(OrderPlaced event);
+    List<SalesLine> persistCancelled(List<Long> orderIds);
+    void recordPlaced(OrderPlaced event);
+    void recordCancelled(List<SalesLine> lines);
+    void holdRebuild();
+    void releaseRebuild();
+}
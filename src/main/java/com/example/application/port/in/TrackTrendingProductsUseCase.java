@@ -0,0 +1,7 @@
+package com.example.application.port.in;
+
+import com.example.domain.event.OrderPlaced;
+
+public interface TrackTrendingProductsUseCase {
+    void recordPlaced(OrderPlaced event);
+}
@@ -0,0 +1,10 @@
+package com.example.application.port.in.command;
+
+import com.example.domain.model.InventoryEntryType;
+
+public record AdjustInventoryCommand(
+        Long productId,
+        InventoryEntryType type,
+        Integer quantity
+) {
+}
@@ -0,0 +1,9 @@
+package com.example.application.port.in.command;
+
+import java.time.LocalDate;
+
+public record ArchiveOrdersCommand(
+        LocalDate placedBefore,
+        Integer batchSize
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.application.port.in.command;
+
+import java.util.List;
+
+public record CancelOrdersCommand(
+        List<Long> orderIds
+) {
+}
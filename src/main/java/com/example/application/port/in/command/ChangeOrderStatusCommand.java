@@ -0,0 +1,11 @@
+package com.example.application.port.in.command;
+
+import com.example.domain.model.OrderStatus;
+
+import java.util.List;
+
+public record ChangeOrderStatusCommand(
+        List<Long> orderIds,
+        OrderStatus targetStatus
+) {
+}
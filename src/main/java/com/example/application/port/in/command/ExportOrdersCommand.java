@@ -0,0 +1,10 @@
+package com.example.application.port.in.command;
+
+import java.time.LocalDate;
+
+public record ExportOrdersCommand(
+        LocalDate from,
+        LocalDate to,
+        Integer parallelism
+) {
+}
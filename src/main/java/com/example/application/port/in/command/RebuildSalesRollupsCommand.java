@@ -0,0 +1,6 @@
+package com.example.application.port.in.command;
+
+public record RebuildSalesRollupsCommand(
+        Integer parallelism
+) {
+}
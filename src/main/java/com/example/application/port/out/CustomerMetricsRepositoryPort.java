@@ -0,0 +1,13 @@
+package com.example.application.port.out;
+
+import com.example.domain.model.CustomerMetrics;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface CustomerMetricsRepositoryPort {
+    void upsert(Collection<CustomerMetrics> metrics);
+    int deleteComputedBefore(LocalDateTime computedAt);
+    Optional<CustomerMetrics> findByCustomerId(Long customerId);
+}
@@ -0,0 +1,7 @@
+package com.example.application.port.out;
+
+import com.example.domain.event.DomainEvent;
+
+public interface DomainEventPublisherPort {
+    void publish(DomainEvent event);
+}
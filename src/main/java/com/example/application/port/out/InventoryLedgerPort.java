@@ -0,0 +1,15 @@
+package com.example.application.port.out;
+
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryLevel;
+
+import java.util.List;
+
+public interface InventoryLedgerPort {
+    void append(List<InventoryEntry> entries);
+    InventoryLevel findLevel(Long productId);
+    List<InventoryEntry> findLatestEntries(Long productId, int limit);
+    long settledEntryId();
+    long snapshotWatermark();
+    int snapshot(long afterEntryId, long upToEntryId);
+}
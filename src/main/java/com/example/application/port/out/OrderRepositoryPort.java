@@ -1,9 +1,18 @@
 package com.example.application.port.out;
 
 import com.example.domain.model.Order;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.SalesLine;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 public interface OrderRepositoryPort {
     Order save(Order order);
@@ -11,4 +20,17 @@ public interface OrderRepositoryPort {
     List<Order> findByCustomerId(Long customerId);
     List<Order> findAll();
     void deleteById(Long id);
+    Map<Long, OrderStatus> lockStatuses(Collection<Long> orderIds);
+    int updateStatus(Collection<Long> orderIds, Set<OrderStatus> expectedStatuses, OrderStatus targetStatus);
+    void forEachPendingOrder(BiConsumer<Long, LocalDateTime> consumer);
+    List<SalesLine> findSalesLines(Collection<Long> orderIds);
+    void forEachSalesLine(long fromOrderId, long toOrderId, Consumer<SalesLine> consumer);
+    long maxOrderId();
+    void forEachOrderByCustomer(CustomerOrderConsumer consumer);
+    int archiveOrders(LocalDateTime placedBefore, Set<OrderStatus> statuses, int limit);
+
+    @FunctionalInterface
+    interface CustomerOrderConsumer {
+        void accept(long customerId, LocalDateTime placedAt, BigDecimal totalAmount);
+    }
 }
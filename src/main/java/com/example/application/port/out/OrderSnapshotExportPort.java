@@ -0,0 +1,10 @@
+package com.example.application.port.out;
+
+import com.example.domain.model.ExportedPartition;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface OrderSnapshotExportPort {
+    List<ExportedPartition> exportDay(LocalDate day);
+}
@@ -3,6 +3,7 @@ package com.example.application.port.out;
 import com.example.domain.model.Product;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductRepositoryPort {
@@ -12,4 +13,7 @@ public interface ProductRepositoryPort {
     List<Product> findAll();
     void deleteById(Long id);
     boolean existsBySku(String sku);
+    void increaseStock(Map<Long, Integer> quantitiesByProductId);
+    List<Long> decreaseStock(Map<Long, Integer> quantitiesByProductId);
+    boolean adjustStock(Long productId, int quantity);
 }
@@ -0,0 +1,18 @@
+package com.example.application.port.out;
+
+import com.example.domain.model.ProductView;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ProductViewPort {
+    Optional<ProductView> findById(Long id);
+    Optional<ProductView> findBySku(String sku);
+    List<ProductView> findAll();
+    void put(ProductView view);
+    void applyStockDeltas(Map<Long, Integer> quantityDeltas, LocalDateTime changedAt);
+    void replaceAll(Collection<ProductView> views);
+}
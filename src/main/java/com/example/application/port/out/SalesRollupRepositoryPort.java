@@ -0,0 +1,14 @@
+package com.example.application.port.out;
+
+import com.example.domain.model.CustomerDailySales;
+import com.example.domain.model.ProductDailySales;
+
+import java.util.Collection;
+import java.util.function.Consumer;
+
+public interface SalesRollupRepositoryPort {
+    void merge(Collection<ProductDailySales> productDeltas, Collection<CustomerDailySales> customerDeltas);
+    void replaceAll(Collection<ProductDailySales> productSales, Collection<CustomerDailySales> customerSales);
+    void forEachProductDailySales(Consumer<ProductDailySales> consumer);
+    void forEachCustomerDailySales(Consumer<CustomerDailySales> consumer);
+}
@@ -0,0 +1,58 @@
+package com.example.application.service;
+
+import java.util.Arrays;
+
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final int[] counters;
+
+    CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("Sketch depth must be positive and width a power of two");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.counters = new int[depth * width];
+    }
+
+    void add(long item, int count) {
+        long hash = mix(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + ((h1 + row * h2) & mask)] += count;
+        }
+    }
+
+    int estimate(long item) {
+        long hash = mix(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + ((h1 + row * h2) & mask)]);
+        }
+        return estimate;
+    }
+
+    void subtract(CountMinSketch other) {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] -= other.counters[i];
+        }
+    }
+
+    void clear() {
+        Arrays.fill(counters, 0);
+    }
+
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.application.service;
+
+import com.example.application.port.in.ComputeCustomerMetricsUseCase;
+import com.example.application.port.in.GetCustomerMetricsUseCase;
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.application.port.out.CustomerMetricsRepositoryPort;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.domain.model.CustomerMetrics;
+import com.example.domain.model.CustomerMetricsProgress;
+import com.example.domain.model.CustomerMetricsRun;
+import com.example.domain.model.CustomerSegment;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Service
+public class CustomerMetricsService implements ComputeCustomerMetricsUseCase, GetCustomerMetricsUseCase {
+
+    static final int BATCH_SIZE = 5_000;
+    static final int PROGRESS_INTERVAL = 10_000;
+
+    private final OrderRepositoryPort orderRepository;
+    private final CustomerMetricsRepositoryPort customerMetricsRepository;
+    private final AtomicReference<Run> running = new AtomicReference<>();
+
+    public CustomerMetricsService(OrderRepositoryPort orderRepository,
+                                  CustomerMetricsRepositoryPort customerMetricsRepository) {
+        this.orderRepository = orderRepository;
+        this.customerMetricsRepository = customerMetricsRepository;
+    }
+
+    @Override
+    public Optional<CustomerMetrics> findByCustomerId(Long customerId) {
+        return customerMetricsRepository.findByCustomerId(customerId);
+    }
+
+    @Override
+    public Optional<CustomerMetricsProgress> progress() {
+        Run run = running.get();
+        return run == null ? Optional.empty() : Optional.of(run.snapshot());
+    }
+
+    @Override
+    public CustomerMetricsRun execute(ComputeCustomerMetricsCommand command) {
+        Integer requested = command.parallelism();
+        if (requested != null && requested <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        int parallelism = requested != null ? requested : Runtime.getRuntime().availableProcessors();
+        LocalDate asOf = command.asOf() != null ? command.asOf() : LocalDate.now();
+        LocalDateTime computedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        Run run = new Run();
+        if (!running.compareAndSet(null, run)) {
+            throw new IllegalStateException("Customer metrics computation is already running");
+        }
+        try {
+            long started = System.nanoTime();
+            CustomerOrderStats stats = scan(run);
+            long scanned = System.nanoTime();
+
+            run.phase = CustomerMetricsProgress.Phase.SCORING;
+            long[] recencyBreaks = stats.quintileBreaks(CustomerOrderStats.Column.LAST_ORDER_DAY);
+            long[] frequencyBreaks = stats.quintileBreaks(CustomerOrderStats.Column.ORDERS);
+            long[] monetaryBreaks = stats.quintileBreaks(CustomerOrderStats.Column.AVERAGE_ORDER_CENTS);
+            long scored = System.nanoTime();
+
+            run.phase = CustomerMetricsProgress.Phase.WRITING;
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                pool.invoke(new WriteTask(stats, 0, stats.size(), asOf, computedAt,
+                        recencyBreaks, frequencyBreaks, monetaryBreaks, run));
+            } finally {
+                pool.shutdownNow();
+            }
+            int staleRowsDeleted = customerMetricsRepository.deleteComputedBefore(computedAt);
+            long written = System.nanoTime();
+
+            return new CustomerMetricsRun(asOf, run.ordersScanned, stats.size(), staleRowsDeleted, parallelism,
+                    Duration.ofNanos(scanned - started), Duration.ofNanos(scored - scanned),
+                    Duration.ofNanos(written - scored));
+        } finally {
+            running.set(null);
+        }
+    }
+
+    private CustomerOrderStats scan(Run run) {
+        CustomerOrderStats stats = new CustomerOrderStats();
+        long[] scanned = new long[1];
+        orderRepository.forEachOrderByCustomer((customerId, placedAt, totalAmount) -> {
+            stats.add(customerId, (int) placedAt.toLocalDate().toEpochDay(),
+                    totalAmount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+            if (++scanned[0] % PROGRESS_INTERVAL == 0) {
+                run.ordersScanned = scanned[0];
+                run.customers = stats.size();
+            }
+        });
+        run.ordersScanned = scanned[0];
+        run.customers = stats.size();
+        return stats;
+    }
+
+    private final class WriteTask extends RecursiveAction {
+
+        private final CustomerOrderStats stats;
+        private final int from;
+        private final int to;
+        private final LocalDate asOf;
+        private final LocalDateTime computedAt;
+        private final long[] recencyBreaks;
+        private final long[] frequencyBreaks;
+        private final long[] monetaryBreaks;
+        private final Run run;
+
+        private WriteTask(CustomerOrderStats stats, int from, int to, LocalDate asOf, LocalDateTime computedAt,
+                          long[] recencyBreaks, long[] frequencyBreaks, long[] monetaryBreaks, Run run) {
+            this.stats = stats;
+            this.from = from;
+            this.to = to;
+            this.asOf = asOf;
+            this.computedAt = computedAt;
+            this.recencyBreaks = recencyBreaks;
+            this.frequencyBreaks = frequencyBreaks;
+            this.monetaryBreaks = monetaryBreaks;
+            this.run = run;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > BATCH_SIZE) {
+                int middle = from + (to - from) / 2;
+                invokeAll(split(from, middle), split(middle, to));
+                return;
+            }
+            List<CustomerMetrics> batch = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                batch.add(metrics(i));
+            }
+            customerMetricsRepository.upsert(batch);
+            run.customersWritten.addAndGet(batch.size());
+        }
+
+        private WriteTask split(int splitFrom, int splitTo) {
+            return new WriteTask(stats, splitFrom, splitTo, asOf, computedAt,
+                    recencyBreaks, frequencyBreaks, monetaryBreaks, run);
+        }
+
+        private CustomerMetrics metrics(int index) {
+            long orders = stats.orders(index);
+            int recencyScore = CustomerOrderStats.score(stats.lastOrderDay(index), recencyBreaks);
+            int frequencyScore = CustomerOrderStats.score(orders, frequencyBreaks);
+            int monetaryScore = CustomerOrderStats.score(stats.averageOrderCents(index), monetaryBreaks);
+            BigDecimal lifetimeValue = BigDecimal.valueOf(stats.spentCents(index), 2);
+            return new CustomerMetrics(
+                    stats.customerId(index),
+                    LocalDate.ofEpochDay(stats.firstOrderDay(index)),
+                    LocalDate.ofEpochDay(stats.lastOrderDay(index)),
+                    (int) Math.max(0, asOf.toEpochDay() - stats.lastOrderDay(index)),
+                    orders,
+                    lifetimeValue.divide(BigDecimal.valueOf(orders), 2, RoundingMode.HALF_UP),
+                    lifetimeValue,
+                    recencyScore,
+                    frequencyScore,
+                    monetaryScore,
+                    CustomerSegment.of(recencyScore, frequencyScore, monetaryScore, orders),
+                    computedAt
+            );
+        }
+    }
+
+    private static final class Run {
+        private final long started = System.nanoTime();
+        private final AtomicLong customersWritten = new AtomicLong();
+        private volatile CustomerMetricsProgress.Phase phase = CustomerMetricsProgress.Phase.SCANNING;
+        private volatile long ordersScanned;
+        private volatile long customers;
+
+        private CustomerMetricsProgress snapshot() {
+            return new CustomerMetricsProgress(phase, ordersScanned, customers, customersWritten.get(),
+                    Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+}
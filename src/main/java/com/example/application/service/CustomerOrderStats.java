@@ -0,0 +1,109 @@
+package com.example.application.service;
+
+import java.util.Arrays;
+
+final class CustomerOrderStats {
+
+    private static final int INITIAL_CAPACITY = 1_024;
+
+    private long[] customerIds = new long[INITIAL_CAPACITY];
+    private int[] firstOrderDays = new int[INITIAL_CAPACITY];
+    private int[] lastOrderDays = new int[INITIAL_CAPACITY];
+    private long[] orders = new long[INITIAL_CAPACITY];
+    private long[] spentCents = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long customerId, int orderDay, long amountCents) {
+        if (size > 0 && customerIds[size - 1] == customerId) {
+            int last = size - 1;
+            firstOrderDays[last] = Math.min(firstOrderDays[last], orderDay);
+            lastOrderDays[last] = Math.max(lastOrderDays[last], orderDay);
+            orders[last]++;
+            spentCents[last] += amountCents;
+            return;
+        }
+        if (size > 0 && customerId < customerIds[size - 1]) {
+            throw new IllegalStateException("Orders must be streamed in ascending customer order");
+        }
+        if (size == customerIds.length) {
+            grow();
+        }
+        customerIds[size] = customerId;
+        firstOrderDays[size] = orderDay;
+        lastOrderDays[size] = orderDay;
+        orders[size] = 1;
+        spentCents[size] = amountCents;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    long customerId(int index) {
+        return customerIds[index];
+    }
+
+    int firstOrderDay(int index) {
+        return firstOrderDays[index];
+    }
+
+    int lastOrderDay(int index) {
+        return lastOrderDays[index];
+    }
+
+    long orders(int index) {
+        return orders[index];
+    }
+
+    long spentCents(int index) {
+        return spentCents[index];
+    }
+
+    long averageOrderCents(int index) {
+        return spentCents[index] / orders[index];
+    }
+
+    long[] quintileBreaks(Column column) {
+        long[] values = new long[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = switch (column) {
+                case LAST_ORDER_DAY -> lastOrderDays[i];
+                case ORDERS -> orders[i];
+                case AVERAGE_ORDER_CENTS -> averageOrderCents(i);
+            };
+        }
+        Arrays.parallelSort(values);
+        long[] breaks = new long[4];
+        for (int k = 0; k < breaks.length; k++) {
+            int rank = (int) Math.max(1, ((long) size * (k + 1) + 4) / 5);
+            breaks[k] = size == 0 ? 0 : values[rank - 1];
+        }
+        return breaks;
+    }
+
+    static int score(long value, long[] breaks) {
+        int score = 1;
+        for (long limit : breaks) {
+            if (value > limit) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    private void grow() {
+        int capacity = customerIds.length * 2;
+        customerIds = Arrays.copyOf(customerIds, capacity);
+        firstOrderDays = Arrays.copyOf(firstOrderDays, capacity);
+        lastOrderDays = Arrays.copyOf(lastOrderDays, capacity);
+        orders = Arrays.copyOf(orders, capacity);
+        spentCents = Arrays.copyOf(spentCents, capacity);
+    }
+
+    enum Column {
+        LAST_ORDER_DAY,
+        ORDERS,
+        AVERAGE_ORDER_CENTS
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.application.service;
+
+import com.example.application.port.in.AdjustInventoryUseCase;
+import com.example.application.port.in.GetInventoryUseCase;
+import com.example.application.port.in.SnapshotInventoryUseCase;
+import com.example.application.port.in.command.AdjustInventoryCommand;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.domain.event.ProductStockChanged;
+import com.example.domain.exception.InsufficientStockException;
+import com.example.domain.exception.ProductNotFoundException;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.InventoryLevel;
+import com.example.domain.model.InventorySnapshotRun;
+import com.example.domain.model.Product;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class InventoryService implements GetInventoryUseCase, AdjustInventoryUseCase, SnapshotInventoryUseCase {
+
+    static final int MAX_ENTRIES_LIMIT = 500;
+
+    private final ProductRepositoryPort productRepository;
+    private final InventoryLedgerPort inventoryLedger;
+    private final DomainEventPublisherPort eventPublisher;
+
+    public InventoryService(ProductRepositoryPort productRepository,
+                            InventoryLedgerPort inventoryLedger,
+                            DomainEventPublisherPort eventPublisher) {
+        this.productRepository = productRepository;
+        this.inventoryLedger = inventoryLedger;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public InventoryLevel level(Long productId) {
+        requireProduct(productId);
+        return inventoryLedger.findLevel(productId);
+    }
+
+    @Override
+    public List<InventoryEntry> entries(Long productId, int limit) {
+        if (limit <= 0 || limit > MAX_ENTRIES_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_ENTRIES_LIMIT);
+        }
+        requireProduct(productId);
+        return inventoryLedger.findLatestEntries(productId, limit);
+    }
+
+    @Override
+    @Transactional
+    public InventoryLevel execute(AdjustInventoryCommand command) {
+        InventoryEntry entry = toEntry(command);
+        if (!productRepository.adjustStock(entry.productId(), entry.quantityDelta())) {
+            Product product = requireProduct(entry.productId());
+            throw new InsufficientStockException(product.getName(), -entry.quantityDelta(), product.getStockQuantity());
+        }
+        inventoryLedger.append(List.of(entry));
+        eventPublisher.publish(new ProductStockChanged(Map.of(entry.productId(), entry.quantityDelta()),
+                entry.recordedAt()));
+        return level(entry.productId());
+    }
+
+    @Override
+    public synchronized InventorySnapshotRun execute() {
+        long started = System.nanoTime();
+        long from = inventoryLedger.snapshotWatermark();
+        long to = inventoryLedger.settledEntryId();
+        int products = to > from ? inventoryLedger.snapshot(from, to) : 0;
+        return new InventorySnapshotRun(from, Math.max(from, to), products,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+
+    private InventoryEntry toEntry(AdjustInventoryCommand command) {
+        if (command.productId() == null) {
+            throw new IllegalArgumentException("Product ID cannot be null");
+        }
+        if (command.quantity() == null) {
+            throw new IllegalArgumentException("Quantity cannot be null");
+        }
+        if (command.type() == InventoryEntryType.RECEIPT) {
+            if (command.quantity() <= 0) {
+                throw new IllegalArgumentException("Received quantity must be positive");
+            }
+            return InventoryEntry.receipt(command.productId(), command.quantity(), LocalDateTime.now());
+        }
+        if (command.type() == InventoryEntryType.ADJUSTMENT) {
+            if (command.quantity() == 0) {
+                throw new IllegalArgumentException("Adjustment cannot be zero");
+            }
+            return InventoryEntry.adjustment(command.productId(), command.quantity(), LocalDateTime.now());
+        }
+        throw new IllegalArgumentException("Stock can only be received or adjusted, not recorded as " + command.type());
+    }
+
+    private Product requireProduct(Long productId) {
+        return productRepository.findById(productId).orElseThrow(() -> new ProductNotFoundException(productId));
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.application.service;
+
+import com.example.application.port.in.ArchiveOrdersUseCase;
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.domain.model.OrderArchiveRun;
+import com.example.domain.model.OrderStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Service
+public class OrderArchivalService implements ArchiveOrdersUseCase {
+
+    static final Set<OrderStatus> ARCHIVABLE_STATUSES = EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED);
+    static final int DEFAULT_BATCH_SIZE = 1_000;
+    static final int MAX_BATCH_SIZE = 10_000;
+
+    private final OrderRepositoryPort orderRepository;
+    private final Object archiving = new Object();
+
+    public OrderArchivalService(OrderRepositoryPort orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+
+    @Override
+    public OrderArchiveRun execute(ArchiveOrdersCommand command) {
+        LocalDate placedBefore = command.placedBefore();
+        if (placedBefore == null) {
+            throw new IllegalArgumentException("Archive cut-off date is required");
+        }
+        Integer requested = command.batchSize();
+        if (requested != null && (requested <= 0 || requested > MAX_BATCH_SIZE)) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        int batchSize = requested != null ? requested : DEFAULT_BATCH_SIZE;
+
+        synchronized (archiving) {
+            long started = System.nanoTime();
+            long archived = 0;
+            int batches = 0;
+            int moved;
+            do {
+                moved = orderRepository.archiveOrders(placedBefore.atStartOfDay(), ARCHIVABLE_STATUSES, batchSize);
+                archived += moved;
+                if (moved > 0) {
+                    batches++;
+                }
+            } while (moved == batchSize);
+            return new OrderArchiveRun(placedBefore, archived, batches, Duration.ofNanos(System.nanoTime() - started));
+        }
+    }
+}
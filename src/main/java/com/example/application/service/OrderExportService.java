@@ -0,0 +1,83 @@
+package com.example.application.service;
+
+import com.example.application.port.in.ExportOrdersUseCase;
+import com.example.application.port.in.command.ExportOrdersCommand;
+import com.example.application.port.out.OrderSnapshotExportPort;
+import com.example.domain.model.ExportedPartition;
+import com.example.domain.model.OrderSnapshotExport;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Service
+public class OrderExportService implements ExportOrdersUseCase {
+
+    static final int MAX_RANGE_DAYS = 366;
+
+    private final OrderSnapshotExportPort orderSnapshotExport;
+    private final Object exporting = new Object();
+
+    public OrderExportService(OrderSnapshotExportPort orderSnapshotExport) {
+        this.orderSnapshotExport = orderSnapshotExport;
+    }
+
+    @Override
+    public OrderSnapshotExport execute(ExportOrdersCommand command) {
+        LocalDate from = command.from();
+        LocalDate to = command.to();
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+        Integer requested = command.parallelism();
+        if (requested != null && requested <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        int parallelism = requested != null ? requested : Runtime.getRuntime().availableProcessors();
+
+        synchronized (exporting) {
+            return export(from, to, parallelism);
+        }
+    }
+
+    private OrderSnapshotExport export(LocalDate from, LocalDate to, int parallelism) {
+        long started = System.nanoTime();
+        List<Callable<List<ExportedPartition>>> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            LocalDate partition = day;
+            days.add(() -> orderSnapshotExport.exportDay(partition));
+        }
+
+        List<ExportedPartition> exported = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, days.size()));
+        try {
+            for (Future<List<ExportedPartition>> day : executor.invokeAll(days)) {
+                exported.addAll(day.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Order export was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Order export failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new OrderSnapshotExport(from, to, exported, parallelism,
+                Duration.ofNanos(System.nanoTime() - started));
+    }
+}
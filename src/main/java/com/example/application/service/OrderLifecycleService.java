@@ -0,0 +1,151 @@
+package com.example.application.service;
+
+import com.example.application.port.in.CancelOrdersUseCase;
+import com.example.application.port.in.ChangeOrderStatusUseCase;
+import com.example.application.port.in.ExpireOrdersUseCase;
+import com.example.application.port.in.command.CancelOrdersCommand;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
+import com.example.application.port.in.command.ExpireOrdersCommand;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.domain.event.OrderStatusChanged;
+import com.example.domain.event.ProductStockChanged;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.OrderStatusTransition;
+import com.example.domain.model.SalesLine;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+public class OrderLifecycleService implements ChangeOrderStatusUseCase, CancelOrdersUseCase, ExpireOrdersUseCase {
+
+    static final int CHUNK_SIZE = 1_000;
+
+    private final OrderRepositoryPort orderRepository;
+    private final ProductRepositoryPort productRepository;
+    private final InventoryLedgerPort inventoryLedger;
+    private final DomainEventPublisherPort eventPublisher;
+
+    public OrderLifecycleService(OrderRepositoryPort orderRepository,
+                                 ProductRepositoryPort productRepository,
+                                 InventoryLedgerPort inventoryLedger,
+                                 DomainEventPublisherPort eventPublisher) {
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.inventoryLedger = inventoryLedger;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public List<OrderStatusTransition> execute(ChangeOrderStatusCommand command) {
+        validateCommand(command);
+        return transition(command.orderIds(), command.targetStatus(), command.targetStatus().allowedSources());
+    }
+
+    @Override
+    @Transactional
+    public List<OrderStatusTransition> execute(CancelOrdersCommand command) {
+        validateOrderIds(command.orderIds());
+        return transition(command.orderIds(), OrderStatus.CANCELLED, OrderStatus.CANCELLED.allowedSources());
+    }
+
+    @Override
+    @Transactional
+    public List<OrderStatusTransition> execute(ExpireOrdersCommand command) {
+        validateOrderIds(command.orderIds());
+        return transition(command.orderIds(), OrderStatus.CANCELLED, EnumSet.of(OrderStatus.PENDING));
+    }
+
+    private List<OrderStatusTransition> transition(List<Long> requestedIds, OrderStatus target,
+                                                   Set<OrderStatus> sources) {
+        boolean restock = target == OrderStatus.CANCELLED;
+        List<Long> orderIds = new ArrayList<>(new LinkedHashSet<>(requestedIds));
+        List<OrderStatusTransition> transitions = new ArrayList<>(orderIds.size());
+        Map<Long, Integer> restockedQuantities = new HashMap<>();
+        List<SalesLine> restockedLines = new ArrayList<>();
+        List<Long> transitioned = new ArrayList<>();
+
+        for (int from = 0; from < orderIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + CHUNK_SIZE, orderIds.size()));
+            Map<Long, OrderStatus> current = orderRepository.lockStatuses(chunk);
+            List<Long> eligible = new ArrayList<>(chunk.size());
+
+            for (Long orderId : chunk) {
+                OrderStatus status = current.get(orderId);
+                if (status == null) {
+                    transitions.add(OrderStatusTransition.notFound(orderId));
+                } else if (status == target) {
+                    transitions.add(OrderStatusTransition.unchanged(orderId, status));
+                } else if (sources.contains(status)) {
+                    eligible.add(orderId);
+                    transitions.add(OrderStatusTransition.transitioned(orderId, target));
+                } else {
+                    transitions.add(OrderStatusTransition.rejected(orderId, status));
+                }
+            }
+
+            if (!eligible.isEmpty()) {
+                int updated = orderRepository.updateStatus(eligible, sources, target);
+                if (updated != eligible.size()) {
+                    throw new IllegalStateException("Expected to move " + eligible.size() + " orders to " + target
+                            + " but " + updated + " were updated");
+                }
+                transitioned.addAll(eligible);
+                if (restock) {
+                    for (SalesLine line : orderRepository.findSalesLines(eligible)) {
+                        restockedQuantities.merge(line.productId(), line.quantity(), Integer::sum);
+                        restockedLines.add(line);
+                    }
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (!restockedQuantities.isEmpty()) {
+            productRepository.increaseStock(restockedQuantities);
+            List<InventoryEntry> cancellations = new ArrayList<>(restockedLines.size());
+            for (SalesLine line : restockedLines) {
+                cancellations.add(InventoryEntry.cancellation(line.productId(), line.quantity(), line.orderId(), now));
+            }
+            inventoryLedger.append(cancellations);
+            eventPublisher.publish(new ProductStockChanged(restockedQuantities, now));
+        }
+        if (!transitioned.isEmpty()) {
+            eventPublisher.publish(new OrderStatusChanged(target, transitioned, now));
+        }
+        return transitions;
+    }
+
+    private void validateCommand(ChangeOrderStatusCommand command) {
+        if (command.targetStatus() == null) {
+            throw new IllegalArgumentException("Target status cannot be null");
+        }
+        if (command.targetStatus().allowedSources().isEmpty()) {
+            throw new IllegalArgumentException("Orders cannot be moved to " + command.targetStatus());
+        }
+        validateOrderIds(command.orderIds());
+    }
+
+    private void validateOrderIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one order ID is required");
+        }
+        if (orderIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Order ID cannot be null");
+        }
+    }
+}
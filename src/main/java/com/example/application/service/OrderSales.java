@@ -0,0 +1,42 @@
+package com.example.application.service;
+
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.model.SalesLine;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+record OrderSales(Long orderId, Long customerId, LocalDate day, int sign, List<Line> lines) {
+
+    record Line(Long productId, int quantity, BigDecimal subtotal) {
+    }
+
+    static OrderSales placed(OrderPlaced event) {
+        List<Line> lines = new ArrayList<>(event.lines().size());
+        for (OrderPlaced.Line line : event.lines()) {
+            lines.add(new Line(line.productId(), line.quantity(), line.subtotal()));
+        }
+        return new OrderSales(event.orderId(), event.customerId(), event.placedAt().toLocalDate(), 1, lines);
+    }
+
+    static List<OrderSales> cancelled(List<SalesLine> salesLines) {
+        Map<Long, List<SalesLine>> byOrder = new LinkedHashMap<>();
+        for (SalesLine line : salesLines) {
+            byOrder.computeIfAbsent(line.orderId(), id -> new ArrayList<>()).add(line);
+        }
+        List<OrderSales> cancelled = new ArrayList<>(byOrder.size());
+        byOrder.forEach((orderId, orderLines) -> {
+            SalesLine first = orderLines.get(0);
+            List<Line> lines = new ArrayList<>(orderLines.size());
+            for (SalesLine line : orderLines) {
+                lines.add(new Line(line.productId(), line.quantity(), line.subtotal()));
+            }
+            cancelled.add(new OrderSales(orderId, first.customerId(), first.placedAt().toLocalDate(), -1, lines));
+        });
+        return cancelled;
+    }
+}
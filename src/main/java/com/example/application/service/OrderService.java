@@ -4,31 +4,46 @@ import com.example.application.port.in.command.CreateOrderCommand;
 import com.example.application.port.in.CreateOrderUseCase;
 import com.example.application.port.in.command.OrderItemCommand;
 import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
 import com.example.application.port.out.OrderRepositoryPort;
 import com.example.application.port.out.ProductRepositoryPort;
+import com.example.domain.event.OrderPlaced;
 import com.example.domain.exception.CustomerNotFoundException;
 import com.example.domain.exception.InsufficientStockException;
 import com.example.domain.exception.ProductNotFoundException;
 import com.example.domain.model.Customer;
+import com.example.domain.model.InventoryEntry;
 import com.example.domain.model.Order;
 import com.example.domain.model.OrderItem;
 import com.example.domain.model.Product;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class OrderService implements CreateOrderUseCase {
 
     private final OrderRepositoryPort orderRepository;
     private final CustomerRepositoryPort customerRepository;
     private final ProductRepositoryPort productRepository;
+    private final InventoryLedgerPort inventoryLedger;
+    private final DomainEventPublisherPort eventPublisher;
 
     public OrderService(OrderRepositoryPort orderRepository,
                         CustomerRepositoryPort customerRepository,
-                        ProductRepositoryPort productRepository) {
+                        ProductRepositoryPort productRepository,
+                        InventoryLedgerPort inventoryLedger,
+                        DomainEventPublisherPort eventPublisher) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.productRepository = productRepository;
+        this.inventoryLedger = inventoryLedger;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -40,22 +55,21 @@ public class OrderService implements CreateOrderUseCase {
                 .orElseThrow(() -> new CustomerNotFoundException(command.customerId()));
 
         Order order = new Order(null, customer.getId());
+        Map<Long, Integer> quantitiesByProductId = new HashMap<>();
 
         for (OrderItemCommand itemRequest : command.items()) {
             Product product = productRepository.findById(itemRequest.productId())
                     .orElseThrow(() -> new ProductNotFoundException(itemRequest.productId()));
 
-            if (!product.isAvailable(itemRequest.quantity())) {
+            int requested = quantitiesByProductId.merge(product.getId(), itemRequest.quantity(), Integer::sum);
+            if (!product.isAvailable(requested)) {
                 throw new InsufficientStockException(
                         product.getName(),
-                        itemRequest.quantity(),
+                        requested,
                         product.getStockQuantity()
                 );
             }
 
-            product.reduceStock(itemRequest.quantity());
-            productRepository.save(product);
-
             OrderItem orderItem = new OrderItem(
                     null,
                     null,
@@ -68,7 +82,26 @@ public class OrderService implements CreateOrderUseCase {
             order.addItem(orderItem);
         }
 
-        return orderRepository.save(order);
+        List<Long> outOfStock = productRepository.decreaseStock(quantitiesByProductId);
+        if (!outOfStock.isEmpty()) {
+            Long productId = outOfStock.get(0);
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(() -> new ProductNotFoundException(productId));
+            throw new InsufficientStockException(
+                    product.getName(),
+                    quantitiesByProductId.get(productId),
+                    product.getStockQuantity()
+            );
+        }
+
+        Order saved = orderRepository.save(order);
+        List<InventoryEntry> sales = new ArrayList<>(saved.getItems().size());
+        for (OrderItem item : saved.getItems()) {
+            sales.add(InventoryEntry.sale(item.getProductId(), item.getQuantity(), saved.getId(), saved.getCreatedAt()));
+        }
+        inventoryLedger.append(sales);
+        eventPublisher.publish(OrderPlaced.of(saved));
+        return saved;
     }
 
     private void validateOrderCommand(CreateOrderCommand command) {
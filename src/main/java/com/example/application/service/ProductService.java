@@ -3,9 +3,16 @@ package com.example.application.service;
 import com.example.application.port.in.command.CreateProductCommand;
 import com.example.application.port.in.CreateProductUseCase;
 import com.example.application.port.in.GetProductUseCase;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
 import com.example.application.port.out.ProductRepositoryPort;
+import com.example.application.port.out.ProductViewPort;
+import com.example.domain.event.ProductCreated;
+import com.example.domain.model.InventoryEntry;
 import com.example.domain.model.Product;
+import com.example.domain.model.ProductView;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,12 +21,22 @@ import java.util.Optional;
 public class ProductService implements CreateProductUseCase, GetProductUseCase {
 
     private final ProductRepositoryPort productRepository;
+    private final InventoryLedgerPort inventoryLedger;
+    private final ProductViewPort productViews;
+    private final DomainEventPublisherPort eventPublisher;
 
-    public ProductService(ProductRepositoryPort productRepository) {
+    public ProductService(ProductRepositoryPort productRepository,
+                          InventoryLedgerPort inventoryLedger,
+                          ProductViewPort productViews,
+                          DomainEventPublisherPort eventPublisher) {
         this.productRepository = productRepository;
+        this.inventoryLedger = inventoryLedger;
+        this.productViews = productViews;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
+    @Transactional
     public Product execute(CreateProductCommand command) {
         validateProductCommand(command);
         
@@ -36,22 +53,28 @@ public class ProductService implements CreateProductUseCase, GetProductUseCase {
                 command.stockQuantity()
         );
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        if (saved.getStockQuantity() > 0) {
+            inventoryLedger.append(List.of(
+                    InventoryEntry.receipt(saved.getId(), saved.getStockQuantity(), saved.getCreatedAt())));
+        }
+        eventPublisher.publish(ProductCreated.of(saved));
+        return saved;
     }
 
     @Override
     public Optional<Product> findById(Long id) {
-        return productRepository.findById(id);
+        return productViews.findById(id).map(ProductView::toProduct);
     }
 
     @Override
     public Optional<Product> findBySku(String sku) {
-        return productRepository.findBySku(sku);
+        return productViews.findBySku(sku).map(ProductView::toProduct);
     }
 
     @Override
     public List<Product> findAll() {
-        return productRepository.findAll();
+        return productViews.findAll().stream().map(ProductView::toProduct).toList();
     }
 
     private void validateProductCommand(CreateProductCommand command) {
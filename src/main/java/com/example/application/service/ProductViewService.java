@@ -0,0 +1,75 @@
+package com.example.application.service;
+
+import com.example.application.port.in.ProjectProductViewsUseCase;
+import com.example.application.port.in.RebuildProductViewsUseCase;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.application.port.out.ProductViewPort;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.ProductCreated;
+import com.example.domain.event.ProductStockChanged;
+import com.example.domain.model.ProductView;
+import com.example.domain.model.ProductViewRebuild;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Service
+public class ProductViewService implements ProjectProductViewsUseCase, RebuildProductViewsUseCase {
+
+    private final ProductRepositoryPort productRepository;
+    private final ProductViewPort productViews;
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+
+    public ProductViewService(ProductRepositoryPort productRepository, ProductViewPort productViews) {
+        this.productRepository = productRepository;
+        this.productViews = productViews;
+    }
+
+    @Override
+    public void projectCreated(ProductCreated event) {
+        productViews.put(new ProductView(event.productId(), event.sku(), event.name(), event.description(),
+                event.price(), event.stockQuantity(), event.createdAt(), event.updatedAt()));
+    }
+
+    @Override
+    public void projectPlaced(OrderPlaced event) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        for (OrderPlaced.Line line : event.lines()) {
+            deltas.merge(line.productId(), -line.quantity(), Integer::sum);
+        }
+        productViews.applyStockDeltas(deltas, event.placedAt());
+    }
+
+    @Override
+    public void projectStockChanged(ProductStockChanged event) {
+        productViews.applyStockDeltas(event.quantityDeltas(), event.changedAt());
+    }
+
+    @Override
+    public void holdRebuild() {
+        commitGate.readLock().lock();
+    }
+
+    @Override
+    public void releaseRebuild() {
+        commitGate.readLock().unlock();
+    }
+
+    @Override
+    public ProductViewRebuild execute() {
+        long started = System.nanoTime();
+        commitGate.writeLock().lock();
+        try {
+            List<ProductView> views = productRepository.findAll().stream().map(ProductView::of).toList();
+            productViews.replaceAll(views);
+            return new ProductViewRebuild(views.size(), Duration.ofNanos(System.nanoTime() - started));
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package com.example.application.service;
+
+import com.example.application.port.in.GetSalesAnalyticsUseCase;
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.RecordSalesUseCase;
+import com.example.application.port.in.command.RebuildSalesRollupsCommand;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.application.port.out.SalesRollupRepositoryPort;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.model.CustomerDailySales;
+import com.example.domain.model.DailySales;
+import com.example.domain.model.ProductDailySales;
+import com.example.domain.model.ProductSales;
+import com.example.domain.model.SalesLine;
+import com.example.domain.model.SalesMetric;
+import com.example.domain.model.SalesRollupRebuild;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+@Service
+public class SalesAnalyticsService implements GetSalesAnalyticsUseCase, RecordSalesUseCase, RebuildSalesRollupsUseCase {
+
+    static final int MAX_RANGE_DAYS = 366;
+    static final int MAX_TOP_LIMIT = 100;
+    static final int CHUNK_SIZE = 1_000;
+    static final long PARTITION_SIZE = 50_000;
+
+    private final OrderRepositoryPort orderRepository;
+    private final SalesRollupRepositoryPort salesRollupRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ReadWriteLock commitGate = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+
+    private SalesRollups rollups = new SalesRollups();
+    private volatile Queue<OrderSales> committedDuringRebuild;
+
+    public SalesAnalyticsService(OrderRepositoryPort orderRepository,
+                                 SalesRollupRepositoryPort salesRollupRepository) {
+        this.orderRepository = orderRepository;
+        this.salesRollupRepository = salesRollupRepository;
+    }
+
+    @Override
+    public List<DailySales> dailySales(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return read(current -> {
+            List<DailySales> days = new ArrayList<>();
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                days.add(current.dailySales(day));
+            }
+            return days;
+        });
+    }
+
+    @Override
+    public List<ProductDailySales> productSales(Long productId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return read(current -> {
+            List<ProductDailySales> days = new ArrayList<>();
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                ProductDailySales sales = current.productSales(productId, day);
+                if (sales != null) {
+                    days.add(sales);
+                }
+            }
+            return days;
+        });
+    }
+
+    @Override
+    public List<CustomerDailySales> customerSales(Long customerId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        return read(current -> {
+            List<CustomerDailySales> days = new ArrayList<>();
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                CustomerDailySales sales = current.customerSales(customerId, day);
+                if (sales != null) {
+                    days.add(sales);
+                }
+            }
+            return days;
+        });
+    }
+
+    @Override
+    public List<ProductSales> topProducts(LocalDate from, LocalDate to, int limit, SalesMetric metric) {
+        validateRange(from, to);
+        if (limit <= 0 || limit > MAX_TOP_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+        if (metric == null) {
+            throw new IllegalArgumentException("Metric cannot be null");
+        }
+        return read(current -> current.topProducts(from, to, limit, metric));
+    }
+
+    @Override
+    public void persistPlaced(OrderPlaced event) {
+        merge(List.of(OrderSales.placed(event)));
+    }
+
+    @Override
+    public List<SalesLine> persistCancelled(List<Long> orderIds) {
+        List<SalesLine> lines = new ArrayList<>();
+        for (int from = 0; from < orderIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + CHUNK_SIZE, orderIds.size()));
+            lines.addAll(orderRepository.findSalesLines(chunk));
+        }
+        merge(OrderSales.cancelled(lines));
+        return lines;
+    }
+
+    @Override
+    public void recordPlaced(OrderPlaced event) {
+        apply(List.of(OrderSales.placed(event)));
+    }
+
+    @Override
+    public void recordCancelled(List<SalesLine> lines) {
+        apply(OrderSales.cancelled(lines));
+    }
+
+    @Override
+    public void holdRebuild() {
+        commitGate.readLock().lock();
+    }
+
+    @Override
+    public void releaseRebuild() {
+        commitGate.readLock().unlock();
+    }
+
+    @Override
+    public void restore() {
+        commitGate.writeLock().lock();
+        try {
+            SalesRollups stored = new SalesRollups();
+            AtomicLong rows = new AtomicLong();
+            salesRollupRepository.forEachProductDailySales(sales -> {
+                stored.add(sales);
+                rows.incrementAndGet();
+            });
+            salesRollupRepository.forEachCustomerDailySales(sales -> {
+                stored.add(sales);
+                rows.incrementAndGet();
+            });
+            if (rows.get() > 0 || orderRepository.maxOrderId() == 0) {
+                swap(stored);
+                return;
+            }
+        } finally {
+            commitGate.writeLock().unlock();
+        }
+        rebuild(Runtime.getRuntime().availableProcessors());
+    }
+
+    @Override
+    public SalesRollupRebuild execute(RebuildSalesRollupsCommand command) {
+        Integer parallelism = command.parallelism();
+        if (parallelism != null && parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        return rebuild(parallelism != null ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    private SalesRollupRebuild rebuild(int parallelism) {
+        rebuildLock.lock();
+        try {
+            long started = System.nanoTime();
+            Queue<OrderSales> committed = new ConcurrentLinkedQueue<>();
+            long watermark;
+            commitGate.writeLock().lock();
+            try {
+                watermark = orderRepository.maxOrderId();
+                committedDuringRebuild = committed;
+            } finally {
+                commitGate.writeLock().unlock();
+            }
+            try {
+                AtomicLong linesScanned = new AtomicLong();
+                List<ScannedPartition> partitions = scan(watermark, parallelism, linesScanned);
+                SalesRollups rebuilt = new SalesRollups();
+                partitions.forEach(partition -> rebuilt.mergeFrom(partition.rollups()));
+
+                commitGate.writeLock().lock();
+                try {
+                    committedDuringRebuild = null;
+                    reconcile(rebuilt, partitions, committed);
+                    List<ProductDailySales> productSales = new ArrayList<>();
+                    List<CustomerDailySales> customerSales = new ArrayList<>();
+                    rebuilt.forEachProductDay(productSales::add);
+                    rebuilt.forEachCustomerDay(customerSales::add);
+                    salesRollupRepository.replaceAll(productSales, customerSales);
+                    swap(rebuilt);
+                    return new SalesRollupRebuild(watermark, linesScanned.get(), productSales.size(),
+                            customerSales.size(), parallelism, Duration.ofNanos(System.nanoTime() - started));
+                } finally {
+                    commitGate.writeLock().unlock();
+                }
+            } finally {
+                committedDuringRebuild = null;
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private List<ScannedPartition> scan(long watermark, int parallelism, AtomicLong linesScanned) {
+        List<Callable<ScannedPartition>> partitions = new ArrayList<>();
+        for (long from = 1; from <= watermark; from += PARTITION_SIZE) {
+            long first = from;
+            long last = Math.min(from + PARTITION_SIZE - 1, watermark);
+            partitions.add(() -> scanPartition(first, last, linesScanned));
+        }
+
+        List<ScannedPartition> scanned = new ArrayList<>(partitions.size());
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, partitions.size())));
+        try {
+            for (Future<ScannedPartition> partition : executor.invokeAll(partitions)) {
+                scanned.add(partition.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Sales rollup rebuild was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Sales rollup rebuild failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return scanned;
+    }
+
+    private ScannedPartition scanPartition(long fromOrderId, long toOrderId, AtomicLong linesScanned) {
+        SalesRollups partition = new SalesRollups();
+        BitSet seenOrders = new BitSet((int) (toOrderId - fromOrderId + 1));
+        long[] lines = new long[1];
+        orderRepository.forEachSalesLine(fromOrderId, toOrderId, line -> {
+            int offset = (int) (line.orderId() - fromOrderId);
+            partition.addLine(line, !seenOrders.get(offset));
+            seenOrders.set(offset);
+            lines[0]++;
+        });
+        linesScanned.addAndGet(lines[0]);
+        return new ScannedPartition(fromOrderId, partition, seenOrders);
+    }
+
+    private static void reconcile(SalesRollups rebuilt, List<ScannedPartition> partitions,
+                                  Queue<OrderSales> committed) {
+        Map<Long, List<OrderSales>> byOrder = new LinkedHashMap<>();
+        committed.forEach(sales -> byOrder.computeIfAbsent(sales.orderId(), id -> new ArrayList<>()).add(sales));
+        byOrder.forEach((orderId, changes) -> {
+            boolean placedDuringRebuild = false;
+            int live = 0;
+            for (OrderSales change : changes) {
+                placedDuringRebuild |= change.sign() > 0;
+                live += change.sign();
+            }
+            if (!placedDuringRebuild) {
+                live++;
+            }
+            int correction = live - (scanned(partitions, orderId) ? 1 : 0);
+            if (correction != 0) {
+                OrderSales sales = changes.get(0);
+                rebuilt.apply(new OrderSales(orderId, sales.customerId(), sales.day(), correction, sales.lines()));
+            }
+        });
+    }
+
+    private static boolean scanned(List<ScannedPartition> partitions, long orderId) {
+        int index = (int) ((orderId - 1) / PARTITION_SIZE);
+        if (orderId < 1 || index >= partitions.size()) {
+            return false;
+        }
+        ScannedPartition partition = partitions.get(index);
+        return partition.orders().get((int) (orderId - partition.firstOrderId()));
+    }
+
+    private <T> T read(Function<SalesRollups, T> query) {
+        lock.readLock().lock();
+        try {
+            return query.apply(rollups);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void merge(List<OrderSales> sales) {
+        if (sales.isEmpty()) {
+            return;
+        }
+        SalesRollups delta = new SalesRollups();
+        sales.forEach(delta::apply);
+        List<ProductDailySales> productDeltas = new ArrayList<>();
+        List<CustomerDailySales> customerDeltas = new ArrayList<>();
+        delta.forEachProductDay(productDeltas::add);
+        delta.forEachCustomerDay(customerDeltas::add);
+        salesRollupRepository.merge(productDeltas, customerDeltas);
+    }
+
+    private void apply(List<OrderSales> sales) {
+        Queue<OrderSales> committed = committedDuringRebuild;
+        if (committed != null) {
+            committed.addAll(sales);
+        }
+        lock.writeLock().lock();
+        try {
+            sales.forEach(rollups::apply);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void swap(SalesRollups replacement) {
+        lock.writeLock().lock();
+        try {
+            rollups = replacement;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private record ScannedPartition(long firstOrderId, SalesRollups rollups, BitSet orders) {
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to dates are required");
+        }
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("From date must not be after to date");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Date range cannot exceed " + MAX_RANGE_DAYS + " days");
+        }
+    }
+}
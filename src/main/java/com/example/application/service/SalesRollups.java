@@ -0,0 +1,163 @@
+package com.example.application.service;
+
+import com.example.domain.model.CustomerDailySales;
+import com.example.domain.model.DailySales;
+import com.example.domain.model.ProductDailySales;
+import com.example.domain.model.ProductSales;
+import com.example.domain.model.SalesLine;
+import com.example.domain.model.SalesMetric;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+final class SalesRollups {
+
+    private final Map<LocalDate, Day> days = new HashMap<>();
+
+    void apply(OrderSales sales) {
+        Day day = day(sales.day());
+        BigDecimal revenue = BigDecimal.ZERO;
+        for (OrderSales.Line line : sales.lines()) {
+            BigDecimal lineRevenue = sales.sign() > 0 ? line.subtotal() : line.subtotal().negate();
+            day.addProduct(line.productId(), (long) sales.sign() * line.quantity(), lineRevenue);
+            revenue = revenue.add(lineRevenue);
+        }
+        day.addCustomer(sales.customerId(), sales.sign(), revenue);
+        removeIfEmpty(sales.day(), day);
+    }
+
+    void addLine(SalesLine line, boolean firstLineOfOrder) {
+        Day day = day(line.placedAt().toLocalDate());
+        day.addProduct(line.productId(), line.quantity(), line.subtotal());
+        day.addCustomer(line.customerId(), firstLineOfOrder ? 1 : 0, line.subtotal());
+    }
+
+    void add(ProductDailySales sales) {
+        day(sales.day()).addProduct(sales.productId(), sales.units(), sales.revenue());
+    }
+
+    void add(CustomerDailySales sales) {
+        day(sales.day()).addCustomer(sales.customerId(), sales.orders(), sales.revenue());
+    }
+
+    void mergeFrom(SalesRollups other) {
+        other.forEachProductDay(this::add);
+        other.forEachCustomerDay(this::add);
+    }
+
+    DailySales dailySales(LocalDate date) {
+        Day day = days.get(date);
+        if (day == null) {
+            return new DailySales(date, 0, 0, BigDecimal.ZERO);
+        }
+        return new DailySales(date, day.orders, day.units, day.revenue);
+    }
+
+    ProductDailySales productSales(Long productId, LocalDate date) {
+        Day day = days.get(date);
+        Cell cell = day == null ? null : day.products.get(productId);
+        return cell == null ? null : new ProductDailySales(productId, date, cell.count, cell.revenue);
+    }
+
+    CustomerDailySales customerSales(Long customerId, LocalDate date) {
+        Day day = days.get(date);
+        Cell cell = day == null ? null : day.customers.get(customerId);
+        return cell == null ? null : new CustomerDailySales(customerId, date, cell.count, cell.revenue);
+    }
+
+    List<ProductSales> topProducts(LocalDate from, LocalDate to, int limit, SalesMetric metric) {
+        Map<Long, Cell> totals = new HashMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            Day day = days.get(date);
+            if (day != null) {
+                day.products.forEach((productId, cell) ->
+                        totals.computeIfAbsent(productId, id -> new Cell()).add(cell.count, cell.revenue));
+            }
+        }
+
+        Comparator<Map.Entry<Long, Cell>> order = metric == SalesMetric.UNITS
+                ? Comparator.comparingLong(entry -> entry.getValue().count)
+                : Comparator.comparing(entry -> entry.getValue().revenue);
+        order = order.thenComparing(Map.Entry::getKey, Comparator.reverseOrder());
+        PriorityQueue<Map.Entry<Long, Cell>> top = new PriorityQueue<>(limit + 1, order);
+        for (Map.Entry<Long, Cell> entry : totals.entrySet()) {
+            top.add(entry);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<ProductSales> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            Map.Entry<Long, Cell> entry = top.poll();
+            result.add(new ProductSales(entry.getKey(), entry.getValue().count, entry.getValue().revenue));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    void forEachProductDay(Consumer<ProductDailySales> consumer) {
+        days.forEach((date, day) -> day.products.forEach((productId, cell) ->
+                consumer.accept(new ProductDailySales(productId, date, cell.count, cell.revenue))));
+    }
+
+    void forEachCustomerDay(Consumer<CustomerDailySales> consumer) {
+        days.forEach((date, day) -> day.customers.forEach((customerId, cell) ->
+                consumer.accept(new CustomerDailySales(customerId, date, cell.count, cell.revenue))));
+    }
+
+    private Day day(LocalDate date) {
+        return days.computeIfAbsent(date, key -> new Day());
+    }
+
+    private void removeIfEmpty(LocalDate date, Day day) {
+        if (day.products.isEmpty() && day.customers.isEmpty()) {
+            days.remove(date);
+        }
+    }
+
+    private static final class Day {
+        private final Map<Long, Cell> products = new HashMap<>();
+        private final Map<Long, Cell> customers = new HashMap<>();
+        private long orders;
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void addProduct(Long productId, long units, BigDecimal revenue) {
+            this.units += units;
+            this.revenue = this.revenue.add(revenue);
+            add(products, productId, units, revenue);
+        }
+
+        private void addCustomer(Long customerId, long orders, BigDecimal revenue) {
+            this.orders += orders;
+            add(customers, customerId, orders, revenue);
+        }
+
+        private static void add(Map<Long, Cell> cells, Long key, long count, BigDecimal revenue) {
+            Cell cell = cells.computeIfAbsent(key, id -> new Cell());
+            cell.add(count, revenue);
+            if (cell.count == 0 && cell.revenue.signum() == 0) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    private static final class Cell {
+        private long count;
+        private BigDecimal revenue = BigDecimal.ZERO;
+
+        private void add(long count, BigDecimal revenue) {
+            this.count += count;
+            this.revenue = this.revenue.add(revenue);
+        }
+    }
+}
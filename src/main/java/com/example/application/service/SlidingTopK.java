@@ -0,0 +1,173 @@
+package com.example.application.service;
+
+import com.example.domain.model.TrendingProduct;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class SlidingTopK {
+
+    private final long bucketMillis;
+    private final CountMinSketch[] buckets;
+    private final CountMinSketch window;
+    private final CandidateHeap candidates;
+    private long currentBucket;
+
+    SlidingTopK(Duration length, int bucketCount, int depth, int width, int capacity, long nowMillis) {
+        if (bucketCount <= 0 || length.toMillis() < bucketCount) {
+            throw new IllegalArgumentException("Window must span at least one millisecond per bucket");
+        }
+        this.bucketMillis = length.toMillis() / bucketCount;
+        this.buckets = new CountMinSketch[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new CountMinSketch(depth, width);
+        }
+        this.window = new CountMinSketch(depth, width);
+        this.candidates = new CandidateHeap(capacity);
+        this.currentBucket = nowMillis / bucketMillis;
+    }
+
+    void add(long productId, int units, long nowMillis) {
+        advanceTo(nowMillis);
+        buckets[slot(currentBucket)].add(productId, units);
+        window.add(productId, units);
+        candidates.offer(productId, window.estimate(productId));
+    }
+
+    List<TrendingProduct> top(int limit, long nowMillis) {
+        advanceTo(nowMillis);
+        return candidates.top(limit);
+    }
+
+    private void advanceTo(long nowMillis) {
+        long target = nowMillis / bucketMillis;
+        if (target <= currentBucket) {
+            return;
+        }
+        long expired = Math.min(target - currentBucket, buckets.length);
+        for (long bucket = currentBucket + 1; bucket <= currentBucket + expired; bucket++) {
+            CountMinSketch sketch = buckets[slot(bucket)];
+            window.subtract(sketch);
+            sketch.clear();
+        }
+        currentBucket = target;
+        candidates.reestimate(window);
+    }
+
+    private int slot(long bucket) {
+        return (int) (bucket % buckets.length);
+    }
+
+    private static final class CandidateHeap {
+
+        private final long[] ids;
+        private final long[] estimates;
+        private final Map<Long, Integer> positions;
+        private int size;
+
+        private CandidateHeap(int capacity) {
+            this.ids = new long[capacity];
+            this.estimates = new long[capacity];
+            this.positions = new HashMap<>(capacity * 2);
+        }
+
+        private void offer(long id, long estimate) {
+            Integer position = positions.get(id);
+            if (position != null) {
+                estimates[position] = estimate;
+                siftDown(position);
+                siftUp(position);
+            } else if (size < ids.length) {
+                set(size, id, estimate);
+                siftUp(size++);
+            } else if (less(ids[0], estimates[0], id, estimate)) {
+                positions.remove(ids[0]);
+                set(0, id, estimate);
+                siftDown(0);
+            }
+        }
+
+        private void reestimate(CountMinSketch sketch) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                long estimate = sketch.estimate(ids[i]);
+                if (estimate > 0) {
+                    ids[kept] = ids[i];
+                    estimates[kept++] = estimate;
+                }
+            }
+            size = kept;
+            positions.clear();
+            for (int i = 0; i < size; i++) {
+                positions.put(ids[i], i);
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        private List<TrendingProduct> top(int limit) {
+            List<Integer> order = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                order.add(i);
+            }
+            order.sort((a, b) -> a.equals(b) ? 0 : less(ids[a], estimates[a], ids[b], estimates[b]) ? 1 : -1);
+            List<TrendingProduct> top = new ArrayList<>(Math.min(limit, size));
+            for (int i = 0; i < Math.min(limit, size); i++) {
+                int position = order.get(i);
+                top.add(new TrendingProduct(ids[position], estimates[position]));
+            }
+            return top;
+        }
+
+        private void siftUp(int position) {
+            while (position > 0) {
+                int parent = (position - 1) / 2;
+                if (!less(ids[position], estimates[position], ids[parent], estimates[parent])) {
+                    return;
+                }
+                swap(position, parent);
+                position = parent;
+            }
+        }
+
+        private void siftDown(int position) {
+            while (true) {
+                int smallest = position;
+                int left = 2 * position + 1;
+                int right = left + 1;
+                if (left < size && less(ids[left], estimates[left], ids[smallest], estimates[smallest])) {
+                    smallest = left;
+                }
+                if (right < size && less(ids[right], estimates[right], ids[smallest], estimates[smallest])) {
+                    smallest = right;
+                }
+                if (smallest == position) {
+                    return;
+                }
+                swap(position, smallest);
+                position = smallest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long id = ids[a];
+            long estimate = estimates[a];
+            set(a, ids[b], estimates[b]);
+            set(b, id, estimate);
+        }
+
+        private void set(int position, long id, long estimate) {
+            ids[position] = id;
+            estimates[position] = estimate;
+            positions.put(id, position);
+        }
+
+        private static boolean less(long id, long estimate, long otherId, long otherEstimate) {
+            return estimate != otherEstimate ? estimate < otherEstimate : id > otherId;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.application.service;
+
+import com.example.application.port.in.GetTrendingProductsUseCase;
+import com.example.application.port.in.TrackTrendingProductsUseCase;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.model.TrendingProduct;
+import com.example.domain.model.TrendingWindow;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+public class TrendingProductsService implements GetTrendingProductsUseCase, TrackTrendingProductsUseCase {
+
+    static final int MAX_LIMIT = 50;
+    static final int CANDIDATES = 128;
+    static final int BUCKETS = 12;
+    static final int SKETCH_DEPTH = 4;
+    static final int SKETCH_WIDTH = 2_048;
+
+    private final Clock clock;
+    private final Map<TrendingWindow, SlidingTopK> windows = new EnumMap<>(TrendingWindow.class);
+
+    public TrendingProductsService() {
+        this(Clock.systemDefaultZone());
+    }
+
+    TrendingProductsService(Clock clock) {
+        this.clock = clock;
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windows.put(window, new SlidingTopK(window.length(), BUCKETS, SKETCH_DEPTH, SKETCH_WIDTH, CANDIDATES,
+                    clock.millis()));
+        }
+    }
+
+    @Override
+    public void recordPlaced(OrderPlaced event) {
+        long now = clock.millis();
+        for (SlidingTopK window : windows.values()) {
+            synchronized (window) {
+                for (OrderPlaced.Line line : event.lines()) {
+                    window.add(line.productId(), line.quantity(), now);
+                }
+            }
+        }
+    }
+
+    @Override
+    public List<TrendingProduct> trendingProducts(TrendingWindow window, int limit) {
+        if (window == null) {
+            throw new IllegalArgumentException("Window cannot be null");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        SlidingTopK topK = windows.get(window);
+        synchronized (topK) {
+            return topK.top(limit, clock.millis());
+        }
+    }
+}
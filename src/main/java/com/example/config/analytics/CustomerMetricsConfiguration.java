@@ -0,0 +1,30 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.ComputeCustomerMetricsUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CustomerMetricsProperties.class)
+@ConditionalOnProperty(prefix = "supermarket.analytics.customer-metrics", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class CustomerMetricsConfiguration {
+
+    @Bean
+    public CustomerMetricsJob customerMetricsJob(ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase,
+                                                 CustomerMetricsProperties properties,
+                                                 MeterRegistry meterRegistry) {
+        return new CustomerMetricsJob(computeCustomerMetricsUseCase, properties, meterRegistry);
+    }
+
+    @Bean
+    public SchedulingConfigurer customerMetricsTask(CustomerMetricsJob job, CustomerMetricsProperties properties) {
+        return registrar -> registrar.addCronTask(job::run, properties.cron());
+    }
+}
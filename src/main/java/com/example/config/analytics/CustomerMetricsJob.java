@@ -0,0 +1,63 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.ComputeCustomerMetricsUseCase;
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.domain.model.CustomerMetricsProgress;
+import com.example.domain.model.CustomerMetricsRun;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.function.ToLongFunction;
+
+public class CustomerMetricsJob {
+
+    private static final Logger log = LoggerFactory.getLogger(CustomerMetricsJob.class);
+
+    private final ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase;
+    private final CustomerMetricsProperties properties;
+    private final Timer runTimer;
+
+    public CustomerMetricsJob(ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase,
+                              CustomerMetricsProperties properties, MeterRegistry meterRegistry) {
+        this.computeCustomerMetricsUseCase = computeCustomerMetricsUseCase;
+        this.properties = properties;
+        this.runTimer = Timer.builder("supermarket.customers.metrics.run")
+                .description("Duration of customer RFM and lifetime value computations")
+                .register(meterRegistry);
+        gauge(meterRegistry, "supermarket.customers.metrics.orders.scanned", CustomerMetricsProgress::ordersScanned);
+        gauge(meterRegistry, "supermarket.customers.metrics.customers.written",
+                CustomerMetricsProgress::customersWritten);
+    }
+
+    public void run() {
+        log.info("Computing customer metrics with parallelism {}",
+                properties.parallelism() != null ? properties.parallelism() : "auto");
+        try {
+            CustomerMetricsRun run = computeCustomerMetricsUseCase.execute(
+                    new ComputeCustomerMetricsCommand(properties.parallelism(), null));
+            runTimer.record(run.elapsed());
+            log.info("Customer metrics: {} order(s) scanned in {} ms ({} rows/s), {} customer(s) scored in {} ms, "
+                            + "written in {} ms ({} customers/s), {} stale row(s) removed",
+                    run.ordersScanned(), run.scanElapsed().toMillis(), perSecond(run.ordersScanned(), run.scanElapsed()),
+                    run.customers(), run.scoreElapsed().toMillis(), run.writeElapsed().toMillis(),
+                    perSecond(run.customers(), run.writeElapsed()), run.staleRowsDeleted());
+        } catch (RuntimeException e) {
+            log.warn("Customer metrics computation failed", e);
+        }
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, ToLongFunction<CustomerMetricsProgress> value) {
+        Gauge.builder(name, computeCustomerMetricsUseCase, useCase -> useCase.progress()
+                        .map(progress -> (double) value.applyAsLong(progress))
+                        .orElse(Double.NaN))
+                .register(meterRegistry);
+    }
+
+    private static long perSecond(long count, Duration elapsed) {
+        return elapsed.isZero() ? count : count * 1_000_000_000L / elapsed.toNanos();
+    }
+}
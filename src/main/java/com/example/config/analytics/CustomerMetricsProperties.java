@@ -0,0 +1,18 @@
+package com.example.config.analytics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "supermarket.analytics.customer-metrics")
+public record CustomerMetricsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 30 2 * * *") String cron,
+        Integer parallelism
+) {
+
+    public CustomerMetricsProperties {
+        if (parallelism != null && parallelism <= 0) {
+            throw new IllegalArgumentException("supermarket.analytics.customer-metrics.parallelism must be positive");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.RecordSalesUseCase;
+import com.example.application.port.in.TrackTrendingProductsUseCase;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(prefix = "supermarket.analytics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SalesAnalyticsConfiguration {
+
+    @Bean
+    public SalesRollupMaintainer salesRollupMaintainer(RecordSalesUseCase recordSalesUseCase,
+                                                       RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase) {
+        return new SalesRollupMaintainer(recordSalesUseCase, rebuildSalesRollupsUseCase);
+    }
+
+    @Bean
+    public TrendingProductsTracker trendingProductsTracker(TrackTrendingProductsUseCase trackTrendingProductsUseCase) {
+        return new TrendingProductsTracker(trackTrendingProductsUseCase);
+    }
+}
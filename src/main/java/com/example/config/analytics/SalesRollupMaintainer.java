@@ -0,0 +1,89 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.RecordSalesUseCase;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.OrderStatusChanged;
+import com.example.domain.model.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class SalesRollupMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(SalesRollupMaintainer.class);
+
+    private final RecordSalesUseCase recordSalesUseCase;
+    private final RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase;
+
+    public SalesRollupMaintainer(RecordSalesUseCase recordSalesUseCase,
+                                 RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase) {
+        this.recordSalesUseCase = recordSalesUseCase;
+        this.rebuildSalesRollupsUseCase = rebuildSalesRollupsUseCase;
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlaced event) {
+        withCommit(() -> {
+            recordSalesUseCase.persistPlaced(event);
+            return event;
+        }, recordSalesUseCase::recordPlaced);
+    }
+
+    @EventListener
+    public void onOrderStatusChanged(OrderStatusChanged event) {
+        if (event.status() == OrderStatus.CANCELLED) {
+            withCommit(() -> recordSalesUseCase.persistCancelled(event.orderIds()), recordSalesUseCase::recordCancelled);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long started = System.nanoTime();
+        rebuildSalesRollupsUseCase.restore();
+        log.info("Restored sales rollups in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private <T> void withCommit(Supplier<T> persist, Consumer<T> record) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recordSalesUseCase.holdRebuild();
+            try {
+                record.accept(persist.get());
+            } finally {
+                recordSalesUseCase.releaseRebuild();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private boolean holding;
+            private T persisted;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                recordSalesUseCase.holdRebuild();
+                holding = true;
+                persisted = persist.get();
+            }
+
+            @Override
+            public void afterCommit() {
+                record.accept(persisted);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (holding) {
+                    holding = false;
+                    recordSalesUseCase.releaseRebuild();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.TrackTrendingProductsUseCase;
+import com.example.domain.event.OrderPlaced;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+public class TrendingProductsTracker {
+
+    private final TrackTrendingProductsUseCase trackTrendingProductsUseCase;
+
+    public TrendingProductsTracker(TrackTrendingProductsUseCase trackTrendingProductsUseCase) {
+        this.trackTrendingProductsUseCase = trackTrendingProductsUseCase;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlaced event) {
+        trackTrendingProductsUseCase.recordPlaced(event);
+    }
+}
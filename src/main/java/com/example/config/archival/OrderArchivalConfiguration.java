@@ -0,0 +1,32 @@
+package com.example.config.archival;
+
+import com.example.application.port.in.ArchiveOrdersUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OrderArchivalProperties.class)
+@ConditionalOnProperty(prefix = "supermarket.orders.archival", name = "enabled", havingValue = "true",
+        matchIfMissing = true)
+public class OrderArchivalConfiguration {
+
+    @Bean
+    public OrderArchivalJob orderArchivalJob(ArchiveOrdersUseCase archiveOrdersUseCase,
+                                             OrderArchivalProperties properties,
+                                             MeterRegistry meterRegistry) {
+        return new OrderArchivalJob(archiveOrdersUseCase, properties, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public SchedulingConfigurer orderArchivalTask(OrderArchivalJob job, OrderArchivalProperties properties) {
+        return registrar -> registrar.addCronTask(job::run, properties.cron());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.config.archival;
+
+import com.example.application.port.in.ArchiveOrdersUseCase;
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.domain.model.OrderArchiveRun;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+public class OrderArchivalJob {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderArchivalJob.class);
+
+    private final ArchiveOrdersUseCase archiveOrdersUseCase;
+    private final OrderArchivalProperties properties;
+    private final Clock clock;
+    private final Timer runTimer;
+    private final Counter archivedCounter;
+
+    public OrderArchivalJob(ArchiveOrdersUseCase archiveOrdersUseCase, OrderArchivalProperties properties,
+                            MeterRegistry meterRegistry, Clock clock) {
+        this.archiveOrdersUseCase = archiveOrdersUseCase;
+        this.properties = properties;
+        this.clock = clock;
+        this.runTimer = Timer.builder("supermarket.orders.archival.run")
+                .description("Duration of order archival runs")
+                .register(meterRegistry);
+        this.archivedCounter = Counter.builder("supermarket.orders.archived")
+                .description("Orders moved from the primary tables to the archive tables")
+                .register(meterRegistry);
+    }
+
+    public void run() {
+        LocalDate placedBefore = LocalDate.now(clock).minusDays(properties.retention().toDays());
+        log.info("Archiving delivered and cancelled orders placed before {}", placedBefore);
+        try {
+            OrderArchiveRun run = archiveOrdersUseCase.execute(
+                    new ArchiveOrdersCommand(placedBefore, properties.batchSize()));
+            runTimer.record(run.elapsed());
+            archivedCounter.increment(run.ordersArchived());
+            log.info("Archived {} order(s) in {} batch(es) in {} ms", run.ordersArchived(), run.batches(),
+                    run.elapsed().toMillis());
+        } catch (RuntimeException e) {
+            log.warn("Order archival failed", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.config.archival;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "supermarket.orders.archival")
+public record OrderArchivalProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0 0 3 * * *") String cron,
+        @DefaultValue("90d") Duration retention,
+        @DefaultValue("1000") int batchSize
+) {
+
+    public OrderArchivalProperties {
+        if (retention.toDays() < 1) {
+            throw new IllegalArgumentException("supermarket.orders.archival.retention must be at least 1d");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("supermarket.orders.archival.batch-size must be positive");
+        }
+    }
+}
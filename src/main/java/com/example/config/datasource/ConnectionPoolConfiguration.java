@@ -0,0 +1,37 @@
+package com.example.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class ConnectionPoolConfiguration {
+
+    static final String MAXIMUM_POOL_SIZE_PROPERTY = "spring.datasource.hikari.maximum-pool-size";
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolConfiguration.class);
+
+    @Bean
+    public static BeanPostProcessor connectionPoolSizingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(MAXIMUM_POOL_SIZE_PROPERTY)) {
+                    ConnectionPoolProperties properties = Binder.get(environment)
+                            .bindOrCreate("supermarket.datasource.pool", ConnectionPoolProperties.class);
+                    if (properties.sizingEnabled()) {
+                        int poolSize = properties.poolSize();
+                        dataSource.setMaximumPoolSize(poolSize);
+                        log.info("Sized connection pool {} to {} connections", dataSource.getPoolName(), poolSize);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
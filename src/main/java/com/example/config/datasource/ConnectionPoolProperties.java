@@ -0,0 +1,36 @@
+package com.example.config.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "supermarket.datasource.pool")
+public record ConnectionPoolProperties(
+        @DefaultValue("true") boolean sizingEnabled,
+        Integer cores,
+        @DefaultValue("15ms") Duration databaseWaitTime,
+        @DefaultValue("1ms") Duration cpuTime,
+        @DefaultValue("4") int minimumSize,
+        @DefaultValue("64") int maximumSize
+) {
+
+    public ConnectionPoolProperties {
+        if (cores != null && cores <= 0) {
+            throw new IllegalArgumentException("supermarket.datasource.pool.cores must be positive");
+        }
+        if (cpuTime.isZero() || cpuTime.isNegative() || databaseWaitTime.isNegative()) {
+            throw new IllegalArgumentException("supermarket.datasource.pool.cpu-time must be positive and database-wait-time not negative");
+        }
+        if (minimumSize <= 0 || maximumSize < minimumSize) {
+            throw new IllegalArgumentException("supermarket.datasource.pool.minimum-size must be positive and not above maximum-size");
+        }
+    }
+
+    public int poolSize() {
+        int availableCores = cores != null ? cores : Runtime.getRuntime().availableProcessors();
+        double waitToCpuRatio = (double) databaseWaitTime.toNanos() / cpuTime.toNanos();
+        long size = (long) Math.ceil(availableCores * (1 + waitToCpuRatio));
+        return (int) Math.max(minimumSize, Math.min(maximumSize, size));
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.config.expiry;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+final class HierarchicalTimingWheel {
+
+    static final int LEVELS = 4;
+    static final int SLOT_BITS = 6;
+    static final int SLOTS = 1 << SLOT_BITS;
+    static final long COVERAGE_TICKS = 1L << (LEVELS * SLOT_BITS);
+
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int NONE = -1;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private final long tickMillis;
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private long currentTick;
+
+    private long[] keys;
+    private long[] deadlines;
+    private int[] next;
+    private int[] prev;
+    private int[] buckets;
+    private int highWaterMark;
+    private int freeHead = NONE;
+    private int size;
+
+    private int[] index;
+    private int indexMask;
+
+    HierarchicalTimingWheel(long tickMillis, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be positive");
+        }
+        this.tickMillis = tickMillis;
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+        Arrays.fill(heads, NONE);
+        keys = new long[INITIAL_CAPACITY];
+        deadlines = new long[INITIAL_CAPACITY];
+        next = new int[INITIAL_CAPACITY];
+        prev = new int[INITIAL_CAPACITY];
+        buckets = new int[INITIAL_CAPACITY];
+        index = new int[INITIAL_CAPACITY * 2];
+        indexMask = index.length - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(long key) {
+        return find(key) != NONE;
+    }
+
+    void schedule(long key, long deadlineMillis) {
+        long deadline = Math.max(-Math.floorDiv(-deadlineMillis, tickMillis), currentTick + 1);
+        int timer = find(key);
+        if (timer == NONE) {
+            timer = allocate(key);
+        } else {
+            unlink(timer);
+        }
+        deadlines[timer] = deadline;
+        place(timer);
+    }
+
+    boolean cancel(long key) {
+        int timer = find(key);
+        if (timer == NONE) {
+            return false;
+        }
+        unlink(timer);
+        release(timer);
+        return true;
+    }
+
+    void advanceTo(long nowMillis, LongConsumer expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                return;
+            }
+            currentTick++;
+            for (int level = highestCascadeLevel(currentTick); level > 0; level--) {
+                cascade(level);
+            }
+            expire(expired);
+        }
+    }
+
+    private static int highestCascadeLevel(long tick) {
+        int level = 0;
+        while (level < LEVELS - 1 && (tick & ((1L << ((level + 1) * SLOT_BITS)) - 1)) == 0) {
+            level++;
+        }
+        return level;
+    }
+
+    private void cascade(int level) {
+        int bucket = level * SLOTS + slot(currentTick, level);
+        int timer = heads[bucket];
+        heads[bucket] = NONE;
+        while (timer != NONE) {
+            int following = next[timer];
+            place(timer);
+            timer = following;
+        }
+    }
+
+    private void expire(LongConsumer expired) {
+        int bucket = slot(currentTick, 0);
+        int timer = heads[bucket];
+        heads[bucket] = NONE;
+        while (timer != NONE) {
+            int following = next[timer];
+            long key = keys[timer];
+            release(timer);
+            expired.accept(key);
+            timer = following;
+        }
+    }
+
+    private void place(int timer) {
+        long deadline = deadlines[timer];
+        long delta = deadline - currentTick;
+        if (delta >= COVERAGE_TICKS) {
+            deadline = currentTick + COVERAGE_TICKS - 1;
+            delta = COVERAGE_TICKS - 1;
+        }
+        int level = 0;
+        while (delta >= 1L << ((level + 1) * SLOT_BITS)) {
+            level++;
+        }
+        int bucket = level * SLOTS + slot(deadline, level);
+        int head = heads[bucket];
+        next[timer] = head;
+        prev[timer] = NONE;
+        if (head != NONE) {
+            prev[head] = timer;
+        }
+        heads[bucket] = timer;
+        buckets[timer] = bucket;
+    }
+
+    private static int slot(long tick, int level) {
+        return (int) (tick >>> (level * SLOT_BITS)) & SLOT_MASK;
+    }
+
+    private void unlink(int timer) {
+        int before = prev[timer];
+        int after = next[timer];
+        if (before == NONE) {
+            heads[buckets[timer]] = after;
+        } else {
+            next[before] = after;
+        }
+        if (after != NONE) {
+            prev[after] = before;
+        }
+    }
+
+    private int allocate(long key) {
+        int timer;
+        if (freeHead != NONE) {
+            timer = freeHead;
+            freeHead = next[timer];
+        } else {
+            if (highWaterMark == keys.length) {
+                grow();
+            }
+            timer = highWaterMark++;
+            buckets[timer] = NONE;
+        }
+        if ((size + 1) * 2 > index.length) {
+            rehash(index.length * 2);
+        }
+        keys[timer] = key;
+        size++;
+        insertIndex(timer);
+        return timer;
+    }
+
+    private void release(int timer) {
+        removeIndex(keys[timer]);
+        buckets[timer] = NONE;
+        next[timer] = freeHead;
+        freeHead = timer;
+        size--;
+    }
+
+    private void grow() {
+        int capacity = keys.length * 2;
+        keys = Arrays.copyOf(keys, capacity);
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        next = Arrays.copyOf(next, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        buckets = Arrays.copyOf(buckets, capacity);
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private int find(long key) {
+        int position = hash(key) & indexMask;
+        int entry;
+        while ((entry = index[position]) != 0) {
+            if (keys[entry - 1] == key) {
+                return entry - 1;
+            }
+            position = (position + 1) & indexMask;
+        }
+        return NONE;
+    }
+
+    private void insertIndex(int timer) {
+        int position = hash(keys[timer]) & indexMask;
+        while (index[position] != 0) {
+            position = (position + 1) & indexMask;
+        }
+        index[position] = timer + 1;
+    }
+
+    private void removeIndex(long key) {
+        int position = hash(key) & indexMask;
+        while (keys[index[position] - 1] != key) {
+            position = (position + 1) & indexMask;
+        }
+        int hole = position;
+        position = (position + 1) & indexMask;
+        int entry;
+        while ((entry = index[position]) != 0) {
+            int home = hash(keys[entry - 1]) & indexMask;
+            if (((position - home) & indexMask) >= ((position - hole) & indexMask)) {
+                index[hole] = entry;
+                hole = position;
+            }
+            position = (position + 1) & indexMask;
+        }
+        index[hole] = 0;
+    }
+
+    private void rehash(int capacity) {
+        index = new int[capacity];
+        indexMask = capacity - 1;
+        for (int timer = 0; timer < highWaterMark; timer++) {
+            if (buckets[timer] != NONE) {
+                insertIndex(timer);
+            }
+        }
+    }
+}
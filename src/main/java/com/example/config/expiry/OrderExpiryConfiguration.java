@@ -0,0 +1,35 @@
+package com.example.config.expiry;
+
+import com.example.application.port.in.ExpireOrdersUseCase;
+import com.example.application.port.out.OrderRepositoryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+import java.time.Clock;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OrderExpiryProperties.class)
+@ConditionalOnProperty(prefix = "supermarket.orders.expiry", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OrderExpiryConfiguration {
+
+    @Bean
+    public PendingOrderExpiryScheduler pendingOrderExpiryScheduler(OrderRepositoryPort orderRepository,
+                                                                   ExpireOrdersUseCase expireOrdersUseCase,
+                                                                   OrderExpiryProperties properties,
+                                                                   MeterRegistry meterRegistry) {
+        return new PendingOrderExpiryScheduler(orderRepository, expireOrdersUseCase, properties, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public SchedulingConfigurer pendingOrderExpiryTask(PendingOrderExpiryScheduler scheduler,
+                                                       OrderExpiryProperties properties) {
+        return registrar -> registrar.addFixedDelayTask(scheduler::expireDueOrders, properties.tick());
+    }
+}
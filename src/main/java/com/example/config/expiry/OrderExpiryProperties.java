@@ -0,0 +1,27 @@
+package com.example.config.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "supermarket.orders.expiry")
+public record OrderExpiryProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("30m") Duration ttl,
+        @DefaultValue("1s") Duration tick,
+        @DefaultValue("1000") int batchSize
+) {
+
+    public OrderExpiryProperties {
+        if (ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("supermarket.orders.expiry.ttl must be positive");
+        }
+        if (tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("supermarket.orders.expiry.tick must be at least 1ms");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("supermarket.orders.expiry.batch-size must be positive");
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.config.expiry;
+
+import com.example.application.port.in.ExpireOrdersUseCase;
+import com.example.application.port.in.command.ExpireOrdersCommand;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.OrderStatusChanged;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.OrderStatusTransition;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PendingOrderExpiryScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingOrderExpiryScheduler.class);
+
+    private final OrderRepositoryPort orderRepository;
+    private final ExpireOrdersUseCase expireOrdersUseCase;
+    private final OrderExpiryProperties properties;
+    private final Clock clock;
+    private final HierarchicalTimingWheel wheel;
+    private final Counter expiredCounter;
+
+    public PendingOrderExpiryScheduler(OrderRepositoryPort orderRepository, ExpireOrdersUseCase expireOrdersUseCase,
+                                       OrderExpiryProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.orderRepository = orderRepository;
+        this.expireOrdersUseCase = expireOrdersUseCase;
+        this.properties = properties;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel(properties.tick().toMillis(), clock.millis());
+        this.expiredCounter = Counter.builder("supermarket.orders.expired")
+                .description("Pending orders cancelled after exceeding their TTL")
+                .register(meterRegistry);
+        Gauge.builder("supermarket.orders.expiry.pending", this, PendingOrderExpiryScheduler::pendingTimers)
+                .description("Pending orders with an armed expiry timer")
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderPlaced(OrderPlaced event) {
+        track(event.orderId(), event.placedAt());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChanged event) {
+        if (event.status() == OrderStatus.PENDING) {
+            return;
+        }
+        synchronized (wheel) {
+            for (Long orderId : event.orderIds()) {
+                wheel.cancel(orderId);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.nanoTime();
+        orderRepository.forEachPendingOrder(this::track);
+        log.info("Armed expiry timers for {} pending order(s) in {} ms",
+                pendingTimers(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void expireDueOrders() {
+        List<Long> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advanceTo(clock.millis(), due::add);
+        }
+        Collections.sort(due);
+        for (int from = 0; from < due.size(); from += properties.batchSize()) {
+            List<Long> batch = due.subList(from, Math.min(from + properties.batchSize(), due.size()));
+            try {
+                long expired = expireOrdersUseCase.execute(new ExpireOrdersCommand(batch)).stream()
+                        .filter(transition -> transition.outcome() == OrderStatusTransition.Outcome.TRANSITIONED)
+                        .count();
+                expiredCounter.increment(expired);
+            } catch (RuntimeException e) {
+                log.warn("Failed to expire {} pending order(s), retrying on the next tick", batch.size(), e);
+                retry(batch);
+            }
+        }
+    }
+
+    int pendingTimers() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    private void track(Long orderId, LocalDateTime placedAt) {
+        long deadline = placedAt.atZone(clock.getZone()).toInstant().toEpochMilli() + properties.ttl().toMillis();
+        synchronized (wheel) {
+            wheel.schedule(orderId, deadline);
+        }
+    }
+
+    private void retry(List<Long> orderIds) {
+        long deadline = clock.millis() + properties.tick().toMillis();
+        synchronized (wheel) {
+            for (Long orderId : orderIds) {
+                wheel.schedule(orderId, deadline);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.config.export;
+
+import com.example.adapters.outbound.export.JdbcColumnarExportAdapter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(OrderExportProperties.class)
+public class OrderExportConfiguration {
+
+    @Bean
+    public JdbcColumnarExportAdapter jdbcColumnarExportAdapter(JdbcTemplate jdbcTemplate,
+                                                               PlatformTransactionManager transactionManager,
+                                                               OrderExportProperties properties) {
+        return new JdbcColumnarExportAdapter(jdbcTemplate, transactionManager, properties.directory(),
+                properties.rowGroupSize(), properties.compressionLevel());
+    }
+}
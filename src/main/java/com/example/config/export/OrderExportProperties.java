@@ -0,0 +1,24 @@
+package com.example.config.export;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+
+@ConfigurationProperties(prefix = "supermarket.export")
+public record OrderExportProperties(
+        @DefaultValue("exports") Path directory,
+        @DefaultValue("65536") int rowGroupSize,
+        @DefaultValue("6") int compressionLevel
+) {
+
+    public OrderExportProperties {
+        if (rowGroupSize <= 0) {
+            throw new IllegalArgumentException("supermarket.export.row-group-size must be positive");
+        }
+        if (compressionLevel < Deflater.NO_COMPRESSION || compressionLevel > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("supermarket.export.compression-level must be between 0 and 9");
+        }
+    }
+}
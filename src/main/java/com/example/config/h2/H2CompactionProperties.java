@@ -0,0 +1,17 @@
+package com.example.config.h2;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "supermarket.h2.compaction")
+public record H2CompactionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0 30 3 * * *") String cron,
+        @DefaultValue("90") int targetFillRate,
+        @DefaultValue("256MB") DataSize maxWriteSize,
+        @DefaultValue("5m") Duration maxTime
+) {
+}
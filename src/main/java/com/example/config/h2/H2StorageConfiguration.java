@@ -0,0 +1,23 @@
+package com.example.config.h2;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(H2CompactionProperties.class)
+@ConditionalOnProperty(prefix = "supermarket.h2.compaction", name = "enabled", havingValue = "true")
+public class H2StorageConfiguration {
+
+    @Bean
+    public MvStoreCompactionJob mvStoreCompactionJob(DataSource dataSource, H2CompactionProperties properties,
+                                                     MeterRegistry meterRegistry) {
+        return new MvStoreCompactionJob(dataSource, properties, meterRegistry);
+    }
+}
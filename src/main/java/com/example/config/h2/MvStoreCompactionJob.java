@@ -0,0 +1,83 @@
+package com.example.config.h2;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.h2.engine.SessionLocal;
+import org.h2.jdbc.JdbcConnection;
+import org.h2.mvstore.FileStore;
+import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.function.ToDoubleFunction;
+
+public class MvStoreCompactionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(MvStoreCompactionJob.class);
+
+    private final DataSource dataSource;
+    private final H2CompactionProperties properties;
+
+    public MvStoreCompactionJob(DataSource dataSource, H2CompactionProperties properties, MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.properties = properties;
+        gauge(meterRegistry, "supermarket.h2.store.size", "bytes", store -> store.getFileStore().size());
+        gauge(meterRegistry, "supermarket.h2.store.fill.rate", "percent", MVStore::getFillRate);
+    }
+
+    @Scheduled(cron = "${supermarket.h2.compaction.cron}")
+    public void compact() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            MVStore store = fileStore(connection);
+            if (store == null) {
+                log.debug("Skipping MVStore compaction: database is not file based");
+                return;
+            }
+            long started = System.nanoTime();
+            long sizeBefore = store.getFileStore().size();
+            int fillRateBefore = store.getFillRate();
+            int maxWrite = (int) Math.min(Integer.MAX_VALUE, properties.maxWriteSize().toBytes());
+            int passes = 0;
+            while (System.nanoTime() - started < properties.maxTime().toNanos()
+                    && store.compact(properties.targetFillRate(), maxWrite)) {
+                store.commit();
+                passes++;
+            }
+            log.info("MVStore compaction: {} pass(es) in {} ms, fill rate {}% -> {}%, size {} -> {} bytes",
+                    passes, (System.nanoTime() - started) / 1_000_000, fillRateBefore, store.getFillRate(),
+                    sizeBefore, store.getFileStore().size());
+        }
+    }
+
+    static MVStore fileStore(Connection connection) throws SQLException {
+        if (!connection.isWrapperFor(JdbcConnection.class)) {
+            return null;
+        }
+        if (!(connection.unwrap(JdbcConnection.class).getSession() instanceof SessionLocal session)
+                || session.getDatabase().getStore() == null) {
+            return null;
+        }
+        MVStore store = session.getDatabase().getStore().getMvStore();
+        FileStore<?> fileStore = store.getFileStore();
+        return fileStore == null || fileStore.getFileName() == null || fileStore.getFileName().isEmpty() ? null : store;
+    }
+
+    private void gauge(MeterRegistry meterRegistry, String name, String unit, ToDoubleFunction<MVStore> value) {
+        Gauge.builder(name, this, job -> job.readStore(value))
+                .baseUnit(unit)
+                .register(meterRegistry);
+    }
+
+    private double readStore(ToDoubleFunction<MVStore> value) {
+        try (Connection connection = dataSource.getConnection()) {
+            MVStore store = fileStore(connection);
+            return store == null ? Double.NaN : value.applyAsDouble(store);
+        } catch (SQLException e) {
+            return Double.NaN;
+        }
+    }
+}
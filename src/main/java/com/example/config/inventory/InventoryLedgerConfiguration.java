@@ -0,0 +1,29 @@
+package com.example.config.inventory;
+
+import com.example.application.port.in.SnapshotInventoryUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(InventoryLedgerProperties.class)
+@ConditionalOnProperty(prefix = "supermarket.inventory", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InventoryLedgerConfiguration {
+
+    @Bean
+    public InventoryLedgerMaintainer inventoryLedgerMaintainer(SnapshotInventoryUseCase snapshotInventoryUseCase,
+                                                               MeterRegistry meterRegistry) {
+        return new InventoryLedgerMaintainer(snapshotInventoryUseCase, meterRegistry);
+    }
+
+    @Bean
+    public SchedulingConfigurer inventoryLedgerTasks(InventoryLedgerMaintainer maintainer,
+                                                     InventoryLedgerProperties properties) {
+        return registrar -> registrar.addFixedDelayTask(maintainer::snapshot, properties.snapshotInterval());
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.config.inventory;
+
+import com.example.application.port.in.SnapshotInventoryUseCase;
+import com.example.domain.model.InventorySnapshotRun;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class InventoryLedgerMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryLedgerMaintainer.class);
+
+    private final SnapshotInventoryUseCase snapshotInventoryUseCase;
+    private final Timer snapshotTimer;
+
+    public InventoryLedgerMaintainer(SnapshotInventoryUseCase snapshotInventoryUseCase, MeterRegistry meterRegistry) {
+        this.snapshotInventoryUseCase = snapshotInventoryUseCase;
+        this.snapshotTimer = Timer.builder("supermarket.inventory.snapshot")
+                .description("Duration of folding ledger entries into inventory snapshots")
+                .register(meterRegistry);
+    }
+
+    public void snapshot() {
+        try {
+            InventorySnapshotRun run = snapshotInventoryUseCase.execute();
+            snapshotTimer.record(run.elapsed());
+            log.debug("Snapshotted {} product(s) over ledger entries ({}, {}]", run.productsSnapshotted(),
+                    run.fromEntryId(), run.toEntryId());
+        } catch (RuntimeException e) {
+            log.warn("Inventory snapshot failed", e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.config.inventory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "supermarket.inventory")
+public record InventoryLedgerProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("1m") Duration snapshotInterval
+) {
+
+    public InventoryLedgerProperties {
+        if (snapshotInterval.toMillis() <= 0) {
+            throw new IllegalArgumentException("supermarket.inventory.snapshot-interval must be at least 1ms");
+        }
+    }
+}
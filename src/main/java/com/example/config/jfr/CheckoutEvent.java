@@ -0,0 +1,29 @@
+package com.example.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.example.Checkout")
+@Label("Checkout")
+@Category({"Supermarket", "Orders"})
+@Description("Execution of CreateOrderUseCase")
+public class CheckoutEvent extends Event {
+
+    @Label("Customer Id")
+    public long customerId;
+
+    @Label("Items")
+    public int itemCount;
+
+    @Label("Products Touched")
+    public int productsTouched;
+
+    @Label("Stock Out")
+    public boolean stockOut;
+
+    @Label("Outcome")
+    public String outcome;
+}
@@ -0,0 +1,74 @@
+package com.example.config.jfr;
+
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.domain.exception.InsufficientStockException;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Aspect
+@Component
+public class FlightRecorderAspect {
+
+    private static final String SUCCESS = "success";
+
+    @Around("execution(* com.example.application.port.in.CreateOrderUseCase.execute(..)) && args(command)")
+    public Object recordCheckout(ProceedingJoinPoint joinPoint, CreateOrderCommand command) throws Throwable {
+        CheckoutEvent event = new CheckoutEvent();
+        event.begin();
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = ex.getClass().getSimpleName();
+            event.stockOut = ex instanceof InsufficientStockException;
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.customerId = command.customerId() == null ? -1 : command.customerId();
+                event.itemCount = command.items() == null ? 0 : command.items().size();
+                event.productsTouched = countDistinctProducts(command);
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    @Around("execution(* com.example.application.port.out..*Port.*(..))")
+    public Object recordPortCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        PortCallEvent event = new PortCallEvent();
+        event.begin();
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = joinPoint.getSignature().getDeclaringType().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
+    }
+
+    private static int countDistinctProducts(CreateOrderCommand command) {
+        if (command.items() == null) {
+            return 0;
+        }
+        Set<Long> productIds = new HashSet<>();
+        for (OrderItemCommand item : command.items()) {
+            productIds.add(item.productId());
+        }
+        return productIds.size();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.config.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path dumpDirectory;
+    private final String settings;
+    private final Duration maxAge;
+    private final boolean recordOnStartup;
+    private Recording recording;
+
+    public FlightRecordingEndpoint(@Value("${supermarket.jfr.dump-directory:recordings}") Path dumpDirectory,
+                                   @Value("${supermarket.jfr.settings:default}") String settings,
+                                   @Value("${supermarket.jfr.max-age:30m}") Duration maxAge,
+                                   @Value("${supermarket.jfr.record-on-startup:false}") boolean recordOnStartup) {
+        this.dumpDirectory = dumpDirectory;
+        this.settings = settings;
+        this.maxAge = maxAge;
+        this.recordOnStartup = recordOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnApplicationReady() {
+        if (recordOnStartup) {
+            start();
+        }
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", recording == null ? RecordingState.CLOSED.name() : recording.getState().name());
+        status.put("settings", settings);
+        status.put("maxAge", maxAge.toString());
+        if (recording != null && recording.getStartTime() != null) {
+            status.put("startTime", recording.getStartTime().toString());
+        }
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> perform(@Selector String action, @Nullable String fileName) {
+        return switch (action) {
+            case "start" -> start();
+            case "dump" -> dump(fileName);
+            default -> throw new IllegalArgumentException("Unknown flight recording action: " + action);
+        };
+    }
+
+    public synchronized Map<String, Object> start() {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        try {
+            recording = new Recording(Configuration.getConfiguration(settings));
+        } catch (IOException | ParseException ex) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, ex);
+        }
+        recording.setName("supermarket");
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.enable(CheckoutEvent.class);
+        recording.enable(PortCallEvent.class);
+        recording.enable("com.example.EntityMapping");
+        recording.start();
+        return status();
+    }
+
+    public synchronized Map<String, Object> dump(@Nullable String fileName) {
+        if (recording == null || recording.getState() != RecordingState.RUNNING) {
+            throw new IllegalStateException("No flight recording is running");
+        }
+        String name = fileName == null ? "supermarket-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr" : fileName;
+        Path target = dumpDirectory.resolve(Path.of(name).getFileName());
+        try {
+            Files.createDirectories(dumpDirectory);
+            recording.dump(target);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        Map<String, Object> result = status();
+        result.put("file", target.toAbsolutePath().toString());
+        return result;
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        return status();
+    }
+}
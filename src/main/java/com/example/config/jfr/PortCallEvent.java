@@ -0,0 +1,25 @@
+package com.example.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.example.PortCall")
+@Label("Repository Port Call")
+@Category({"Supermarket", "Persistence"})
+@Description("Call to an outbound repository port")
+@StackTrace(false)
+public class PortCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Outcome")
+    public String outcome;
+}
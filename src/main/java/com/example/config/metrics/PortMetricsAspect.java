@@ -0,0 +1,104 @@
+package com.example.config.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Aspect
+@Component
+public class PortMetricsAspect {
+
+    static final String CALLS_METRIC = "supermarket.port.calls";
+    static final String EXCEPTIONS_METRIC = "supermarket.port.exceptions";
+
+    private static final String INBOUND_PORT_PACKAGE = "com.example.application.port.in";
+    private static final String OUTBOUND_PORT_PACKAGE = "com.example.application.port.out";
+    private static final String SUCCESS = "success";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, PortMethod> portMethods = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<MeterKey, Counter> exceptionCounters = new ConcurrentHashMap<>();
+
+    public PortMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(* com.example.application.port.in..*UseCase.*(..)) || " +
+            "execution(* com.example.application.port.out..*Port.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        PortMethod portMethod = portMethods.computeIfAbsent(method,
+                key -> resolvePortMethod(key, AopUtils.getTargetClass(joinPoint.getTarget())));
+
+        long start = System.nanoTime();
+        String outcome = SUCCESS;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            outcome = ex.getClass().getSimpleName();
+            exceptionCounters.computeIfAbsent(new MeterKey(portMethod, outcome), this::exceptionCounter).increment();
+            throw ex;
+        } finally {
+            timers.computeIfAbsent(new MeterKey(portMethod, outcome), this::timer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(MeterKey key) {
+        return Timer.builder(CALLS_METRIC)
+                .description("Latency of inbound use case and outbound repository port calls")
+                .tag("direction", key.portMethod().direction())
+                .tag("port", key.portMethod().port())
+                .tag("method", key.portMethod().method())
+                .tag("outcome", key.outcome())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter exceptionCounter(MeterKey key) {
+        return Counter.builder(EXCEPTIONS_METRIC)
+                .description("Exceptions thrown by inbound use case and outbound repository port calls")
+                .tag("direction", key.portMethod().direction())
+                .tag("port", key.portMethod().port())
+                .tag("method", key.portMethod().method())
+                .tag("exception", key.outcome())
+                .register(meterRegistry);
+    }
+
+    private static PortMethod resolvePortMethod(Method method, Class<?> targetClass) {
+        for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            String packageName = candidate.getPackageName();
+            boolean inbound = packageName.startsWith(INBOUND_PORT_PACKAGE);
+            if (!inbound && !packageName.startsWith(OUTBOUND_PORT_PACKAGE)) {
+                continue;
+            }
+            boolean declared = Arrays.stream(candidate.getMethods())
+                    .anyMatch(portMethod -> portMethod.getName().equals(method.getName())
+                            && Arrays.equals(portMethod.getParameterTypes(), method.getParameterTypes()));
+            if (declared) {
+                return new PortMethod(inbound ? "inbound" : "outbound", candidate.getSimpleName(), method.getName());
+            }
+        }
+        return new PortMethod("unknown", targetClass.getSimpleName(), method.getName());
+    }
+
+    private record PortMethod(String direction, String port, String method) {
+    }
+
+    private record MeterKey(PortMethod portMethod, String outcome) {
+    }
+}
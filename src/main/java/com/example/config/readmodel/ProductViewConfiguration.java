@@ -0,0 +1,18 @@
+package com.example.config.readmodel;
+
+import com.example.application.port.in.ProjectProductViewsUseCase;
+import com.example.application.port.in.RebuildProductViewsUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ProductViewConfiguration {
+
+    @Bean
+    public ProductViewProjector productViewProjector(ProjectProductViewsUseCase projectProductViewsUseCase,
+                                                     RebuildProductViewsUseCase rebuildProductViewsUseCase,
+                                                     MeterRegistry meterRegistry) {
+        return new ProductViewProjector(projectProductViewsUseCase, rebuildProductViewsUseCase, meterRegistry);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.config.readmodel;
+
+import com.example.application.port.in.ProjectProductViewsUseCase;
+import com.example.application.port.in.RebuildProductViewsUseCase;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.ProductCreated;
+import com.example.domain.event.ProductStockChanged;
+import com.example.domain.model.ProductViewRebuild;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+public class ProductViewProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductViewProjector.class);
+
+    private final ProjectProductViewsUseCase projectProductViewsUseCase;
+    private final RebuildProductViewsUseCase rebuildProductViewsUseCase;
+    private final Timer lagTimer;
+
+    public ProductViewProjector(ProjectProductViewsUseCase projectProductViewsUseCase,
+                                RebuildProductViewsUseCase rebuildProductViewsUseCase,
+                                MeterRegistry meterRegistry) {
+        this.projectProductViewsUseCase = projectProductViewsUseCase;
+        this.rebuildProductViewsUseCase = rebuildProductViewsUseCase;
+        this.lagTimer = Timer.builder("supermarket.products.view.lag")
+                .description("Time from a product change until the product read model reflects it")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onProductCreated(ProductCreated event) {
+        afterCommit(() -> projectProductViewsUseCase.projectCreated(event), event.updatedAt());
+    }
+
+    @EventListener
+    public void onOrderPlaced(OrderPlaced event) {
+        afterCommit(() -> projectProductViewsUseCase.projectPlaced(event), event.placedAt());
+    }
+
+    @EventListener
+    public void onProductStockChanged(ProductStockChanged event) {
+        afterCommit(() -> projectProductViewsUseCase.projectStockChanged(event), event.changedAt());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        ProductViewRebuild rebuild = rebuildProductViewsUseCase.execute();
+        log.info("Loaded {} product view(s) in {} ms", rebuild.products(), rebuild.elapsed().toMillis());
+    }
+
+    private void afterCommit(Runnable projection, LocalDateTime changedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            projectProductViewsUseCase.holdRebuild();
+            try {
+                project(projection, changedAt);
+            } finally {
+                projectProductViewsUseCase.releaseRebuild();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+            private boolean holding;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                projectProductViewsUseCase.holdRebuild();
+                holding = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                project(projection, changedAt);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (holding) {
+                    holding = false;
+                    projectProductViewsUseCase.releaseRebuild();
+                }
+            }
+        });
+    }
+
+    private void project(Runnable projection, LocalDateTime changedAt) {
+        projection.run();
+        Duration lag = Duration.between(changedAt, LocalDateTime.now());
+        lagTimer.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.config.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(SqlInspectionProperties.class)
+@ConditionalOnProperty(prefix = "supermarket.sql", name = "inspection-enabled")
+public class SqlInspectionConfiguration {
+
+    @Bean
+    public static BeanPostProcessor statementInspectingDataSourcePostProcessor(
+            ObjectProvider<SqlStatementInspector> inspector) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof StatementInspectingDataSource)) {
+                    return new StatementInspectingDataSource(dataSource, inspector.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public SqlStatementInspector sqlStatementInspector(MeterRegistry meterRegistry,
+                                                       SqlInspectionProperties properties) {
+        return new SqlStatementInspector(meterRegistry, properties);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(SqlStatementInspector inspector,
+                                                                         SqlInspectionProperties properties) {
+        FilterRegistrationBean<SqlStatementFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementFilter(inspector, properties.exposeHeaders()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    @Bean
+    public SqlStatementUseCaseAspect sqlStatementUseCaseAspect(SqlStatementInspector inspector) {
+        return new SqlStatementUseCaseAspect(inspector);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.config.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "supermarket.sql")
+public record SqlInspectionProperties(
+        @DefaultValue("false") boolean inspectionEnabled,
+        @DefaultValue("200ms") Duration slowThreshold,
+        @DefaultValue("5") int nPlusOneThreshold,
+        @DefaultValue("false") boolean exposeHeaders
+) {
+}
@@ -0,0 +1,52 @@
+package com.example.config.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    static final String ROWS_HEADER = "X-Sql-Rows";
+    static final String JDBC_TIME_HEADER = "X-Sql-Time-Ms";
+
+    private final SqlStatementInspector inspector;
+    private final boolean exposeHeaders;
+
+    public SqlStatementFilter(SqlStatementInspector inspector, boolean exposeHeaders) {
+        this.inspector = inspector;
+        this.exposeHeaders = exposeHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementScope scope = SqlStatementScope.open(request.getMethod() + " " + request.getRequestURI());
+        try {
+            if (exposeHeaders) {
+                ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+                filterChain.doFilter(request, wrapper);
+                wrapper.setHeader(STATEMENTS_HEADER, Integer.toString(scope.getStatementCount()));
+                wrapper.setHeader(ROWS_HEADER, Long.toString(scope.getRowCount()));
+                wrapper.setHeader(JDBC_TIME_HEADER, Long.toString(scope.getJdbcTime().toMillis()));
+                wrapper.copyBodyToResponse();
+            } else {
+                filterChain.doFilter(request, response);
+            }
+        } finally {
+            scope.close();
+            inspector.scopeClosed("request", request.getMethod() + " " + handlerPattern(request), scope);
+        }
+    }
+
+    private static String handlerPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNMAPPED" : pattern.toString();
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.config.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class SqlStatementInspector {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementInspector.class);
+
+    enum Operation {
+        SELECT, INSERT, UPDATE, DELETE, MERGE, OTHER
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final Map<Operation, Timer> statementTimers = new EnumMap<>(Operation.class);
+    private final Map<ScopeKey, DistributionSummary> statementsPerScope = new ConcurrentHashMap<>();
+    private final Counter slowStatements;
+    private final Counter nPlusOneSuspects;
+
+    public SqlStatementInspector(MeterRegistry meterRegistry, SqlInspectionProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+        this.nPlusOneThreshold = properties.nPlusOneThreshold();
+        for (Operation operation : Operation.values()) {
+            statementTimers.put(operation, Timer.builder("supermarket.sql.statements")
+                    .description("JDBC statement executions")
+                    .tag("operation", operation.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.slowStatements = Counter.builder("supermarket.sql.slow")
+                .description("JDBC statements slower than supermarket.sql.slow-threshold")
+                .register(meterRegistry);
+        this.nPlusOneSuspects = Counter.builder("supermarket.sql.n-plus-one")
+                .description("Statements repeated at least supermarket.sql.n-plus-one-threshold times in one scope")
+                .register(meterRegistry);
+    }
+
+    void statementExecuted(SqlStatementScope scope, String sql, long nanos) {
+        if (scope != null) {
+            scope.recordStatement(sql, nanos);
+        }
+        statementTimers.get(operationOf(sql)).record(nanos, TimeUnit.NANOSECONDS);
+        if (nanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            log.warn("Slow SQL statement ({} ms) in {}: {}",
+                    TimeUnit.NANOSECONDS.toMillis(nanos), scope == null ? "no scope" : scope.getName(), sql);
+        }
+    }
+
+    void rowsProcessed(SqlStatementScope scope, long rows) {
+        if (scope != null && rows > 0) {
+            scope.recordRows(rows);
+        }
+    }
+
+    public void scopeClosed(String kind, String name, SqlStatementScope scope) {
+        statementsPerScope.computeIfAbsent(new ScopeKey(kind, name), key -> DistributionSummary
+                        .builder("supermarket.sql.statements.per.scope")
+                        .description("JDBC statements issued per HTTP request or use case")
+                        .tag("kind", key.kind())
+                        .tag("name", key.name())
+                        .register(meterRegistry))
+                .record(scope.getStatementCount());
+
+        scope.getStatementsExecutedAtLeast(nPlusOneThreshold).forEach((sql, executions) -> {
+            nPlusOneSuspects.increment();
+            log.warn("Possible N+1 in {} {}: statement executed {} times: {}", kind, name, executions, sql);
+        });
+    }
+
+    static Operation operationOf(String sql) {
+        int start = 0;
+        int length = sql.length();
+        while (start < length) {
+            char c = sql.charAt(start);
+            if (Character.isWhitespace(c) || c == '(') {
+                start++;
+            } else if (sql.startsWith("/*", start)) {
+                int end = sql.indexOf("*/", start + 2);
+                start = end < 0 ? length : end + 2;
+            } else {
+                break;
+            }
+        }
+        if (sql.regionMatches(true, start, "select", 0, 6) || sql.regionMatches(true, start, "with", 0, 4)) {
+            return Operation.SELECT;
+        }
+        if (sql.regionMatches(true, start, "insert", 0, 6)) {
+            return Operation.INSERT;
+        }
+        if (sql.regionMatches(true, start, "update", 0, 6)) {
+            return Operation.UPDATE;
+        }
+        if (sql.regionMatches(true, start, "delete", 0, 6)) {
+            return Operation.DELETE;
+        }
+        if (sql.regionMatches(true, start, "merge", 0, 5)) {
+            return Operation.MERGE;
+        }
+        return Operation.OTHER;
+    }
+
+    private record ScopeKey(String kind, String name) {
+    }
+}
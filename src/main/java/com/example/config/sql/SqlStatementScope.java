@@ -0,0 +1,97 @@
+package com.example.config.sql;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class SqlStatementScope implements AutoCloseable {
+
+    private static final ThreadLocal<SqlStatementScope> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+    private final SqlStatementScope parent;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private int statementCount;
+    private long rowCount;
+    private long jdbcNanos;
+    private boolean closed;
+
+    private SqlStatementScope(String name, SqlStatementScope parent) {
+        this.name = name;
+        this.parent = parent;
+    }
+
+    public static SqlStatementScope open(String name) {
+        SqlStatementScope scope = new SqlStatementScope(name, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static SqlStatementScope current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(String sql, long nanos) {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            scope.statementCount++;
+            scope.jdbcNanos += nanos;
+            scope.executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    void recordRows(long rows) {
+        for (SqlStatementScope scope = this; scope != null; scope = scope.parent) {
+            scope.rowCount += rows;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public Duration getJdbcTime() {
+        return Duration.ofNanos(jdbcNanos);
+    }
+
+    public Map<String, Integer> getStatementsExecutedAtLeast(int times) {
+        Map<String, Integer> repeated = new LinkedHashMap<>();
+        executionsBySql.forEach((sql, executions) -> {
+            if (executions >= times) {
+                repeated.put(sql, executions);
+            }
+        });
+        return repeated;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (parent == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(parent);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SqlStatementScope{" +
+                "name='" + name + '\'' +
+                ", statements=" + statementCount +
+                ", rows=" + rowCount +
+                ", jdbcTime=" + getJdbcTime() +
+                '}';
+    }
+}
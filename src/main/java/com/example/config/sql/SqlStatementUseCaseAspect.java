@@ -0,0 +1,27 @@
+package com.example.config.sql;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+@Aspect
+public class SqlStatementUseCaseAspect {
+
+    private final SqlStatementInspector inspector;
+
+    public SqlStatementUseCaseAspect(SqlStatementInspector inspector) {
+        this.inspector = inspector;
+    }
+
+    @Around("execution(* com.example.application.port.in..*UseCase.*(..))")
+    public Object inspect(ProceedingJoinPoint joinPoint) throws Throwable {
+        String name = joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+        SqlStatementScope scope = SqlStatementScope.open(name);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            inspector.scopeClosed("use-case", name, scope);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.config.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+public class StatementInspectingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementInspector inspector;
+
+    public StatementInspectingDataSource(DataSource targetDataSource, SqlStatementInspector inspector) {
+        super(targetDataSource);
+        this.inspector = inspector;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(obtainTargetDataSource().getConnection(username, password)));
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(
+                StatementInspectingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    private abstract static class JdbcHandler implements InvocationHandler {
+
+        private final Object target;
+
+        JdbcHandler(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public final Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    return ((Class<?>) args[0]).isInstance(proxy) ? proxy : delegate(method, args);
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy) || (Boolean) delegate(method, args);
+                default:
+                    return intercept(method, args);
+            }
+        }
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            return StatementInspectingDataSource.invoke(target, method, args);
+        }
+
+        abstract Object intercept(Method method, Object[] args) throws Throwable;
+    }
+
+    private final class ConnectionHandler extends JdbcHandler {
+
+        private ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object result = delegate(method, args);
+            if (result instanceof CallableStatement statement && name.equals("prepareCall")) {
+                return proxy(CallableStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof PreparedStatement statement && name.equals("prepareStatement")) {
+                return proxy(PreparedStatement.class, new StatementHandler(statement, (String) args[0]));
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxy(Statement.class, new StatementHandler(statement, null));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler extends JdbcHandler {
+
+        private final String preparedSql;
+
+        private StatementHandler(Statement target, String preparedSql) {
+            super(target);
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        Object intercept(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (!name.startsWith("execute")) {
+                return delegate(method, args);
+            }
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : preparedSql;
+            SqlStatementScope scope = SqlStatementScope.current();
+            long start = System.nanoTime();
+            Object result = delegate(method, args);
+            inspector.statementExecuted(scope, sql == null ? "<batch>" : sql, System.nanoTime() - start);
+
+            if (result instanceof Integer updated) {
+                inspector.rowsProcessed(scope, Math.max(updated, 0));
+            } else if (result instanceof Long updated) {
+                inspector.rowsProcessed(scope, Math.max(updated, 0));
+            } else if (result instanceof int[] batch) {
+                long rows = 0;
+                for (int updated : batch) {
+                    rows += Math.max(updated, 0);
+                }
+                inspector.rowsProcessed(scope, rows);
+            } else if (result instanceof long[] batch) {
+                long rows = 0;
+                for (long updated : batch) {
+                    rows += Math.max(updated, 0);
+                }
+                inspector.rowsProcessed(scope, rows);
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.config.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    private final int threshold;
+
+    public CompressionThresholdFilter(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ThresholdBufferingResponseWrapper wrapper = new ThresholdBufferingResponseWrapper(response, threshold);
+        filterChain.doFilter(request, wrapper);
+        if (request.isAsyncStarted()) {
+            wrapper.release();
+        } else {
+            wrapper.complete();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.config.web;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "server.compression", name = "enabled", havingValue = "true")
+public class ResponseCompressionConfiguration {
+
+    @Bean
+    public FilterRegistrationBean<CompressionThresholdFilter> compressionThresholdFilter(
+            @Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        FilterRegistrationBean<CompressionThresholdFilter> registration = new FilterRegistrationBean<>(
+                new CompressionThresholdFilter(Math.toIntExact(minResponseSize.toBytes())));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.config.web;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+class ThresholdBufferingResponseWrapper extends HttpServletResponseWrapper {
+
+    private final byte[] buffer;
+    private int count;
+    private boolean streaming;
+    private boolean lengthSet;
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
+    ThresholdBufferingResponseWrapper(HttpServletResponse response, int threshold) {
+        super(response);
+        this.buffer = new byte[threshold];
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        if (outputStream == null) {
+            outputStream = new BufferingOutputStream();
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (outputStream != null && writer == null) {
+            throw new IllegalStateException("getOutputStream() has already been called for this response");
+        }
+        if (writer == null) {
+            outputStream = new BufferingOutputStream();
+            writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        super.setContentLengthLong(length);
+        lengthSet = true;
+    }
+
+    @Override
+    public void sendError(int status, String message) throws IOException {
+        count = 0;
+        super.sendError(status, message);
+    }
+
+    @Override
+    public void sendError(int status) throws IOException {
+        count = 0;
+        super.sendError(status);
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (streaming) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        count = 0;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        count = 0;
+    }
+
+    void complete() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (!streaming && !lengthSet && !isCommitted()) {
+            super.setContentLengthLong(count);
+        }
+        startStreaming();
+    }
+
+    void release() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        startStreaming();
+    }
+
+    private void startStreaming() throws IOException {
+        streaming = true;
+        if (count > 0) {
+            getResponse().getOutputStream().write(buffer, 0, count);
+            count = 0;
+        }
+    }
+
+    private final class BufferingOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (!streaming && count + length > buffer.length) {
+                startStreaming();
+            }
+            if (streaming) {
+                getResponse().getOutputStream().write(bytes, offset, length);
+            } else {
+                System.arraycopy(bytes, offset, buffer, count, length);
+                count += length;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (streaming) {
+                getResponse().getOutputStream().flush();
+            }
+        }
+
+        @Override
+        public boolean isReady() {
+            if (!streaming) {
+                return true;
+            }
+            try {
+                return getResponse().getOutputStream().isReady();
+            } catch (IOException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public void setWriteListener(WriteListener listener) {
+            try {
+                startStreaming();
+                getResponse().getOutputStream().setWriteListener(listener);
+            } catch (IOException e) {
+                listener.onError(e);
+            }
+        }
+    }
+}
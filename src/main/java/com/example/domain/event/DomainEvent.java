@@ -0,0 +1,4 @@
+package com.example.domain.event;
+
+public interface DomainEvent {
+}
@@ -0,0 +1,38 @@
+package com.example.domain.event;
+
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public record OrderPlaced(
+        Long orderId,
+        Long customerId,
+        BigDecimal totalAmount,
+        LocalDateTime placedAt,
+        List<Line> lines
+) implements DomainEvent {
+
+    public record Line(
+            Long productId,
+            int quantity,
+            BigDecimal unitPrice,
+            BigDecimal subtotal
+    ) {
+    }
+
+    public OrderPlaced {
+        lines = List.copyOf(lines);
+    }
+
+    public static OrderPlaced of(Order order) {
+        List<Line> lines = new ArrayList<>(order.getItems().size());
+        for (OrderItem item : order.getItems()) {
+            lines.add(new Line(item.getProductId(), item.getQuantity(), item.getUnitPrice(), item.getSubtotal()));
+        }
+        return new OrderPlaced(order.getId(), order.getCustomerId(), order.getTotalAmount(), order.getCreatedAt(), lines);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.domain.event;
+
+import com.example.domain.model.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record OrderStatusChanged(
+        OrderStatus status,
+        List<Long> orderIds,
+        LocalDateTime changedAt
+) implements DomainEvent {
+
+    public OrderStatusChanged {
+        orderIds = List.copyOf(orderIds);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.domain.event;
+
+import com.example.domain.model.Product;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductCreated(
+        Long productId,
+        String sku,
+        String name,
+        String description,
+        BigDecimal price,
+        int stockQuantity,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) implements DomainEvent {
+
+    public static ProductCreated of(Product product) {
+        return new ProductCreated(product.getId(), product.getSku(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getStockQuantity(), product.getCreatedAt(), product.getUpdatedAt());
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.domain.event;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public record ProductStockChanged(
+        Map<Long, Integer> quantityDeltas,
+        LocalDateTime changedAt
+) implements DomainEvent {
+
+    public ProductStockChanged {
+        quantityDeltas = Map.copyOf(quantityDeltas);
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.domain.exception;
 
-public class CustomerNotFoundException extends RuntimeException {
+public class CustomerNotFoundException extends DomainException {
     public CustomerNotFoundException(Long customerId) {
         super("Customer not found with id: " + customerId);
     }
@@ -0,0 +1,11 @@
+package com.example.domain.exception;
+
+public abstract class DomainException extends RuntimeException {
+
+    private static final boolean STACK_TRACES_ENABLED =
+            Boolean.getBoolean("supermarket.domain-exceptions.stack-traces");
+
+    protected DomainException(String message) {
+        super(message, null, false, STACK_TRACES_ENABLED);
+    }
+}
@@ -1,8 +1,8 @@
 package com.example.domain.exception;
 
-public class InsufficientStockException extends RuntimeException {
+public class InsufficientStockException extends DomainException {
     public InsufficientStockException(String productName, Integer requested, Integer available) {
-        super(String.format("Insufficient stock for product '%s'. Requested: %d, Available: %d", 
-                productName, requested, available));
+        super("Insufficient stock for product '" + productName + "'. Requested: " + requested
+                + ", Available: " + available);
     }
 }
@@ -1,11 +1,7 @@
 package com.example.domain.exception;
 
-public class ProductNotFoundException extends RuntimeException {
+public class ProductNotFoundException extends DomainException {
     public ProductNotFoundException(Long productId) {
         super("Product not found with id: " + productId);
     }
-
-    public ProductNotFoundException(String sku) {
-        super("Product not found with SKU: " + sku);
-    }
 }
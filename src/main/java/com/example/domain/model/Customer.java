@@ -27,6 +27,18 @@ public class Customer {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public Customer(Long id, String email, String firstName, String lastName, String phone, String address,
+                    LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.email = email;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.phone = phone;
+        this.address = address;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public String getFullName() {
         return firstName + " " + lastName;
     }
@@ -0,0 +1,12 @@
+package com.example.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record CustomerDailySales(
+        Long customerId,
+        LocalDate day,
+        long orders,
+        BigDecimal revenue
+) {
+}
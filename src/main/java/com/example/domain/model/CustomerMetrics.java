@@ -0,0 +1,21 @@
+package com.example.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public record CustomerMetrics(
+        Long customerId,
+        LocalDate firstOrderDay,
+        LocalDate lastOrderDay,
+        int recencyDays,
+        long orders,
+        BigDecimal averageOrderValue,
+        BigDecimal lifetimeValue,
+        int recencyScore,
+        int frequencyScore,
+        int monetaryScore,
+        CustomerSegment segment,
+        LocalDateTime computedAt
+) {
+}
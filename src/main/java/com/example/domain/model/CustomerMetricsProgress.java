@@ -0,0 +1,18 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+
+public record CustomerMetricsProgress(
+        Phase phase,
+        long ordersScanned,
+        long customers,
+        long customersWritten,
+        Duration elapsed
+) {
+
+    public enum Phase {
+        SCANNING,
+        SCORING,
+        WRITING
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+public record CustomerMetricsRun(
+        LocalDate asOf,
+        long ordersScanned,
+        long customers,
+        int staleRowsDeleted,
+        int parallelism,
+        Duration scanElapsed,
+        Duration scoreElapsed,
+        Duration writeElapsed
+) {
+
+    public Duration elapsed() {
+        return scanElapsed.plus(scoreElapsed).plus(writeElapsed);
+    }
+}
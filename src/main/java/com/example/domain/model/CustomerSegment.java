@@ -0,0 +1,29 @@
+package com.example.domain.model;
+
+public enum CustomerSegment {
+    CHAMPIONS,
+    LOYAL,
+    NEW,
+    POTENTIAL,
+    AT_RISK,
+    HIBERNATING;
+
+    public static CustomerSegment of(int recencyScore, int frequencyScore, int monetaryScore, long orders) {
+        if (recencyScore >= 4 && frequencyScore >= 4 && monetaryScore >= 4) {
+            return CHAMPIONS;
+        }
+        if (recencyScore >= 4 && orders == 1) {
+            return NEW;
+        }
+        if (recencyScore <= 2 && frequencyScore >= 4) {
+            return AT_RISK;
+        }
+        if (frequencyScore >= 4) {
+            return LOYAL;
+        }
+        if (recencyScore <= 2) {
+            return HIBERNATING;
+        }
+        return POTENTIAL;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.domain.model;
+
+import java.time.LocalDate;
+
+public record ExportedPartition(
+        String table,
+        LocalDate day,
+        String location,
+        long rows,
+        long bytes
+) {
+}
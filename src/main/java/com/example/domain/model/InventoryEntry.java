@@ -0,0 +1,29 @@
+package com.example.domain.model;
+
+import java.time.LocalDateTime;
+
+public record InventoryEntry(
+        Long id,
+        Long productId,
+        InventoryEntryType type,
+        int quantityDelta,
+        Long referenceId,
+        LocalDateTime recordedAt
+) {
+
+    public static InventoryEntry receipt(Long productId, int quantity, LocalDateTime recordedAt) {
+        return new InventoryEntry(null, productId, InventoryEntryType.RECEIPT, quantity, null, recordedAt);
+    }
+
+    public static InventoryEntry sale(Long productId, int quantity, Long orderId, LocalDateTime recordedAt) {
+        return new InventoryEntry(null, productId, InventoryEntryType.SALE, -quantity, orderId, recordedAt);
+    }
+
+    public static InventoryEntry cancellation(Long productId, int quantity, Long orderId, LocalDateTime recordedAt) {
+        return new InventoryEntry(null, productId, InventoryEntryType.CANCELLATION, quantity, orderId, recordedAt);
+    }
+
+    public static InventoryEntry adjustment(Long productId, int delta, LocalDateTime recordedAt) {
+        return new InventoryEntry(null, productId, InventoryEntryType.ADJUSTMENT, delta, null, recordedAt);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.domain.model;
+
+public enum InventoryEntryType {
+    RECEIPT,
+    SALE,
+    CANCELLATION,
+    ADJUSTMENT
+}
@@ -0,0 +1,9 @@
+package com.example.domain.model;
+
+public record InventoryLevel(
+        Long productId,
+        long stock,
+        long snapshotEntryId,
+        long tailEntries
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+
+public record InventorySnapshotRun(
+        long fromEntryId,
+        long toEntryId,
+        int productsSnapshotted,
+        Duration elapsed
+) {
+}
@@ -30,6 +30,16 @@ public class Order {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public Order(Long id, Long customerId, OrderStatus status, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.items = new ArrayList<>();
+        this.status = status;
+        this.totalAmount = BigDecimal.ZERO;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public void addItem(OrderItem item) {
         if (item == null) {
             throw new IllegalArgumentException("Item cannot be null");
@@ -46,7 +56,7 @@ public class Order {
     }
 
     public void markAsConfirmed() {
-        if (this.status != OrderStatus.PENDING) {
+        if (!this.status.canTransitionTo(OrderStatus.CONFIRMED)) {
             throw new IllegalStateException("Only pending orders can be confirmed");
         }
         this.status = OrderStatus.CONFIRMED;
@@ -54,7 +64,7 @@ public class Order {
     }
 
     public void markAsShipped() {
-        if (this.status != OrderStatus.CONFIRMED) {
+        if (!this.status.canTransitionTo(OrderStatus.SHIPPED)) {
             throw new IllegalStateException("Only confirmed orders can be shipped");
         }
         this.status = OrderStatus.SHIPPED;
@@ -62,7 +72,7 @@ public class Order {
     }
 
     public void markAsDelivered() {
-        if (this.status != OrderStatus.SHIPPED) {
+        if (!this.status.canTransitionTo(OrderStatus.DELIVERED)) {
             throw new IllegalStateException("Only shipped orders can be delivered");
         }
         this.status = OrderStatus.DELIVERED;
@@ -70,7 +80,7 @@ public class Order {
     }
 
     public void cancel() {
-        if (this.status == OrderStatus.DELIVERED) {
+        if (this.status != OrderStatus.CANCELLED && !this.status.canTransitionTo(OrderStatus.CANCELLED)) {
             throw new IllegalStateException("Delivered orders cannot be cancelled");
         }
         this.status = OrderStatus.CANCELLED;
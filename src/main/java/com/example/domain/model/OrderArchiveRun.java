@@ -0,0 +1,12 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+public record OrderArchiveRun(
+        LocalDate placedBefore,
+        long ordersArchived,
+        int batches,
+        Duration elapsed
+) {
+}
@@ -0,0 +1,39 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+public record OrderSnapshotExport(
+        LocalDate from,
+        LocalDate to,
+        List<ExportedPartition> partitions,
+        int parallelism,
+        Duration elapsed
+) {
+
+    public static final String ORDERS = "orders";
+    public static final String ORDER_ITEMS = "order_items";
+
+    public OrderSnapshotExport {
+        partitions = List.copyOf(partitions);
+    }
+
+    public long rows(String table) {
+        long rows = 0;
+        for (ExportedPartition partition : partitions) {
+            if (partition.table().equals(table)) {
+                rows += partition.rows();
+            }
+        }
+        return rows;
+    }
+
+    public long bytes() {
+        long bytes = 0;
+        for (ExportedPartition partition : partitions) {
+            bytes += partition.bytes();
+        }
+        return bytes;
+    }
+}
@@ -1,9 +1,26 @@
 package com.example.domain.model;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum OrderStatus {
     PENDING,
     CONFIRMED,
     SHIPPED,
     DELIVERED,
-    CANCELLED
+    CANCELLED;
+
+    public Set<OrderStatus> allowedSources() {
+        return switch (this) {
+            case PENDING -> EnumSet.noneOf(OrderStatus.class);
+            case CONFIRMED -> EnumSet.of(PENDING);
+            case SHIPPED -> EnumSet.of(CONFIRMED);
+            case DELIVERED -> EnumSet.of(SHIPPED);
+            case CANCELLED -> EnumSet.of(PENDING, CONFIRMED, SHIPPED);
+        };
+    }
+
+    public boolean canTransitionTo(OrderStatus target) {
+        return target.allowedSources().contains(this);
+    }
 }
@@ -0,0 +1,31 @@
+package com.example.domain.model;
+
+public record OrderStatusTransition(
+        Long orderId,
+        Outcome outcome,
+        OrderStatus status
+) {
+
+    public enum Outcome {
+        TRANSITIONED,
+        UNCHANGED,
+        REJECTED,
+        NOT_FOUND
+    }
+
+    public static OrderStatusTransition transitioned(Long orderId, OrderStatus status) {
+        return new OrderStatusTransition(orderId, Outcome.TRANSITIONED, status);
+    }
+
+    public static OrderStatusTransition unchanged(Long orderId, OrderStatus status) {
+        return new OrderStatusTransition(orderId, Outcome.UNCHANGED, status);
+    }
+
+    public static OrderStatusTransition rejected(Long orderId, OrderStatus currentStatus) {
+        return new OrderStatusTransition(orderId, Outcome.REJECTED, currentStatus);
+    }
+
+    public static OrderStatusTransition notFound(Long orderId) {
+        return new OrderStatusTransition(orderId, Outcome.NOT_FOUND, null);
+    }
+}
@@ -28,6 +28,18 @@ public class Product {
         this.updatedAt = LocalDateTime.now();
     }
 
+    public Product(Long id, String sku, String name, String description, BigDecimal price, Integer stockQuantity,
+                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.sku = sku;
+        this.name = name;
+        this.description = description;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
     public void reduceStock(Integer quantity) {
         if (quantity == null || quantity <= 0) {
             throw new IllegalArgumentException("Quantity must be positive");
@@ -0,0 +1,12 @@
+package com.example.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record ProductDailySales(
+        Long productId,
+        LocalDate day,
+        long units,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,10 @@
+package com.example.domain.model;
+
+import java.math.BigDecimal;
+
+public record ProductSales(
+        Long productId,
+        long units,
+        BigDecimal revenue
+) {
+}
@@ -0,0 +1,29 @@
+package com.example.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ProductView(
+        Long id,
+        String sku,
+        String name,
+        String description,
+        BigDecimal price,
+        int stockQuantity,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static ProductView of(Product product) {
+        return new ProductView(product.getId(), product.getSku(), product.getName(), product.getDescription(),
+                product.getPrice(), product.getStockQuantity(), product.getCreatedAt(), product.getUpdatedAt());
+    }
+
+    public ProductView withStockDelta(int delta, LocalDateTime changedAt) {
+        return new ProductView(id, sku, name, description, price, stockQuantity + delta, createdAt, changedAt);
+    }
+
+    public Product toProduct() {
+        return new Product(id, sku, name, description, price, stockQuantity, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+
+public record ProductViewRebuild(
+        int products,
+        Duration elapsed
+) {
+}
@@ -0,0 +1,14 @@
+package com.example.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record SalesLine(
+        Long orderId,
+        Long customerId,
+        LocalDateTime placedAt,
+        Long productId,
+        int quantity,
+        BigDecimal subtotal
+) {
+}
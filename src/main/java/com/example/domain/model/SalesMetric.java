@@ -0,0 +1,6 @@
+package com.example.domain.model;
+
+public enum SalesMetric {
+    UNITS,
+    REVENUE
+}
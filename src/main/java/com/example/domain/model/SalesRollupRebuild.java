@@ -0,0 +1,13 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+
+public record SalesRollupRebuild(
+        long watermarkOrderId,
+        long linesScanned,
+        int productDays,
+        int customerDays,
+        int parallelism,
+        Duration elapsed
+) {
+}
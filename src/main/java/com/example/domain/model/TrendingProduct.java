@@ -0,0 +1,7 @@
+package com.example.domain.model;
+
+public record TrendingProduct(
+        Long productId,
+        long estimatedUnits
+) {
+}
@@ -0,0 +1,34 @@
+package com.example.domain.model;
+
+import java.time.Duration;
+
+public enum TrendingWindow {
+    FIVE_MINUTES("5m", Duration.ofMinutes(5)),
+    HOUR("1h", Duration.ofHours(1)),
+    DAY("1d", Duration.ofDays(1));
+
+    private final String label;
+    private final Duration length;
+
+    TrendingWindow(String label, Duration length) {
+        this.label = label;
+        this.length = length;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public Duration length() {
+        return length;
+    }
+
+    public static TrendingWindow fromLabel(String label) {
+        for (TrendingWindow window : values()) {
+            if (window.label.equalsIgnoreCase(label)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("Unknown trending window: " + label);
+    }
+}
@@ -0,0 +1,48 @@
+create table products (
+    id             bigint generated by default as identity,
+    sku            varchar(255)   not null,
+    name           varchar(255)   not null,
+    description    varchar(1000),
+    price          numeric(10, 2) not null,
+    stock_quantity integer        not null,
+    created_at     timestamp(6)   not null,
+    updated_at     timestamp(6)   not null,
+    constraint pk_products primary key (id),
+    constraint uk_products_sku unique (sku)
+);
+
+create table customers (
+    id         bigint generated by default as identity,
+    email      varchar(255) not null,
+    first_name varchar(255) not null,
+    last_name  varchar(255) not null,
+    phone      varchar(255),
+    address    varchar(500),
+    created_at timestamp(6) not null,
+    updated_at timestamp(6) not null,
+    constraint pk_customers primary key (id),
+    constraint uk_customers_email unique (email)
+);
+
+create table orders (
+    id           bigint generated by default as identity,
+    customer_id  bigint         not null,
+    total_amount numeric(10, 2) not null,
+    status       varchar(255)   not null,
+    created_at   timestamp(6)   not null,
+    updated_at   timestamp(6)   not null,
+    constraint pk_orders primary key (id),
+    constraint ck_orders_status check (status in ('PENDING', 'CONFIRMED', 'SHIPPED', 'DELIVERED', 'CANCELLED'))
+);
+
+create table order_items (
+    id           bigint generated by default as identity,
+    order_id     bigint         not null,
+    product_id   bigint         not null,
+    product_name varchar(255)   not null,
+    unit_price   numeric(10, 2) not null,
+    quantity     integer        not null,
+    subtotal     numeric(10, 2) not null,
+    constraint pk_order_items primary key (id),
+    constraint fk_order_items_order foreign key (order_id) references orders (id)
+);
@@ -0,0 +1,22 @@
+-- H2 backs every foreign key with an index on exactly the referencing columns, so
+-- orders.customer_id, order_items.order_id and order_items.product_id need no extra index.
+alter table orders
+    add constraint fk_orders_customer foreign key (customer_id) references customers (id);
+alter table order_items
+    add constraint fk_order_items_product foreign key (product_id) references products (id);
+
+create index idx_orders_status_created on orders (status, created_at);
+create index idx_orders_created on orders (created_at);
+
+alter table products
+    add constraint ck_products_stock_non_negative check (stock_quantity >= 0);
+alter table products
+    add constraint ck_products_price_positive check (price > 0);
+alter table orders
+    add constraint ck_orders_total_non_negative check (total_amount >= 0);
+alter table order_items
+    add constraint ck_order_items_quantity_positive check (quantity > 0);
+alter table order_items
+    add constraint ck_order_items_unit_price_non_negative check (unit_price >= 0);
+alter table order_items
+    add constraint ck_order_items_subtotal check (subtotal = unit_price * quantity);
@@ -0,0 +1,20 @@
+-- Rollups are maintained incrementally from order events and can be rebuilt from
+-- orders/order_items at any time, so they carry no foreign keys to the source tables.
+create table product_daily_sales (
+    product_id bigint         not null,
+    sales_day  date           not null,
+    units_sold bigint         not null,
+    revenue    numeric(19, 2) not null,
+    constraint pk_product_daily_sales primary key (product_id, sales_day)
+);
+
+create table customer_daily_sales (
+    customer_id   bigint         not null,
+    sales_day     date           not null,
+    orders_placed bigint         not null,
+    revenue       numeric(19, 2) not null,
+    constraint pk_customer_daily_sales primary key (customer_id, sales_day)
+);
+
+create index idx_product_daily_sales_day on product_daily_sales (sales_day);
+create index idx_customer_daily_sales_day on customer_daily_sales (sales_day);
@@ -0,0 +1,29 @@
+-- Delivered and cancelled orders older than the retention window are moved here in
+-- batches so that orders and order_items, and their indexes, only hold recent orders.
+-- Archived rows never change again, so there are no check or customer/product keys.
+create table orders_archive (
+    id           bigint         not null,
+    customer_id  bigint         not null,
+    total_amount numeric(10, 2) not null,
+    status       varchar(255)   not null,
+    created_at   timestamp(6)   not null,
+    updated_at   timestamp(6)   not null,
+    archived_at  timestamp(6)   not null,
+    constraint pk_orders_archive primary key (id)
+);
+
+create table order_items_archive (
+    id           bigint         not null,
+    order_id     bigint         not null,
+    product_id   bigint         not null,
+    product_name varchar(255)   not null,
+    unit_price   numeric(10, 2) not null,
+    quantity     integer        not null,
+    subtotal     numeric(10, 2) not null,
+    constraint pk_order_items_archive primary key (id),
+    constraint fk_order_items_archive_order foreign key (order_id) references orders_archive (id)
+);
+
+-- Serves findByCustomerId and the customer-ordered metrics scan, as idx_orders_customer_scan does on orders.
+create index idx_orders_archive_customer_scan on orders_archive (customer_id, status, created_at, total_amount);
+create index idx_orders_archive_created on orders_archive (created_at);
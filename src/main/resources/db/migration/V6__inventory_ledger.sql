@@ -0,0 +1,32 @@
+-- Append-only record of every stock movement. Rows are never updated or deleted, so
+-- there are no foreign keys to check on insert; the stock of a product is its latest
+-- snapshot plus the entries appended after it.
+create table inventory_ledger (
+    id             bigint generated by default as identity,
+    product_id     bigint       not null,
+    entry_type     varchar(32)  not null,
+    quantity_delta integer      not null,
+    reference_id   bigint,
+    recorded_at    timestamp(6) not null,
+    constraint pk_inventory_ledger primary key (id),
+    constraint ck_inventory_ledger_type check (entry_type in ('RECEIPT', 'SALE', 'CANCELLATION', 'ADJUSTMENT'))
+);
+
+-- Reads the tail of one product in append order.
+create index idx_inventory_ledger_product on inventory_ledger (product_id, id);
+
+-- Stock of each product folded up to and including last_entry_id.
+create table inventory_snapshots (
+    product_id    bigint       not null,
+    last_entry_id bigint       not null,
+    stock         bigint       not null,
+    taken_at      timestamp(6) not null,
+    constraint pk_inventory_snapshots primary key (product_id)
+);
+
+-- Existing stock becomes the opening balance of the ledger.
+insert into inventory_ledger (product_id, entry_type, quantity_delta, reference_id, recorded_at)
+select id, 'RECEIPT', stock_quantity, null, created_at
+from products
+where stock_quantity <> 0
+order by id;
@@ -0,0 +1,114 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.application.port.in.ComputeCustomerMetricsUseCase;
+import com.example.application.port.in.GetCustomerMetricsUseCase;
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.domain.model.CustomerMetrics;
+import com.example.domain.model.CustomerMetricsProgress;
+import com.example.domain.model.CustomerMetricsRun;
+import com.example.domain.model.CustomerSegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = CustomerMetricsController.class)
+@DisplayName("CustomerMetricsController Integration Tests")
+class CustomerMetricsControllerTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2024, 3, 14);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetCustomerMetricsUseCase getCustomerMetricsUseCase;
+
+    @MockBean
+    private ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase;
+
+    @Test
+    @DisplayName("givenComputedMetrics_whenGetCustomerMetrics_thenReturnsScoresAndSegment")
+    void givenComputedMetrics_whenGetCustomerMetrics_thenReturnsScoresAndSegment() throws Exception {
+        // Given
+        given(getCustomerMetricsUseCase.findByCustomerId(7L)).willReturn(Optional.of(new CustomerMetrics(
+                7L, AS_OF.minusDays(90), AS_OF.minusDays(2), 2, 12, new BigDecimal("41.50"),
+                new BigDecimal("498.00"), 5, 4, 3, CustomerSegment.LOYAL, AS_OF.atTime(2, 30))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/7/metrics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.customerId").value(7))
+                .andExpect(jsonPath("$.rfm").value("543"))
+                .andExpect(jsonPath("$.segment").value("LOYAL"))
+                .andExpect(jsonPath("$.lifetimeValue").value(498.00));
+    }
+
+    @Test
+    @DisplayName("givenNoMetrics_whenGetCustomerMetrics_thenReturns404")
+    void givenNoMetrics_whenGetCustomerMetrics_thenReturns404() throws Exception {
+        // Given
+        given(getCustomerMetricsUseCase.findByCustomerId(8L)).willReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/8/metrics"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("givenRecomputeRequest_whenPost_thenReturnsRunSummary")
+    void givenRecomputeRequest_whenPost_thenReturnsRunSummary() throws Exception {
+        // Given
+        given(computeCustomerMetricsUseCase.execute(new ComputeCustomerMetricsCommand(4, AS_OF))).willReturn(
+                new CustomerMetricsRun(AS_OF, 1_000, 100, 3, 4, Duration.ofMillis(40), Duration.ofMillis(5),
+                        Duration.ofMillis(30)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/customers/metrics/recompute")
+                        .param("parallelism", "4")
+                        .param("asOf", "2024-03-14"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ordersScanned").value(1000))
+                .andExpect(jsonPath("$.customers").value(100))
+                .andExpect(jsonPath("$.scanMillis").value(40));
+    }
+
+    @Test
+    @DisplayName("givenRunningComputation_whenGetProgress_thenReturnsThroughput")
+    void givenRunningComputation_whenGetProgress_thenReturnsThroughput() throws Exception {
+        // Given
+        given(computeCustomerMetricsUseCase.progress()).willReturn(Optional.of(new CustomerMetricsProgress(
+                CustomerMetricsProgress.Phase.SCANNING, 50_000, 4_000, 0, Duration.ofMillis(500))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/metrics/progress"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.phase").value("SCANNING"))
+                .andExpect(jsonPath("$.ordersPerSecond").value(100_000));
+    }
+
+    @Test
+    @DisplayName("givenNoRunningComputation_whenGetProgress_thenReturns204")
+    void givenNoRunningComputation_whenGetProgress_thenReturns204() throws Exception {
+        // Given
+        given(computeCustomerMetricsUseCase.progress()).willReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/customers/metrics/progress"))
+                .andExpect(status().isNoContent());
+    }
+}
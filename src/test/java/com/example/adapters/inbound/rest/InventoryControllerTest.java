@@ -0,0 +1,90 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.application.port.in.AdjustInventoryUseCase;
+import com.example.application.port.in.GetInventoryUseCase;
+import com.example.application.port.in.command.AdjustInventoryCommand;
+import com.example.domain.exception.InsufficientStockException;
+import com.example.domain.exception.ProductNotFoundException;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.InventoryLevel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = InventoryController.class)
+@DisplayName("InventoryController Integration Tests")
+class InventoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetInventoryUseCase getInventoryUseCase;
+
+    @MockBean
+    private AdjustInventoryUseCase adjustInventoryUseCase;
+
+    @Test
+    @DisplayName("givenProductWithLedger_whenGetInventory_thenReturnsLevelAndLatestEntries")
+    void givenProductWithLedger_whenGetInventory_thenReturnsLevelAndLatestEntries() throws Exception {
+        // Given
+        given(getInventoryUseCase.level(1L)).willReturn(new InventoryLevel(1L, 42, 310, 5));
+        given(getInventoryUseCase.entries(1L, 2)).willReturn(List.of(
+                new InventoryEntry(315L, 1L, InventoryEntryType.SALE, -3, 77L, LocalDateTime.of(2024, 3, 14, 10, 30)),
+                new InventoryEntry(314L, 1L, InventoryEntryType.RECEIPT, 20, null, LocalDateTime.of(2024, 3, 14, 9, 0))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/1/inventory"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stock").value(42))
+                .andExpect(jsonPath("$.snapshotEntryId").value(310))
+                .andExpect(jsonPath("$.tailEntries").value(5));
+        mockMvc.perform(get("/api/v1/products/1/inventory/entries").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].type").value("SALE"))
+                .andExpect(jsonPath("$[0].quantityDelta").value(-3))
+                .andExpect(jsonPath("$[0].referenceId").value(77))
+                .andExpect(jsonPath("$[1].type").value("RECEIPT"));
+    }
+
+    @Test
+    @DisplayName("givenReceiptAndOversizedAdjustment_whenPost_thenReturnsLevelAndConflict")
+    void givenReceiptAndOversizedAdjustment_whenPost_thenReturnsLevelAndConflict() throws Exception {
+        // Given
+        given(adjustInventoryUseCase.execute(new AdjustInventoryCommand(1L, InventoryEntryType.RECEIPT, 20)))
+                .willReturn(new InventoryLevel(1L, 62, 310, 6));
+        given(adjustInventoryUseCase.execute(new AdjustInventoryCommand(1L, InventoryEntryType.ADJUSTMENT, -100)))
+                .willThrow(new InsufficientStockException("Apple", 100, 62));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/products/1/inventory/receipts").param("quantity", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.stock").value(62));
+        mockMvc.perform(post("/api/v1/products/1/inventory/adjustments").param("quantity", "-100"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("givenUnknownProduct_whenGetInventory_thenReturns404")
+    void givenUnknownProduct_whenGetInventory_thenReturns404() throws Exception {
+        // Given
+        given(getInventoryUseCase.level(99L)).willThrow(new ProductNotFoundException(99L));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/99/inventory"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.application.port.in.ArchiveOrdersUseCase;
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.domain.model.OrderArchiveRun;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = OrderArchiveController.class)
+@DisplayName("OrderArchiveController Integration Tests")
+class OrderArchiveControllerTest {
+
+    private static final LocalDate CUT_OFF = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ArchiveOrdersUseCase archiveOrdersUseCase;
+
+    @Test
+    @DisplayName("givenArchiveRequest_whenPost_thenReturnsRunSummary")
+    void givenArchiveRequest_whenPost_thenReturnsRunSummary() throws Exception {
+        // Given
+        given(archiveOrdersUseCase.execute(new ArchiveOrdersCommand(CUT_OFF, 500)))
+                .willReturn(new OrderArchiveRun(CUT_OFF, 1_120, 3, Duration.ofMillis(85)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/orders/archive")
+                        .param("before", "2024-01-01")
+                        .param("batchSize", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.placedBefore").value("2024-01-01"))
+                .andExpect(jsonPath("$.ordersArchived").value(1_120))
+                .andExpect(jsonPath("$.batches").value(3))
+                .andExpect(jsonPath("$.elapsedMillis").value(85));
+    }
+
+    @Test
+    @DisplayName("givenMissingCutOff_whenPost_thenReturns400")
+    void givenMissingCutOff_whenPost_thenReturns400() throws Exception {
+        // Given
+        given(archiveOrdersUseCase.execute(any()))
+                .willThrow(new IllegalArgumentException("Archive cut-off date is required"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/orders/archive"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -2,6 +2,10 @@ package com.example.adapters.inbound.rest;
 
 import com.example.adapters.inbound.rest.dto.OrderItemRequest;
 import com.example.adapters.inbound.rest.dto.OrderRequest;
+import com.example.application.port.in.CancelOrdersUseCase;
+import com.example.application.port.in.ChangeOrderStatusUseCase;
+import com.example.application.port.in.command.CancelOrdersCommand;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
 import com.example.application.port.in.command.CreateOrderCommand;
 import com.example.application.port.in.CreateOrderUseCase;
 import com.example.domain.exception.CustomerNotFoundException;
@@ -9,6 +13,8 @@ import com.example.domain.exception.InsufficientStockException;
 import com.example.domain.exception.ProductNotFoundException;
 import com.example.domain.model.Order;
 import com.example.domain.model.OrderItem;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.OrderStatusTransition;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,6 +31,7 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -42,6 +49,12 @@ class OrderControllerTest {
     @MockBean
     private CreateOrderUseCase createOrderUseCase;
 
+    @MockBean
+    private ChangeOrderStatusUseCase changeOrderStatusUseCase;
+
+    @MockBean
+    private CancelOrdersUseCase cancelOrdersUseCase;
+
     private Order validOrder;
     private OrderRequest validRequest;
 
@@ -197,4 +210,110 @@ class OrderControllerTest {
                         .content(objectMapper.writeValueAsString(multiItemRequest)))
                 .andExpect(status().isCreated());
     }
+
+    @Test
+    @DisplayName("givenConfirmedOrder_whenChangeStatusToShipped_thenReturns200WithOutcome")
+    void givenConfirmedOrder_whenChangeStatusToShipped_thenReturns200WithOutcome() throws Exception {
+        // Given
+        given(changeOrderStatusUseCase.execute(new ChangeOrderStatusCommand(List.of(1L), OrderStatus.SHIPPED)))
+                .willReturn(List.of(OrderStatusTransition.transitioned(1L, OrderStatus.SHIPPED)));
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/orders/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"shipped\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.outcome").value("TRANSITIONED"))
+                .andExpect(jsonPath("$.status").value("SHIPPED"));
+    }
+
+    @Test
+    @DisplayName("givenDeliveredOrder_whenChangeStatusToShipped_thenReturns409")
+    void givenDeliveredOrder_whenChangeStatusToShipped_thenReturns409() throws Exception {
+        // Given
+        given(changeOrderStatusUseCase.execute(any(ChangeOrderStatusCommand.class)))
+                .willReturn(List.of(OrderStatusTransition.rejected(1L, OrderStatus.DELIVERED)));
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/orders/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"SHIPPED\"}"))
+                .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("givenNonExistingOrder_whenChangeStatus_thenReturns404")
+    void givenNonExistingOrder_whenChangeStatus_thenReturns404() throws Exception {
+        // Given
+        given(changeOrderStatusUseCase.execute(any(ChangeOrderStatusCommand.class)))
+                .willReturn(List.of(OrderStatusTransition.notFound(999L)));
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/orders/999/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"CONFIRMED\"}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("givenUnknownStatus_whenChangeStatus_thenReturns400")
+    void givenUnknownStatus_whenChangeStatus_thenReturns400() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/v1/orders/1/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"LOST\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("givenWave_whenChangeStatuses_thenReturnsPerOrderOutcomesAndCounts")
+    void givenWave_whenChangeStatuses_thenReturnsPerOrderOutcomesAndCounts() throws Exception {
+        // Given
+        given(changeOrderStatusUseCase.execute(new ChangeOrderStatusCommand(List.of(1L, 2L, 3L), OrderStatus.SHIPPED)))
+                .willReturn(List.of(
+                        OrderStatusTransition.transitioned(1L, OrderStatus.SHIPPED),
+                        OrderStatusTransition.rejected(2L, OrderStatus.PENDING),
+                        OrderStatusTransition.notFound(3L)));
+
+        // When & Then
+        mockMvc.perform(patch("/api/v1/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderIds\":[1,2,3],\"status\":\"SHIPPED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.transitioned").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.notFound").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("givenEmptyWave_whenChangeStatuses_thenReturns400")
+    void givenEmptyWave_whenChangeStatuses_thenReturns400() throws Exception {
+        // When & Then
+        mockMvc.perform(patch("/api/v1/orders/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderIds\":[],\"status\":\"SHIPPED\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("givenOrdersWithFailedPayments_whenCancelledInBulk_thenReturnsPerOrderOutcomes")
+    void givenOrdersWithFailedPayments_whenCancelledInBulk_thenReturnsPerOrderOutcomes() throws Exception {
+        // Given
+        given(cancelOrdersUseCase.execute(new CancelOrdersCommand(List.of(1L, 2L))))
+                .willReturn(List.of(
+                        OrderStatusTransition.transitioned(1L, OrderStatus.CANCELLED),
+                        OrderStatusTransition.rejected(2L, OrderStatus.DELIVERED)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/orders/cancellations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderIds\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.targetStatus").value("CANCELLED"))
+                .andExpect(jsonPath("$.transitioned").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("DELIVERED"));
+    }
 }
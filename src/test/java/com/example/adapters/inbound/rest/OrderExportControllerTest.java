@@ -0,0 +1,73 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.application.port.in.ExportOrdersUseCase;
+import com.example.application.port.in.command.ExportOrdersCommand;
+import com.example.domain.model.ExportedPartition;
+import com.example.domain.model.OrderSnapshotExport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = OrderExportController.class)
+@DisplayName("OrderExportController Integration Tests")
+class OrderExportControllerTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 14);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportOrdersUseCase exportOrdersUseCase;
+
+    @Test
+    @DisplayName("givenExportRequest_whenPost_thenReturnsPartitionsAndTotals")
+    void givenExportRequest_whenPost_thenReturnsPartitionsAndTotals() throws Exception {
+        // Given
+        given(exportOrdersUseCase.execute(new ExportOrdersCommand(DAY, DAY, 2))).willReturn(new OrderSnapshotExport(
+                DAY, DAY, List.of(
+                        new ExportedPartition("orders", DAY, "exports/orders/date=2024-03-14.smc", 12, 480),
+                        new ExportedPartition("order_items", DAY, "exports/order_items/date=2024-03-14.smc", 31,
+                                1_020)),
+                2, Duration.ofMillis(15)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/exports/orders")
+                        .param("from", "2024-03-14")
+                        .param("to", "2024-03-14")
+                        .param("parallelism", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders").value(12))
+                .andExpect(jsonPath("$.orderItems").value(31))
+                .andExpect(jsonPath("$.bytes").value(1_500))
+                .andExpect(jsonPath("$.partitions.length()").value(2))
+                .andExpect(jsonPath("$.partitions[1].location").value("exports/order_items/date=2024-03-14.smc"));
+    }
+
+    @Test
+    @DisplayName("givenInvalidRange_whenPost_thenReturns400")
+    void givenInvalidRange_whenPost_thenReturns400() throws Exception {
+        // Given
+        given(exportOrdersUseCase.execute(any())).willThrow(
+                new IllegalArgumentException("From date must not be after to date"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/exports/orders")
+                        .param("from", "2024-03-15")
+                        .param("to", "2024-03-14"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -5,7 +5,10 @@ import com.example.application.port.in.command.CreateProductCommand;
 import com.example.application.port.in.CreateProductUseCase;
 import com.example.application.port.in.GetProductUseCase;
 import com.example.domain.model.Product;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +23,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -164,6 +168,18 @@ class ProductControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("givenNonExistingProductId_whenGetById_thenReturnsErrorBody")
+    void givenNonExistingProductId_whenGetById_thenReturnsErrorBody() throws Exception {
+        // Given
+        given(getProductUseCase.findById(999L)).willReturn(Optional.empty());
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products/999"))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.message").value("Product not found with id: 999"));
+    }
+
     @Test
     @DisplayName("givenExistingSku_whenGetBySku_thenReturns200")
     void givenExistingSku_whenGetBySku_thenReturns200() throws Exception {
@@ -222,4 +238,52 @@ class ProductControllerTest {
         mockMvc.perform(get("/api/v1/products"))
                 .andExpect(jsonPath("$.length()").value(2));
     }
+
+    @Test
+    @DisplayName("givenSmileAcceptHeader_whenGetAll_thenReturnsSmileEncodedProducts")
+    void givenSmileAcceptHeader_whenGetAll_thenReturnsSmileEncodedProducts() throws Exception {
+        // Given
+        given(getProductUseCase.findAll()).willReturn(List.of(validProduct));
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/products")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode products = new ObjectMapper(new SmileFactory()).readTree(body);
+        assertThat(products.get(0).get("sku").asText()).isEqualTo("SKU-001");
+        assertThat(products.get(0).get("createdAt").isTextual()).isTrue();
+    }
+
+    @Test
+    @DisplayName("givenCborAcceptHeader_whenGetAll_thenReturnsCborEncodedProducts")
+    void givenCborAcceptHeader_whenGetAll_thenReturnsCborEncodedProducts() throws Exception {
+        // Given
+        given(getProductUseCase.findAll()).willReturn(List.of(validProduct));
+
+        // When
+        byte[] body = mockMvc.perform(get("/api/v1/products")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // Then
+        JsonNode products = new ObjectMapper(new CBORFactory()).readTree(body);
+        assertThat(products.get(0).get("sku").asText()).isEqualTo("SKU-001");
+    }
+
+    @Test
+    @DisplayName("givenNoAcceptHeader_whenGetAll_thenReturnsJson")
+    void givenNoAcceptHeader_whenGetAll_thenReturnsJson() throws Exception {
+        // Given
+        given(getProductUseCase.findAll()).willReturn(List.of(validProduct));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/products"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.application.port.in.RebuildProductViewsUseCase;
+import com.example.domain.model.ProductViewRebuild;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ProductViewController.class)
+@DisplayName("ProductViewController Integration Tests")
+class ProductViewControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private RebuildProductViewsUseCase rebuildProductViewsUseCase;
+
+    @Test
+    @DisplayName("givenRebuildRequest_whenPost_thenReturnsRebuildSummary")
+    void givenRebuildRequest_whenPost_thenReturnsRebuildSummary() throws Exception {
+        // Given
+        given(rebuildProductViewsUseCase.execute()).willReturn(new ProductViewRebuild(1_250, Duration.ofMillis(14)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/products/read-model/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products").value(1_250))
+                .andExpect(jsonPath("$.elapsedMillis").value(14));
+    }
+}
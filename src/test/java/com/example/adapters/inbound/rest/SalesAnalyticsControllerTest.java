@@ -0,0 +1,121 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.application.port.in.GetSalesAnalyticsUseCase;
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.command.RebuildSalesRollupsCommand;
+import com.example.domain.model.DailySales;
+import com.example.domain.model.ProductSales;
+import com.example.domain.model.SalesMetric;
+import com.example.domain.model.SalesRollupRebuild;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = SalesAnalyticsController.class)
+@DisplayName("SalesAnalyticsController Integration Tests")
+class SalesAnalyticsControllerTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 13);
+    private static final LocalDate TO = LocalDate.of(2024, 3, 14);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetSalesAnalyticsUseCase getSalesAnalyticsUseCase;
+
+    @MockBean
+    private RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase;
+
+    @Test
+    @DisplayName("givenDailySales_whenGetRevenue_thenReturnsTotalsAndDays")
+    void givenDailySales_whenGetRevenue_thenReturnsTotalsAndDays() throws Exception {
+        // Given
+        given(getSalesAnalyticsUseCase.dailySales(FROM, TO)).willReturn(List.of(
+                new DailySales(FROM, 2, 5, new BigDecimal("12.50")),
+                new DailySales(TO, 1, 1, new BigDecimal("3.00"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/analytics/revenue")
+                        .param("from", "2024-03-13")
+                        .param("to", "2024-03-14"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.orders").value(3))
+                .andExpect(jsonPath("$.units").value(6))
+                .andExpect(jsonPath("$.revenue").value(15.50))
+                .andExpect(jsonPath("$.days.length()").value(2))
+                .andExpect(jsonPath("$.days[1].day").value("2024-03-14"));
+    }
+
+    @Test
+    @DisplayName("givenRankedProducts_whenGetTopProducts_thenReturnsRankedList")
+    void givenRankedProducts_whenGetTopProducts_thenReturnsRankedList() throws Exception {
+        // Given
+        given(getSalesAnalyticsUseCase.topProducts(FROM, TO, 2, SalesMetric.REVENUE)).willReturn(List.of(
+                new ProductSales(11L, 2, new BigDecimal("40.00")),
+                new ProductSales(10L, 5, new BigDecimal("5.00"))));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/analytics/products/top")
+                        .param("from", "2024-03-13")
+                        .param("to", "2024-03-14")
+                        .param("limit", "2")
+                        .param("by", "revenue"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].rank").value(1))
+                .andExpect(jsonPath("$[0].productId").value(11))
+                .andExpect(jsonPath("$[1].rank").value(2))
+                .andExpect(jsonPath("$[1].productId").value(10));
+    }
+
+    @Test
+    @DisplayName("givenUnknownMetric_whenGetTopProducts_thenReturns400")
+    void givenUnknownMetric_whenGetTopProducts_thenReturns400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/analytics/products/top").param("by", "margin"))
+                .andExpect(status().isBadRequest());
+        then(getSalesAnalyticsUseCase).should(never()).topProducts(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("givenMalformedDate_whenGetRevenue_thenReturns400")
+    void givenMalformedDate_whenGetRevenue_thenReturns400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/analytics/revenue").param("from", "14/03/2024"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("givenParallelism_whenRebuild_thenReturnsRebuildSummary")
+    void givenParallelism_whenRebuild_thenReturnsRebuildSummary() throws Exception {
+        // Given
+        given(rebuildSalesRollupsUseCase.execute(new RebuildSalesRollupsCommand(4)))
+                .willReturn(new SalesRollupRebuild(120L, 480L, 35, 60, 4, Duration.ofMillis(25)));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/analytics/rebuild").param("parallelism", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.watermarkOrderId").value(120))
+                .andExpect(jsonPath("$.linesScanned").value(480))
+                .andExpect(jsonPath("$.parallelism").value(4))
+                .andExpect(jsonPath("$.elapsedMillis").value(25));
+    }
+}
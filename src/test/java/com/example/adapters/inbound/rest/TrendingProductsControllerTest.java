@@ -0,0 +1,61 @@
+package com.example.adapters.inbound.rest;
+
+import com.example.application.port.in.GetTrendingProductsUseCase;
+import com.example.domain.model.TrendingProduct;
+import com.example.domain.model.TrendingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = TrendingProductsController.class)
+@DisplayName("TrendingProductsController Integration Tests")
+class TrendingProductsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private GetTrendingProductsUseCase getTrendingProductsUseCase;
+
+    @Test
+    @DisplayName("givenTrendingProducts_whenGetTrending_thenReturnsRankedList")
+    void givenTrendingProducts_whenGetTrending_thenReturnsRankedList() throws Exception {
+        // Given
+        given(getTrendingProductsUseCase.trendingProducts(TrendingWindow.FIVE_MINUTES, 2)).willReturn(List.of(
+                new TrendingProduct(11L, 40),
+                new TrendingProduct(10L, 25)));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/analytics/products/trending")
+                        .param("window", "5m")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.window").value("5m"))
+                .andExpect(jsonPath("$.products[0].rank").value(1))
+                .andExpect(jsonPath("$.products[0].productId").value(11))
+                .andExpect(jsonPath("$.products[1].estimatedUnits").value(25));
+    }
+
+    @Test
+    @DisplayName("givenUnknownWindow_whenGetTrending_thenReturns400")
+    void givenUnknownWindow_whenGetTrending_thenReturns400() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/analytics/products/trending").param("window", "1w"))
+                .andExpect(status().isBadRequest());
+        then(getTrendingProductsUseCase).should(never()).trendingProducts(any(), anyInt());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.adapters.inbound.rest.json;
+
+import com.example.adapters.inbound.rest.dto.OrderItemResponse;
+import com.example.adapters.inbound.rest.dto.OrderResponse;
+import com.example.adapters.inbound.rest.dto.ProductResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JsonTest
+@DisplayName("Response Serializers Tests")
+class ResponseSerializersTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private ObjectMapper reflectiveMapper;
+
+    @BeforeEach
+    void setUp() {
+        reflectiveMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Test
+    @DisplayName("givenApplicationMapper_whenLookupSerializers_thenUsesHandWrittenSerializers")
+    void givenApplicationMapper_whenLookupSerializers_thenUsesHandWrittenSerializers() throws Exception {
+        // When & Then
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(ProductResponse.class))
+                .isInstanceOf(ProductResponseSerializer.class);
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(OrderResponse.class))
+                .isInstanceOf(OrderResponseSerializer.class);
+        assertThat(objectMapper.getSerializerProviderInstance().findValueSerializer(OrderItemResponse.class))
+                .isInstanceOf(OrderItemResponseSerializer.class);
+    }
+
+    @Test
+    @DisplayName("givenProductResponse_whenSerialize_thenMatchesReflectiveOutput")
+    void givenProductResponse_whenSerialize_thenMatchesReflectiveOutput() throws Exception {
+        // Given
+        ProductResponse response = new ProductResponse(
+                1L,
+                "SKU-001",
+                "Leche \"Entera\"",
+                null,
+                new BigDecimal("19.90"),
+                100,
+                LocalDateTime.of(2025, 12, 28, 10, 30, 0, 120_000_000),
+                LocalDateTime.of(2025, 1, 2, 3, 4, 5)
+        );
+
+        // When
+        String json = objectMapper.writeValueAsString(response);
+
+        // Then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("givenOrderResponse_whenSerialize_thenMatchesReflectiveOutput")
+    void givenOrderResponse_whenSerialize_thenMatchesReflectiveOutput() throws Exception {
+        // Given
+        OrderResponse response = new OrderResponse(
+                7L,
+                3L,
+                List.of(
+                        new OrderItemResponse(1L, 10L, "Pan", new BigDecimal("2.00"), 2, new BigDecimal("4.00")),
+                        new OrderItemResponse(2L, 11L, "Leche", new BigDecimal("1.50"), 1, new BigDecimal("1.50"))
+                ),
+                new BigDecimal("5.50"),
+                "PENDING",
+                LocalDateTime.of(2025, 12, 28, 10, 30, 15, 123_456_789),
+                LocalDateTime.of(2025, 12, 28, 10, 30, 15, 1_000)
+        );
+
+        // When
+        String json = objectMapper.writeValueAsString(response);
+
+        // Then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(response));
+    }
+
+    @Test
+    @DisplayName("givenProductList_whenSerialize_thenMatchesReflectiveOutput")
+    void givenProductList_whenSerialize_thenMatchesReflectiveOutput() throws Exception {
+        // Given
+        List<ProductResponse> responses = List.of(
+                new ProductResponse(1L, "SKU-001", "A", "a", new BigDecimal("1.00"), 1, null, null),
+                new ProductResponse(2L, "SKU-002", "B", "b", new BigDecimal("2.5"), 0,
+                        LocalDateTime.of(999, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 29, 23, 59, 59, 999_999_999))
+        );
+
+        // When
+        String json = objectMapper.writeValueAsString(responses);
+
+        // Then
+        assertThat(json).isEqualTo(reflectiveMapper.writeValueAsString(responses));
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.adapters.outbound.export;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Columnar export file format")
+class ColumnarFileTest {
+
+    private static final int ROWS = 20_000;
+    private static final LocalDateTime START = LocalDateTime.of(2024, 3, 14, 0, 0);
+    private static final String[] STATUSES = {"PENDING", "CONFIRMED", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    @TempDir
+    Path directory;
+
+    private Connection connection;
+
+    @BeforeEach
+    void createOrders() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:columnarfile;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table orders (id bigint primary key, customer_id bigint, " +
+                    "total_amount decimal(10, 2), status varchar(20), created_at timestamp, updated_at timestamp)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into orders values (?, ?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= ROWS; i++) {
+                LocalDateTime createdAt = START.plusSeconds(i * 4L);
+                insert.setLong(1, i);
+                insert.setLong(2, 1 + (i * 7919L) % 2_000);
+                insert.setBigDecimal(3, BigDecimal.valueOf(100 + (i * 37L) % 20_000, 2));
+                insert.setString(4, STATUSES[i * 10 / ROWS % STATUSES.length]);
+                insert.setObject(5, createdAt);
+                insert.setObject(6, createdAt.plusMinutes(5));
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    @AfterEach
+    void dropOrders() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("drop table orders");
+        }
+        connection.close();
+    }
+
+    @Test
+    @DisplayName("givenOrderRows_whenWrittenAndScanned_thenEveryColumnRoundTrips")
+    void givenOrderRows_whenWrittenAndScanned_thenEveryColumnRoundTrips() throws Exception {
+        // Given
+        Path file = directory.resolve("orders.smc");
+        write(file, 4_096);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        List<Long> amounts = new ArrayList<>();
+        List<Long> created = new ArrayList<>();
+        List<String> statuses = new ArrayList<>();
+        try (ColumnarFileReader reader = ColumnarFileReader.open(file)) {
+            assertThat(reader.table()).isEqualTo("orders");
+            assertThat(reader.columns()).isEqualTo(JdbcColumnarExportAdapter.ORDER_COLUMNS);
+            assertThat(reader.rowCount()).isEqualTo(ROWS);
+            reader.scanLongs("id", ids::add);
+            reader.scanLongs("total_amount", amounts::add);
+            reader.scanLongs("created_at", created::add);
+            reader.scanStrings("status", statuses::add);
+        }
+
+        // Then
+        assertThat(ids).hasSize(ROWS).startsWith(1L, 2L, 3L).endsWith((long) ROWS);
+        assertThat(amounts.get(0)).isEqualTo(100 + 37);
+        assertThat(created.get(0)).isEqualTo(START.plusSeconds(4).toEpochSecond(ZoneOffset.UTC) * 1_000_000);
+        assertThat(statuses).hasSize(ROWS).startsWith("PENDING").endsWith("PENDING").contains("CANCELLED");
+    }
+
+    @Test
+    @DisplayName("givenOrderRows_whenExported_thenFileIsSmallerAndProjectedScanIsCheaperThanCsv")
+    void givenOrderRows_whenExported_thenFileIsSmallerAndProjectedScanIsCheaperThanCsv() throws Exception {
+        // Given
+        Path columnar = directory.resolve("orders.smc");
+        Path csv = directory.resolve("orders.csv");
+        write(columnar, 65_536);
+        writeCsv(csv);
+
+        // When
+        AtomicLong revenue = new AtomicLong();
+        try (ColumnarFileReader reader = ColumnarFileReader.open(columnar)) {
+            reader.scanLongs("total_amount", revenue::addAndGet);
+        }
+
+        // Then
+        long expected = 0;
+        for (int i = 1; i <= ROWS; i++) {
+            expected += 100 + (i * 37L) % 20_000;
+        }
+        assertThat(revenue.get()).isEqualTo(expected);
+        assertThat(Files.size(columnar)).isLessThan(Files.size(csv) / 4);
+    }
+
+    @Test
+    @DisplayName("givenColumnShapes_whenEncoded_thenSmallestEncodingIsChosen")
+    void givenColumnShapes_whenEncoded_thenSmallestEncodingIsChosen() {
+        // Given
+        long[] sequential = new long[1_000];
+        long[] constant = new long[1_000];
+        String[] lowCardinality = new String[1_000];
+        String[] unique = new String[1_000];
+        for (int i = 0; i < 1_000; i++) {
+            sequential[i] = 1_000_000 + i;
+            constant[i] = 42;
+            lowCardinality[i] = STATUSES[i % 2];
+            unique[i] = "product-" + i;
+        }
+
+        // When & Then
+        assertThat(ColumnEncoding.encodeLongs(sequential, 1_000).encoding()).isEqualTo(ColumnEncoding.DELTA);
+        assertThat(ColumnEncoding.encodeLongs(constant, 1_000).encoding()).isEqualTo(ColumnEncoding.RLE);
+        assertThat(ColumnEncoding.encodeStrings(lowCardinality, 1_000).encoding())
+                .isEqualTo(ColumnEncoding.DICTIONARY);
+        assertThat(ColumnEncoding.encodeStrings(unique, 1_000).encoding()).isEqualTo(ColumnEncoding.PLAIN);
+    }
+
+    @Test
+    @DisplayName("givenUnknownOrMistypedColumn_whenScanned_thenFailsWithIllegalArgumentException")
+    void givenUnknownOrMistypedColumn_whenScanned_thenFailsWithIllegalArgumentException() throws Exception {
+        // Given
+        Path file = directory.resolve("orders.smc");
+        write(file, 4_096);
+
+        // When & Then
+        try (ColumnarFileReader reader = ColumnarFileReader.open(file)) {
+            assertThatThrownBy(() -> reader.scanLongs("missing", value -> { }))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> reader.scanLongs("status", value -> { }))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private void write(Path file, int rowGroupSize) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "select id, customer_id, total_amount, status, created_at, updated_at from orders order by id");
+             ColumnarFileWriter writer = new ColumnarFileWriter(file, "orders",
+                     JdbcColumnarExportAdapter.ORDER_COLUMNS, rowGroupSize, 6)) {
+            while (resultSet.next()) {
+                writer.append(resultSet);
+            }
+        }
+    }
+
+    private void writeCsv(Path file) throws SQLException, IOException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(
+                     "select id, customer_id, total_amount, status, created_at, updated_at from orders order by id");
+             BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("id,customer_id,total_amount,status,created_at,updated_at\n");
+            while (resultSet.next()) {
+                writer.write(resultSet.getLong(1) + "," + resultSet.getLong(2) + "," + resultSet.getBigDecimal(3) + ","
+                        + resultSet.getString(4) + "," + resultSet.getObject(5, LocalDateTime.class) + ","
+                        + resultSet.getObject(6, LocalDateTime.class) + "\n");
+            }
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.application.port.in.ChangeOrderStatusUseCase;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.CreateProductUseCase;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.CreateProductCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:stockconcurrencydb;QUERY_CACHE_SIZE=64;LOCK_TIMEOUT=10000",
+        "supermarket.orders.expiry.enabled=false"
+})
+@DirtiesContext
+@DisplayName("Product stock under concurrent checkout and cancellation")
+class ProductStockConcurrencyTest {
+
+    private static final int ORDERS = 40;
+    private static final int INITIAL_STOCK = 500;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ChangeOrderStatusUseCase changeOrderStatusUseCase;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("givenCancellationsRacingCheckouts_whenAllCommit_thenNoStockUpdateIsLost")
+    void givenCancellationsRacingCheckouts_whenAllCommit_thenNoStockUpdateIsLost() throws Exception {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product product = createProductUseCase.execute(new CreateProductCommand("RACE-" + suffix, "Race Product",
+                "d", new BigDecimal("1.00"), INITIAL_STOCK));
+        Customer customer = customerRepository.save(new Customer(null, "race-" + suffix + "@example.com",
+                "Race", "Test", null, null));
+        List<Long> placed = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            placed.add(placeOrder(customer, product, 3).getId());
+        }
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<?>> tasks = new ArrayList<>(ORDERS * 2);
+
+        // When
+        try {
+            for (Long orderId : placed) {
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    await(start);
+                    changeOrderStatusUseCase.execute(new ChangeOrderStatusCommand(List.of(orderId),
+                            OrderStatus.CANCELLED));
+                }, executor));
+                tasks.add(CompletableFuture.runAsync(() -> {
+                    await(start);
+                    placeOrder(customer, product, 2);
+                }, executor));
+            }
+            start.countDown();
+            CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        Integer stock = jdbcTemplate.queryForObject("select stock_quantity from products where id = ?",
+                Integer.class, product.getId());
+        assertThat(stock).isEqualTo(INITIAL_STOCK - ORDERS * 2);
+    }
+
+    private Order placeOrder(Customer customer, Product product, int quantity) {
+        return createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), quantity))));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.adapters.outbound.persistence;
+
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.InventoryLedgerPort;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.config.sql.SqlStatementScope;
+import com.example.domain.model.Customer;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderItem;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.Product;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = "supermarket.sql.inspection-enabled=true")
+@DisplayName("Repository query plans")
+class RepositoryQueryPlanTest {
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private OrderRepositoryPort orderRepository;
+
+    @Autowired
+    private InventoryLedgerPort inventoryLedger;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Product product;
+    private Customer customer;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        product = productRepository.save(new Product(null, "PLAN-" + suffix, "Plan Product", "d",
+                new BigDecimal("2.50"), 100));
+        customer = customerRepository.save(new Customer(null, "plan-" + suffix + "@example.com",
+                "Plan", "Test", null, null));
+        Order newOrder = new Order(null, customer.getId());
+        newOrder.addItem(new OrderItem(null, null, product.getId(), product.getName(), product.getPrice(), 2));
+        order = orderRepository.save(newOrder);
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    @Test
+    @DisplayName("givenPortLookups_whenExplained_thenEveryStatementUsesAnIndex")
+    void givenPortLookups_whenExplained_thenEveryStatementUsesAnIndex() throws SQLException {
+        // Given
+        Map<String, Integer> statements;
+        try (SqlStatementScope scope = SqlStatementScope.open("plans")) {
+            productRepository.findById(product.getId());
+            productRepository.findBySku(product.getSku());
+            productRepository.existsBySku(product.getSku());
+            customerRepository.findById(customer.getId());
+            customerRepository.findByEmail(customer.getEmail());
+            customerRepository.existsByEmail(customer.getEmail());
+            orderRepository.findById(order.getId());
+            orderRepository.findByCustomerId(customer.getId());
+            orderRepository.forEachPendingOrder((orderId, placedAt) -> { });
+            orderRepository.forEachOrderByCustomer((customerId, placedAt, totalAmount) -> { });
+            orderRepository.findById(Long.MAX_VALUE);
+            orderRepository.archiveOrders(LocalDateTime.of(2000, 1, 1, 0, 0),
+                    EnumSet.of(OrderStatus.DELIVERED, OrderStatus.CANCELLED), 1);
+            inventoryLedger.findLevel(product.getId());
+            inventoryLedger.findLatestEntries(product.getId(), 10);
+            statements = scope.getStatementsExecutedAtLeast(1);
+        }
+
+        // When / Then
+        assertThat(statements).isNotEmpty();
+        for (String sql : statements.keySet()) {
+            assertThat(explain(sql))
+                    .as("plan of %s", sql)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+    }
+
+    private String explain(String sql) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setNull(i, Types.OTHER);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.application.service;
+
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.application.port.out.CustomerMetricsRepositoryPort;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.domain.model.CustomerMetrics;
+import com.example.domain.model.CustomerMetricsRun;
+import com.example.domain.model.CustomerSegment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerMetricsService Tests")
+class CustomerMetricsServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2024, 3, 14);
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private CustomerMetricsRepositoryPort customerMetricsRepository;
+
+    @InjectMocks
+    private CustomerMetricsService customerMetricsService;
+
+    @Test
+    @DisplayName("givenOrdersStreamedByCustomer_whenComputed_thenQuintileScoresAndSegmentsAreUpserted")
+    @SuppressWarnings("unchecked")
+    void givenOrdersStreamedByCustomer_whenComputed_thenQuintileScoresAndSegmentsAreUpserted() {
+        // Given
+        willAnswer(invocation -> {
+            OrderRepositoryPort.CustomerOrderConsumer consumer = invocation.getArgument(0);
+            for (long customerId = 1; customerId <= 5; customerId++) {
+                LocalDate lastOrder = AS_OF.minusDays((5 - customerId) * 30);
+                for (long order = customerId; order >= 1; order--) {
+                    consumer.accept(customerId, lastOrder.minusDays(order - 1).atTime(12, 0),
+                            BigDecimal.valueOf(customerId * 10));
+                }
+            }
+            return null;
+        }).given(orderRepository).forEachOrderByCustomer(any());
+        given(customerMetricsRepository.deleteComputedBefore(any())).willReturn(2);
+
+        // When
+        CustomerMetricsRun run = customerMetricsService.execute(new ComputeCustomerMetricsCommand(2, AS_OF));
+
+        // Then
+        ArgumentCaptor<Collection<CustomerMetrics>> batches = ArgumentCaptor.forClass(Collection.class);
+        then(customerMetricsRepository).should().upsert(batches.capture());
+        List<CustomerMetrics> metrics = new ArrayList<>(batches.getValue());
+        metrics.sort(Comparator.comparing(CustomerMetrics::customerId));
+        assertThat(metrics).extracting(CustomerMetrics::recencyScore).containsExactly(1, 2, 3, 4, 5);
+        assertThat(metrics).extracting(CustomerMetrics::frequencyScore).containsExactly(1, 2, 3, 4, 5);
+        assertThat(metrics).extracting(CustomerMetrics::monetaryScore).containsExactly(1, 2, 3, 4, 5);
+        assertThat(metrics).extracting(CustomerMetrics::segment).containsExactly(
+                CustomerSegment.HIBERNATING, CustomerSegment.HIBERNATING, CustomerSegment.POTENTIAL,
+                CustomerSegment.CHAMPIONS, CustomerSegment.CHAMPIONS);
+
+        CustomerMetrics champion = metrics.get(4);
+        assertThat(champion.orders()).isEqualTo(5);
+        assertThat(champion.recencyDays()).isZero();
+        assertThat(champion.firstOrderDay()).isEqualTo(AS_OF.minusDays(4));
+        assertThat(champion.lifetimeValue()).isEqualByComparingTo("250.00");
+        assertThat(champion.averageOrderValue()).isEqualByComparingTo("50.00");
+
+        assertThat(run.ordersScanned()).isEqualTo(15);
+        assertThat(run.customers()).isEqualTo(5);
+        assertThat(run.staleRowsDeleted()).isEqualTo(2);
+        assertThat(customerMetricsService.progress()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("givenOrdersOutOfCustomerOrder_whenComputed_thenFailsWithoutWriting")
+    void givenOrdersOutOfCustomerOrder_whenComputed_thenFailsWithoutWriting() {
+        // Given
+        willAnswer(invocation -> {
+            OrderRepositoryPort.CustomerOrderConsumer consumer = invocation.getArgument(0);
+            consumer.accept(2L, AS_OF.atStartOfDay(), BigDecimal.TEN);
+            consumer.accept(1L, AS_OF.atStartOfDay(), BigDecimal.TEN);
+            return null;
+        }).given(orderRepository).forEachOrderByCustomer(any());
+
+        // When & Then
+        assertThatThrownBy(() -> customerMetricsService.execute(new ComputeCustomerMetricsCommand(1, AS_OF)))
+                .isInstanceOf(IllegalStateException.class);
+        then(customerMetricsRepository).should(never()).upsert(any());
+        then(customerMetricsRepository).should(never()).deleteComputedBefore(any());
+        assertThat(customerMetricsService.progress()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("givenNonPositiveParallelism_whenComputed_thenThrowsIllegalArgumentException")
+    void givenNonPositiveParallelism_whenComputed_thenThrowsIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> customerMetricsService.execute(new ComputeCustomerMetricsCommand(0, AS_OF)))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(orderRepository).should(never()).forEachOrderByCustomer(any());
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.application.service;
+
+import com.example.application.port.in.command.AdjustInventoryCommand;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.domain.exception.InsufficientStockException;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.InventoryLevel;
+import com.example.domain.model.InventorySnapshotRun;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InventoryService Tests")
+class InventoryServiceTest {
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedger;
+
+    @Mock
+    private DomainEventPublisherPort eventPublisher;
+
+    @InjectMocks
+    private InventoryService inventoryService;
+
+    @Test
+    @DisplayName("givenExistingProduct_whenReadingLevel_thenLevelComesFromTheLedger")
+    void givenExistingProduct_whenReadingLevel_thenLevelComesFromTheLedger() {
+        // Given
+        given(productRepository.findById(10L)).willReturn(Optional.of(product(10L, 40)));
+        given(inventoryLedger.findLevel(10L)).willReturn(new InventoryLevel(10L, 40, 7, 3));
+
+        // When
+        InventoryLevel level = inventoryService.level(10L);
+
+        // Then
+        assertThat(level).isEqualTo(new InventoryLevel(10L, 40, 7, 3));
+    }
+
+    @Test
+    @DisplayName("givenReceipt_whenExecuted_thenStockIsAdjustedAndEntryIsAppendedInTheSameCall")
+    @SuppressWarnings("unchecked")
+    void givenReceipt_whenExecuted_thenStockIsAdjustedAndEntryIsAppendedInTheSameCall() {
+        // Given
+        given(productRepository.adjustStock(10L, 20)).willReturn(true);
+        given(productRepository.findById(10L)).willReturn(Optional.of(product(10L, 60)));
+
+        // When
+        inventoryService.execute(new AdjustInventoryCommand(10L, InventoryEntryType.RECEIPT, 20));
+
+        // Then
+        ArgumentCaptor<List<InventoryEntry>> batch = ArgumentCaptor.forClass(List.class);
+        then(inventoryLedger).should().append(batch.capture());
+        assertThat(batch.getValue())
+                .extracting(InventoryEntry::productId, InventoryEntry::type, InventoryEntry::quantityDelta)
+                .containsExactly(tuple(10L, InventoryEntryType.RECEIPT, 20));
+    }
+
+    @Test
+    @DisplayName("givenSnapshotRuns_whenTaken_thenEachFoldsUpToTheSettledEntry")
+    void givenSnapshotRuns_whenTaken_thenEachFoldsUpToTheSettledEntry() {
+        // Given
+        given(inventoryLedger.snapshotWatermark()).willReturn(0L, 120L);
+        given(inventoryLedger.settledEntryId()).willReturn(120L, 120L);
+        given(inventoryLedger.snapshot(0L, 120L)).willReturn(4);
+
+        // When
+        InventorySnapshotRun first = inventoryService.execute();
+        InventorySnapshotRun second = inventoryService.execute();
+
+        // Then
+        then(inventoryLedger).should(times(1)).snapshot(anyLong(), anyLong());
+        assertThat(first.fromEntryId()).isZero();
+        assertThat(first.toEntryId()).isEqualTo(120L);
+        assertThat(first.productsSnapshotted()).isEqualTo(4);
+        assertThat(second.fromEntryId()).isEqualTo(120L);
+        assertThat(second.productsSnapshotted()).isZero();
+    }
+
+    @Test
+    @DisplayName("givenAdjustmentBelowZero_whenExecuted_thenInsufficientStockAndNothingIsAppended")
+    void givenAdjustmentBelowZero_whenExecuted_thenInsufficientStockAndNothingIsAppended() {
+        // Given
+        given(productRepository.adjustStock(10L, -50)).willReturn(false);
+        given(productRepository.findById(10L)).willReturn(Optional.of(product(10L, 20)));
+
+        // When / Then
+        assertThatThrownBy(() -> inventoryService.execute(
+                new AdjustInventoryCommand(10L, InventoryEntryType.ADJUSTMENT, -50)))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("Requested: 50");
+        then(inventoryLedger).should(never()).append(any());
+    }
+
+    @Test
+    @DisplayName("givenSaleType_whenAdjusting_thenThrowsException")
+    void givenSaleType_whenAdjusting_thenThrowsException() {
+        // When / Then
+        assertThatThrownBy(() -> inventoryService.execute(
+                new AdjustInventoryCommand(10L, InventoryEntryType.SALE, 5)))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(productRepository).should(never()).adjustStock(anyLong(), anyInt());
+    }
+
+    private static Product product(Long id, int stock) {
+        return new Product(id, "SKU-" + id, "Product " + id, "d", new BigDecimal("2.00"), stock);
+    }
+}
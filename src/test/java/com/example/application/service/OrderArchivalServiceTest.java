@@ -0,0 +1,81 @@
+package com.example.application.service;
+
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.domain.model.OrderArchiveRun;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderArchivalService Tests")
+class OrderArchivalServiceTest {
+
+    private static final LocalDate CUT_OFF = LocalDate.of(2024, 1, 1);
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @InjectMocks
+    private OrderArchivalService orderArchivalService;
+
+    @Test
+    @DisplayName("givenMoreOrdersThanOneBatch_whenArchived_thenBatchesRunUntilOneComesBackShort")
+    void givenMoreOrdersThanOneBatch_whenArchived_thenBatchesRunUntilOneComesBackShort() {
+        // Given
+        given(orderRepository.archiveOrders(CUT_OFF.atStartOfDay(), OrderArchivalService.ARCHIVABLE_STATUSES, 500))
+                .willReturn(500, 500, 120);
+
+        // When
+        OrderArchiveRun run = orderArchivalService.execute(new ArchiveOrdersCommand(CUT_OFF, 500));
+
+        // Then
+        then(orderRepository).should(times(3)).archiveOrders(any(), any(), anyInt());
+        assertThat(run.ordersArchived()).isEqualTo(1_120);
+        assertThat(run.batches()).isEqualTo(3);
+        assertThat(run.placedBefore()).isEqualTo(CUT_OFF);
+    }
+
+    @Test
+    @DisplayName("givenNothingToArchive_whenArchived_thenSingleEmptyBatchIsReported")
+    void givenNothingToArchive_whenArchived_thenSingleEmptyBatchIsReported() {
+        // Given
+        given(orderRepository.archiveOrders(CUT_OFF.atStartOfDay(), OrderArchivalService.ARCHIVABLE_STATUSES,
+                OrderArchivalService.DEFAULT_BATCH_SIZE)).willReturn(0);
+
+        // When
+        OrderArchiveRun run = orderArchivalService.execute(new ArchiveOrdersCommand(CUT_OFF, null));
+
+        // Then
+        assertThat(run.ordersArchived()).isZero();
+        assertThat(run.batches()).isZero();
+    }
+
+    @Test
+    @DisplayName("givenMissingCutOffOrInvalidBatchSize_whenArchived_thenFailsBeforeTouchingOrders")
+    void givenMissingCutOffOrInvalidBatchSize_whenArchived_thenFailsBeforeTouchingOrders() {
+        // When & Then
+        assertThatThrownBy(() -> orderArchivalService.execute(new ArchiveOrdersCommand(null, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderArchivalService.execute(new ArchiveOrdersCommand(CUT_OFF, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderArchivalService.execute(
+                new ArchiveOrdersCommand(CUT_OFF, OrderArchivalService.MAX_BATCH_SIZE + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(orderRepository).should(never()).archiveOrders(any(), any(), anyInt());
+    }
+}
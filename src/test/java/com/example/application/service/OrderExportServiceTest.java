@@ -0,0 +1,97 @@
+package com.example.application.service;
+
+import com.example.application.port.in.command.ExportOrdersCommand;
+import com.example.application.port.out.OrderSnapshotExportPort;
+import com.example.domain.model.ExportedPartition;
+import com.example.domain.model.OrderSnapshotExport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderExportService Tests")
+class OrderExportServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 3, 1);
+
+    @Mock
+    private OrderSnapshotExportPort orderSnapshotExport;
+
+    @InjectMocks
+    private OrderExportService orderExportService;
+
+    @Test
+    @DisplayName("givenDateRange_whenExported_thenEveryDayIsExportedOnceAndEmptyDaysAreSkipped")
+    void givenDateRange_whenExported_thenEveryDayIsExportedOnceAndEmptyDaysAreSkipped() {
+        // Given
+        LocalDate to = FROM.plusDays(2);
+        given(orderSnapshotExport.exportDay(any())).willAnswer(invocation -> partitions(invocation.getArgument(0)));
+
+        // When
+        OrderSnapshotExport export = orderExportService.execute(new ExportOrdersCommand(FROM, to, 3));
+
+        // Then
+        then(orderSnapshotExport).should(times(3)).exportDay(any());
+        assertThat(export.partitions()).hasSize(4)
+                .extracting(ExportedPartition::day)
+                .doesNotContain(FROM.plusDays(1));
+        assertThat(export.rows(OrderSnapshotExport.ORDERS)).isEqualTo(20);
+        assertThat(export.rows(OrderSnapshotExport.ORDER_ITEMS)).isEqualTo(60);
+        assertThat(export.bytes()).isEqualTo(2_600);
+        assertThat(export.parallelism()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("givenPartitionFailure_whenExported_thenFailsWithIllegalStateException")
+    void givenPartitionFailure_whenExported_thenFailsWithIllegalStateException() {
+        // Given
+        given(orderSnapshotExport.exportDay(FROM)).willThrow(
+                new UncheckedIOException(new IOException("disk full")));
+
+        // When & Then
+        assertThatThrownBy(() -> orderExportService.execute(new ExportOrdersCommand(FROM, FROM, 2)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(UncheckedIOException.class);
+    }
+
+    @Test
+    @DisplayName("givenInvalidRangeOrParallelism_whenExported_thenFailsBeforeExporting")
+    void givenInvalidRangeOrParallelism_whenExported_thenFailsBeforeExporting() {
+        // When & Then
+        assertThatThrownBy(() -> orderExportService.execute(new ExportOrdersCommand(null, FROM, null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderExportService.execute(new ExportOrdersCommand(FROM, FROM.minusDays(1), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderExportService.execute(new ExportOrdersCommand(FROM,
+                FROM.plusDays(OrderExportService.MAX_RANGE_DAYS), null)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> orderExportService.execute(new ExportOrdersCommand(FROM, FROM, 0)))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(orderSnapshotExport).should(never()).exportDay(any());
+    }
+
+    private static List<ExportedPartition> partitions(LocalDate day) {
+        if (day.equals(FROM.plusDays(1))) {
+            return List.of();
+        }
+        return List.of(
+                new ExportedPartition("orders", day, "orders/date=" + day + ".smc", 10, 400),
+                new ExportedPartition("order_items", day, "order_items/date=" + day + ".smc", 30, 900));
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.application.service;
+
+import com.example.application.port.in.command.CancelOrdersCommand;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
+import com.example.application.port.in.command.ExpireOrdersCommand;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.domain.event.OrderStatusChanged;
+import com.example.domain.event.ProductStockChanged;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.OrderStatusTransition;
+import com.example.domain.model.SalesLine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderLifecycleService Tests")
+class OrderLifecycleServiceTest {
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedger;
+
+    @Mock
+    private DomainEventPublisherPort eventPublisher;
+
+    @InjectMocks
+    private OrderLifecycleService orderLifecycleService;
+
+    @Test
+    @DisplayName("givenMixedStatuses_whenShipping_thenOnlyConfirmedOrdersAreUpdated")
+    void givenMixedStatuses_whenShipping_thenOnlyConfirmedOrdersAreUpdated() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(1L, 2L, 3L, 4L))).willReturn(Map.of(
+                1L, OrderStatus.CONFIRMED,
+                2L, OrderStatus.SHIPPED,
+                3L, OrderStatus.PENDING));
+        given(orderRepository.updateStatus(List.of(1L), EnumSet.of(OrderStatus.CONFIRMED), OrderStatus.SHIPPED))
+                .willReturn(1);
+
+        // When
+        List<OrderStatusTransition> transitions = orderLifecycleService.execute(
+                new ChangeOrderStatusCommand(List.of(1L, 2L, 3L, 4L), OrderStatus.SHIPPED));
+
+        // Then
+        assertThat(transitions).containsExactly(
+                OrderStatusTransition.transitioned(1L, OrderStatus.SHIPPED),
+                OrderStatusTransition.unchanged(2L, OrderStatus.SHIPPED),
+                OrderStatusTransition.rejected(3L, OrderStatus.PENDING),
+                OrderStatusTransition.notFound(4L));
+    }
+
+    @Test
+    @DisplayName("givenWaveLargerThanChunk_whenConfirming_thenIdsAreLockedAndUpdatedPerChunk")
+    void givenWaveLargerThanChunk_whenConfirming_thenIdsAreLockedAndUpdatedPerChunk() {
+        // Given
+        List<Long> orderIds = LongStream.rangeClosed(1, 2_500).boxed().toList();
+        given(orderRepository.lockStatuses(anyCollection())).willAnswer(invocation -> {
+            Map<Long, OrderStatus> statuses = new HashMap<>();
+            for (Object id : invocation.getArgument(0, Collection.class)) {
+                statuses.put((Long) id, OrderStatus.PENDING);
+            }
+            return statuses;
+        });
+        given(orderRepository.updateStatus(anyCollection(), eq(EnumSet.of(OrderStatus.PENDING)), eq(OrderStatus.CONFIRMED)))
+                .willAnswer(invocation -> invocation.getArgument(0, Collection.class).size());
+
+        // When
+        List<OrderStatusTransition> transitions = orderLifecycleService.execute(
+                new ChangeOrderStatusCommand(orderIds, OrderStatus.CONFIRMED));
+
+        // Then
+        assertThat(transitions).hasSize(2_500)
+                .allMatch(transition -> transition.outcome() == OrderStatusTransition.Outcome.TRANSITIONED);
+        then(orderRepository).should(times(3)).lockStatuses(anyCollection());
+        then(orderRepository).should(times(3)).updateStatus(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("givenDuplicateIds_whenCancelling_thenEachOrderIsReportedOnce")
+    void givenDuplicateIds_whenCancelling_thenEachOrderIsReportedOnce() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(7L))).willReturn(Map.of(7L, OrderStatus.CANCELLED));
+
+        // When
+        List<OrderStatusTransition> transitions = orderLifecycleService.execute(
+                new ChangeOrderStatusCommand(List.of(7L, 7L), OrderStatus.CANCELLED));
+
+        // Then
+        assertThat(transitions).containsExactly(OrderStatusTransition.unchanged(7L, OrderStatus.CANCELLED));
+        then(orderRepository).should(never()).updateStatus(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("givenConcurrentChange_whenUpdatedRowsDiffer_thenThrowsIllegalStateException")
+    void givenConcurrentChange_whenUpdatedRowsDiffer_thenThrowsIllegalStateException() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(1L))).willReturn(Map.of(1L, OrderStatus.SHIPPED));
+        given(orderRepository.updateStatus(List.of(1L), EnumSet.of(OrderStatus.SHIPPED), OrderStatus.DELIVERED))
+                .willReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> orderLifecycleService.execute(
+                new ChangeOrderStatusCommand(List.of(1L), OrderStatus.DELIVERED)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("givenPendingTarget_whenChangingStatus_thenThrowsIllegalArgumentException")
+    void givenPendingTarget_whenChangingStatus_thenThrowsIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> orderLifecycleService.execute(
+                new ChangeOrderStatusCommand(List.of(1L), OrderStatus.PENDING)))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(orderRepository).should(never()).lockStatuses(anyCollection());
+    }
+
+    @Test
+    @DisplayName("givenPendingAndCancelledOrders_whenCancelling_thenOnlyNewlyCancelledItemsAreRestocked")
+    @SuppressWarnings("unchecked")
+    void givenPendingAndCancelledOrders_whenCancelling_thenOnlyNewlyCancelledItemsAreRestocked() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(1L, 2L, 3L))).willReturn(Map.of(
+                1L, OrderStatus.PENDING,
+                2L, OrderStatus.CONFIRMED,
+                3L, OrderStatus.CANCELLED));
+        given(orderRepository.updateStatus(List.of(1L, 2L), OrderStatus.CANCELLED.allowedSources(), OrderStatus.CANCELLED))
+                .willReturn(2);
+        given(orderRepository.findSalesLines(List.of(1L, 2L))).willReturn(List.of(
+                line(1L, 10L, 2), line(2L, 10L, 1), line(2L, 11L, 1)));
+
+        // When
+        List<OrderStatusTransition> transitions = orderLifecycleService.execute(
+                new CancelOrdersCommand(List.of(1L, 2L, 3L)));
+
+        // Then
+        assertThat(transitions).extracting(OrderStatusTransition::outcome).containsExactly(
+                OrderStatusTransition.Outcome.TRANSITIONED,
+                OrderStatusTransition.Outcome.TRANSITIONED,
+                OrderStatusTransition.Outcome.UNCHANGED);
+        then(productRepository).should().increaseStock(Map.of(10L, 3, 11L, 1));
+        then(eventPublisher).should().publish(argThat(event -> event instanceof ProductStockChanged changed
+                && changed.quantityDeltas().equals(Map.of(10L, 3, 11L, 1))));
+        ArgumentCaptor<List<InventoryEntry>> entries = ArgumentCaptor.forClass(List.class);
+        then(inventoryLedger).should().append(entries.capture());
+        assertThat(entries.getValue())
+                .extracting(InventoryEntry::productId, InventoryEntry::type, InventoryEntry::quantityDelta,
+                        InventoryEntry::referenceId)
+                .containsExactly(
+                        tuple(10L, InventoryEntryType.CANCELLATION, 2, 1L),
+                        tuple(10L, InventoryEntryType.CANCELLATION, 1, 2L),
+                        tuple(11L, InventoryEntryType.CANCELLATION, 1, 2L));
+    }
+
+    @Test
+    @DisplayName("givenCancellationAcrossChunks_whenCancelling_thenQuantitiesAreAggregatedIntoOneRestock")
+    void givenCancellationAcrossChunks_whenCancelling_thenQuantitiesAreAggregatedIntoOneRestock() {
+        // Given
+        List<Long> orderIds = LongStream.rangeClosed(1, 1_500).boxed().toList();
+        given(orderRepository.lockStatuses(anyCollection())).willAnswer(invocation -> {
+            Map<Long, OrderStatus> statuses = new HashMap<>();
+            for (Object id : invocation.getArgument(0, Collection.class)) {
+                statuses.put((Long) id, OrderStatus.PENDING);
+            }
+            return statuses;
+        });
+        given(orderRepository.updateStatus(anyCollection(), any(), eq(OrderStatus.CANCELLED)))
+                .willAnswer(invocation -> invocation.getArgument(0, Collection.class).size());
+        given(orderRepository.findSalesLines(anyCollection())).willAnswer(invocation ->
+                List.of(line((Long) invocation.getArgument(0, List.class).get(0), 10L, 2)));
+
+        // When
+        orderLifecycleService.execute(new CancelOrdersCommand(orderIds));
+
+        // Then
+        then(productRepository).should(times(1)).increaseStock(Map.of(10L, 4));
+        then(inventoryLedger).should(times(1)).append(argThat(entries -> entries.size() == 2));
+    }
+
+    @Test
+    @DisplayName("givenNonCancellingTransition_whenShipping_thenStockIsNotTouched")
+    void givenNonCancellingTransition_whenShipping_thenStockIsNotTouched() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(1L))).willReturn(Map.of(1L, OrderStatus.CONFIRMED));
+        given(orderRepository.updateStatus(List.of(1L), EnumSet.of(OrderStatus.CONFIRMED), OrderStatus.SHIPPED))
+                .willReturn(1);
+
+        // When
+        orderLifecycleService.execute(new ChangeOrderStatusCommand(List.of(1L), OrderStatus.SHIPPED));
+
+        // Then
+        then(orderRepository).should(never()).findSalesLines(anyCollection());
+        then(productRepository).should(never()).increaseStock(any());
+        then(inventoryLedger).should(never()).append(any());
+    }
+
+    @Test
+    @DisplayName("givenPendingAndConfirmedOrders_whenExpiring_thenOnlyPendingOrdersAreCancelledAndRestocked")
+    void givenPendingAndConfirmedOrders_whenExpiring_thenOnlyPendingOrdersAreCancelledAndRestocked() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(1L, 2L))).willReturn(Map.of(
+                1L, OrderStatus.PENDING,
+                2L, OrderStatus.CONFIRMED));
+        given(orderRepository.updateStatus(List.of(1L), EnumSet.of(OrderStatus.PENDING), OrderStatus.CANCELLED))
+                .willReturn(1);
+        given(orderRepository.findSalesLines(List.of(1L))).willReturn(List.of(line(1L, 10L, 2)));
+
+        // When
+        List<OrderStatusTransition> transitions = orderLifecycleService.execute(
+                new ExpireOrdersCommand(List.of(1L, 2L)));
+
+        // Then
+        assertThat(transitions).extracting(OrderStatusTransition::outcome).containsExactly(
+                OrderStatusTransition.Outcome.TRANSITIONED,
+                OrderStatusTransition.Outcome.REJECTED);
+        then(productRepository).should().increaseStock(Map.of(10L, 2));
+    }
+
+    @Test
+    @DisplayName("givenTransitionedOrders_whenChangingStatus_thenOneStatusChangedEventIsPublished")
+    void givenTransitionedOrders_whenChangingStatus_thenOneStatusChangedEventIsPublished() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(1L, 2L))).willReturn(Map.of(
+                1L, OrderStatus.PENDING,
+                2L, OrderStatus.CONFIRMED));
+        given(orderRepository.updateStatus(List.of(1L), EnumSet.of(OrderStatus.PENDING), OrderStatus.CONFIRMED))
+                .willReturn(1);
+
+        // When
+        orderLifecycleService.execute(new ChangeOrderStatusCommand(List.of(1L, 2L), OrderStatus.CONFIRMED));
+
+        // Then
+        then(eventPublisher).should().publish(argThat(event -> event instanceof OrderStatusChanged changed
+                && changed.status() == OrderStatus.CONFIRMED
+                && changed.orderIds().equals(List.of(1L))));
+    }
+
+    @Test
+    @DisplayName("givenNothingTransitioned_whenChangingStatus_thenNoEventIsPublished")
+    void givenNothingTransitioned_whenChangingStatus_thenNoEventIsPublished() {
+        // Given
+        given(orderRepository.lockStatuses(List.of(1L))).willReturn(Map.of(1L, OrderStatus.CONFIRMED));
+
+        // When
+        orderLifecycleService.execute(new ChangeOrderStatusCommand(List.of(1L), OrderStatus.CONFIRMED));
+
+        // Then
+        then(eventPublisher).should(never()).publish(any());
+    }
+
+    private static SalesLine line(Long orderId, Long productId, int quantity) {
+        return new SalesLine(orderId, 100L, LocalDateTime.of(2024, 3, 14, 10, 30), productId, quantity,
+                new BigDecimal("2.00").multiply(BigDecimal.valueOf(quantity)));
+    }
+}
@@ -3,13 +3,19 @@ package com.example.application.service;
 import com.example.application.port.in.command.CreateOrderCommand;
 import com.example.application.port.in.command.OrderItemCommand;
 import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
 import com.example.application.port.out.OrderRepositoryPort;
 import com.example.application.port.out.ProductRepositoryPort;
+import com.example.domain.event.OrderPlaced;
 import com.example.domain.exception.CustomerNotFoundException;
 import com.example.domain.exception.InsufficientStockException;
 import com.example.domain.exception.ProductNotFoundException;
 import com.example.domain.model.Customer;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryEntryType;
 import com.example.domain.model.Order;
+import com.example.domain.model.OrderItem;
 import com.example.domain.model.Product;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +28,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +36,7 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,6 +52,12 @@ class OrderServiceTest {
     @Mock
     private ProductRepositoryPort productRepository;
 
+    @Mock
+    private InventoryLedgerPort inventoryLedger;
+
+    @Mock
+    private DomainEventPublisherPort eventPublisher;
+
     @InjectMocks
     private OrderService orderService;
 
@@ -105,7 +119,74 @@ class OrderServiceTest {
         orderService.execute(validCommand);
 
         // Then
-        then(productRepository).should(times(1)).save(any(Product.class));
+        then(productRepository).should(times(1)).decreaseStock(Map.of(1L, 5));
+        then(productRepository).should(never()).save(any(Product.class));
+    }
+
+    @Test
+    @DisplayName("givenStockTakenByConcurrentCheckout_whenCreateOrder_thenInsufficientStockAndOrderIsNotSaved")
+    void givenStockTakenByConcurrentCheckout_whenCreateOrder_thenInsufficientStockAndOrderIsNotSaved() {
+        // Given
+        given(customerRepository.findById(1L)).willReturn(Optional.of(validCustomer));
+        given(productRepository.findById(1L)).willReturn(Optional.of(validProduct));
+        given(productRepository.decreaseStock(Map.of(1L, 5))).willReturn(List.of(1L));
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.execute(validCommand))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("Requested: 5");
+        then(orderRepository).should(never()).save(any(Order.class));
+        then(inventoryLedger).shouldHaveNoInteractions();
+        then(eventPublisher).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("givenSameProductOnTwoLines_whenCreateOrder_thenStockIsCheckedAndDecreasedOnce")
+    void givenSameProductOnTwoLines_whenCreateOrder_thenStockIsCheckedAndDecreasedOnce() {
+        // Given
+        given(customerRepository.findById(1L)).willReturn(Optional.of(validCustomer));
+        given(productRepository.findById(1L)).willReturn(Optional.of(validProduct));
+        CreateOrderCommand command = new CreateOrderCommand(1L,
+                List.of(new OrderItemCommand(1L, 60), new OrderItemCommand(1L, 60)));
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.execute(command))
+                .isInstanceOf(InsufficientStockException.class)
+                .hasMessageContaining("Requested: 120");
+        then(productRepository).should(never()).decreaseStock(any());
+    }
+
+    @Test
+    @DisplayName("givenValidCommand_whenCreateOrder_thenSaleIsAppendedToTheLedgerWithTheOrder")
+    void givenValidCommand_whenCreateOrder_thenSaleIsAppendedToTheLedgerWithTheOrder() {
+        // Given
+        Order placed = new Order(7L, 1L);
+        placed.addItem(new OrderItem(1L, 7L, 1L, "Test Product", new BigDecimal("19.99"), 5));
+        given(customerRepository.findById(1L)).willReturn(Optional.of(validCustomer));
+        given(productRepository.findById(1L)).willReturn(Optional.of(validProduct));
+        given(orderRepository.save(any(Order.class))).willReturn(placed);
+
+        // When
+        orderService.execute(validCommand);
+
+        // Then
+        then(inventoryLedger).should().append(List.of(
+                new InventoryEntry(null, 1L, InventoryEntryType.SALE, -5, 7L, placed.getCreatedAt())));
+    }
+
+    @Test
+    @DisplayName("givenValidCommand_whenCreateOrder_thenOrderPlacedEventIsPublished")
+    void givenValidCommand_whenCreateOrder_thenOrderPlacedEventIsPublished() {
+        // Given
+        given(customerRepository.findById(1L)).willReturn(Optional.of(validCustomer));
+        given(productRepository.findById(1L)).willReturn(Optional.of(validProduct));
+        given(orderRepository.save(any(Order.class))).willReturn(validOrder);
+
+        // When
+        orderService.execute(validCommand);
+
+        // Then
+        then(eventPublisher).should().publish(OrderPlaced.of(validOrder));
     }
 
     @Test
@@ -149,6 +230,20 @@ class OrderServiceTest {
                 .isInstanceOf(InsufficientStockException.class);
     }
 
+    @Test
+    @DisplayName("givenInsufficientStock_whenCreateOrder_thenExceptionHasNoStackTrace")
+    void givenInsufficientStock_whenCreateOrder_thenExceptionHasNoStackTrace() {
+        // Given
+        given(customerRepository.findById(1L)).willReturn(Optional.of(validCustomer));
+        given(productRepository.findById(1L)).willReturn(Optional.of(validProduct));
+        CreateOrderCommand invalidCommand = new CreateOrderCommand(1L, List.of(new OrderItemCommand(1L, 200)));
+
+        // When & Then
+        assertThatThrownBy(() -> orderService.execute(invalidCommand))
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty())
+                .hasMessage("Insufficient stock for product 'Test Product'. Requested: 200, Available: 100");
+    }
+
     @Test
     @DisplayName("givenNullCustomerId_whenCreateOrder_thenThrowsException")
     void givenNullCustomerId_whenCreateOrder_thenThrowsException() {
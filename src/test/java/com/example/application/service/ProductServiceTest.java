@@ -1,8 +1,14 @@
 package com.example.application.service;
 
 import com.example.application.port.in.command.CreateProductCommand;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
 import com.example.application.port.out.ProductRepositoryPort;
+import com.example.application.port.out.ProductViewPort;
+import com.example.domain.event.ProductCreated;
+import com.example.domain.model.InventoryEntryType;
 import com.example.domain.model.Product;
+import com.example.domain.model.ProductView;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,6 +25,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.never;
@@ -30,6 +37,15 @@ class ProductServiceTest {
     @Mock
     private ProductRepositoryPort productRepository;
 
+    @Mock
+    private InventoryLedgerPort inventoryLedger;
+
+    @Mock
+    private ProductViewPort productViews;
+
+    @Mock
+    private DomainEventPublisherPort eventPublisher;
+
     @InjectMocks
     private ProductService productService;
 
@@ -84,6 +100,37 @@ class ProductServiceTest {
         assertThat(result.getSku()).isEqualTo("SKU-001");
     }
 
+    @Test
+    @DisplayName("givenOpeningStock_whenCreateProduct_thenReceiptIsAppendedToLedger")
+    void givenOpeningStock_whenCreateProduct_thenReceiptIsAppendedToLedger() {
+        // Given
+        given(productRepository.existsBySku(validCommand.sku())).willReturn(false);
+        given(productRepository.save(any(Product.class))).willReturn(validProduct);
+
+        // When
+        productService.execute(validCommand);
+
+        // Then
+        then(inventoryLedger).should().append(argThat(entries -> entries.size() == 1
+                && entries.get(0).type() == InventoryEntryType.RECEIPT
+                && entries.get(0).productId().equals(1L)
+                && entries.get(0).quantityDelta() == 100));
+    }
+
+    @Test
+    @DisplayName("givenValidCommand_whenCreateProduct_thenProductCreatedEventIsPublished")
+    void givenValidCommand_whenCreateProduct_thenProductCreatedEventIsPublished() {
+        // Given
+        given(productRepository.existsBySku(validCommand.sku())).willReturn(false);
+        given(productRepository.save(any(Product.class))).willReturn(validProduct);
+
+        // When
+        productService.execute(validCommand);
+
+        // Then
+        then(eventPublisher).should().publish(ProductCreated.of(validProduct));
+    }
+
     @Test
     @DisplayName("givenDuplicateSku_whenCreateProduct_thenThrowsException")
     void givenDuplicateSku_whenCreateProduct_thenThrowsException() {
@@ -206,7 +253,7 @@ class ProductServiceTest {
     @DisplayName("givenExistingProductId_whenFindById_thenReturnsProduct")
     void givenExistingProductId_whenFindById_thenReturnsProduct() {
         // Given
-        given(productRepository.findById(1L)).willReturn(Optional.of(validProduct));
+        given(productViews.findById(1L)).willReturn(Optional.of(ProductView.of(validProduct)));
 
         // When
         Optional<Product> result = productService.findById(1L);
@@ -219,7 +266,7 @@ class ProductServiceTest {
     @DisplayName("givenNonExistingProductId_whenFindById_thenReturnsEmpty")
     void givenNonExistingProductId_whenFindById_thenReturnsEmpty() {
         // Given
-        given(productRepository.findById(999L)).willReturn(Optional.empty());
+        given(productViews.findById(999L)).willReturn(Optional.empty());
 
         // When
         Optional<Product> result = productService.findById(999L);
@@ -232,7 +279,7 @@ class ProductServiceTest {
     @DisplayName("givenExistingSku_whenFindBySku_thenReturnsProduct")
     void givenExistingSku_whenFindBySku_thenReturnsProduct() {
         // Given
-        given(productRepository.findBySku("SKU-001")).willReturn(Optional.of(validProduct));
+        given(productViews.findBySku("SKU-001")).willReturn(Optional.of(ProductView.of(validProduct)));
 
         // When
         Optional<Product> result = productService.findBySku("SKU-001");
@@ -245,7 +292,7 @@ class ProductServiceTest {
     @DisplayName("givenNonExistingSku_whenFindBySku_thenReturnsEmpty")
     void givenNonExistingSku_whenFindBySku_thenReturnsEmpty() {
         // Given
-        given(productRepository.findBySku("NON-EXISTING")).willReturn(Optional.empty());
+        given(productViews.findBySku("NON-EXISTING")).willReturn(Optional.empty());
 
         // When
         Optional<Product> result = productService.findBySku("NON-EXISTING");
@@ -259,8 +306,8 @@ class ProductServiceTest {
     void givenMultipleProducts_whenFindAll_thenReturnsAllProducts() {
         // Given
         Product product2 = new Product(2L, "SKU-002", "Product 2", "Description 2", new BigDecimal("29.99"), 50);
-        List<Product> products = Arrays.asList(validProduct, product2);
-        given(productRepository.findAll()).willReturn(products);
+        List<ProductView> products = Arrays.asList(ProductView.of(validProduct), ProductView.of(product2));
+        given(productViews.findAll()).willReturn(products);
 
         // When
         List<Product> result = productService.findAll();
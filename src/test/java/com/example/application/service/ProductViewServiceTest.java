@@ -0,0 +1,92 @@
+package com.example.application.service;
+
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.application.port.out.ProductViewPort;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.ProductCreated;
+import com.example.domain.model.Product;
+import com.example.domain.model.ProductView;
+import com.example.domain.model.ProductViewRebuild;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductViewService Tests")
+class ProductViewServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 14, 10, 30);
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private ProductViewPort productViews;
+
+    @InjectMocks
+    private ProductViewService productViewService;
+
+    @Test
+    @DisplayName("givenCreatedProduct_whenProjected_thenViewCarriesTheCreatedState")
+    void givenCreatedProduct_whenProjected_thenViewCarriesTheCreatedState() {
+        // Given
+        ProductCreated event = new ProductCreated(1L, "SKU-001", "Apple", "Red", new BigDecimal("0.50"), 40, NOW, NOW);
+
+        // When
+        productViewService.projectCreated(event);
+
+        // Then
+        then(productViews).should().put(
+                new ProductView(1L, "SKU-001", "Apple", "Red", new BigDecimal("0.50"), 40, NOW, NOW));
+    }
+
+    @Test
+    @DisplayName("givenOrderWithRepeatedProduct_whenProjected_thenOneNegativeDeltaPerProductIsApplied")
+    void givenOrderWithRepeatedProduct_whenProjected_thenOneNegativeDeltaPerProductIsApplied() {
+        // Given
+        OrderPlaced event = new OrderPlaced(7L, 100L, BigDecimal.TEN, NOW, List.of(
+                new OrderPlaced.Line(1L, 2, BigDecimal.ONE, new BigDecimal("2")),
+                new OrderPlaced.Line(2L, 1, BigDecimal.ONE, BigDecimal.ONE),
+                new OrderPlaced.Line(1L, 3, BigDecimal.ONE, new BigDecimal("3"))));
+
+        // When
+        productViewService.projectPlaced(event);
+
+        // Then
+        then(productViews).should().applyStockDeltas(Map.of(1L, -5, 2L, -1), NOW);
+    }
+
+    @Test
+    @DisplayName("givenCommitInFlight_whenRebuilding_thenRebuildWaitsUntilTheCommitIsProjected")
+    void givenCommitInFlight_whenRebuilding_thenRebuildWaitsUntilTheCommitIsProjected() throws Exception {
+        // Given
+        Product product = new Product(1L, "SKU-001", "Apple", "Red", new BigDecimal("0.50"), 40);
+        given(productRepository.findAll()).willReturn(List.of(product));
+        productViewService.holdRebuild();
+
+        // When
+        CompletableFuture<ProductViewRebuild> rebuild = CompletableFuture.supplyAsync(productViewService::execute);
+        Thread.sleep(100);
+        boolean finishedWhileHeld = rebuild.isDone();
+        productViewService.releaseRebuild();
+
+        // Then
+        assertThat(finishedWhileHeld).isFalse();
+        assertThat(rebuild.get(5, TimeUnit.SECONDS).products()).isEqualTo(1);
+        then(productViews).should().replaceAll(List.of(ProductView.of(product)));
+    }
+}
@@ -0,0 +1,266 @@
+package com.example.application.service;
+
+import com.example.application.port.in.command.RebuildSalesRollupsCommand;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.application.port.out.SalesRollupRepositoryPort;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.model.CustomerDailySales;
+import com.example.domain.model.DailySales;
+import com.example.domain.model.ProductDailySales;
+import com.example.domain.model.ProductSales;
+import com.example.domain.model.SalesLine;
+import com.example.domain.model.SalesMetric;
+import com.example.domain.model.SalesRollupRebuild;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalesAnalyticsService Tests")
+class SalesAnalyticsServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 3, 14);
+    private static final LocalDateTime PLACED_AT = DAY.atTime(10, 30);
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private SalesRollupRepositoryPort salesRollupRepository;
+
+    @InjectMocks
+    private SalesAnalyticsService salesAnalyticsService;
+
+    @Test
+    @DisplayName("givenRecordedOrders_whenQueryingDailySales_thenTotalsIncludeThem")
+    void givenRecordedOrders_whenQueryingDailySales_thenTotalsIncludeThem() {
+        // Given
+        salesAnalyticsService.recordPlaced(placed(1L, 100L, line(10L, 2, "5.00"), line(11L, 1, "3.50")));
+        salesAnalyticsService.recordPlaced(placed(2L, 101L, line(10L, 1, "2.50")));
+
+        // When
+        List<DailySales> days = salesAnalyticsService.dailySales(DAY.minusDays(1), DAY);
+
+        // Then
+        assertThat(days).containsExactly(
+                new DailySales(DAY.minusDays(1), 0, 0, BigDecimal.ZERO),
+                new DailySales(DAY, 2, 4, new BigDecimal("11.00")));
+        assertThat(salesAnalyticsService.productSales(10L, DAY, DAY))
+                .containsExactly(new ProductDailySales(10L, DAY, 3, new BigDecimal("7.50")));
+        assertThat(salesAnalyticsService.customerSales(100L, DAY, DAY))
+                .containsExactly(new CustomerDailySales(100L, DAY, 1, new BigDecimal("8.50")));
+    }
+
+    @Test
+    @DisplayName("givenPlacedOrder_whenPersisted_thenItsDeltasAreMergedWithoutTouchingTheQueryCopy")
+    @SuppressWarnings("unchecked")
+    void givenPlacedOrder_whenPersisted_thenItsDeltasAreMergedWithoutTouchingTheQueryCopy() {
+        // Given
+        OrderPlaced event = placed(1L, 100L, line(10L, 2, "5.00"), line(11L, 1, "3.50"));
+
+        // When
+        salesAnalyticsService.persistPlaced(event);
+
+        // Then
+        ArgumentCaptor<Collection<ProductDailySales>> products = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<CustomerDailySales>> customers = ArgumentCaptor.forClass(Collection.class);
+        then(salesRollupRepository).should().merge(products.capture(), customers.capture());
+        assertThat(products.getValue()).containsExactlyInAnyOrder(
+                new ProductDailySales(10L, DAY, 2, new BigDecimal("5.00")),
+                new ProductDailySales(11L, DAY, 1, new BigDecimal("3.50")));
+        assertThat(customers.getValue()).containsExactly(new CustomerDailySales(100L, DAY, 1, new BigDecimal("8.50")));
+        assertThat(salesAnalyticsService.dailySales(DAY, DAY))
+                .containsExactly(new DailySales(DAY, 0, 0, BigDecimal.ZERO));
+    }
+
+    @Test
+    @DisplayName("givenCancelledOrder_whenPersistedAndRecorded_thenNegativeDeltasAreMergedAndSubtracted")
+    @SuppressWarnings("unchecked")
+    void givenCancelledOrder_whenPersistedAndRecorded_thenNegativeDeltasAreMergedAndSubtracted() {
+        // Given
+        salesAnalyticsService.recordPlaced(placed(1L, 100L, line(10L, 2, "5.00")));
+        salesAnalyticsService.recordPlaced(placed(2L, 101L, line(10L, 1, "2.50"), line(11L, 4, "8.00")));
+        given(orderRepository.findSalesLines(List.of(2L))).willReturn(List.of(
+                new SalesLine(2L, 101L, PLACED_AT, 10L, 1, new BigDecimal("2.50")),
+                new SalesLine(2L, 101L, PLACED_AT, 11L, 4, new BigDecimal("8.00"))));
+
+        // When
+        List<SalesLine> lines = salesAnalyticsService.persistCancelled(List.of(2L));
+        salesAnalyticsService.recordCancelled(lines);
+
+        // Then
+        ArgumentCaptor<Collection<ProductDailySales>> products = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<CustomerDailySales>> customers = ArgumentCaptor.forClass(Collection.class);
+        then(salesRollupRepository).should().merge(products.capture(), customers.capture());
+        assertThat(products.getValue()).containsExactlyInAnyOrder(
+                new ProductDailySales(10L, DAY, -1, new BigDecimal("-2.50")),
+                new ProductDailySales(11L, DAY, -4, new BigDecimal("-8.00")));
+        assertThat(customers.getValue()).containsExactly(new CustomerDailySales(101L, DAY, -1, new BigDecimal("-10.50")));
+        assertThat(salesAnalyticsService.dailySales(DAY, DAY))
+                .containsExactly(new DailySales(DAY, 1, 2, new BigDecimal("5.00")));
+    }
+
+    @Test
+    @DisplayName("givenFailedMerge_whenPersistingPlacedOrder_thenErrorReachesTheOrderTransaction")
+    void givenFailedMerge_whenPersistingPlacedOrder_thenErrorReachesTheOrderTransaction() {
+        // Given
+        willAnswer(invocation -> {
+            throw new IllegalStateException("database unavailable");
+        }).given(salesRollupRepository).merge(anyCollection(), anyCollection());
+
+        // When & Then
+        assertThatThrownBy(() -> salesAnalyticsService.persistPlaced(placed(1L, 100L, line(10L, 2, "5.00"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("givenSalesAcrossProducts_whenRankingTopProducts_thenOrderFollowsMetricThenProductId")
+    void givenSalesAcrossProducts_whenRankingTopProducts_thenOrderFollowsMetricThenProductId() {
+        // Given
+        salesAnalyticsService.recordPlaced(placed(1L, 100L, line(10L, 5, "5.00"), line(11L, 2, "40.00")));
+        salesAnalyticsService.recordPlaced(placed(2L, 100L, line(12L, 5, "1.00"), line(13L, 1, "1.00")));
+
+        // When
+        List<ProductSales> byUnits = salesAnalyticsService.topProducts(DAY, DAY, 3, SalesMetric.UNITS);
+        List<ProductSales> byRevenue = salesAnalyticsService.topProducts(DAY, DAY, 1, SalesMetric.REVENUE);
+
+        // Then
+        assertThat(byUnits).extracting(ProductSales::productId).containsExactly(10L, 12L, 11L);
+        assertThat(byRevenue).extracting(ProductSales::productId).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("givenOrderHistory_whenRebuiltInParallel_thenStoredAndQueriedRollupsAreReplaced")
+    @SuppressWarnings("unchecked")
+    void givenOrderHistory_whenRebuiltInParallel_thenStoredAndQueriedRollupsAreReplaced() {
+        // Given
+        long watermark = SalesAnalyticsService.PARTITION_SIZE + 5;
+        given(orderRepository.maxOrderId()).willReturn(watermark);
+        willAnswer(invocation -> {
+            long from = invocation.getArgument(0);
+            Consumer<SalesLine> consumer = invocation.getArgument(2);
+            consumer.accept(new SalesLine(from, 100L, PLACED_AT, 10L, 1, new BigDecimal("2.50")));
+            consumer.accept(new SalesLine(from, 100L, PLACED_AT, 11L, 2, new BigDecimal("4.00")));
+            return null;
+        }).given(orderRepository).forEachSalesLine(anyLong(), anyLong(), any(Consumer.class));
+        salesAnalyticsService.recordPlaced(placed(watermark, 100L, line(10L, 9, "22.50")));
+
+        // When
+        SalesRollupRebuild rebuild = salesAnalyticsService.execute(new RebuildSalesRollupsCommand(2));
+
+        // Then
+        then(orderRepository).should().forEachSalesLine(eq(1L), eq(SalesAnalyticsService.PARTITION_SIZE), any(Consumer.class));
+        then(orderRepository).should().forEachSalesLine(eq(SalesAnalyticsService.PARTITION_SIZE + 1), eq(watermark), any(Consumer.class));
+        ArgumentCaptor<Collection<CustomerDailySales>> customers = ArgumentCaptor.forClass(Collection.class);
+        then(salesRollupRepository).should().replaceAll(anyCollection(), customers.capture());
+        assertThat(customers.getValue()).containsExactly(new CustomerDailySales(100L, DAY, 2, new BigDecimal("13.00")));
+        assertThat(rebuild.linesScanned()).isEqualTo(4);
+        assertThat(rebuild.parallelism()).isEqualTo(2);
+        assertThat(salesAnalyticsService.dailySales(DAY, DAY))
+                .containsExactly(new DailySales(DAY, 2, 6, new BigDecimal("13.00")));
+    }
+
+    @Test
+    @DisplayName("givenCommitsDuringTheScan_whenRebuilding_thenCommitsAreNotBlockedAndRollupsMatchTheirOutcome")
+    @SuppressWarnings("unchecked")
+    void givenCommitsDuringTheScan_whenRebuilding_thenCommitsAreNotBlockedAndRollupsMatchTheirOutcome() {
+        // Given
+        SalesLine first = new SalesLine(1L, 100L, PLACED_AT, 10L, 1, new BigDecimal("2.50"));
+        SalesLine second = new SalesLine(2L, 100L, PLACED_AT, 11L, 2, new BigDecimal("4.00"));
+        SalesLine third = new SalesLine(3L, 200L, PLACED_AT, 12L, 3, new BigDecimal("9.00"));
+        given(orderRepository.maxOrderId()).willReturn(3L);
+        willAnswer(invocation -> {
+            Consumer<SalesLine> consumer = invocation.getArgument(2);
+            consumer.accept(first);
+            commit(() -> {
+                salesAnalyticsService.recordCancelled(List.of(first, second));
+                salesAnalyticsService.recordPlaced(placed(4L, 200L, line(13L, 1, "1.00")));
+            });
+            consumer.accept(third);
+            return null;
+        }).given(orderRepository).forEachSalesLine(eq(1L), eq(3L), any(Consumer.class));
+
+        // When
+        salesAnalyticsService.execute(new RebuildSalesRollupsCommand(1));
+
+        // Then
+        ArgumentCaptor<Collection<CustomerDailySales>> customers = ArgumentCaptor.forClass(Collection.class);
+        then(salesRollupRepository).should().replaceAll(anyCollection(), customers.capture());
+        assertThat(customers.getValue()).containsExactly(new CustomerDailySales(200L, DAY, 2, new BigDecimal("10.00")));
+        assertThat(salesAnalyticsService.dailySales(DAY, DAY))
+                .containsExactly(new DailySales(DAY, 2, 4, new BigDecimal("10.00")));
+    }
+
+    @Test
+    @DisplayName("givenEmptyRollupTablesAndExistingOrders_whenRestoring_thenHistoryIsRebuilt")
+    void givenEmptyRollupTablesAndExistingOrders_whenRestoring_thenHistoryIsRebuilt() {
+        // Given
+        given(orderRepository.maxOrderId()).willReturn(0L, 3L);
+
+        // When
+        salesAnalyticsService.restore();
+        salesAnalyticsService.restore();
+
+        // Then
+        then(salesRollupRepository).should().replaceAll(anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("givenRangeLongerThanAYear_whenQuerying_thenThrowsIllegalArgumentException")
+    void givenRangeLongerThanAYear_whenQuerying_thenThrowsIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> salesAnalyticsService.dailySales(DAY.minusDays(SalesAnalyticsService.MAX_RANGE_DAYS), DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> salesAnalyticsService.topProducts(DAY, DAY, 0, SalesMetric.UNITS))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(salesRollupRepository).should(never()).merge(anyCollection(), anyCollection());
+    }
+
+    private void commit(Runnable record) throws Exception {
+        CompletableFuture.runAsync(() -> {
+            salesAnalyticsService.holdRebuild();
+            try {
+                record.run();
+            } finally {
+                salesAnalyticsService.releaseRebuild();
+            }
+        }).get(5, TimeUnit.SECONDS);
+    }
+
+    private static OrderPlaced placed(Long orderId, Long customerId, OrderPlaced.Line... lines) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (OrderPlaced.Line line : lines) {
+            total = total.add(line.subtotal());
+        }
+        return new OrderPlaced(orderId, customerId, total, PLACED_AT, List.of(lines));
+    }
+
+    private static OrderPlaced.Line line(Long productId, int quantity, String subtotal) {
+        BigDecimal amount = new BigDecimal(subtotal);
+        return new OrderPlaced.Line(productId, quantity, amount.divide(BigDecimal.valueOf(quantity)), amount);
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.application.service;
+
+import com.example.domain.model.TrendingProduct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SlidingTopK Tests")
+class SlidingTopKTest {
+
+    private static final long MINUTE = 60_000;
+
+    @Test
+    @DisplayName("givenSkewedSalesAcrossManySkus_whenRanking_thenHeavyHittersComeFirst")
+    void givenSkewedSalesAcrossManySkus_whenRanking_thenHeavyHittersComeFirst() {
+        // Given
+        SlidingTopK topK = new SlidingTopK(Duration.ofHours(1), 12, 4, 2_048, 32, 0);
+        SplittableRandom random = new SplittableRandom(42);
+        for (int sale = 0; sale < 100_000; sale++) {
+            topK.add(1_000 + random.nextLong(50_000), 1, sale);
+        }
+        for (int sale = 0; sale < 500; sale++) {
+            topK.add(1L, 10, sale);
+            topK.add(2L, 6, sale);
+            topK.add(3L, 4, sale);
+        }
+
+        // When
+        var top = topK.top(3, 100_000);
+
+        // Then
+        assertThat(top).extracting(TrendingProduct::productId).containsExactly(1L, 2L, 3L);
+        assertThat(top.get(0).estimatedUnits()).isBetween(5_000L, 5_000L + 500);
+    }
+
+    @Test
+    @DisplayName("givenSalesOlderThanWindow_whenRanking_thenTheyNoLongerCount")
+    void givenSalesOlderThanWindow_whenRanking_thenTheyNoLongerCount() {
+        // Given
+        SlidingTopK topK = new SlidingTopK(Duration.ofMinutes(5), 5, 4, 256, 8, 0);
+        topK.add(1L, 10, 0);
+        topK.add(2L, 3, 3 * MINUTE);
+
+        // When
+        var beforeExpiry = topK.top(5, 4 * MINUTE);
+        var afterExpiry = topK.top(5, 5 * MINUTE);
+        var afterIdle = topK.top(5, 60 * MINUTE);
+
+        // Then
+        assertThat(beforeExpiry).containsExactly(new TrendingProduct(1L, 10), new TrendingProduct(2L, 3));
+        assertThat(afterExpiry).containsExactly(new TrendingProduct(2L, 3));
+        assertThat(afterIdle).isEmpty();
+    }
+
+    @Test
+    @DisplayName("givenFullCandidateSet_whenNewProductOutsells_thenWeakestCandidateIsEvicted")
+    void givenFullCandidateSet_whenNewProductOutsells_thenWeakestCandidateIsEvicted() {
+        // Given
+        SlidingTopK topK = new SlidingTopK(Duration.ofMinutes(5), 5, 4, 256, 2, 0);
+        topK.add(1L, 5, 0);
+        topK.add(2L, 2, 0);
+
+        // When
+        topK.add(3L, 1, 0);
+        topK.add(3L, 3, 0);
+
+        // Then
+        assertThat(topK.top(5, 0)).containsExactly(new TrendingProduct(1L, 5), new TrendingProduct(3L, 4));
+    }
+
+    @Test
+    @DisplayName("givenCountMinSketch_whenEstimating_thenNeverUnderestimates")
+    void givenCountMinSketch_whenEstimating_thenNeverUnderestimates() {
+        // Given
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        for (long item = 0; item < 1_000; item++) {
+            sketch.add(item, (int) (item % 7) + 1);
+        }
+
+        // When & Then
+        for (long item = 0; item < 1_000; item++) {
+            assertThat(sketch.estimate(item)).isGreaterThanOrEqualTo((int) (item % 7) + 1);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.application.service;
+
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.model.TrendingProduct;
+import com.example.domain.model.TrendingWindow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TrendingProductsService Tests")
+class TrendingProductsServiceTest {
+
+    private final TrendingProductsService trendingProductsService = new TrendingProductsService(
+            Clock.fixed(Instant.parse("2024-03-14T10:30:00Z"), ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("givenPlacedOrders_whenGettingTrendingProducts_thenEveryWindowRanksByUnits")
+    void givenPlacedOrders_whenGettingTrendingProducts_thenEveryWindowRanksByUnits() {
+        // Given
+        trendingProductsService.recordPlaced(placed(1L, line(10L, 2), line(11L, 5)));
+        trendingProductsService.recordPlaced(placed(2L, line(10L, 1), line(12L, 3)));
+
+        // When & Then
+        for (TrendingWindow window : TrendingWindow.values()) {
+            assertThat(trendingProductsService.trendingProducts(window, 2)).containsExactly(
+                    new TrendingProduct(11L, 5),
+                    new TrendingProduct(10L, 3));
+        }
+    }
+
+    @Test
+    @DisplayName("givenLimitOutOfRange_whenGettingTrendingProducts_thenThrowsIllegalArgumentException")
+    void givenLimitOutOfRange_whenGettingTrendingProducts_thenThrowsIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> trendingProductsService.trendingProducts(TrendingWindow.HOUR, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> trendingProductsService.trendingProducts(TrendingWindow.HOUR,
+                TrendingProductsService.MAX_LIMIT + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static OrderPlaced placed(Long orderId, OrderPlaced.Line... lines) {
+        return new OrderPlaced(orderId, 100L, BigDecimal.TEN, LocalDateTime.of(2024, 3, 14, 10, 30), List.of(lines));
+    }
+
+    private static OrderPlaced.Line line(Long productId, int quantity) {
+        return new OrderPlaced.Line(productId, quantity, BigDecimal.ONE, BigDecimal.valueOf(quantity));
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.config;
+
+import com.example.application.port.in.CreateProductUseCase;
+import com.example.application.port.in.command.CreateProductCommand;
+import com.example.boot.Application;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:compressiondb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "supermarket.orders.expiry.enabled=false"
+})
+@DirtiesContext
+@DisplayName("HTTP response compression")
+class ResponseCompressionTest {
+
+    private static final int PRODUCTS = 40;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < PRODUCTS; i++) {
+            product = createProductUseCase.execute(new CreateProductCommand("GZ-" + suffix + "-" + i,
+                    "Compressed product " + i, "A product description long enough to fill the list payload",
+                    new BigDecimal("1.99"), 100));
+        }
+    }
+
+    @Test
+    @DisplayName("givenListAboveThreshold_whenClientAcceptsGzip_thenBodyIsGzipped")
+    void givenListAboveThreshold_whenClientAcceptsGzip_thenBodyIsGzipped() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get("/api/v1/products", "gzip");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        String json = gunzip(response.body());
+        assertThat(json.getBytes(StandardCharsets.UTF_8).length).isGreaterThan(2048);
+        assertThat(response.body().length).isLessThan(json.length());
+        assertThat(json).startsWith("[").contains(product.getSku());
+    }
+
+    @Test
+    @DisplayName("givenSingleProductBelowThreshold_whenClientAcceptsGzip_thenBodyIsNotCompressed")
+    void givenSingleProductBelowThreshold_whenClientAcceptsGzip_thenBodyIsNotCompressed() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get("/api/v1/products/" + product.getId(), "gzip");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).contains(product.getSku());
+    }
+
+    @Test
+    @DisplayName("givenListAboveThreshold_whenClientDoesNotAcceptGzip_thenBodyIsNotCompressed")
+    void givenListAboveThreshold_whenClientDoesNotAcceptGzip_thenBodyIsNotCompressed() throws Exception {
+        // When
+        HttpResponse<byte[]> response = get("/api/v1/products", "identity");
+
+        // Then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(new String(response.body(), StandardCharsets.UTF_8)).contains(product.getSku());
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", acceptEncoding)
+                .GET()
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.ChangeOrderStatusUseCase;
+import com.example.application.port.in.ComputeCustomerMetricsUseCase;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.GetCustomerMetricsUseCase;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.CustomerMetrics;
+import com.example.domain.model.CustomerMetricsRun;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:customermetricsdb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DirtiesContext
+@DisplayName("Customer metrics batch")
+class CustomerMetricsIntegrationTest {
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ChangeOrderStatusUseCase changeOrderStatusUseCase;
+
+    @Autowired
+    private ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase;
+
+    @Autowired
+    private GetCustomerMetricsUseCase getCustomerMetricsUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Test
+    @DisplayName("givenCustomerOrders_whenRecomputed_thenMetricsAreUpsertedAndStaleRowsRemoved")
+    void givenCustomerOrders_whenRecomputed_thenMetricsAreUpsertedAndStaleRowsRemoved() {
+        // Given
+        Product product = productRepository.save(new Product(null, "RFM-" + suffix(), "RFM Product", "d",
+                new BigDecimal("2.50"), 100));
+        Customer loyal = customer();
+        Customer lapsed = customer();
+        placeOrder(loyal, product, 2);
+        placeOrder(loyal, product, 4);
+        Order lapsedOrder = placeOrder(lapsed, product, 1);
+        LocalDate today = lapsedOrder.getCreatedAt().toLocalDate();
+        computeCustomerMetricsUseCase.execute(new ComputeCustomerMetricsCommand(2, today));
+        assertThat(getCustomerMetricsUseCase.findByCustomerId(lapsed.getId())).isPresent();
+        changeOrderStatusUseCase.execute(new ChangeOrderStatusCommand(List.of(lapsedOrder.getId()),
+                OrderStatus.CANCELLED));
+
+        // When
+        CustomerMetricsRun run = computeCustomerMetricsUseCase.execute(new ComputeCustomerMetricsCommand(2, today));
+
+        // Then
+        CustomerMetrics metrics = getCustomerMetricsUseCase.findByCustomerId(loyal.getId()).orElseThrow();
+        assertThat(metrics.orders()).isEqualTo(2);
+        assertThat(metrics.lifetimeValue()).isEqualByComparingTo("15.00");
+        assertThat(metrics.averageOrderValue()).isEqualByComparingTo("7.50");
+        assertThat(metrics.recencyDays()).isZero();
+        assertThat(metrics.lastOrderDay()).isEqualTo(today);
+        assertThat(getCustomerMetricsUseCase.findByCustomerId(lapsed.getId())).isEmpty();
+        assertThat(run.customers()).isEqualTo(1);
+        assertThat(run.ordersScanned()).isEqualTo(2);
+        assertThat(run.staleRowsDeleted()).isEqualTo(1);
+    }
+
+    private Customer customer() {
+        String suffix = suffix();
+        return customerRepository.save(new Customer(null, "rfm-" + suffix + "@example.com", "Rfm", "Test",
+                null, null));
+    }
+
+    private Order placeOrder(Customer customer, Product product, int quantity) {
+        return createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), quantity))));
+    }
+
+    private static String suffix() {
+        return UUID.randomUUID().toString().substring(0, 8);
+    }
+}
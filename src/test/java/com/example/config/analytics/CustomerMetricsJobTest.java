@@ -0,0 +1,101 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.ComputeCustomerMetricsUseCase;
+import com.example.application.port.in.command.ComputeCustomerMetricsCommand;
+import com.example.domain.model.CustomerMetricsProgress;
+import com.example.domain.model.CustomerMetricsRun;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CustomerMetricsJob Tests")
+class CustomerMetricsJobTest {
+
+    @Mock
+    private ComputeCustomerMetricsUseCase computeCustomerMetricsUseCase;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("givenConfiguredParallelism_whenRun_thenItIsPassedOnAndTheRunIsTimed")
+    void givenConfiguredParallelism_whenRun_thenItIsPassedOnAndTheRunIsTimed() {
+        // Given
+        CustomerMetricsJob job = job(4);
+        given(computeCustomerMetricsUseCase.execute(new ComputeCustomerMetricsCommand(4, null)))
+                .willReturn(new CustomerMetricsRun(LocalDate.of(2024, 6, 30), 10_000, 250, 3, 4,
+                        Duration.ofMillis(100), Duration.ofMillis(20), Duration.ZERO));
+
+        // When
+        job.run();
+
+        // Then
+        assertThat(meterRegistry.get("supermarket.customers.metrics.run").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("supermarket.customers.metrics.run").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(120.0);
+    }
+
+    @Test
+    @DisplayName("givenComputationFails_whenRun_thenFailureIsLoggedAndNotTimed")
+    void givenComputationFails_whenRun_thenFailureIsLoggedAndNotTimed() {
+        // Given
+        CustomerMetricsJob job = job(null);
+        given(computeCustomerMetricsUseCase.execute(any(ComputeCustomerMetricsCommand.class)))
+                .willThrow(new IllegalStateException("already running"));
+
+        // When & Then
+        assertThatCode(job::run).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("supermarket.customers.metrics.run").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("givenRunInProgress_whenGaugesAreRead_thenTheyReportProgressOrNaNWhenIdle")
+    void givenRunInProgress_whenGaugesAreRead_thenTheyReportProgressOrNaNWhenIdle() {
+        // Given
+        job(null);
+        given(computeCustomerMetricsUseCase.progress())
+                .willReturn(Optional.of(new CustomerMetricsProgress(CustomerMetricsProgress.Phase.WRITING, 5_000,
+                        120, 80, Duration.ofSeconds(2))))
+                .willReturn(Optional.of(new CustomerMetricsProgress(CustomerMetricsProgress.Phase.WRITING, 5_000,
+                        120, 80, Duration.ofSeconds(2))))
+                .willReturn(Optional.empty());
+
+        // When
+        double scanned = meterRegistry.get("supermarket.customers.metrics.orders.scanned").gauge().value();
+        double written = meterRegistry.get("supermarket.customers.metrics.customers.written").gauge().value();
+        double idle = meterRegistry.get("supermarket.customers.metrics.orders.scanned").gauge().value();
+
+        // Then
+        assertThat(scanned).isEqualTo(5_000.0);
+        assertThat(written).isEqualTo(80.0);
+        assertThat(idle).isNaN();
+    }
+
+    @Test
+    @DisplayName("givenNonPositiveParallelism_whenBound_thenIllegalArgumentException")
+    void givenNonPositiveParallelism_whenBound_thenIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> new CustomerMetricsProperties(true, "0 30 2 * * *", 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("supermarket.analytics.customer-metrics.parallelism must be positive");
+    }
+
+    private CustomerMetricsJob job(Integer parallelism) {
+        return new CustomerMetricsJob(computeCustomerMetricsUseCase,
+                new CustomerMetricsProperties(true, "0 30 2 * * *", parallelism), meterRegistry);
+    }
+}
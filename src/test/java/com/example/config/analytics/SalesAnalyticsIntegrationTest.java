@@ -0,0 +1,102 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.ChangeOrderStatusUseCase;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.GetSalesAnalyticsUseCase;
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.in.command.RebuildSalesRollupsCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.Product;
+import com.example.domain.model.ProductDailySales;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:analyticsdb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DirtiesContext
+@DisplayName("Sales analytics rollups")
+class SalesAnalyticsIntegrationTest {
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ChangeOrderStatusUseCase changeOrderStatusUseCase;
+
+    @Autowired
+    private GetSalesAnalyticsUseCase getSalesAnalyticsUseCase;
+
+    @Autowired
+    private RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("givenPlacedAndCancelledOrders_whenCommitted_thenStoredRollupsMatchAFullRebuild")
+    void givenPlacedAndCancelledOrders_whenCommitted_thenStoredRollupsMatchAFullRebuild() {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product product = productRepository.save(new Product(null, "ANA-" + suffix, "Analytics Product", "d",
+                new BigDecimal("2.50"), 100));
+        Customer customer = customerRepository.save(new Customer(null, "analytics-" + suffix + "@example.com",
+                "Analytics", "Test", null, null));
+        createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), 4))));
+
+        // When
+        Order cancelled = createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), 3))));
+        changeOrderStatusUseCase.execute(new ChangeOrderStatusCommand(List.of(cancelled.getId()), OrderStatus.CANCELLED));
+        LocalDate today = cancelled.getCreatedAt().toLocalDate();
+
+        // Then
+        assertThat(getSalesAnalyticsUseCase.productSales(product.getId(), today, today))
+                .containsExactly(new ProductDailySales(product.getId(), today, 4, new BigDecimal("10.00")));
+        Map<String, Object> stored = storedProductDay(product.getId());
+        assertThat(stored.get("UNITS_SOLD")).isEqualTo(4L);
+        assertThat((BigDecimal) stored.get("REVENUE")).isEqualByComparingTo("10.00");
+
+        rebuildSalesRollupsUseCase.execute(new RebuildSalesRollupsCommand(2));
+        assertThat(storedProductDay(product.getId())).isEqualTo(stored);
+        assertThat(getSalesAnalyticsUseCase.customerSales(customer.getId(), today, today))
+                .singleElement()
+                .satisfies(day -> {
+                    assertThat(day.orders()).isEqualTo(1);
+                    assertThat(day.revenue()).isEqualByComparingTo("10.00");
+                });
+    }
+
+    private Map<String, Object> storedProductDay(Long productId) {
+        return jdbcTemplate.queryForMap(
+                "select units_sold, revenue from product_daily_sales where product_id = ?", productId);
+    }
+}
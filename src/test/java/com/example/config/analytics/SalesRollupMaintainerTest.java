@@ -0,0 +1,97 @@
+package com.example.config.analytics;
+
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.RecordSalesUseCase;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.OrderStatusChanged;
+import com.example.domain.model.OrderStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SalesRollupMaintainer Tests")
+class SalesRollupMaintainerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 30, 12, 0);
+
+    @Mock
+    private RecordSalesUseCase recordSalesUseCase;
+
+    @Mock
+    private RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase;
+
+    private SalesRollupMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new SalesRollupMaintainer(recordSalesUseCase, rebuildSalesRollupsUseCase);
+    }
+
+    @Test
+    @DisplayName("givenNoTransaction_whenOrderPlaced_thenSaleIsPersistedAndRecordedUnderTheRebuildHold")
+    void givenNoTransaction_whenOrderPlaced_thenSaleIsPersistedAndRecordedUnderTheRebuildHold() {
+        // Given
+        OrderPlaced event = new OrderPlaced(1L, 2L, new BigDecimal("5.00"), NOW,
+                List.of(new OrderPlaced.Line(3L, 2, new BigDecimal("2.50"), new BigDecimal("5.00"))));
+
+        // When
+        maintainer.onOrderPlaced(event);
+
+        // Then
+        InOrder order = inOrder(recordSalesUseCase);
+        order.verify(recordSalesUseCase).holdRebuild();
+        order.verify(recordSalesUseCase).persistPlaced(event);
+        order.verify(recordSalesUseCase).recordPlaced(event);
+        order.verify(recordSalesUseCase).releaseRebuild();
+    }
+
+    @Test
+    @DisplayName("givenNoTransactionAndFailingPersist_whenOrdersCancelled_thenHoldIsReleasedAndNothingIsRecorded")
+    void givenNoTransactionAndFailingPersist_whenOrdersCancelled_thenHoldIsReleasedAndNothingIsRecorded() {
+        // Given
+        given(recordSalesUseCase.persistCancelled(List.of(1L))).willThrow(new IllegalStateException("lock timeout"));
+
+        // When & Then
+        assertThatThrownBy(() -> maintainer.onOrderStatusChanged(
+                new OrderStatusChanged(OrderStatus.CANCELLED, List.of(1L), NOW)))
+                .isInstanceOf(IllegalStateException.class);
+        then(recordSalesUseCase).should().releaseRebuild();
+        then(recordSalesUseCase).should(never()).recordCancelled(any());
+    }
+
+    @Test
+    @DisplayName("givenStatusOtherThanCancelled_whenChanged_thenRollupsAreNotTouched")
+    void givenStatusOtherThanCancelled_whenChanged_thenRollupsAreNotTouched() {
+        // When
+        maintainer.onOrderStatusChanged(new OrderStatusChanged(OrderStatus.CONFIRMED, List.of(1L), NOW));
+
+        // Then
+        then(recordSalesUseCase).shouldHaveNoInteractions();
+    }
+
+    @Test
+    @DisplayName("givenApplicationReady_whenRestored_thenRollupsAreRestored")
+    void givenApplicationReady_whenRestored_thenRollupsAreRestored() {
+        // When
+        maintainer.restore();
+
+        // Then
+        then(rebuildSalesRollupsUseCase).should().restore();
+    }
+}
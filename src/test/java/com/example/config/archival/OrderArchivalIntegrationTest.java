@@ -0,0 +1,136 @@
+package com.example.config.archival;
+
+import com.example.application.port.in.ArchiveOrdersUseCase;
+import com.example.application.port.in.CancelOrdersUseCase;
+import com.example.application.port.in.ChangeOrderStatusUseCase;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.RebuildSalesRollupsUseCase;
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.application.port.in.command.CancelOrdersCommand;
+import com.example.application.port.in.command.ChangeOrderStatusCommand;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.in.command.RebuildSalesRollupsCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderArchiveRun;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.OrderStatusTransition;
+import com.example.domain.model.Product;
+import com.example.domain.model.SalesRollupRebuild;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:archivaldb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DirtiesContext
+@DisplayName("Order archival")
+class OrderArchivalIntegrationTest {
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ChangeOrderStatusUseCase changeOrderStatusUseCase;
+
+    @Autowired
+    private CancelOrdersUseCase cancelOrdersUseCase;
+
+    @Autowired
+    private ArchiveOrdersUseCase archiveOrdersUseCase;
+
+    @Autowired
+    private RebuildSalesRollupsUseCase rebuildSalesRollupsUseCase;
+
+    @Autowired
+    private OrderRepositoryPort orderRepository;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("givenClosedAndOpenOrders_whenArchived_thenOnlyClosedOrdersMoveAndLookupsStillFindThem")
+    void givenClosedAndOpenOrders_whenArchived_thenOnlyClosedOrdersMoveAndLookupsStillFindThem() {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product product = productRepository.save(new Product(null, "ARC-" + suffix, "Archived Product", "d",
+                new BigDecimal("3.00"), 100));
+        Customer customer = customerRepository.save(new Customer(null, "archive-" + suffix + "@example.com",
+                "Archive", "Test", null, null));
+        Order delivered = placeOrder(customer, product, 2);
+        Order cancelled = placeOrder(customer, product, 1);
+        Order pending = placeOrder(customer, product, 4);
+        for (OrderStatus status : List.of(OrderStatus.CONFIRMED, OrderStatus.SHIPPED, OrderStatus.DELIVERED)) {
+            changeOrderStatusUseCase.execute(new ChangeOrderStatusCommand(List.of(delivered.getId()), status));
+        }
+        cancelOrdersUseCase.execute(new CancelOrdersCommand(List.of(cancelled.getId())));
+        SalesRollupRebuild before = rebuildSalesRollupsUseCase.execute(new RebuildSalesRollupsCommand(1));
+
+        // When
+        OrderArchiveRun run = archiveOrdersUseCase.execute(
+                new ArchiveOrdersCommand(delivered.getCreatedAt().toLocalDate().plusDays(1), 1));
+
+        // Then
+        assertThat(run.ordersArchived()).isEqualTo(2);
+        assertThat(run.batches()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("select id from orders", Long.class))
+                .containsExactly(pending.getId());
+        assertThat(jdbcTemplate.queryForObject("select count(*) from order_items_archive", Long.class))
+                .isEqualTo(2);
+
+        Order archived = orderRepository.findById(delivered.getId()).orElseThrow();
+        assertThat(archived.getStatus()).isEqualTo(OrderStatus.DELIVERED);
+        assertThat(archived.getItems()).singleElement()
+                .satisfies(item -> assertThat(item.getQuantity()).isEqualTo(2));
+        assertThat(archived.getTotalAmount()).isEqualByComparingTo("6.00");
+        assertThat(orderRepository.findByCustomerId(customer.getId()))
+                .extracting(Order::getId)
+                .containsExactly(delivered.getId(), cancelled.getId(), pending.getId());
+
+        List<OrderStatusTransition> transitions = cancelOrdersUseCase.execute(
+                new CancelOrdersCommand(List.of(delivered.getId(), cancelled.getId())));
+        assertThat(transitions).extracting(OrderStatusTransition::outcome).containsExactly(
+                OrderStatusTransition.Outcome.REJECTED, OrderStatusTransition.Outcome.UNCHANGED);
+
+        List<BigDecimal> customerOrderTotals = new ArrayList<>();
+        orderRepository.forEachOrderByCustomer((customerId, placedAt, totalAmount) -> {
+            if (customerId == customer.getId()) {
+                customerOrderTotals.add(totalAmount);
+            }
+        });
+        assertThat(customerOrderTotals).usingElementComparator(BigDecimal::compareTo)
+                .containsExactlyInAnyOrder(new BigDecimal("6.00"), new BigDecimal("12.00"));
+
+        SalesRollupRebuild after = rebuildSalesRollupsUseCase.execute(new RebuildSalesRollupsCommand(1));
+        assertThat(after.watermarkOrderId()).isEqualTo(before.watermarkOrderId());
+        assertThat(after.linesScanned()).isEqualTo(before.linesScanned());
+    }
+
+    private Order placeOrder(Customer customer, Product product, int quantity) {
+        return createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), quantity))));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.config.archival;
+
+import com.example.application.port.in.ArchiveOrdersUseCase;
+import com.example.application.port.in.command.ArchiveOrdersCommand;
+import com.example.domain.model.OrderArchiveRun;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OrderArchivalJob Tests")
+class OrderArchivalJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2024-06-30T03:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private ArchiveOrdersUseCase archiveOrdersUseCase;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OrderArchivalJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        OrderArchivalProperties properties = new OrderArchivalProperties(true, "0 0 3 * * *",
+                Duration.ofDays(30), 500);
+        job = new OrderArchivalJob(archiveOrdersUseCase, properties, meterRegistry, CLOCK);
+    }
+
+    @Test
+    @DisplayName("givenRetention_whenRun_thenOrdersBeforeTheCutoffAreArchivedAndMetered")
+    void givenRetention_whenRun_thenOrdersBeforeTheCutoffAreArchivedAndMetered() {
+        // Given
+        LocalDate cutoff = LocalDate.of(2024, 5, 31);
+        given(archiveOrdersUseCase.execute(new ArchiveOrdersCommand(cutoff, 500)))
+                .willReturn(new OrderArchiveRun(cutoff, 1200, 3, Duration.ofMillis(250)));
+
+        // When
+        job.run();
+
+        // Then
+        assertThat(meterRegistry.get("supermarket.orders.archived").counter().count()).isEqualTo(1200.0);
+        assertThat(meterRegistry.get("supermarket.orders.archival.run").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("supermarket.orders.archival.run").timer().totalTime(TimeUnit.MILLISECONDS))
+                .isEqualTo(250.0);
+    }
+
+    @Test
+    @DisplayName("givenArchivalFails_whenRun_thenFailureIsLoggedAndNothingIsMetered")
+    void givenArchivalFails_whenRun_thenFailureIsLoggedAndNothingIsMetered() {
+        // Given
+        given(archiveOrdersUseCase.execute(any(ArchiveOrdersCommand.class)))
+                .willThrow(new IllegalStateException("lock timeout"));
+
+        // When & Then
+        assertThatCode(job::run).doesNotThrowAnyException();
+        then(archiveOrdersUseCase).should().execute(any(ArchiveOrdersCommand.class));
+        assertThat(meterRegistry.get("supermarket.orders.archived").counter().count()).isZero();
+        assertThat(meterRegistry.get("supermarket.orders.archival.run").timer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("givenInvalidRetentionOrBatchSize_whenBound_thenIllegalArgumentException")
+    void givenInvalidRetentionOrBatchSize_whenBound_thenIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> new OrderArchivalProperties(true, "0 0 3 * * *", Duration.ofHours(12), 500))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("supermarket.orders.archival.retention must be at least 1d");
+        assertThatThrownBy(() -> new OrderArchivalProperties(true, "0 0 3 * * *", Duration.ofDays(1), 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("supermarket.orders.archival.batch-size must be positive");
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ConnectionPoolConfiguration Tests")
+class ConnectionPoolConfigurationTest {
+
+    @Test
+    @DisplayName("givenDatabaseWaitEqualToCpuTime_whenSizing_thenPoolIsTwiceTheCores")
+    void givenDatabaseWaitEqualToCpuTime_whenSizing_thenPoolIsTwiceTheCores() {
+        // Given
+        ConnectionPoolProperties properties = properties(4, Duration.ofMillis(1), Duration.ofMillis(1));
+
+        // When
+        int poolSize = properties.poolSize();
+
+        // Then
+        assertThat(poolSize).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("givenRemoteDatabaseLatency_whenSizing_thenPoolGrowsWithWaitToCpuRatio")
+    void givenRemoteDatabaseLatency_whenSizing_thenPoolGrowsWithWaitToCpuRatio() {
+        // Given
+        ConnectionPoolProperties properties = properties(4, Duration.ofMillis(5), Duration.ofMillis(2));
+
+        // When
+        int poolSize = properties.poolSize();
+
+        // Then
+        assertThat(poolSize).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("givenExtremeRatios_whenSizing_thenPoolIsClampedToBounds")
+    void givenExtremeRatios_whenSizing_thenPoolIsClampedToBounds() {
+        // Given
+        ConnectionPoolProperties small = properties(1, Duration.ZERO, Duration.ofMillis(1));
+        ConnectionPoolProperties large = properties(16, Duration.ofMillis(100), Duration.ofMillis(1));
+
+        // When / Then
+        assertThat(small.poolSize()).isEqualTo(4);
+        assertThat(large.poolSize()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("givenNoExplicitPoolSize_whenDataSourceIsInitialized_thenComputedSizeIsApplied")
+    void givenNoExplicitPoolSize_whenDataSourceIsInitialized_thenComputedSizeIsApplied() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("supermarket.datasource.pool.cores", "3")
+                .withProperty("supermarket.datasource.pool.database-wait-time", "2ms");
+        HikariDataSource dataSource = new HikariDataSource();
+
+        // When
+        postProcessor(environment).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("givenExplicitPoolSize_whenDataSourceIsInitialized_thenItIsLeftUntouched")
+    void givenExplicitPoolSize_whenDataSourceIsInitialized_thenItIsLeftUntouched() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty(ConnectionPoolConfiguration.MAXIMUM_POOL_SIZE_PROPERTY, "3")
+                .withProperty("supermarket.datasource.pool.cores", "8");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setMaximumPoolSize(3);
+
+        // When
+        postProcessor(environment).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("givenSizingDisabled_whenDataSourceIsInitialized_thenHikariDefaultIsKept")
+    void givenSizingDisabled_whenDataSourceIsInitialized_thenHikariDefaultIsKept() {
+        // Given
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("supermarket.datasource.pool.sizing-enabled", "false")
+                .withProperty("supermarket.datasource.pool.cores", "8");
+        HikariDataSource dataSource = new HikariDataSource();
+        int hikariDefault = dataSource.getMaximumPoolSize();
+
+        // When
+        postProcessor(environment).postProcessBeforeInitialization(dataSource, "dataSource");
+
+        // Then
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(hikariDefault);
+    }
+
+    private static ConnectionPoolProperties properties(int cores, Duration databaseWaitTime, Duration cpuTime) {
+        return new ConnectionPoolProperties(true, cores, databaseWaitTime, cpuTime, 4, 64);
+    }
+
+    private static BeanPostProcessor postProcessor(MockEnvironment environment) {
+        return ConnectionPoolConfiguration.connectionPoolSizingPostProcessor(environment);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.config.datasource;
+
+import com.example.boot.Application;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@DisplayName("Connection pool metrics")
+class ConnectionPoolMetricsTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("givenDefaultConfiguration_whenApplicationStarts_thenPoolIsSizedAndGuarded")
+    void givenDefaultConfiguration_whenApplicationStarts_thenPoolIsSizedAndGuarded() {
+        // Given
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+
+        // When
+        int expectedSize = new ConnectionPoolProperties(true, null, Duration.ofMillis(15),
+                Duration.ofMillis(1), 4, 64).poolSize();
+
+        // Then
+        assertThat(hikari).isNotNull();
+        assertThat(hikari.getMaximumPoolSize()).isEqualTo(expectedSize);
+        assertThat(hikari.getLeakDetectionThreshold()).isEqualTo(10_000);
+        assertThat(hikari.getConnectionTimeout()).isEqualTo(2_000);
+        assertThat(hikari.getValidationTimeout()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("givenConnectionCheckout_whenMetricsAreRead_thenAcquireHistogramAndGaugesArePublished")
+    void givenConnectionCheckout_whenMetricsAreRead_thenAcquireHistogramAndGaugesArePublished() throws SQLException {
+        // Given
+        try (Connection connection = dataSource.getConnection()) {
+
+            // When
+            double active = meterRegistry.get("hikaricp.connections.active").tag("pool", "supermarket").gauge().value();
+
+            // Then
+            assertThat(active).isGreaterThanOrEqualTo(1);
+        }
+        Timer acquire = meterRegistry.get("hikaricp.connections.acquire").tag("pool", "supermarket").timer();
+        assertThat(acquire.count()).isPositive();
+        assertThat(acquire.takeSnapshot().percentileValues()).isNotEmpty();
+        assertThat(meterRegistry.get("hikaricp.connections.idle").tag("pool", "supermarket").gauge()).isNotNull();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").tag("pool", "supermarket").gauge()).isNotNull();
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.config.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("HierarchicalTimingWheel Tests")
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+
+    @Test
+    @DisplayName("givenTimersOnSeveralLevels_whenAdvancing_thenEachExpiresOnItsDeadlineTick")
+    void givenTimersOnSeveralLevels_whenAdvancing_thenEachExpiresOnItsDeadlineTick() {
+        // Given
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 0);
+        wheel.schedule(1L, 30 * TICK);
+        wheel.schedule(2L, 500 * TICK);
+        wheel.schedule(3L, 70_000 * TICK);
+        wheel.schedule(4L, 5 * TICK);
+
+        // When
+        List<Long> beforeFirst = advance(wheel, 4 * TICK + TICK - 1);
+        List<Long> first = advance(wheel, 5 * TICK);
+        List<Long> second = advance(wheel, 499 * TICK);
+        List<Long> third = advance(wheel, 500 * TICK);
+        List<Long> last = advance(wheel, 70_000 * TICK);
+
+        // Then
+        assertThat(beforeFirst).isEmpty();
+        assertThat(first).containsExactly(4L);
+        assertThat(second).containsExactly(1L);
+        assertThat(third).containsExactly(2L);
+        assertThat(last).containsExactly(3L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("givenCancelledAndRescheduledTimers_whenAdvancing_thenOnlyLatestDeadlinesFire")
+    void givenCancelledAndRescheduledTimers_whenAdvancing_thenOnlyLatestDeadlinesFire() {
+        // Given
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, 0);
+        wheel.schedule(1L, 100 * TICK);
+        wheel.schedule(2L, 100 * TICK);
+        wheel.schedule(2L, 300 * TICK);
+        wheel.schedule(3L, 100 * TICK);
+
+        // When
+        boolean cancelled = wheel.cancel(3L);
+        boolean cancelledTwice = wheel.cancel(3L);
+        List<Long> first = advance(wheel, 100 * TICK);
+        List<Long> second = advance(wheel, 300 * TICK);
+
+        // Then
+        assertThat(cancelled).isTrue();
+        assertThat(cancelledTwice).isFalse();
+        assertThat(first).containsExactly(1L);
+        assertThat(second).containsExactly(2L);
+        assertThat(wheel.contains(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("givenPastOrFarFutureDeadlines_whenAdvancing_thenPastFiresNextTickAndFarFutureIsNotLost")
+    void givenPastOrFarFutureDeadlines_whenAdvancing_thenPastFiresNextTickAndFarFutureIsNotLost() {
+        // Given
+        long start = 1_000 * TICK;
+        long farFuture = start + (HierarchicalTimingWheel.COVERAGE_TICKS * 3 + 17) * TICK;
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(TICK, start);
+        wheel.schedule(1L, 0);
+        wheel.schedule(2L, farFuture);
+
+        // When
+        List<Long> nextTick = advance(wheel, start + TICK);
+        List<Long> justBefore = advance(wheel, farFuture - TICK);
+        List<Long> onDeadline = advance(wheel, farFuture);
+
+        // Then
+        assertThat(nextTick).containsExactly(1L);
+        assertThat(justBefore).isEmpty();
+        assertThat(onDeadline).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("givenRandomOperations_whenAdvancing_thenExpiriesMatchReferenceModel")
+    void givenRandomOperations_whenAdvancing_thenExpiriesMatchReferenceModel() {
+        // Given
+        Random random = new Random(42);
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1, 0);
+        Map<Long, Long> reference = new HashMap<>();
+        long now = 0;
+
+        for (int round = 0; round < 2_000; round++) {
+            // When
+            for (int operation = 0; operation < 50; operation++) {
+                long key = random.nextInt(5_000);
+                if (random.nextInt(4) == 0) {
+                    assertThat(wheel.cancel(key)).isEqualTo(reference.remove(key) != null);
+                } else {
+                    long deadline = now + 1 + (long) Math.pow(2, random.nextInt(22)) + random.nextInt(64);
+                    wheel.schedule(key, deadline);
+                    reference.put(key, deadline);
+                }
+            }
+            now += 1 + random.nextInt(random.nextInt(10) == 0 ? 100_000 : 200);
+            long until = now;
+            List<Long> expired = advance(wheel, until);
+
+            // Then
+            List<Long> expected = reference.entrySet().stream()
+                    .filter(entry -> entry.getValue() <= until)
+                    .map(Map.Entry::getKey)
+                    .toList();
+            assertThat(expired).containsExactlyInAnyOrderElementsOf(expected);
+            expected.forEach(reference::remove);
+            assertThat(wheel.size()).isEqualTo(reference.size());
+        }
+    }
+
+    private static List<Long> advance(HierarchicalTimingWheel wheel, long nowMillis) {
+        List<Long> expired = new ArrayList<>();
+        wheel.advanceTo(nowMillis, expired::add);
+        return expired;
+    }
+}
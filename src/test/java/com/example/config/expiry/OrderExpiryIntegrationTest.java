@@ -0,0 +1,78 @@
+package com.example.config.expiry;
+
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:expirydb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "supermarket.orders.expiry.ttl=300ms",
+        "supermarket.orders.expiry.tick=50ms"
+})
+@DirtiesContext
+@DisplayName("Pending order expiry")
+class OrderExpiryIntegrationTest {
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private OrderRepositoryPort orderRepository;
+
+    @Test
+    @DisplayName("givenUnconfirmedOrder_whenTtlElapses_thenOrderIsCancelledAndStockRestored")
+    void givenUnconfirmedOrder_whenTtlElapses_thenOrderIsCancelledAndStockRestored() throws InterruptedException {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product product = productRepository.save(new Product(null, "EXP-" + suffix, "Expiring Product", "d",
+                new BigDecimal("2.50"), 10));
+        Customer customer = customerRepository.save(new Customer(null, "expiry-" + suffix + "@example.com",
+                "Expiry", "Test", null, null));
+        Order order = createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), 4))));
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(6);
+
+        // When
+        OrderStatus status = awaitStatusOtherThan(order.getId(), OrderStatus.PENDING);
+
+        // Then
+        assertThat(status).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(10);
+    }
+
+    private OrderStatus awaitStatusOtherThan(Long orderId, OrderStatus status) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        OrderStatus current = orderRepository.findById(orderId).orElseThrow().getStatus();
+        while (current == status && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+            current = orderRepository.findById(orderId).orElseThrow().getStatus();
+        }
+        return current;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.config.expiry;
+
+import com.example.application.port.in.ExpireOrdersUseCase;
+import com.example.application.port.in.command.ExpireOrdersCommand;
+import com.example.application.port.out.OrderRepositoryPort;
+import com.example.domain.event.OrderPlaced;
+import com.example.domain.event.OrderStatusChanged;
+import com.example.domain.model.OrderStatus;
+import com.example.domain.model.OrderStatusTransition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PendingOrderExpiryScheduler Tests")
+class PendingOrderExpirySchedulerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    @Mock
+    private ExpireOrdersUseCase expireOrdersUseCase;
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private PendingOrderExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START.toInstant(ZoneOffset.UTC));
+        meterRegistry = new SimpleMeterRegistry();
+        OrderExpiryProperties properties = new OrderExpiryProperties(true, Duration.ofMinutes(30),
+                Duration.ofSeconds(1), 2);
+        scheduler = new PendingOrderExpiryScheduler(orderRepository, expireOrdersUseCase, properties,
+                meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("givenStalePendingOrdersInDatabase_whenRebuilt_thenTheyExpireInBatchesOnNextTick")
+    @SuppressWarnings("unchecked")
+    void givenStalePendingOrdersInDatabase_whenRebuilt_thenTheyExpireInBatchesOnNextTick() {
+        // Given
+        willAnswer(invocation -> {
+            BiConsumer<Long, LocalDateTime> consumer = invocation.getArgument(0);
+            consumer.accept(1L, START.minusHours(2));
+            consumer.accept(2L, START.minusHours(1));
+            consumer.accept(3L, START.minusMinutes(31));
+            consumer.accept(4L, START.minusMinutes(5));
+            return null;
+        }).given(orderRepository).forEachPendingOrder(any(BiConsumer.class));
+        given(expireOrdersUseCase.execute(any(ExpireOrdersCommand.class))).willAnswer(invocation ->
+                invocation.getArgument(0, ExpireOrdersCommand.class).orderIds().stream()
+                        .map(id -> OrderStatusTransition.transitioned(id, OrderStatus.CANCELLED))
+                        .toList());
+        scheduler.rebuild();
+
+        // When
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.expireDueOrders();
+
+        // Then
+        then(expireOrdersUseCase).should().execute(new ExpireOrdersCommand(List.of(1L, 2L)));
+        then(expireOrdersUseCase).should().execute(new ExpireOrdersCommand(List.of(3L)));
+        assertThat(meterRegistry.get("supermarket.orders.expired").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("supermarket.orders.expiry.pending").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("givenOrderConfirmedBeforeTtl_whenTtlElapses_thenOrderIsNotExpired")
+    void givenOrderConfirmedBeforeTtl_whenTtlElapses_thenOrderIsNotExpired() {
+        // Given
+        scheduler.onOrderPlaced(new OrderPlaced(7L, 1L, BigDecimal.TEN, START, List.of()));
+        scheduler.onOrderStatusChanged(new OrderStatusChanged(OrderStatus.CONFIRMED, List.of(7L), START));
+
+        // When
+        clock.advance(Duration.ofMinutes(31));
+        scheduler.expireDueOrders();
+
+        // Then
+        then(expireOrdersUseCase).should(never()).execute(any());
+        assertThat(scheduler.pendingTimers()).isZero();
+    }
+
+    @Test
+    @DisplayName("givenExpiryFails_whenNextTickRuns_thenBatchIsRetried")
+    void givenExpiryFails_whenNextTickRuns_thenBatchIsRetried() {
+        // Given
+        scheduler.onOrderPlaced(new OrderPlaced(7L, 1L, BigDecimal.TEN, START, List.of()));
+        given(expireOrdersUseCase.execute(new ExpireOrdersCommand(List.of(7L))))
+                .willThrow(new IllegalStateException("lock timeout"))
+                .willReturn(List.of(OrderStatusTransition.transitioned(7L, OrderStatus.CANCELLED)));
+        clock.advance(Duration.ofMinutes(30));
+        scheduler.expireDueOrders();
+
+        // When
+        clock.advance(Duration.ofSeconds(1));
+        scheduler.expireDueOrders();
+
+        // Then
+        assertThat(meterRegistry.get("supermarket.orders.expired").counter().count()).isEqualTo(1);
+        assertThat(scheduler.pendingTimers()).isZero();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.config.export;
+
+import com.example.adapters.outbound.export.ColumnarFileReader;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.ExportOrdersUseCase;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.ExportOrdersCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.ExportedPartition;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderSnapshotExport;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:exportdb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "supermarket.export.row-group-size=2"
+})
+@DirtiesContext
+@DisplayName("Columnar order export")
+class OrderExportIntegrationTest {
+
+    @TempDir
+    static Path exports;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ExportOrdersUseCase exportOrdersUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @DynamicPropertySource
+    static void exportDirectory(DynamicPropertyRegistry registry) {
+        registry.add("supermarket.export.directory", () -> exports.toString());
+    }
+
+    @Test
+    @DisplayName("givenPlacedOrders_whenExported_thenDailyPartitionsHoldEveryOrderAndItem")
+    void givenPlacedOrders_whenExported_thenDailyPartitionsHoldEveryOrderAndItem() throws Exception {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product apples = productRepository.save(new Product(null, "EXP-A-" + suffix, "Apples", "d",
+                new BigDecimal("1.25"), 100));
+        Product pears = productRepository.save(new Product(null, "EXP-P-" + suffix, "Pears", "d",
+                new BigDecimal("2.00"), 100));
+        Customer customer = customerRepository.save(new Customer(null, "export-" + suffix + "@example.com",
+                "Export", "Test", null, null));
+        List<Order> orders = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            orders.add(createOrderUseCase.execute(new CreateOrderCommand(customer.getId(), List.of(
+                    new OrderItemCommand(apples.getId(), i), new OrderItemCommand(pears.getId(), 1)))));
+        }
+        LocalDate today = orders.get(0).getCreatedAt().toLocalDate();
+
+        // When
+        OrderSnapshotExport export = exportOrdersUseCase.execute(
+                new ExportOrdersCommand(today.minusDays(1), today, 2));
+
+        // Then
+        assertThat(export.partitions()).hasSize(2)
+                .allSatisfy(partition -> assertThat(partition.day()).isEqualTo(today));
+        assertThat(export.rows(OrderSnapshotExport.ORDERS)).isEqualTo(3);
+        assertThat(export.rows(OrderSnapshotExport.ORDER_ITEMS)).isEqualTo(6);
+
+        ExportedPartition items = export.partitions().stream()
+                .filter(partition -> partition.table().equals(OrderSnapshotExport.ORDER_ITEMS))
+                .findFirst()
+                .orElseThrow();
+        assertThat(Path.of(items.location()))
+                .isEqualTo(exports.resolve("order_items").resolve("date=" + today + ".smc"));
+        List<String> names = new ArrayList<>();
+        long[] quantity = new long[1];
+        try (ColumnarFileReader reader = ColumnarFileReader.open(Path.of(items.location()))) {
+            assertThat(reader.rowCount()).isEqualTo(6);
+            reader.scanStrings("product_name", names::add);
+            reader.scanLongs("quantity", value -> quantity[0] += value);
+        }
+        assertThat(names).containsExactly("Apples", "Pears", "Apples", "Pears", "Apples", "Pears");
+        assertThat(quantity[0]).isEqualTo(1 + 2 + 3 + 3);
+        assertThat(exports.resolve("orders").resolve("date=" + today.minusDays(1) + ".smc")).doesNotExist();
+    }
+}
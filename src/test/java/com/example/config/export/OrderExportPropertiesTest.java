@@ -0,0 +1,34 @@
+package com.example.config.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("OrderExportProperties Tests")
+class OrderExportPropertiesTest {
+
+    @Test
+    @DisplayName("givenNonPositiveRowGroupSize_whenBound_thenIllegalArgumentException")
+    void givenNonPositiveRowGroupSize_whenBound_thenIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> new OrderExportProperties(Path.of("exports"), 0, 6))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("supermarket.export.row-group-size must be positive");
+    }
+
+    @Test
+    @DisplayName("givenCompressionLevelOutOfRange_whenBound_thenIllegalArgumentException")
+    void givenCompressionLevelOutOfRange_whenBound_thenIllegalArgumentException() {
+        // When & Then
+        assertThatThrownBy(() -> new OrderExportProperties(Path.of("exports"), 1024, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("supermarket.export.compression-level must be between 0 and 9");
+        assertThatThrownBy(() -> new OrderExportProperties(Path.of("exports"), 1024, -1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatCode(() -> new OrderExportProperties(Path.of("exports"), 1024, 0)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.config.export;
+
+import com.example.adapters.outbound.export.ColumnarFileReader;
+import com.example.adapters.outbound.export.JdbcColumnarExportAdapter;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Customer;
+import com.example.domain.model.ExportedPartition;
+import com.example.domain.model.Order;
+import com.example.domain.model.OrderSnapshotExport;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:exportsnapshotdb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DirtiesContext
+@DisplayName("Columnar order export snapshot")
+class OrderExportSnapshotIntegrationTest {
+
+    @TempDir
+    private Path exports;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("givenOrderCommittedBetweenTheTwoTableScans_whenDayExported_thenBothFilesHoldTheSameOrders")
+    void givenOrderCommittedBetweenTheTwoTableScans_whenDayExported_thenBothFilesHoldTheSameOrders()
+            throws Exception {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product product = productRepository.save(new Product(null, "SNAP-" + suffix, "Snapshot", "d",
+                new BigDecimal("1.50"), 100));
+        Customer customer = customerRepository.save(new Customer(null, "snapshot-" + suffix + "@example.com",
+                "Snapshot", "Test", null, null));
+        CreateOrderCommand command = new CreateOrderCommand(customer.getId(), List.of(
+                new OrderItemCommand(product.getId(), 1)));
+        Order first = createOrderUseCase.execute(command);
+        LocalDate today = first.getCreatedAt().toLocalDate();
+        JdbcTemplate ordersThenCheckout = new JdbcTemplate(dataSource) {
+
+            private boolean placed;
+
+            @Override
+            public void query(PreparedStatementCreator creator, RowCallbackHandler handler) {
+                super.query(creator, handler);
+                if (!placed) {
+                    placed = true;
+                    CompletableFuture.supplyAsync(() -> createOrderUseCase.execute(command)).join();
+                }
+            }
+        };
+        JdbcColumnarExportAdapter adapter = new JdbcColumnarExportAdapter(ordersThenCheckout, transactionManager,
+                exports, 1024, 6);
+
+        // When
+        Map<String, ExportedPartition> exported = adapter.exportDay(today).stream()
+                .collect(Collectors.toMap(ExportedPartition::table, Function.identity()));
+
+        // Then
+        TreeSet<Long> orderIds = scanLongs(exported.get(OrderSnapshotExport.ORDERS), "id");
+        TreeSet<Long> itemOrderIds = scanLongs(exported.get(OrderSnapshotExport.ORDER_ITEMS), "order_id");
+        assertThat(orderIds).contains(first.getId()).isEqualTo(itemOrderIds);
+        assertThat(adapter.exportDay(today).stream().mapToLong(ExportedPartition::rows).sum())
+                .isEqualTo(2L * (orderIds.size() + 1));
+    }
+
+    private static TreeSet<Long> scanLongs(ExportedPartition partition, String column) throws Exception {
+        TreeSet<Long> values = new TreeSet<>();
+        try (ColumnarFileReader reader = ColumnarFileReader.open(Path.of(partition.location()))) {
+            reader.scanLongs(column, values::add);
+        }
+        return values;
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.config.h2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MvStoreCompactionJob Tests")
+class MvStoreCompactionJobTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private DataSource failingDataSource;
+
+    private SimpleMeterRegistry meterRegistry;
+    private H2CompactionProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new H2CompactionProperties(true, "0 30 3 * * *", 90, DataSize.ofMegabytes(16),
+                Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("givenFileDatabaseWithDeletedRows_whenCompacted_thenGaugesReportTheFileStore")
+    void givenFileDatabaseWithDeletedRows_whenCompacted_thenGaugesReportTheFileStore() throws Exception {
+        // Given
+        DataSource dataSource = h2("jdbc:h2:file:" + tempDir.resolve("compaction") + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table filler(id int primary key, payload varchar(1000))");
+            statement.execute("insert into filler select x, repeat('x', 1000) from system_range(1, 2000)");
+            statement.execute("delete from filler where mod(id, 2) = 0");
+        }
+        MvStoreCompactionJob job = new MvStoreCompactionJob(dataSource, properties, meterRegistry);
+
+        // When
+        job.compact();
+
+        // Then
+        assertThat(meterRegistry.get("supermarket.h2.store.size").gauge().value()).isPositive();
+        assertThat(meterRegistry.get("supermarket.h2.store.fill.rate").gauge().value()).isBetween(0.0, 100.0);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("shutdown");
+        }
+    }
+
+    @Test
+    @DisplayName("givenInMemoryDatabase_whenCompacted_thenCompactionIsSkippedAndGaugesAreNaN")
+    void givenInMemoryDatabase_whenCompacted_thenCompactionIsSkippedAndGaugesAreNaN() {
+        // Given
+        MvStoreCompactionJob job = new MvStoreCompactionJob(h2("jdbc:h2:mem:compaction-test"), properties,
+                meterRegistry);
+
+        // When & Then
+        assertThatCode(job::compact).doesNotThrowAnyException();
+        assertThat(meterRegistry.get("supermarket.h2.store.size").gauge().value()).isNaN();
+        assertThat(meterRegistry.get("supermarket.h2.store.fill.rate").gauge().value()).isNaN();
+    }
+
+    @Test
+    @DisplayName("givenUnavailableDataSource_whenGaugesAreRead_thenTheyReportNaN")
+    void givenUnavailableDataSource_whenGaugesAreRead_thenTheyReportNaN() throws Exception {
+        // Given
+        given(failingDataSource.getConnection()).willThrow(new SQLException("pool exhausted"));
+        new MvStoreCompactionJob(failingDataSource, properties, meterRegistry);
+
+        // When & Then
+        assertThat(meterRegistry.get("supermarket.h2.store.size").gauge().value()).isNaN();
+    }
+
+    private static DataSource h2(String url) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL(url);
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.config.h2;
+
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("standalone")
+@DisplayName("Standalone profile Integration Tests")
+class StandaloneProfileIntegrationTest {
+
+    @TempDir
+    static Path dataDir;
+
+    @DynamicPropertySource
+    static void dataDirectory(DynamicPropertyRegistry registry) {
+        registry.add("supermarket.data-dir", () -> dataDir.toString());
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private MvStoreCompactionJob compactionJob;
+
+    @Test
+    @DisplayName("givenStandaloneProfile_whenContextStarts_thenSchemaIsMigratedByFlyway")
+    void givenStandaloneProfile_whenContextStarts_thenSchemaIsMigratedByFlyway() {
+        // When
+        Integer applied = jdbcTemplate.queryForObject(
+                "select count(*) from \"flyway_schema_history\" where \"version\" = '1' and \"success\"", Integer.class);
+
+        // Then
+        assertThat(applied).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("givenFileDatabase_whenProductSavedAndCompacted_thenProductIsReadBackFromFileStore")
+    void givenFileDatabase_whenProductSavedAndCompacted_thenProductIsReadBackFromFileStore() throws Exception {
+        // Given
+        Product saved = productRepository.save(new Product(null, "SKU-FILE-1", "File product", "Stored on disk",
+                new BigDecimal("3.50"), 10));
+
+        // When
+        compactionJob.compact();
+
+        // Then
+        assertThat(productRepository.findBySku("SKU-FILE-1")).get().extracting(Product::getId).isEqualTo(saved.getId());
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(MvStoreCompactionJob.fileStore(connection)).isNotNull();
+        }
+        assertThat(dataDir.resolve("supermarket.mv.db")).exists();
+    }
+}
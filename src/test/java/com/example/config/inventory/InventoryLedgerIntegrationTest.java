@@ -0,0 +1,214 @@
+package com.example.config.inventory;
+
+import com.example.application.port.in.AdjustInventoryUseCase;
+import com.example.application.port.in.CancelOrdersUseCase;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.CreateProductUseCase;
+import com.example.application.port.in.GetInventoryUseCase;
+import com.example.application.port.in.SnapshotInventoryUseCase;
+import com.example.application.port.in.command.AdjustInventoryCommand;
+import com.example.application.port.in.command.CancelOrdersCommand;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.CreateProductCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.domain.exception.InsufficientStockException;
+import com.example.domain.model.Customer;
+import com.example.domain.model.InventoryEntry;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.InventoryLevel;
+import com.example.domain.model.InventorySnapshotRun;
+import com.example.domain.model.Order;
+import com.example.domain.model.Product;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:inventorydb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "supermarket.inventory.snapshot-interval=1h"
+})
+@DirtiesContext
+@DisplayName("Inventory ledger")
+class InventoryLedgerIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private CancelOrdersUseCase cancelOrdersUseCase;
+
+    @Autowired
+    private GetInventoryUseCase getInventoryUseCase;
+
+    @Autowired
+    private AdjustInventoryUseCase adjustInventoryUseCase;
+
+    @Autowired
+    private SnapshotInventoryUseCase snapshotInventoryUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("givenSalesCancellationsAndReceipts_whenLedgerIsFolded_thenLevelMatchesProductStock")
+    void givenSalesCancellationsAndReceipts_whenLedgerIsFolded_thenLevelMatchesProductStock() {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product product = createProductUseCase.execute(new CreateProductCommand("INV-" + suffix, "Ledger Product",
+                "d", new BigDecimal("4.00"), 50));
+        Customer customer = customerRepository.save(new Customer(null, "inventory-" + suffix + "@example.com",
+                "Inventory", "Test", null, null));
+        Order kept = placeOrder(customer, product, 5);
+        Order cancelled = placeOrder(customer, product, 3);
+        cancelOrdersUseCase.execute(new CancelOrdersCommand(List.of(cancelled.getId())));
+
+        InventoryLevel committed = getInventoryUseCase.level(product.getId());
+
+        // When
+        InventorySnapshotRun run = snapshotInventoryUseCase.execute();
+
+        // Then
+        assertThat(committed.stock()).isEqualTo(45);
+        assertThat(committed.tailEntries()).isEqualTo(4);
+        assertThat(run.productsSnapshotted()).isPositive();
+        assertThat(getInventoryUseCase.entries(product.getId(), 10))
+                .extracting(InventoryEntry::type, InventoryEntry::quantityDelta, InventoryEntry::referenceId)
+                .containsExactly(
+                        tuple(InventoryEntryType.CANCELLATION, 3, cancelled.getId()),
+                        tuple(InventoryEntryType.SALE, -3, cancelled.getId()),
+                        tuple(InventoryEntryType.SALE, -5, kept.getId()),
+                        tuple(InventoryEntryType.RECEIPT, 50, null));
+        InventoryLevel folded = getInventoryUseCase.level(product.getId());
+        assertThat(folded.stock()).isEqualTo(45);
+        assertThat(folded.snapshotEntryId()).isPositive();
+        assertThat(folded.tailEntries()).isZero();
+
+        InventoryLevel received = adjustInventoryUseCase.execute(
+                new AdjustInventoryCommand(product.getId(), InventoryEntryType.RECEIPT, 10));
+        assertThat(received.stock()).isEqualTo(55);
+        assertThat(received.tailEntries()).isEqualTo(1);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(55);
+
+        assertThatThrownBy(() -> adjustInventoryUseCase.execute(
+                new AdjustInventoryCommand(product.getId(), InventoryEntryType.ADJUSTMENT, -100)))
+                .isInstanceOf(InsufficientStockException.class);
+        assertThat(getInventoryUseCase.level(product.getId()).stock()).isEqualTo(55);
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(55);
+    }
+
+    @Test
+    @DisplayName("givenEntryCommittedAfterTwoSnapshotRuns_whenFoldedAgain_thenLevelStillMatchesProductStock")
+    void givenEntryCommittedAfterTwoSnapshotRuns_whenFoldedAgain_thenLevelStillMatchesProductStock() throws Exception {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product slow = createProductUseCase.execute(new CreateProductCommand("INV-SLOW-" + suffix, "Slow Product",
+                "d", new BigDecimal("4.00"), 50));
+        Product fast = createProductUseCase.execute(new CreateProductCommand("INV-FAST-" + suffix, "Fast Product",
+                "d", new BigDecimal("4.00"), 20));
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Void> openTransaction = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    adjustInventoryUseCase.execute(new AdjustInventoryCommand(slow.getId(), InventoryEntryType.RECEIPT, 5));
+                    appended.countDown();
+                    await(commit);
+                }));
+        assertThat(appended.await(5, TimeUnit.SECONDS)).isTrue();
+        adjustInventoryUseCase.execute(new AdjustInventoryCommand(fast.getId(), InventoryEntryType.RECEIPT, 7));
+
+        // When
+        snapshotInventoryUseCase.execute();
+        snapshotInventoryUseCase.execute();
+        commit.countDown();
+        openTransaction.get(5, TimeUnit.SECONDS);
+        snapshotInventoryUseCase.execute();
+
+        // Then
+        assertThat(productRepository.findById(slow.getId()).orElseThrow().getStockQuantity()).isEqualTo(55);
+        assertThat(getInventoryUseCase.level(slow.getId()).stock()).isEqualTo(55);
+        assertThat(getInventoryUseCase.level(slow.getId()).tailEntries()).isZero();
+        assertThat(getInventoryUseCase.level(fast.getId()).stock()).isEqualTo(27);
+    }
+
+    @Test
+    @DisplayName("givenAnotherTransactionAppendsMeanwhile_whenTransactionCompletes_thenNoLedgerResourceStaysBound")
+    void givenAnotherTransactionAppendsMeanwhile_whenTransactionCompletes_thenNoLedgerResourceStaysBound()
+            throws Exception {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product first = createProductUseCase.execute(new CreateProductCommand("INV-FIRST-" + suffix, "First Product",
+                "d", new BigDecimal("4.00"), 10));
+        Product second = createProductUseCase.execute(new CreateProductCommand("INV-SECOND-" + suffix,
+                "Second Product", "d", new BigDecimal("4.00"), 10));
+        CountDownLatch appended = new CountDownLatch(1);
+        CountDownLatch concurrentlyAppended = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        CompletableFuture<Void> concurrentTransaction = CompletableFuture.runAsync(() ->
+                new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                    await(appended);
+                    adjustInventoryUseCase.execute(new AdjustInventoryCommand(second.getId(),
+                            InventoryEntryType.RECEIPT, 2));
+                    concurrentlyAppended.countDown();
+                    await(completed);
+                }));
+
+        // When
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adjustInventoryUseCase.execute(new AdjustInventoryCommand(first.getId(), InventoryEntryType.RECEIPT, 1));
+            appended.countDown();
+            await(concurrentlyAppended);
+        });
+        Map<Object, Object> bound = TransactionSynchronizationManager.getResourceMap();
+        completed.countDown();
+        concurrentTransaction.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(bound).isEmpty();
+        assertThat(getInventoryUseCase.level(first.getId()).stock()).isEqualTo(11);
+        assertThat(getInventoryUseCase.level(second.getId()).stock()).isEqualTo(12);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Order placeOrder(Customer customer, Product product, int quantity) {
+        return createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), quantity))));
+    }
+}
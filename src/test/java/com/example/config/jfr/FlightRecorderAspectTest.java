@@ -0,0 +1,73 @@
+package com.example.config.jfr;
+
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.domain.exception.InsufficientStockException;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FlightRecorderAspect Tests")
+class FlightRecorderAspectTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private CreateOrderUseCase createOrderUseCase;
+
+    @BeforeEach
+    void setUp() {
+        CreateOrderUseCase stockOut = command -> {
+            throw new InsufficientStockException("Leche", 5, 1);
+        };
+        AspectJProxyFactory factory = new AspectJProxyFactory(stockOut);
+        factory.addInterface(CreateOrderUseCase.class);
+        factory.addAspect(new FlightRecorderAspect());
+        createOrderUseCase = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("givenStockOut_whenCreateOrder_thenCheckoutEventIsRecorded")
+    void givenStockOut_whenCreateOrder_thenCheckoutEventIsRecorded() throws Exception {
+        // Given
+        CreateOrderCommand command = new CreateOrderCommand(7L, List.of(
+                new OrderItemCommand(1L, 5),
+                new OrderItemCommand(2L, 1),
+                new OrderItemCommand(1L, 2)
+        ));
+        Path file = tempDir.resolve("checkout.jfr");
+
+        // When
+        try (Recording recording = new Recording()) {
+            recording.enable(CheckoutEvent.class);
+            recording.start();
+            assertThatThrownBy(() -> createOrderUseCase.execute(command))
+                    .isInstanceOf(InsufficientStockException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // Then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.example.Checkout"))
+                .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLong("customerId")).isEqualTo(7L);
+        assertThat(events.get(0).getInt("itemCount")).isEqualTo(3);
+        assertThat(events.get(0).getInt("productsTouched")).isEqualTo(2);
+        assertThat(events.get(0).getBoolean("stockOut")).isTrue();
+        assertThat(events.get(0).getString("outcome")).isEqualTo("InsufficientStockException");
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.config.jfr;
+
+import com.example.boot.Application;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = Application.class, properties = "spring.jmx.enabled=true")
+@AutoConfigureMockMvc
+@DisplayName("Flight recording endpoint exposure")
+class FlightRecordingEndpointExposureTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("givenDefaultProfile_whenCallingOverHttp_thenEndpointIsNotExposed")
+    void givenDefaultProfile_whenCallingOverHttp_thenEndpointIsNotExposed() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.health").exists())
+                .andExpect(jsonPath("$._links.flightrecording").doesNotExist())
+                .andExpect(jsonPath("$._links['flightrecording-action']").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("givenDefaultProfile_whenLookingUpMBeans_thenEndpointIsExposedOverJmx")
+    void givenDefaultProfile_whenLookingUpMBeans_thenEndpointIsExposedOverJmx() throws Exception {
+        // Given
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        // When & Then
+        assertThat(server.queryNames(new ObjectName("org.springframework.boot:type=Endpoint,name=Flightrecording,*"), null))
+                .isNotEmpty();
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.config.jfr;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FlightRecordingEndpoint Tests")
+class FlightRecordingEndpointTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private FlightRecordingEndpoint endpoint;
+
+    @AfterEach
+    void tearDown() {
+        if (endpoint != null) {
+            endpoint.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("givenRecordOnStartup_whenApplicationIsReady_thenRecordingRunsUntilStopped")
+    void givenRecordOnStartup_whenApplicationIsReady_thenRecordingRunsUntilStopped() {
+        // Given
+        endpoint = endpoint("default", true);
+
+        // When
+        endpoint.startOnApplicationReady();
+        Map<String, Object> running = endpoint.status();
+        Map<String, Object> stopped = endpoint.stop();
+
+        // Then
+        assertThat(running)
+                .containsEntry("state", "RUNNING")
+                .containsEntry("settings", "default")
+                .containsEntry("maxAge", "PT5M")
+                .containsKey("startTime");
+        assertThat(stopped).containsEntry("state", "CLOSED").doesNotContainKey("startTime");
+    }
+
+    @Test
+    @DisplayName("givenNoRecordOnStartup_whenApplicationIsReady_thenNothingIsRecorded")
+    void givenNoRecordOnStartup_whenApplicationIsReady_thenNothingIsRecorded() {
+        // Given
+        endpoint = endpoint("default", false);
+
+        // When
+        endpoint.startOnApplicationReady();
+
+        // Then
+        assertThat(endpoint.status()).containsEntry("state", "CLOSED");
+    }
+
+    @Test
+    @DisplayName("givenRunningRecording_whenStartedAgain_thenSameRecordingKeepsRunning")
+    void givenRunningRecording_whenStartedAgain_thenSameRecordingKeepsRunning() {
+        // Given
+        endpoint = endpoint("default", false);
+        Object startTime = endpoint.perform("start", null).get("startTime");
+
+        // When
+        Map<String, Object> status = endpoint.perform("start", null);
+
+        // Then
+        assertThat(status).containsEntry("state", "RUNNING").containsEntry("startTime", startTime);
+    }
+
+    @Test
+    @DisplayName("givenRunningRecording_whenDumped_thenFileIsWrittenInsideTheDumpDirectory")
+    void givenRunningRecording_whenDumped_thenFileIsWrittenInsideTheDumpDirectory() {
+        // Given
+        endpoint = endpoint("default", false);
+        endpoint.start();
+
+        // When
+        Map<String, Object> named = endpoint.perform("dump", "../outside.jfr");
+        Map<String, Object> timestamped = endpoint.dump(null);
+
+        // Then
+        Path namedFile = Path.of((String) named.get("file"));
+        Path timestampedFile = Path.of((String) timestamped.get("file"));
+        assertThat(namedFile).isEqualTo(tempDir.resolve("recordings").resolve("outside.jfr").toAbsolutePath());
+        assertThat(Files.exists(namedFile)).isTrue();
+        assertThat(timestampedFile.getParent()).isEqualTo(namedFile.getParent());
+        assertThat(timestampedFile.getFileName().toString()).startsWith("supermarket-").endsWith(".jfr");
+        assertThat(Files.exists(timestampedFile)).isTrue();
+        assertThat(named).containsEntry("state", "RUNNING");
+    }
+
+    @Test
+    @DisplayName("givenNoRecording_whenDumped_thenIllegalStateException")
+    void givenNoRecording_whenDumped_thenIllegalStateException() {
+        // Given
+        endpoint = endpoint("default", false);
+
+        // When & Then
+        assertThatThrownBy(() -> endpoint.dump(null))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("No flight recording is running");
+    }
+
+    @Test
+    @DisplayName("givenUnknownSettingsOrAction_whenPerformed_thenIllegalArgumentException")
+    void givenUnknownSettingsOrAction_whenPerformed_thenIllegalArgumentException() {
+        // Given
+        endpoint = endpoint("does-not-exist", false);
+
+        // When & Then
+        assertThatThrownBy(endpoint::start)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown JFR settings: does-not-exist");
+        assertThatThrownBy(() -> endpoint.perform("pause", null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown flight recording action: pause");
+    }
+
+    private FlightRecordingEndpoint endpoint(String settings, boolean recordOnStartup) {
+        return new FlightRecordingEndpoint(tempDir.resolve("recordings"), settings, Duration.ofMinutes(5), recordOnStartup);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.config.metrics;
+
+import com.example.application.port.in.GetProductUseCase;
+import com.example.application.port.out.DomainEventPublisherPort;
+import com.example.application.port.out.InventoryLedgerPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.application.port.out.ProductViewPort;
+import com.example.application.service.ProductService;
+import com.example.domain.exception.ProductNotFoundException;
+import com.example.domain.model.Product;
+import com.example.domain.model.ProductView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PortMetricsAspect Tests")
+class PortMetricsAspectTest {
+
+    @Mock
+    private ProductRepositoryPort productRepository;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedger;
+
+    @Mock
+    private ProductViewPort productViews;
+
+    @Mock
+    private DomainEventPublisherPort eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GetProductUseCase getProductUseCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        AspectJProxyFactory factory = new AspectJProxyFactory(
+                new ProductService(productRepository, inventoryLedger, productViews, eventPublisher));
+        factory.addAspect(new PortMetricsAspect(meterRegistry));
+        getProductUseCase = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("givenUseCaseCall_whenItSucceeds_thenTimerIsRecordedWithPortTags")
+    void givenUseCaseCall_whenItSucceeds_thenTimerIsRecordedWithPortTags() {
+        // Given
+        Product product = new Product(1L, "SKU-001", "Test Product", null, new BigDecimal("1.00"), 1);
+        given(productViews.findById(1L)).willReturn(Optional.of(ProductView.of(product)));
+
+        // When
+        getProductUseCase.findById(1L);
+
+        // Then
+        assertThat(meterRegistry.get(PortMetricsAspect.CALLS_METRIC)
+                .tag("direction", "inbound")
+                .tag("port", "GetProductUseCase")
+                .tag("method", "findById")
+                .tag("outcome", "success")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("givenUseCaseCall_whenItThrows_thenExceptionIsCountedAndRethrown")
+    void givenUseCaseCall_whenItThrows_thenExceptionIsCountedAndRethrown() {
+        // Given
+        given(productViews.findById(9L)).willThrow(new ProductNotFoundException(9L));
+
+        // When & Then
+        assertThatThrownBy(() -> getProductUseCase.findById(9L))
+                .isInstanceOf(ProductNotFoundException.class);
+        assertThat(meterRegistry.get(PortMetricsAspect.EXCEPTIONS_METRIC)
+                .tag("port", "GetProductUseCase")
+                .tag("exception", "ProductNotFoundException")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(PortMetricsAspect.CALLS_METRIC)
+                .tag("outcome", "ProductNotFoundException")
+                .timer().count()).isEqualTo(1);
+    }
+}
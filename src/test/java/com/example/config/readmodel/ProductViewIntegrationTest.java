@@ -0,0 +1,126 @@
+package com.example.config.readmodel;
+
+import com.example.application.port.in.AdjustInventoryUseCase;
+import com.example.application.port.in.CancelOrdersUseCase;
+import com.example.application.port.in.CreateOrderUseCase;
+import com.example.application.port.in.CreateProductUseCase;
+import com.example.application.port.in.GetProductUseCase;
+import com.example.application.port.in.RebuildProductViewsUseCase;
+import com.example.application.port.in.command.AdjustInventoryCommand;
+import com.example.application.port.in.command.CancelOrdersCommand;
+import com.example.application.port.in.command.CreateOrderCommand;
+import com.example.application.port.in.command.CreateProductCommand;
+import com.example.application.port.in.command.OrderItemCommand;
+import com.example.application.port.out.CustomerRepositoryPort;
+import com.example.application.port.out.ProductRepositoryPort;
+import com.example.boot.Application;
+import com.example.config.sql.SqlStatementScope;
+import com.example.domain.model.Customer;
+import com.example.domain.model.InventoryEntryType;
+import com.example.domain.model.Order;
+import com.example.domain.model.Product;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "spring.datasource.url=jdbc:h2:mem:productviewdb;QUERY_CACHE_SIZE=64",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "supermarket.sql.inspection-enabled=true"
+})
+@DirtiesContext
+@DisplayName("Product read model")
+class ProductViewIntegrationTest {
+
+    @Autowired
+    private CreateProductUseCase createProductUseCase;
+
+    @Autowired
+    private GetProductUseCase getProductUseCase;
+
+    @Autowired
+    private CreateOrderUseCase createOrderUseCase;
+
+    @Autowired
+    private CancelOrdersUseCase cancelOrdersUseCase;
+
+    @Autowired
+    private AdjustInventoryUseCase adjustInventoryUseCase;
+
+    @Autowired
+    private RebuildProductViewsUseCase rebuildProductViewsUseCase;
+
+    @Autowired
+    private ProductRepositoryPort productRepository;
+
+    @Autowired
+    private CustomerRepositoryPort customerRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("givenSalesCancellationsAndReceipts_whenReadingProducts_thenViewsFollowWithoutQueryingTheDatabase")
+    void givenSalesCancellationsAndReceipts_whenReadingProducts_thenViewsFollowWithoutQueryingTheDatabase() {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product product = createProductUseCase.execute(new CreateProductCommand("VIEW-" + suffix, "Viewed Product",
+                "d", new BigDecimal("1.50"), 30));
+        Customer customer = customerRepository.save(new Customer(null, "view-" + suffix + "@example.com",
+                "View", "Test", null, null));
+        placeOrder(customer, product, 4);
+        Order cancelled = placeOrder(customer, product, 6);
+        cancelOrdersUseCase.execute(new CancelOrdersCommand(List.of(cancelled.getId())));
+        adjustInventoryUseCase.execute(new AdjustInventoryCommand(product.getId(), InventoryEntryType.RECEIPT, 10));
+
+        // When
+        Product byId;
+        Product bySku;
+        int statements;
+        try (SqlStatementScope scope = SqlStatementScope.open("product-view")) {
+            byId = getProductUseCase.findById(product.getId()).orElseThrow();
+            bySku = getProductUseCase.findBySku(product.getSku()).orElseThrow();
+            statements = scope.getStatementCount();
+        }
+
+        // Then
+        assertThat(statements).isZero();
+        assertThat(byId.getStockQuantity()).isEqualTo(36);
+        assertThat(bySku.getId()).isEqualTo(product.getId());
+        assertThat(productRepository.findById(product.getId()).orElseThrow().getStockQuantity()).isEqualTo(36);
+        assertThat(meterRegistry.get("supermarket.products.view.lag").timer().count()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("givenProductWrittenOutsideTheEvents_whenRebuilt_thenViewIsLoadedFromTheProductsTable")
+    void givenProductWrittenOutsideTheEvents_whenRebuilt_thenViewIsLoadedFromTheProductsTable() {
+        // Given
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        Product direct = productRepository.save(new Product(null, "RAW-" + suffix, "Raw Product", "d",
+                new BigDecimal("2.00"), 12));
+        boolean visibleBefore = getProductUseCase.findById(direct.getId()).isPresent();
+
+        // When
+        int products = rebuildProductViewsUseCase.execute().products();
+
+        // Then
+        assertThat(visibleBefore).isFalse();
+        assertThat(products).isEqualTo(productRepository.findAll().size());
+        assertThat(getProductUseCase.findBySku(direct.getSku()))
+                .hasValueSatisfying(product -> assertThat(product.getStockQuantity()).isEqualTo(12));
+    }
+
+    private Order placeOrder(Customer customer, Product product, int quantity) {
+        return createOrderUseCase.execute(new CreateOrderCommand(customer.getId(),
+                List.of(new OrderItemCommand(product.getId(), quantity))));
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.config.sql;
+
+import com.example.boot.Application;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(classes = Application.class, properties = {
+        "supermarket.sql.inspection-enabled=true",
+        "supermarket.sql.expose-headers=true"
+})
+@AutoConfigureMockMvc
+@DisplayName("SQL statement budgets per endpoint")
+class EndpointSqlStatementBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long customerId;
+    private long productId;
+    private String sku;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        sku = "SKU-" + suffix;
+        customerId = idOf(perform(post("/api/v1/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"email":"budget-%s@example.com","firstName":"Budget","lastName":"Test"}
+                        """.formatted(suffix))));
+        productId = idOf(perform(post("/api/v1/products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"sku":"%s","name":"Budget Product","description":"d","price":2.50,"stockQuantity":100}
+                        """.formatted(sku))));
+    }
+
+    @Test
+    @DisplayName("givenExistingProduct_whenGetBySku_thenAtMostOneStatementIsExecuted")
+    void givenExistingProduct_whenGetBySku_thenAtMostOneStatementIsExecuted() throws Exception {
+        // Given
+        perform(get("/api/v1/products/sku/" + sku));
+
+        // When
+        MockHttpServletResponse response = perform(get("/api/v1/products/sku/" + sku));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(statementsOf(response)).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("givenCustomerAndProduct_whenCreateOrder_thenStatementCountStaysWithinBudget")
+    void givenCustomerAndProduct_whenCreateOrder_thenStatementCountStaysWithinBudget() throws Exception {
+        // Given
+        String body = """
+                {"customerId":%d,"items":[{"productId":%d,"quantity":2}]}
+                """.formatted(customerId, productId);
+
+        // When
+        MockHttpServletResponse response = perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body));
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(statementsOf(response)).isLessThanOrEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("givenWaveOfOrders_whenConfirmedInBulk_thenOneLockAndOneUpdateAreExecuted")
+    void givenWaveOfOrders_whenConfirmedInBulk_thenOneLockAndOneUpdateAreExecuted() throws Exception {
+        // Given
+        String order = """
+                {"customerId":%d,"items":[{"productId":%d,"quantity":1}]}
+                """.formatted(customerId, productId);
+        long first = idOf(perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).content(order)));
+        long second = idOf(perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).content(order)));
+        long third = idOf(perform(post("/api/v1/orders").contentType(MediaType.APPLICATION_JSON).content(order)));
+        perform(patch("/api/v1/orders/" + third + "/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"status":"CANCELLED"}
+                        """));
+
+        // When
+        MockHttpServletResponse response = perform(patch("/api/v1/orders/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"orderIds":[%d,%d,%d],"status":"CONFIRMED"}
+                        """.formatted(first, second, third)));
+
+        // Then
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(body.get("transitioned").asInt()).isEqualTo(2);
+        assertThat(body.get("rejected").asInt()).isEqualTo(1);
+        assertThat(statementsOf(response)).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("givenCancelledOrder_whenCancelledAgain_thenStockIsRestoredOnlyOnce")
+    void givenCancelledOrder_whenCancelledAgain_thenStockIsRestoredOnlyOnce() throws Exception {
+        // Given
+        long orderId = idOf(perform(post("/api/v1/orders")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"customerId":%d,"items":[{"productId":%d,"quantity":3}]}
+                        """.formatted(customerId, productId))));
+        assertThat(stockOf(productId)).isEqualTo(97);
+
+        // When
+        MockHttpServletResponse cancelled = perform(patch("/api/v1/orders/" + orderId + "/cancel"));
+        MockHttpServletResponse cancelledAgain = perform(patch("/api/v1/orders/" + orderId + "/cancel"));
+
+        // Then
+        assertThat(cancelled.getStatus()).isEqualTo(200);
+        assertThat(statementsOf(cancelled)).isLessThanOrEqualTo(8);
+        assertThat(objectMapper.readTree(cancelledAgain.getContentAsString()).get("outcome").asText())
+                .isEqualTo("UNCHANGED");
+        assertThat(stockOf(productId)).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("givenOpenScope_whenListProducts_thenStatementsAreCountedInScopeWithoutRepeats")
+    void givenOpenScope_whenListProducts_thenStatementsAreCountedInScopeWithoutRepeats() throws Exception {
+        // Given
+        MockHttpServletResponse response;
+
+        // When
+        try (SqlStatementScope scope = SqlStatementScope.open("test")) {
+            response = perform(get("/api/v1/products"));
+
+            // Then
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(scope.getStatementCount()).isEqualTo(statementsOf(response));
+            assertThat(scope.getStatementsExecutedAtLeast(2)).isEmpty();
+        }
+    }
+
+    private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private long idOf(MockHttpServletResponse response) throws Exception {
+        JsonNode body = objectMapper.readTree(response.getContentAsString());
+        return body.get("id").asLong();
+    }
+
+    private int stockOf(long id) throws Exception {
+        return objectMapper.readTree(perform(get("/api/v1/products/" + id)).getContentAsString())
+                .get("stockQuantity").asInt();
+    }
+
+    private static int statementsOf(MockHttpServletResponse response) {
+        String header = response.getHeader(SqlStatementFilter.STATEMENTS_HEADER);
+        assertThat(header).isNotNull();
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.config.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompressionThresholdFilter Tests")
+class CompressionThresholdFilterTest {
+
+    private static final int THRESHOLD = 16;
+
+    private final CompressionThresholdFilter filter = new CompressionThresholdFilter(THRESHOLD);
+
+    @Test
+    @DisplayName("givenBodyBelowThreshold_whenWrittenThroughWriter_thenContentLengthIsSetOnCompletion")
+    void givenBodyBelowThreshold_whenWrittenThroughWriter_thenContentLengthIsSetOnCompletion() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setCharacterEncoding("UTF-8");
+        FilterChain chain = (request, wrapped) -> {
+            wrapped.getWriter().write("{\"id\":1}");
+            assertThat(wrapped.isCommitted()).isFalse();
+        };
+
+        // When
+        filter.doFilter(request(), response, chain);
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":1}");
+        assertThat(response.getContentLengthLong()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("givenBodyAboveThreshold_whenWritten_thenItIsStreamedWithoutContentLength")
+    void givenBodyAboveThreshold_whenWritten_thenItIsStreamedWithoutContentLength() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        byte[] body = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+        FilterChain chain = (request, wrapped) -> {
+            ServletOutputStream out = wrapped.getOutputStream();
+            out.write(body[0]);
+            out.write(body, 1, body.length - 1);
+            out.flush();
+            wrapped.flushBuffer();
+        };
+
+        // When
+        filter.doFilter(request(), response, chain);
+
+        // Then
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+        assertThat(response.getHeader("Content-Length")).isNull();
+        assertThat(response.isCommitted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("givenHandlerSetsContentLength_whenCompleted_thenItsValueIsKept")
+    void givenHandlerSetsContentLength_whenCompleted_thenItsValueIsKept() throws Exception {
+        // Given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (request, wrapped) -> {
+            wrapped.setContentLength(2);
+            wrapped.getOutputStream().write(new byte[]{'o', 'k'});
+        };
+
+        // When
+        filter.doFilter(request(), response, chain);
+
+        // Then
+        assertThat(response.getContentLengthLong()).isEqualTo(2);
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("givenBufferedBody_whenResetOrErrorIsSent_thenBufferedBytesAreDiscarded")
+    void givenBufferedBody_whenResetOrErrorIsSent_thenBufferedBytesAreDiscarded() throws Exception {
+        // Given
+        MockHttpServletResponse reset = new MockHttpServletResponse();
+        MockHttpServletResponse error = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(request(), reset, (request, wrapped) -> {
+            wrapped.getOutputStream().write(new byte[]{'a', 'b'});
+            wrapped.resetBuffer();
+            wrapped.getOutputStream().write('c');
+            wrapped.reset();
+            wrapped.getOutputStream().write('d');
+        });
+        filter.doFilter(request(), error, (request, wrapped) -> {
+            wrapped.getOutputStream().write(new byte[]{'a', 'b'});
+            ((HttpServletResponse) wrapped).sendError(503);
+        });
+
+        // Then
+        assertThat(reset.getContentAsString()).isEqualTo("d");
+        assertThat(reset.getContentLengthLong()).isEqualTo(1);
+        assertThat(error.getStatus()).isEqualTo(503);
+        assertThat(error.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("givenWriterAndStreamRequestedTogether_whenCalled_thenIllegalStateException")
+    void givenWriterAndStreamRequestedTogether_whenCalled_thenIllegalStateException() throws Exception {
+        // When & Then
+        filter.doFilter(request(), new MockHttpServletResponse(), (request, wrapped) -> {
+            wrapped.getWriter();
+            assertThatThrownBy(wrapped::getOutputStream).isInstanceOf(IllegalStateException.class);
+        });
+        filter.doFilter(request(), new MockHttpServletResponse(), (request, wrapped) -> {
+            wrapped.getOutputStream();
+            assertThatThrownBy(wrapped::getWriter).isInstanceOf(IllegalStateException.class);
+        });
+    }
+
+    @Test
+    @DisplayName("givenAsyncRequestWithWriteListener_whenFiltered_thenBufferIsFlushedAndListenerReachesTheContainer")
+    void givenAsyncRequestWithWriteListener_whenFiltered_thenBufferIsFlushedAndListenerReachesTheContainer()
+            throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+        request.setAsyncSupported(true);
+        NonBlockingResponse response = new NonBlockingResponse();
+        WriteListener listener = new WriteListener() {
+            @Override
+            public void onWritePossible() {
+            }
+
+            @Override
+            public void onError(Throwable t) {
+            }
+        };
+        boolean[] ready = new boolean[1];
+        FilterChain chain = (servletRequest, wrapped) -> {
+            servletRequest.startAsync();
+            ServletOutputStream out = wrapped.getOutputStream();
+            out.write(new byte[]{'h', 'i'});
+            out.setWriteListener(listener);
+            ready[0] = out.isReady();
+            out.write('!');
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.listener).isSameAs(listener);
+        assertThat(ready[0]).isTrue();
+        assertThat(response.body.toString(StandardCharsets.UTF_8)).isEqualTo("hi!");
+        assertThat(response.getHeader("Content-Length")).isNull();
+    }
+
+    @Test
+    @DisplayName("givenAsyncRequestBelowThreshold_whenHandlerReturns_thenBufferIsReleasedWithoutContentLength")
+    void givenAsyncRequestBelowThreshold_whenHandlerReturns_thenBufferIsReleasedWithoutContentLength()
+            throws Exception {
+        // Given
+        MockHttpServletRequest request = request();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain chain = (servletRequest, wrapped) -> {
+            servletRequest.startAsync();
+            wrapped.getOutputStream().write(new byte[]{'o', 'k'});
+        };
+
+        // When
+        filter.doFilter(request, response, chain);
+
+        // Then
+        assertThat(response.getContentAsString()).isEqualTo("ok");
+        assertThat(response.getHeader("Content-Length")).isNull();
+    }
+
+    private static MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/api/v1/products");
+    }
+
+    private static final class NonBlockingResponse extends MockHttpServletResponse {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private WriteListener listener;
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return listener != null;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                listener = writeListener;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                body.write(b);
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+}